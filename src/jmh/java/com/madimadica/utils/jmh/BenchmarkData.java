@@ -0,0 +1,127 @@
+package com.madimadica.utils.jmh;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic input generation shared by the benchmarks.
+ */
+public final class BenchmarkData {
+
+    /**
+     * Fixed seed so every run (and every release) measures the same inputs.
+     */
+    public static final long SEED = 0x5EED_CAFEL;
+
+    private BenchmarkData() {}
+
+    /**
+     * Element types used to populate collections.
+     */
+    public enum ElementType {
+        /**
+         * Boxed integers, cheap {@code hashCode}/{@code equals}.
+         */
+        INTEGER,
+        /**
+         * Short strings, more expensive {@code hashCode}/{@code equals}.
+         */
+        STRING;
+
+        /**
+         * Create the {@code i}th distinct element of this type.
+         * @param i element index
+         * @return a new element, distinct for every {@code i}
+         */
+        public Object create(int i) {
+            if (this == INTEGER) {
+                return i;
+            }
+            return "element-" + i;
+        }
+    }
+
+    /**
+     * Create a shuffled list of {@code size} distinct, non-null elements.
+     * @param type element type
+     * @param size number of elements
+     * @param random source of randomness
+     * @return a mutable list of distinct elements
+     */
+    public static List<Object> distinct(ElementType type, int size, Random random) {
+        return distinct(type, 0, size, random);
+    }
+
+    /**
+     * Create a shuffled list of {@code size} distinct, non-null elements,
+     * starting from the element at index {@code offset}.
+     * @param type element type
+     * @param offset index of the first element
+     * @param size number of elements
+     * @param random source of randomness
+     * @return a mutable list of distinct elements
+     */
+    public static List<Object> distinct(ElementType type, int offset, int size, Random random) {
+        List<Object> output = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            output.add(type.create(offset + i));
+        }
+        Collections.shuffle(output, random);
+        return output;
+    }
+
+    /**
+     * Replace roughly {@code nullDensity} of the elements with {@code null}, in place.
+     * @param list list to modify
+     * @param nullDensity fraction of elements to null out, between 0 and 1
+     * @param random source of randomness
+     * @return the same list
+     */
+    public static List<Object> withNulls(List<Object> list, double nullDensity, Random random) {
+        if (nullDensity > 0) {
+            final int len = list.size();
+            for (int i = 0; i < len; ++i) {
+                if (random.nextDouble() < nullDensity) {
+                    list.set(i, null);
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Create a column of strings, where roughly {@code invalidDensity} of them are not parseable numbers.
+     * @param valid supplier of valid strings
+     * @param size number of strings
+     * @param invalidDensity fraction of invalid strings, between 0 and 1
+     * @param random source of randomness
+     * @return an array of strings
+     */
+    public static String[] column(StringSource valid, int size, double invalidDensity, Random random) {
+        String[] invalid = {null, "", "-", "+", "abc", "12x4", "0x1F", "1.2.3", "--1"};
+        String[] output = new String[size];
+        for (int i = 0; i < size; ++i) {
+            if (random.nextDouble() < invalidDensity) {
+                output[i] = invalid[random.nextInt(invalid.length)];
+            } else {
+                output[i] = valid.next(random);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Source of valid strings for {@link #column(StringSource, int, double, Random)}.
+     */
+    @FunctionalInterface
+    public interface StringSource {
+        /**
+         * Create the next valid string.
+         * @param random source of randomness
+         * @return a valid string
+         */
+        String next(Random random);
+    }
+}
@@ -0,0 +1,120 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.IntBitmapSet;
+import com.madimadica.utils.IntSet;
+import com.madimadica.utils.Sets;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link IntBitmapSet} set algebra on dense IDs, against {@link IntSet}
+ * and the equivalent {@link Sets} methods on a boxed {@code Set<Integer>}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitmapSetBenchmark {
+
+    /**
+     * Two sets of IDs, each holding half of the IDs below {@code 2 * size}, chosen at random.
+     */
+    @State(Scope.Benchmark)
+    public static class DenseState {
+        @Param({"1000", "1000000"})
+        public int size;
+
+        public Set<Integer> boxedA;
+        public Set<Integer> boxedB;
+        public IntSet hashedA;
+        public IntSet hashedB;
+        public IntBitmapSet bitmapA;
+        public IntBitmapSet bitmapB;
+        public int[] idsA;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            bitmapA = new IntBitmapSet();
+            bitmapB = new IntBitmapSet();
+            while (bitmapA.size() < size) {
+                bitmapA.add(random.nextInt(2 * size));
+            }
+            while (bitmapB.size() < size) {
+                bitmapB.add(random.nextInt(2 * size));
+            }
+            idsA = bitmapA.toIntArray();
+            hashedA = IntSet.ofMutable(idsA);
+            hashedB = IntSet.ofMutable(bitmapB.toIntArray());
+            boxedA = new HashSet<>(bitmapA);
+            boxedB = new HashSet<>(bitmapB);
+        }
+    }
+
+    @Benchmark
+    public IntBitmapSet unionBitmap(DenseState s) {
+        return IntBitmapSet.union(s.bitmapA, s.bitmapB);
+    }
+
+    @Benchmark
+    public IntSet unionHashed(DenseState s) {
+        return IntSet.union(s.hashedA, s.hashedB);
+    }
+
+    @Benchmark
+    public Set<Integer> unionBoxed(DenseState s) {
+        return Sets.union(s.boxedA, s.boxedB);
+    }
+
+    @Benchmark
+    public IntBitmapSet intersectionBitmap(DenseState s) {
+        return IntBitmapSet.intersection(s.bitmapA, s.bitmapB);
+    }
+
+    @Benchmark
+    public IntSet intersectionHashed(DenseState s) {
+        return IntSet.intersection(s.hashedA, s.hashedB);
+    }
+
+    @Benchmark
+    public Set<Integer> intersectionBoxed(DenseState s) {
+        return Sets.intersection(s.boxedA, s.boxedB);
+    }
+
+    @Benchmark
+    public IntBitmapSet differenceBitmap(DenseState s) {
+        return IntBitmapSet.difference(s.bitmapA, s.bitmapB);
+    }
+
+    @Benchmark
+    public Set<Integer> differenceBoxed(DenseState s) {
+        return Sets.difference(s.boxedA, s.boxedB);
+    }
+
+    @Benchmark
+    public IntBitmapSet symmetricDifferenceBitmap(DenseState s) {
+        return IntBitmapSet.symmetricDifference(s.bitmapA, s.bitmapB);
+    }
+
+    @Benchmark
+    public Set<Integer> symmetricDifferenceBoxed(DenseState s) {
+        return Sets.symmetricDifference(s.boxedA, s.boxedB);
+    }
+
+    @Benchmark
+    public IntBitmapSet buildBitmap(DenseState s) {
+        return IntBitmapSet.of(s.idsA);
+    }
+
+    @Benchmark
+    public Set<Integer> buildBoxed(DenseState s) {
+        Set<Integer> set = new HashSet<>();
+        for (int id : s.idsA) {
+            set.add(id);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,353 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.Lists;
+import com.madimadica.utils.jmh.BenchmarkData.ElementType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks for every public method in {@link Lists}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListsBenchmark {
+
+    static final int PARTITIONS = 8;
+    static final int PARTITION_SIZE = 100;
+
+    static final Function<Object, Integer> HASH = Objects::hashCode;
+    static final Predicate<Object> EVEN_HASH = e -> e != null && (e.hashCode() & 1) == 0;
+    static final Function<Object, Integer> BUCKET_16 = e -> e.hashCode() & 15;
+    static final Function<Object, Integer> BUCKET_4 = e -> (e.hashCode() >> 4) & 3;
+
+    /**
+     * Distinct, non-null elements.
+     */
+    @State(Scope.Benchmark)
+    public static class ListState {
+        @Param({"1", "16", "1000", "1000000"})
+        public int size;
+
+        @Param({"INTEGER", "STRING"})
+        public ElementType elementType;
+
+        public List<Object> list;
+        public Object[] array;
+        public Collection<Object>[] chunks;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setup() {
+            list = BenchmarkData.distinct(elementType, size, new Random(BenchmarkData.SEED));
+            array = list.toArray();
+            List<List<Object>> partitions = Lists.partitionInto(list, PARTITIONS);
+            chunks = partitions.toArray(new Collection[0]);
+        }
+    }
+
+    /**
+     * Elements where a fraction of them are {@code null}.
+     */
+    @State(Scope.Benchmark)
+    public static class NullableListState {
+        @Param({"1", "16", "1000", "1000000"})
+        public int size;
+
+        @Param({"INTEGER", "STRING"})
+        public ElementType elementType;
+
+        @Param({"0.0", "0.1", "0.5"})
+        public double nullDensity;
+
+        public List<Object> list;
+        public Object[] array;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            list = BenchmarkData.withNulls(BenchmarkData.distinct(elementType, size, random), nullDensity, random);
+            array = list.toArray();
+        }
+    }
+
+    /**
+     * Small, non-null lists, typical of request handling hot paths.
+     */
+    @State(Scope.Benchmark)
+    public static class SmallListState {
+        @Param({"2", "8", "20"})
+        public int size;
+
+        @Param({"INTEGER", "STRING"})
+        public ElementType elementType;
+
+        public List<Object> list;
+
+        @Setup
+        public void setup() {
+            list = BenchmarkData.distinct(elementType, size, new Random(BenchmarkData.SEED));
+        }
+    }
+
+    @Benchmark
+    public List<Object> ofNullable(NullableListState s) {
+        return Lists.ofNullable(s.array);
+    }
+
+    @Benchmark
+    public List<Object> ofMutable(NullableListState s) {
+        return Lists.ofMutable(s.array);
+    }
+
+    @Benchmark
+    public List<Object> copyOfNullable(NullableListState s) {
+        return Lists.copyOfNullable(s.list);
+    }
+
+    @Benchmark
+    public List<Integer> map(NullableListState s) {
+        return Lists.map(s.list, HASH);
+    }
+
+    @Benchmark
+    public List<Integer> mapMutable(NullableListState s) {
+        return Lists.mapMutable(s.list, HASH);
+    }
+
+    @Benchmark
+    public List<Integer> parallelMap(ListState s) {
+        return Lists.parallelMap(s.list, HASH);
+    }
+
+    @Benchmark
+    public Set<Integer> mapToSet(NullableListState s) {
+        return Lists.mapToSet(s.list, HASH);
+    }
+
+    @Benchmark
+    public Set<Integer> mapToMutableSet(NullableListState s) {
+        return Lists.mapToMutableSet(s.list, HASH);
+    }
+
+    @Benchmark
+    public Map<Object, Object> toMap(ListState s) {
+        return Lists.toMap(s.list, Function.identity());
+    }
+
+    @Benchmark
+    public Map<Object, Integer> toMapKV(ListState s) {
+        return Lists.toMap(s.list, Function.identity(), HASH);
+    }
+
+    @Benchmark
+    public Map<Object, Object> toMutableMap(ListState s) {
+        return Lists.toMutableMap(s.list, Function.identity());
+    }
+
+    @Benchmark
+    public Map<Object, Integer> toMutableMapKV(ListState s) {
+        return Lists.toMutableMap(s.list, Function.identity(), HASH);
+    }
+
+    @Benchmark
+    public List<Object> filter(NullableListState s) {
+        return Lists.filter(s.list, EVEN_HASH);
+    }
+
+    @Benchmark
+    public List<Object> filterMutable(NullableListState s) {
+        return Lists.filterMutable(s.list, EVEN_HASH);
+    }
+
+    @Benchmark
+    public List<Object> parallelFilter(ListState s) {
+        return Lists.parallelFilter(s.list, EVEN_HASH);
+    }
+
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<?> sorted(ListState s) {
+        return Lists.sorted((Collection) s.list);
+    }
+
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<?> sortedMutable(ListState s) {
+        return Lists.sortedMutable((Collection) s.list);
+    }
+
+    @Benchmark
+    public List<Object> sortedComparator(ListState s) {
+        return Lists.sorted(s.list, Comparator.comparingInt(Object::hashCode));
+    }
+
+    @Benchmark
+    public List<Object> sortedMutableComparator(ListState s) {
+        return Lists.sortedMutable(s.list, Comparator.comparingInt(Object::hashCode));
+    }
+
+    @Benchmark
+    public List<Object> reversed(NullableListState s) {
+        return Lists.reversed(s.list);
+    }
+
+    @Benchmark
+    public List<Object> reversedMutable(NullableListState s) {
+        return Lists.reversedMutable(s.list);
+    }
+
+    @Benchmark
+    public List<List<Object>> partitionInto(NullableListState s) {
+        return Lists.partitionInto(s.list, PARTITIONS);
+    }
+
+    @Benchmark
+    public List<List<Object>> partitionBySize(NullableListState s) {
+        return Lists.partitionBySize(s.list, PARTITION_SIZE);
+    }
+
+    @Benchmark
+    public List<List<Object>> partitionClamp(NullableListState s) {
+        return Lists.partitionClamp(s.list, PARTITIONS, PARTITION_SIZE);
+    }
+
+    @Benchmark
+    public List<List<Object>> partitionViewInto(NullableListState s) {
+        return Lists.partitionViewInto(s.list, PARTITIONS);
+    }
+
+    @Benchmark
+    public List<List<Object>> partitionViewBySize(NullableListState s) {
+        return Lists.partitionViewBySize(s.list, PARTITION_SIZE);
+    }
+
+    /**
+     * Consumes every partition, since the partitions are only created while iterating.
+     */
+    @Benchmark
+    public int partitionBySizeLazily(NullableListState s) {
+        int partitions = 0;
+        for (List<Object> partition : Lists.partitionBySizeLazily(s.list, PARTITION_SIZE)) {
+            partitions += partition.size();
+        }
+        return partitions;
+    }
+
+    @Benchmark
+    public int batch(NullableListState s) {
+        int elements = 0;
+        Iterator<List<Object>> batches = Lists.batch(s.list.iterator(), PARTITION_SIZE);
+        while (batches.hasNext()) {
+            elements += batches.next().size();
+        }
+        return elements;
+    }
+
+    @Benchmark
+    public int batchReusingBuffer(NullableListState s) {
+        int elements = 0;
+        Iterator<List<Object>> batches = Lists.batchReusingBuffer(s.list.iterator(), PARTITION_SIZE);
+        while (batches.hasNext()) {
+            elements += batches.next().size();
+        }
+        return elements;
+    }
+
+    @Benchmark
+    public long batchStream(NullableListState s) {
+        return Lists.batchStream(s.list.stream(), PARTITION_SIZE).count();
+    }
+
+    @Benchmark
+    public long batchStreamReusingBuffer(NullableListState s) {
+        return Lists.batchStreamReusingBuffer(s.list.stream(), PARTITION_SIZE).count();
+    }
+
+    @Benchmark
+    public List<Object> flatMap(ListState s) {
+        return Lists.flatMap(s.chunks);
+    }
+
+    @Benchmark
+    public List<Object> ofIterable(ListState s) {
+        return Lists.ofIterable(s.list);
+    }
+
+    @Benchmark
+    public List<Object> ofIterableNullable(NullableListState s) {
+        return Lists.ofIterableNullable(s.list);
+    }
+
+    @Benchmark
+    public List<Object> ofIterableMutable(NullableListState s) {
+        return Lists.ofIterableMutable(s.list);
+    }
+
+    /**
+     * Includes the cost of copying the input, since the sort is in-place.
+     */
+    @Benchmark
+    public List<Object> sortCaseInsensitive(ListState s) {
+        List<Object> copy = new ArrayList<>(s.list);
+        Lists.sortCaseInsensitive(copy, Object::toString);
+        return copy;
+    }
+
+    @Benchmark
+    public List<?> flatten(NullableListState s) {
+        return Lists.flatten(s.list);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Object>> groupBy(ListState s) {
+        return Lists.groupBy(s.list, BUCKET_16);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Object>> parallelGroupBy(ListState s) {
+        return Lists.parallelGroupBy(s.list, BUCKET_16);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupByAndMap(ListState s) {
+        return Lists.groupByAndMap(s.list, BUCKET_16, HASH);
+    }
+
+    @Benchmark
+    public Map<Integer, Map<Integer, List<Object>>> groupBy2(ListState s) {
+        return Lists.groupBy2(s.list, BUCKET_16, BUCKET_4);
+    }
+
+    /*
+     * Small list map/filter against the equivalent stream pipelines.
+     * Run with -prof gc and compare gc.alloc.rate.norm for the bytes allocated per call.
+     */
+
+    @Benchmark
+    public List<Integer> mapSmall(SmallListState s) {
+        return Lists.map(s.list, HASH);
+    }
+
+    @Benchmark
+    public List<Integer> mapSmallStream(SmallListState s) {
+        return s.list.stream().map(HASH).collect(Collectors.toUnmodifiableList());
+    }
+
+    @Benchmark
+    public List<Object> filterSmall(SmallListState s) {
+        return Lists.filter(s.list, EVEN_HASH);
+    }
+
+    @Benchmark
+    public List<Object> filterSmallStream(SmallListState s) {
+        return s.list.stream().filter(EVEN_HASH).collect(Collectors.toUnmodifiableList());
+    }
+}
@@ -0,0 +1,213 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.Maps;
+import com.madimadica.utils.jmh.BenchmarkData.ElementType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for every public method family in {@link Maps}.
+ * <p>
+ *     The fixed-arity factories are measured at 3 and 12 entries,
+ *     the entry and copy factories are measured over the parameterized sizes.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapsBenchmark {
+
+    /**
+     * Keys and values for the fixed-arity factories.
+     */
+    @State(Scope.Benchmark)
+    public static class FixedState {
+        @Param({"INTEGER", "STRING"})
+        public ElementType elementType;
+
+        public Object[] k;
+        public Object[] v;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            k = BenchmarkData.distinct(elementType, 12, random).toArray();
+            v = BenchmarkData.distinct(elementType, 12, 12, random).toArray();
+        }
+    }
+
+    /**
+     * Entries with distinct keys and values where a fraction of the values are {@code null}.
+     */
+    @State(Scope.Benchmark)
+    public static class EntriesState {
+        @Param({"1", "16", "1000", "1000000"})
+        public int size;
+
+        @Param({"INTEGER", "STRING"})
+        public ElementType elementType;
+
+        @Param({"0.0", "0.1", "0.5"})
+        public double nullDensity;
+
+        public Map.Entry<Object, Object>[] entries;
+        public Map<Object, Object> source;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            List<Object> keys = BenchmarkData.distinct(elementType, size, random);
+            List<Object> values = BenchmarkData.withNulls(BenchmarkData.distinct(elementType, size, random), nullDensity, random);
+            entries = new Map.Entry[size];
+            source = new HashMap<>();
+            for (int i = 0; i < size; ++i) {
+                entries[i] = Maps.entry(keys.get(i), values.get(i));
+                source.put(keys.get(i), values.get(i));
+            }
+        }
+    }
+
+    /**
+     * Entries with distinct keys and non-null values.
+     */
+    @State(Scope.Benchmark)
+    public static class NonNullEntriesState {
+        @Param({"1", "16", "1000", "1000000"})
+        public int size;
+
+        @Param({"INTEGER", "STRING"})
+        public ElementType elementType;
+
+        public Map.Entry<Object, Object>[] entries;
+        public Map<Object, Object> source;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            List<Object> keys = BenchmarkData.distinct(elementType, size, random);
+            List<Object> values = BenchmarkData.distinct(elementType, size, random);
+            entries = new Map.Entry[size];
+            source = new HashMap<>();
+            for (int i = 0; i < size; ++i) {
+                entries[i] = Maps.entry(keys.get(i), values.get(i));
+                source.put(keys.get(i), values.get(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofNullable3(FixedState s) {
+        Object[] k = s.k, v = s.v;
+        return Maps.ofNullable(k[0], v[0], k[1], v[1], k[2], v[2]);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofNullable12(FixedState s) {
+        Object[] k = s.k, v = s.v;
+        return Maps.ofNullable(k[0], v[0], k[1], v[1], k[2], v[2], k[3], v[3], k[4], v[4], k[5], v[5],
+                k[6], v[6], k[7], v[7], k[8], v[8], k[9], v[9], k[10], v[10], k[11], v[11]);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofMutable3(FixedState s) {
+        Object[] k = s.k, v = s.v;
+        return Maps.ofMutable(k[0], v[0], k[1], v[1], k[2], v[2]);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofMutable12(FixedState s) {
+        Object[] k = s.k, v = s.v;
+        return Maps.ofMutable(k[0], v[0], k[1], v[1], k[2], v[2], k[3], v[3], k[4], v[4], k[5], v[5],
+                k[6], v[6], k[7], v[7], k[8], v[8], k[9], v[9], k[10], v[10], k[11], v[11]);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofOrdered3(FixedState s) {
+        Object[] k = s.k, v = s.v;
+        return Maps.ofOrdered(k[0], v[0], k[1], v[1], k[2], v[2]);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofOrdered12(FixedState s) {
+        Object[] k = s.k, v = s.v;
+        return Maps.ofOrdered(k[0], v[0], k[1], v[1], k[2], v[2], k[3], v[3], k[4], v[4], k[5], v[5],
+                k[6], v[6], k[7], v[7], k[8], v[8], k[9], v[9], k[10], v[10], k[11], v[11]);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofOrderedNullable3(FixedState s) {
+        Object[] k = s.k, v = s.v;
+        return Maps.ofOrderedNullable(k[0], v[0], k[1], v[1], k[2], v[2]);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofOrderedNullable12(FixedState s) {
+        Object[] k = s.k, v = s.v;
+        return Maps.ofOrderedNullable(k[0], v[0], k[1], v[1], k[2], v[2], k[3], v[3], k[4], v[4], k[5], v[5],
+                k[6], v[6], k[7], v[7], k[8], v[8], k[9], v[9], k[10], v[10], k[11], v[11]);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofOrderedMutable3(FixedState s) {
+        Object[] k = s.k, v = s.v;
+        return Maps.ofOrderedMutable(k[0], v[0], k[1], v[1], k[2], v[2]);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofOrderedMutable12(FixedState s) {
+        Object[] k = s.k, v = s.v;
+        return Maps.ofOrderedMutable(k[0], v[0], k[1], v[1], k[2], v[2], k[3], v[3], k[4], v[4], k[5], v[5],
+                k[6], v[6], k[7], v[7], k[8], v[8], k[9], v[9], k[10], v[10], k[11], v[11]);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofNullableEntries(EntriesState s) {
+        return Maps.ofNullableEntries(s.entries);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofMutableEntries(EntriesState s) {
+        return Maps.ofMutableEntries(s.entries);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofOrderedEntries(NonNullEntriesState s) {
+        return Maps.ofOrderedEntries(s.entries);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofOrderedNullableEntries(EntriesState s) {
+        return Maps.ofOrderedNullableEntries(s.entries);
+    }
+
+    @Benchmark
+    public Map<Object, Object> ofOrderedMutableEntries(EntriesState s) {
+        return Maps.ofOrderedMutableEntries(s.entries);
+    }
+
+    @Benchmark
+    public Map<Object, Object> copyOfNullable(EntriesState s) {
+        return Maps.copyOfNullable(s.source);
+    }
+
+    @Benchmark
+    public Map<Object, Object> copyOfOrdered(NonNullEntriesState s) {
+        return Maps.copyOfOrdered(s.source);
+    }
+
+    @Benchmark
+    public Map<Object, Object> copyOfOrderedNullable(EntriesState s) {
+        return Maps.copyOfOrderedNullable(s.source);
+    }
+
+    @Benchmark
+    public Map.Entry<Object, Object> entry(FixedState s) {
+        return Maps.entry(s.k[0], s.v[0]);
+    }
+}
@@ -0,0 +1,275 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.MathUtils;
+import com.madimadica.utils.Statistics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for every public method in {@link MathUtils}.
+ * <p>
+ *     The element type of the aggregate functions is the primitive array type of each overload.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MathUtilsBenchmark {
+
+    /**
+     * Random arrays of every primitive type.
+     */
+    @State(Scope.Benchmark)
+    public static class ArrayState {
+        @Param({"1", "16", "1000", "1000000"})
+        public int size;
+
+        public int[] ints;
+        public long[] longs;
+        public float[] floats;
+        public double[] doubles;
+
+        @Setup
+        public void setup() {
+            fill(this, size);
+        }
+    }
+
+    /**
+     * Random arrays of every primitive type, with at least the 2 elements required by the sample statistics.
+     */
+    @State(Scope.Benchmark)
+    public static class SampleState {
+        @Param({"2", "16", "1000", "1000000"})
+        public int size;
+
+        public int[] ints;
+        public long[] longs;
+        public float[] floats;
+        public double[] doubles;
+
+        @Setup
+        public void setup() {
+            ArrayState arrays = new ArrayState();
+            fill(arrays, size);
+            ints = arrays.ints;
+            longs = arrays.longs;
+            floats = arrays.floats;
+            doubles = arrays.doubles;
+        }
+    }
+
+    /**
+     * Operands for the scalar functions.
+     */
+    @State(Scope.Benchmark)
+    public static class PairState {
+        public int intA = 2 * 3 * 5 * 7 * 11 * 13;
+        public int intB = 3 * 5 * 7 * 17 * 19;
+        public long longA = 2L * 3 * 5 * 7 * 11 * 13 * 23 * 29 * 31;
+        public long longB = 3L * 5 * 7 * 17 * 19 * 29 * 37;
+    }
+
+    static void fill(ArrayState s, int size) {
+        Random random = new Random(BenchmarkData.SEED);
+        s.ints = new int[size];
+        s.longs = new long[size];
+        s.floats = new float[size];
+        s.doubles = new double[size];
+        for (int i = 0; i < size; ++i) {
+            s.ints[i] = random.nextInt();
+            s.longs[i] = random.nextLong();
+            s.floats[i] = random.nextFloat() * 1000f - 500f;
+            s.doubles[i] = random.nextGaussian() * 1000d;
+        }
+    }
+
+    @Benchmark
+    public int minInt(ArrayState s) {
+        return MathUtils.min(s.ints);
+    }
+
+    @Benchmark
+    public long minLong(ArrayState s) {
+        return MathUtils.min(s.longs);
+    }
+
+    @Benchmark
+    public float minFloat(ArrayState s) {
+        return MathUtils.min(s.floats);
+    }
+
+    @Benchmark
+    public double minDouble(ArrayState s) {
+        return MathUtils.min(s.doubles);
+    }
+
+    @Benchmark
+    public int maxInt(ArrayState s) {
+        return MathUtils.max(s.ints);
+    }
+
+    @Benchmark
+    public long maxLong(ArrayState s) {
+        return MathUtils.max(s.longs);
+    }
+
+    @Benchmark
+    public float maxFloat(ArrayState s) {
+        return MathUtils.max(s.floats);
+    }
+
+    @Benchmark
+    public double maxDouble(ArrayState s) {
+        return MathUtils.max(s.doubles);
+    }
+
+    @Benchmark
+    public long sumInt(ArrayState s) {
+        return MathUtils.sum(s.ints);
+    }
+
+    @Benchmark
+    public long sumLong(ArrayState s) {
+        return MathUtils.sum(s.longs);
+    }
+
+    @Benchmark
+    public double sumFloat(ArrayState s) {
+        return MathUtils.sum(s.floats);
+    }
+
+    @Benchmark
+    public double sumDouble(ArrayState s) {
+        return MathUtils.sum(s.doubles);
+    }
+
+    @Benchmark
+    public double averageInt(ArrayState s) {
+        return MathUtils.average(s.ints);
+    }
+
+    @Benchmark
+    public double averageLong(ArrayState s) {
+        return MathUtils.average(s.longs);
+    }
+
+    @Benchmark
+    public double averageFloat(ArrayState s) {
+        return MathUtils.average(s.floats);
+    }
+
+    @Benchmark
+    public double averageDouble(ArrayState s) {
+        return MathUtils.average(s.doubles);
+    }
+
+    @Benchmark
+    public double varianceInt(ArrayState s) {
+        return MathUtils.variance(s.ints);
+    }
+
+    @Benchmark
+    public double varianceLong(ArrayState s) {
+        return MathUtils.variance(s.longs);
+    }
+
+    @Benchmark
+    public double varianceFloat(ArrayState s) {
+        return MathUtils.variance(s.floats);
+    }
+
+    @Benchmark
+    public double varianceDouble(ArrayState s) {
+        return MathUtils.variance(s.doubles);
+    }
+
+    @Benchmark
+    public double stdDevInt(ArrayState s) {
+        return MathUtils.stdDev(s.ints);
+    }
+
+    @Benchmark
+    public double stdDevLong(ArrayState s) {
+        return MathUtils.stdDev(s.longs);
+    }
+
+    @Benchmark
+    public double stdDevFloat(ArrayState s) {
+        return MathUtils.stdDev(s.floats);
+    }
+
+    @Benchmark
+    public double stdDevDouble(ArrayState s) {
+        return MathUtils.stdDev(s.doubles);
+    }
+
+    @Benchmark
+    public double sampleVarianceInt(SampleState s) {
+        return MathUtils.sampleVariance(s.ints);
+    }
+
+    @Benchmark
+    public double sampleVarianceLong(SampleState s) {
+        return MathUtils.sampleVariance(s.longs);
+    }
+
+    @Benchmark
+    public double sampleVarianceFloat(SampleState s) {
+        return MathUtils.sampleVariance(s.floats);
+    }
+
+    @Benchmark
+    public double sampleVarianceDouble(SampleState s) {
+        return MathUtils.sampleVariance(s.doubles);
+    }
+
+    @Benchmark
+    public double sampleStdDevInt(SampleState s) {
+        return MathUtils.sampleStdDev(s.ints);
+    }
+
+    @Benchmark
+    public double sampleStdDevLong(SampleState s) {
+        return MathUtils.sampleStdDev(s.longs);
+    }
+
+    @Benchmark
+    public double sampleStdDevFloat(SampleState s) {
+        return MathUtils.sampleStdDev(s.floats);
+    }
+
+    @Benchmark
+    public double sampleStdDevDouble(SampleState s) {
+        return MathUtils.sampleStdDev(s.doubles);
+    }
+
+    @Benchmark
+    public Statistics summarizeDouble(ArrayState s) {
+        return MathUtils.summarize(s.doubles);
+    }
+
+    @Benchmark
+    public int gcdInt(PairState s) {
+        return MathUtils.gcd(s.intA, s.intB);
+    }
+
+    @Benchmark
+    public long gcdLong(PairState s) {
+        return MathUtils.gcd(s.longA, s.longB);
+    }
+
+    @Benchmark
+    public int lcmInt(PairState s) {
+        return MathUtils.lcm(s.intA, s.intB);
+    }
+
+    @Benchmark
+    public long lcmLong(PairState s) {
+        return MathUtils.lcm(s.longA, s.longB);
+    }
+}
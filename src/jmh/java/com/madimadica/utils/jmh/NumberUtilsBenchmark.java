@@ -0,0 +1,529 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.NumberUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for every public method in {@link NumberUtils}.
+ * <p>
+ *     Each invocation processes a whole column of {@code size} inputs, where
+ *     {@code invalidDensity} of the strings (including {@code null}) cannot be parsed.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberUtilsBenchmark {
+
+    /**
+     * Random {@code int} and {@code long} operands.
+     */
+    @State(Scope.Benchmark)
+    public static class NumberState {
+        @Param({"1", "16", "1000", "1000000"})
+        public int size;
+
+        public int[] ints;
+        public long[] longs;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            ints = new int[size];
+            longs = new long[size];
+            for (int i = 0; i < size; ++i) {
+                ints[i] = random.nextInt() >>> random.nextInt(32);
+                longs[i] = random.nextLong() >>> random.nextInt(64);
+            }
+        }
+    }
+
+    /**
+     * A column of strings to parse.
+     */
+    @State(Scope.Benchmark)
+    public abstract static class Column {
+        @Param({"1", "16", "1000", "1000000"})
+        public int size;
+
+        @Param({"0.0", "0.3", "1.0"})
+        public double invalidDensity;
+
+        public String[] strings;
+
+        @Setup
+        public void setup() {
+            strings = BenchmarkData.column(this::valid, size, invalidDensity, new Random(BenchmarkData.SEED));
+        }
+
+        abstract String valid(Random random);
+    }
+
+    public static class ByteColumn extends Column {
+        @Override
+        String valid(Random random) {
+            return Byte.toString((byte) random.nextInt());
+        }
+    }
+
+    public static class ShortColumn extends Column {
+        @Override
+        String valid(Random random) {
+            return Short.toString((short) random.nextInt());
+        }
+    }
+
+    public static class IntColumn extends Column {
+        public int[] out;
+        public BitSet invalid;
+
+        @Setup
+        public void setupOutput() {
+            out = new int[size];
+            invalid = new BitSet(size);
+        }
+
+        @Override
+        String valid(Random random) {
+            return Integer.toString(random.nextInt() >> random.nextInt(32));
+        }
+    }
+
+    public static class LongColumn extends Column {
+        public long[] out;
+        public BitSet invalid;
+
+        @Setup
+        public void setupOutput() {
+            out = new long[size];
+            invalid = new BitSet(size);
+        }
+
+        @Override
+        String valid(Random random) {
+            return Long.toString(random.nextLong() >> random.nextInt(64));
+        }
+    }
+
+    public static class HexColumn extends Column {
+        @Override
+        String valid(Random random) {
+            return Integer.toString(random.nextInt() >> random.nextInt(32), 16);
+        }
+    }
+
+    public static class DecimalColumn extends Column {
+        @Override
+        String valid(Random random) {
+            return Double.toString(random.nextGaussian() * Math.pow(10, random.nextInt(12) - 6));
+        }
+    }
+
+    public static class BooleanColumn extends Column {
+        @Override
+        String valid(Random random) {
+            return random.nextBoolean() ? "true" : "FALSE";
+        }
+    }
+
+    public static class BitColumn extends Column {
+        @Override
+        String valid(Random random) {
+            return random.nextBoolean() ? "1" : "0";
+        }
+    }
+
+    /**
+     * An {@link IntColumn} joined into one comma separated line, as a string and as ASCII bytes,
+     * with the bounds of each field, to parse the fields in place.
+     */
+    @State(Scope.Benchmark)
+    public static class IntLine {
+        @Param({"1000"})
+        public int size;
+
+        @Param({"0.0", "0.3"})
+        public double invalidDensity;
+
+        public String line;
+        public byte[] bytes;
+        public ByteBuffer direct;
+        public int[] begins;
+        public int[] ends;
+
+        @Setup
+        public void setup() {
+            IntColumn column = new IntColumn();
+            String[] fields = BenchmarkData.column(column::valid, size, invalidDensity, new Random(BenchmarkData.SEED));
+            StringBuilder builder = new StringBuilder();
+            begins = new int[size];
+            ends = new int[size];
+            for (int i = 0; i < size; ++i) {
+                begins[i] = builder.length();
+                builder.append(fields[i] == null ? "" : fields[i]);
+                ends[i] = builder.length();
+                builder.append(',');
+            }
+            line = builder.toString();
+            bytes = line.getBytes(StandardCharsets.US_ASCII);
+            direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        }
+    }
+
+    @Benchmark
+    public long lengthInt(NumberState s) {
+        long total = 0;
+        for (int x : s.ints) {
+            total += NumberUtils.length(x);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long lengthLong(NumberState s) {
+        long total = 0;
+        for (long x : s.longs) {
+            total += NumberUtils.length(x);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long concatInt(NumberState s) {
+        long total = 0;
+        for (int x : s.ints) {
+            total += NumberUtils.concat(x & 0xFFFF, x >>> 16);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long concatLong(NumberState s) {
+        long total = 0;
+        for (long x : s.longs) {
+            total += NumberUtils.concat(x & 0xFFFFFFL, x >>> 40);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int parseByte(ByteColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseByte(str).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseByteRadix(ByteColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseByte(str, 10).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseShort(ShortColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseShort(str).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseShortRadix(ShortColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseShort(str, 10).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseInt(IntColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseInt(str).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseIntRadix(HexColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseInt(str, 16).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseLong(LongColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseLong(str).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseLongRadix(HexColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseLong(str, 16).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseOptionalInt(IntColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseOptionalInt(str).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public long parseIntOrDefault(IntColumn s) {
+        long sum = 0;
+        for (String str : s.strings) {
+            sum += NumberUtils.parseIntOrDefault(str, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int parseOptionalLong(LongColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseOptionalLong(str).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public long parseLongOrDefault(LongColumn s) {
+        long sum = 0;
+        for (String str : s.strings) {
+            sum += NumberUtils.parseLongOrDefault(str, 0L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int[] parseIntsColumn(IntColumn s) {
+        NumberUtils.parseInts(s.strings, s.out, s.invalid);
+        return s.out;
+    }
+
+    @Benchmark
+    public long[] parseLongsColumn(LongColumn s) {
+        NumberUtils.parseLongs(s.strings, s.out, s.invalid);
+        return s.out;
+    }
+
+    @Benchmark
+    public long[] parallelParseLongsColumn(LongColumn s) {
+        NumberUtils.parallelParseLongs(Arrays.asList(s.strings), s.out, s.invalid);
+        return s.out;
+    }
+
+    @Benchmark
+    public long[] parseLongsColumnScalarBaseline(LongColumn s) {
+        final List<String> column = Arrays.asList(s.strings);
+        for (int i = 0; i < s.out.length; ++i) {
+            s.out[i] = NumberUtils.parseLongOrDefault(column.get(i), 0L);
+        }
+        return s.out;
+    }
+
+    @Benchmark
+    public long parseIntFieldsSubstring(IntLine s) {
+        long sum = 0;
+        for (int i = 0; i < s.begins.length; ++i) {
+            sum += NumberUtils.parseIntOrDefault(s.line.substring(s.begins[i], s.ends[i]), 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parseIntFieldsInPlace(IntLine s) {
+        long sum = 0;
+        for (int i = 0; i < s.begins.length; ++i) {
+            sum += NumberUtils.parseIntOrDefault(s.line, s.begins[i], s.ends[i], 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parseIntFieldsBytes(IntLine s) {
+        long sum = 0;
+        for (int i = 0; i < s.begins.length; ++i) {
+            sum += NumberUtils.parseIntOrDefault(s.bytes, s.begins[i], s.ends[i], 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parseIntFieldsDirectBuffer(IntLine s) {
+        long sum = 0;
+        for (int i = 0; i < s.begins.length; ++i) {
+            sum += NumberUtils.parseIntOrDefault(s.direct, s.begins[i], s.ends[i], 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int parseIntJdkBaseline(IntColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            try {
+                Integer.parseInt(str);
+                ++present;
+            } catch (NumberFormatException ignored) {
+                // Counted as absent
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseLongJdkBaseline(LongColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            try {
+                Long.parseLong(str);
+                ++present;
+            } catch (NumberFormatException ignored) {
+                // Counted as absent
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseIntRadixJdkBaseline(HexColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            try {
+                Integer.parseInt(str, 16);
+                ++present;
+            } catch (NumberFormatException ignored) {
+                // Counted as absent
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseBoolean(BooleanColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseBoolean(str).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseBit(BitColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseBit(str).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseBooleanOrBit(BitColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseBooleanOrBit(str).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseFloat(DecimalColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseFloat(str).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public int parseDouble(DecimalColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            if (NumberUtils.parseDouble(str).isPresent()) {
+                ++present;
+            }
+        }
+        return present;
+    }
+
+    @Benchmark
+    public long parseDoubleOrDefault(DecimalColumn s) {
+        double sum = 0;
+        for (String str : s.strings) {
+            sum += NumberUtils.parseDoubleOrDefault(str, 0);
+        }
+        return Double.doubleToRawLongBits(sum);
+    }
+
+    @Benchmark
+    public int parseDoubleJdkBaseline(DecimalColumn s) {
+        int present = 0;
+        for (String str : s.strings) {
+            try {
+                Double.parseDouble(str);
+                ++present;
+            } catch (NullPointerException | NumberFormatException ignored) {
+                // Counted as absent
+            }
+        }
+        return present;
+    }
+}
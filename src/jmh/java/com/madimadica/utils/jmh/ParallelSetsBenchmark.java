@@ -0,0 +1,70 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.Sets;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Sets#parallelUnion(Collection)} and {@link Sets#parallelIntersection(Collection)}
+ * against the sequential varargs {@link Sets#union(Set[])} and {@link Sets#intersection(Set[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelSetsBenchmark {
+
+    /**
+     * {@code inputs} sets of {@code size} integers each, drawn from a range twice as large as one set,
+     * so the inputs overlap heavily and their intersection is not trivially empty.
+     */
+    @State(Scope.Benchmark)
+    public static class ManySetsState {
+        @Param({"8", "32", "128"})
+        public int inputs;
+
+        @Param({"100000"})
+        public int size;
+
+        public List<Set<Integer>> sets;
+        public Set<Integer>[] array;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            sets = new ArrayList<>(inputs);
+            for (int i = 0; i < inputs; ++i) {
+                Set<Integer> set = new HashSet<>();
+                while (set.size() < size) {
+                    set.add(random.nextInt(2 * size));
+                }
+                sets.add(set);
+            }
+            array = sets.toArray(new Set[0]);
+        }
+    }
+
+    @Benchmark
+    public Set<Integer> unionSequential(ManySetsState s) {
+        return Sets.union(s.array);
+    }
+
+    @Benchmark
+    public Set<Integer> unionParallel(ManySetsState s) {
+        return Sets.parallelUnion(s.sets);
+    }
+
+    @Benchmark
+    public Set<Integer> intersectionSequential(ManySetsState s) {
+        return Sets.intersection(s.array);
+    }
+
+    @Benchmark
+    public Set<Integer> intersectionParallel(ManySetsState s) {
+        return Sets.parallelIntersection(s.sets);
+    }
+}
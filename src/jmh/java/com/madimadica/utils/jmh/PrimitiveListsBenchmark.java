@@ -0,0 +1,107 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.Lists;
+import com.madimadica.utils.LongList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link LongList} and the {@code Lists.mapTo...} helpers,
+ * against the equivalent operations on a boxed {@code List<Long>}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveListsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LongState {
+        @Param({"16", "1000", "1000000"})
+        public int size;
+
+        public List<Long> boxed;
+        public LongList primitive;
+        public List<Long> sortedBoxed;
+        public LongList sortedPrimitive;
+        public long[] keys;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            long[] values = new long[size];
+            for (int i = 0; i < size; ++i) {
+                values[i] = random.nextLong();
+            }
+            primitive = LongList.of(values);
+            boxed = new ArrayList<>(primitive.boxed());
+            LongList sorted = LongList.ofMutable(values);
+            sorted.sort();
+            sortedPrimitive = sorted;
+            sortedBoxed = new ArrayList<>(sorted.boxed());
+            keys = new long[256];
+            for (int i = 0; i < keys.length; ++i) {
+                keys[i] = values[random.nextInt(size)];
+            }
+        }
+    }
+
+    @Benchmark
+    public LongList sortPrimitive(LongState s) {
+        LongList copy = LongList.ofMutable(s.primitive.toArray());
+        copy.sort();
+        return copy;
+    }
+
+    @Benchmark
+    public List<Long> sortBoxed(LongState s) {
+        List<Long> copy = new ArrayList<>(s.boxed);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int binarySearchPrimitive(LongState s) {
+        int found = 0;
+        for (long key : s.keys) {
+            found += s.sortedPrimitive.binarySearch(key);
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int binarySearchBoxed(LongState s) {
+        int found = 0;
+        for (long key : s.keys) {
+            found += Collections.binarySearch(s.sortedBoxed, key);
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long sumPrimitive(LongState s) {
+        return s.primitive.sum();
+    }
+
+    @Benchmark
+    public long sumBoxed(LongState s) {
+        long total = 0;
+        for (Long value : s.boxed) {
+            total += value;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public LongList mapToLong(LongState s) {
+        return Lists.mapToLong(s.boxed, value -> value >>> 1);
+    }
+
+    @Benchmark
+    public List<Long> mapBoxed(LongState s) {
+        return Lists.map(s.boxed, value -> value >>> 1);
+    }
+}
@@ -0,0 +1,111 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.Lists;
+import com.madimadica.utils.LongObjectMap;
+import com.madimadica.utils.ObjectIntMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the primitive-keyed and primitive-valued maps, against the equivalent boxed {@link Map}s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveMapsBenchmark {
+
+    /**
+     * Entities with random, unique IDs.
+     */
+    @State(Scope.Benchmark)
+    public static class EntityState {
+        @Param({"16", "1000", "1000000"})
+        public int size;
+
+        public List<Entity> entities;
+        public Map<Long, Entity> boxedIndex;
+        public LongObjectMap<Entity> primitiveIndex;
+        public long[] lookups;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            Set<Long> ids = new HashSet<>();
+            while (ids.size() < size) {
+                ids.add(random.nextLong());
+            }
+            entities = new ArrayList<>();
+            for (long id : ids) {
+                entities.add(new Entity(id));
+            }
+            boxedIndex = Lists.toMap(entities, Entity::getId);
+            primitiveIndex = Lists.toLongKeyedMap(entities, Entity::getId);
+            lookups = new long[256];
+            for (int i = 0; i < lookups.length; ++i) {
+                lookups[i] = entities.get(random.nextInt(size)).getId();
+            }
+        }
+    }
+
+    public static final class Entity {
+        private final long id;
+
+        Entity(long id) {
+            this.id = id;
+        }
+
+        public long getId() {
+            return id;
+        }
+    }
+
+    @Benchmark
+    public LongObjectMap<Entity> toLongKeyedMap(EntityState s) {
+        return Lists.toLongKeyedMap(s.entities, Entity::getId);
+    }
+
+    @Benchmark
+    public Map<Long, Entity> toMapBoxed(EntityState s) {
+        return Lists.toMap(s.entities, Entity::getId);
+    }
+
+    @Benchmark
+    public int getPrimitive(EntityState s) {
+        int found = 0;
+        for (long id : s.lookups) {
+            found += s.primitiveIndex.get(id) != null ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int getBoxed(EntityState s) {
+        int found = 0;
+        for (long id : s.lookups) {
+            found += s.boxedIndex.get(id) != null ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public ObjectIntMap<Long> countPrimitive(EntityState s) {
+        ObjectIntMap<Long> counts = new ObjectIntMap<>();
+        for (long id : s.lookups) {
+            counts.addTo(id, 1);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public Map<Long, Integer> countBoxed(EntityState s) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (long id : s.lookups) {
+            counts.merge(id, 1, Integer::sum);
+        }
+        return counts;
+    }
+}
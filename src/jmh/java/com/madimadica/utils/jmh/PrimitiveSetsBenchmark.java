@@ -0,0 +1,92 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.LongSet;
+import com.madimadica.utils.Sets;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link LongSet} set algebra, against the equivalent {@link Sets} methods on a boxed {@code Set<Long>}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveSetsBenchmark {
+
+    /**
+     * Two sets of random IDs, where half of set B is also in set A.
+     */
+    @State(Scope.Benchmark)
+    public static class LongSetState {
+        @Param({"16", "1000", "1000000"})
+        public int size;
+
+        public Set<Long> boxedA;
+        public Set<Long> boxedB;
+        public LongSet primitiveA;
+        public LongSet primitiveB;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            primitiveA = new LongSet(size);
+            while (primitiveA.size() < size) {
+                primitiveA.add(random.nextLong());
+            }
+            long[] shared = primitiveA.toArray();
+            primitiveB = new LongSet(size);
+            for (int i = 0; i < size / 2; ++i) {
+                primitiveB.add(shared[i]);
+            }
+            while (primitiveB.size() < size) {
+                primitiveB.add(random.nextLong());
+            }
+            boxedA = new HashSet<>(primitiveA.boxed());
+            boxedB = new HashSet<>(primitiveB.boxed());
+        }
+    }
+
+    @Benchmark
+    public LongSet unionPrimitive(LongSetState s) {
+        return LongSet.union(s.primitiveA, s.primitiveB);
+    }
+
+    @Benchmark
+    public Set<Long> unionBoxed(LongSetState s) {
+        return Sets.union(s.boxedA, s.boxedB);
+    }
+
+    @Benchmark
+    public LongSet intersectionPrimitive(LongSetState s) {
+        return LongSet.intersection(s.primitiveA, s.primitiveB);
+    }
+
+    @Benchmark
+    public Set<Long> intersectionBoxed(LongSetState s) {
+        return Sets.intersection(s.boxedA, s.boxedB);
+    }
+
+    @Benchmark
+    public LongSet differencePrimitive(LongSetState s) {
+        return LongSet.difference(s.primitiveA, s.primitiveB);
+    }
+
+    @Benchmark
+    public Set<Long> differenceBoxed(LongSetState s) {
+        return Sets.difference(s.boxedA, s.boxedB);
+    }
+
+    @Benchmark
+    public LongSet symmetricDifferencePrimitive(LongSetState s) {
+        return LongSet.symmetricDifference(s.primitiveA, s.primitiveB);
+    }
+
+    @Benchmark
+    public Set<Long> symmetricDifferenceBoxed(LongSetState s) {
+        return Sets.symmetricDifference(s.boxedA, s.boxedB);
+    }
+}
@@ -0,0 +1,214 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.Lists;
+import com.madimadica.utils.Sets;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the set algebra in {@link Sets} on inputs of very different sizes,
+ * against the copy-then-filter approach of {@link Set#retainAll} and {@link Set#removeAll},
+ * and for a single lookup in a materialized result against a lookup in a view.
+ * The symmetric difference is compared against computing it from a union, an intersection and a difference,
+ * and the sorted merges of tree sets and sorted lists against {@link TreeSet} updates and hashing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetAlgebraBenchmark {
+
+    /**
+     * A large and a small set of integers, where half of the small set is in the large set.
+     */
+    @State(Scope.Benchmark)
+    public static class AsymmetricState {
+        @Param({"1000", "1000000"})
+        public int largeSize;
+
+        @Param({"3", "1000"})
+        public int smallSize;
+
+        public Set<Object> large;
+        public Set<Object> small;
+        public Set<Object> medium;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            large = new HashSet<>(BenchmarkData.distinct(BenchmarkData.ElementType.INTEGER, largeSize, random));
+            small = new HashSet<>(BenchmarkData.distinct(BenchmarkData.ElementType.INTEGER, largeSize - smallSize / 2, smallSize, random));
+            medium = new HashSet<>(BenchmarkData.distinct(BenchmarkData.ElementType.INTEGER, largeSize / 2, largeSize / 2, random));
+        }
+    }
+
+    /**
+     * The same sorted integers as tree sets, sorted lists and hash sets, where half of set B is in set A.
+     */
+    @State(Scope.Benchmark)
+    public static class SortedState {
+        @Param({"1000", "1000000"})
+        public int sizeA;
+
+        @Param({"3", "1000", "1000000"})
+        public int sizeB;
+
+        public TreeSet<Integer> treeA;
+        public TreeSet<Integer> treeB;
+        public List<Integer> listA;
+        public List<Integer> listB;
+        public Set<Integer> hashA;
+        public Set<Integer> hashB;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            treeA = new TreeSet<>();
+            while (treeA.size() < sizeA) {
+                treeA.add(random.nextInt(4 * sizeA));
+            }
+            treeB = new TreeSet<>();
+            List<Integer> shuffledA = new ArrayList<>(treeA);
+            Collections.shuffle(shuffledA, random);
+            treeB.addAll(shuffledA.subList(0, Math.min(sizeB / 2, sizeA)));
+            while (treeB.size() < sizeB) {
+                treeB.add(random.nextInt(4 * Math.max(sizeA, sizeB)));
+            }
+            listA = new ArrayList<>(treeA);
+            listB = new ArrayList<>(treeB);
+            hashA = new HashSet<>(treeA);
+            hashB = new HashSet<>(treeB);
+        }
+    }
+
+    @Benchmark
+    public Set<Object> intersectionLargeSmall(AsymmetricState s) {
+        return Sets.intersection(s.large, s.small);
+    }
+
+    @Benchmark
+    public Set<Object> intersectionLargeSmallRetainAll(AsymmetricState s) {
+        Set<Object> result = new HashSet<>(s.large);
+        result.retainAll(s.small);
+        return result;
+    }
+
+    @Benchmark
+    public Set<Object> intersectionVarargs(AsymmetricState s) {
+        return Sets.intersection(s.large, s.medium, s.small);
+    }
+
+    @Benchmark
+    public Set<Object> intersectionVarargsRetainAll(AsymmetricState s) {
+        Set<Object> result = new HashSet<>(s.large);
+        result.retainAll(s.medium);
+        result.retainAll(s.small);
+        return result;
+    }
+
+    @Benchmark
+    public Set<Object> differenceLargeSmall(AsymmetricState s) {
+        return Sets.difference(s.large, s.small);
+    }
+
+    @Benchmark
+    public Set<Object> differenceLargeSmallRemoveAll(AsymmetricState s) {
+        Set<Object> result = new HashSet<>(s.large);
+        result.removeAll(s.small);
+        return result;
+    }
+
+    @Benchmark
+    public Set<Object> differenceSmallLarge(AsymmetricState s) {
+        return Sets.difference(s.small, s.large);
+    }
+
+    @Benchmark
+    public Set<Object> differenceSmallLargeRemoveAll(AsymmetricState s) {
+        Set<Object> result = new HashSet<>(s.small);
+        result.removeAll(s.large);
+        return result;
+    }
+
+    @Benchmark
+    public boolean unionContains(AsymmetricState s) {
+        return Sets.union(s.large, s.small).contains(-1);
+    }
+
+    @Benchmark
+    public boolean unionViewContains(AsymmetricState s) {
+        return Sets.unionView(s.large, s.small).contains(-1);
+    }
+
+    @Benchmark
+    public boolean differenceContains(AsymmetricState s) {
+        return Sets.difference(s.large, s.small).contains(-1);
+    }
+
+    @Benchmark
+    public boolean differenceViewContains(AsymmetricState s) {
+        return Sets.differenceView(s.large, s.small).contains(-1);
+    }
+
+    @Benchmark
+    public Set<Object> symmetricDifference(AsymmetricState s) {
+        return Sets.symmetricDifference(s.large, s.medium);
+    }
+
+    @Benchmark
+    public Set<Object> symmetricDifferenceComposed(AsymmetricState s) {
+        Set<Object> union = new HashSet<>(s.large);
+        union.addAll(s.medium);
+        Set<Object> intersection = new HashSet<>(s.large);
+        intersection.retainAll(s.medium);
+        union.removeAll(intersection);
+        return union;
+    }
+
+    @Benchmark
+    public Set<Object> symmetricDifferenceVarargs(AsymmetricState s) {
+        return Sets.symmetricDifference(s.large, s.medium, s.small);
+    }
+
+    @Benchmark
+    public Set<Integer> sortedSetIntersection(SortedState s) {
+        return Sets.sortedIntersection(s.treeA, s.treeB);
+    }
+
+    @Benchmark
+    public Set<Integer> sortedSetIntersectionRetainAll(SortedState s) {
+        Set<Integer> result = new TreeSet<>(s.treeA);
+        result.retainAll(s.treeB);
+        return result;
+    }
+
+    @Benchmark
+    public Set<Integer> sortedSetUnion(SortedState s) {
+        return Sets.sortedUnion(s.treeA, s.treeB);
+    }
+
+    @Benchmark
+    public Set<Integer> sortedSetUnionAddAll(SortedState s) {
+        Set<Integer> result = new TreeSet<>(s.treeA);
+        result.addAll(s.treeB);
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> sortedListIntersection(SortedState s) {
+        return Lists.sortedIntersection(s.listA, s.listB);
+    }
+
+    @Benchmark
+    public List<Integer> sortedListDifference(SortedState s) {
+        return Lists.sortedDifference(s.listA, s.listB);
+    }
+
+    @Benchmark
+    public Set<Integer> hashSetIntersection(SortedState s) {
+        return Sets.intersection(s.hashA, s.hashB);
+    }
+}
@@ -0,0 +1,238 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.Sets;
+import com.madimadica.utils.jmh.BenchmarkData.ElementType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Benchmarks for every public method in {@link Sets}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetsBenchmark {
+
+    static final Function<Object, Integer> HASH = Objects::hashCode;
+    static final Predicate<Object> EVEN_HASH = e -> (Objects.hashCode(e) & 1) == 0;
+    static final Function<Object, Integer> BUCKET_16 = e -> e.hashCode() & 15;
+
+    /**
+     * Distinct, non-null elements, plus three sets {@code A}, {@code B} and {@code C}
+     * of the same size where each consecutive pair overlaps by half.
+     */
+    @State(Scope.Benchmark)
+    public static class SetState {
+        @Param({"1", "16", "1000", "1000000"})
+        public int size;
+
+        @Param({"INTEGER", "STRING"})
+        public ElementType elementType;
+
+        public Object[] array;
+        public List<Object> list;
+        public Set<Object> setA;
+        public Set<Object> setB;
+        public Set<Object> setC;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            list = BenchmarkData.distinct(elementType, size, random);
+            array = list.toArray();
+            setA = new HashSet<>(list);
+            setB = new HashSet<>(BenchmarkData.distinct(elementType, size / 2, size, random));
+            setC = new HashSet<>(BenchmarkData.distinct(elementType, size, size, random));
+        }
+    }
+
+    /**
+     * Source collections where a fraction of the elements are {@code null}.
+     */
+    @State(Scope.Benchmark)
+    public static class NullableSourceState {
+        @Param({"1", "16", "1000", "1000000"})
+        public int size;
+
+        @Param({"INTEGER", "STRING"})
+        public ElementType elementType;
+
+        @Param({"0.0", "0.1", "0.5"})
+        public double nullDensity;
+
+        public List<Object> list;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(BenchmarkData.SEED);
+            list = BenchmarkData.withNulls(BenchmarkData.distinct(elementType, size, random), nullDensity, random);
+        }
+    }
+
+    @Benchmark
+    public Set<Object> ofNullable(SetState s) {
+        return Sets.ofNullable(s.array);
+    }
+
+    @Benchmark
+    public Set<Object> ofMutable(SetState s) {
+        return Sets.ofMutable(s.array);
+    }
+
+    @Benchmark
+    public Set<Object> ofOrdered(SetState s) {
+        return Sets.ofOrdered(s.array);
+    }
+
+    @Benchmark
+    public Set<Object> ofOrderedNullable(SetState s) {
+        return Sets.ofOrderedNullable(s.array);
+    }
+
+    @Benchmark
+    public Set<Object> ofOrderedMutable(SetState s) {
+        return Sets.ofOrderedMutable(s.array);
+    }
+
+    @Benchmark
+    public Set<Object> copyOfNullable(NullableSourceState s) {
+        return Sets.copyOfNullable(s.list);
+    }
+
+    @Benchmark
+    public Set<Object> copyOfOrdered(SetState s) {
+        return Sets.copyOfOrdered(s.list);
+    }
+
+    @Benchmark
+    public Set<Object> copyOfOrderedNullable(NullableSourceState s) {
+        return Sets.copyOfOrderedNullable(s.list);
+    }
+
+    @Benchmark
+    public Set<Integer> map(SetState s) {
+        return Sets.map(s.setA, HASH);
+    }
+
+    @Benchmark
+    public Set<Integer> mapMutable(SetState s) {
+        return Sets.mapMutable(s.setA, HASH);
+    }
+
+    @Benchmark
+    public List<Integer> mapToList(SetState s) {
+        return Sets.mapToList(s.setA, HASH);
+    }
+
+    @Benchmark
+    public List<Integer> mapToMutableList(SetState s) {
+        return Sets.mapToMutableList(s.setA, HASH);
+    }
+
+    @Benchmark
+    public Map<Object, Object> toMap(SetState s) {
+        return Sets.toMap(s.setA, Function.identity());
+    }
+
+    @Benchmark
+    public Map<Object, Integer> toMapKV(SetState s) {
+        return Sets.toMap(s.setA, Function.identity(), HASH);
+    }
+
+    @Benchmark
+    public Map<Object, Object> toMutableMap(SetState s) {
+        return Sets.toMutableMap(s.setA, Function.identity());
+    }
+
+    @Benchmark
+    public Map<Object, Integer> toMutableMapKV(SetState s) {
+        return Sets.toMutableMap(s.setA, Function.identity(), HASH);
+    }
+
+    @Benchmark
+    public Set<Object> filter(SetState s) {
+        return Sets.filter(s.setA, EVEN_HASH);
+    }
+
+    @Benchmark
+    public Set<Object> filterMutable(SetState s) {
+        return Sets.filterMutable(s.setA, EVEN_HASH);
+    }
+
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Set<?> sorted(SetState s) {
+        return Sets.sorted((Collection) s.list);
+    }
+
+    @Benchmark
+    public Set<Object> sortedComparator(SetState s) {
+        return Sets.sorted(s.list, Comparator.comparing(Object::toString));
+    }
+
+    @Benchmark
+    public TreeSet<Object> sortedMutable(SetState s) {
+        return Sets.sortedMutable(s.list, Comparator.comparing(Object::toString));
+    }
+
+    @Benchmark
+    public Set<Object> ofIterable(SetState s) {
+        return Sets.ofIterable(s.list);
+    }
+
+    @Benchmark
+    public Set<Object> ofIterableNullable(NullableSourceState s) {
+        return Sets.ofIterableNullable(s.list);
+    }
+
+    @Benchmark
+    public Set<Object> ofIterableMutable(NullableSourceState s) {
+        return Sets.ofIterableMutable(s.list);
+    }
+
+    @Benchmark
+    public Map<Integer, Set<Object>> groupBy(SetState s) {
+        return Sets.groupBy(s.list, BUCKET_16);
+    }
+
+    @Benchmark
+    public Map<Integer, Set<Integer>> groupByAndMap(SetState s) {
+        return Sets.groupByAndMap(s.list, BUCKET_16, HASH);
+    }
+
+    @Benchmark
+    public Set<Object> union(SetState s) {
+        return Sets.union(s.setA, s.setB);
+    }
+
+    @Benchmark
+    public Set<Object> unionVarargs(SetState s) {
+        return Sets.union(s.setA, s.setB, s.setC);
+    }
+
+    @Benchmark
+    public Set<Object> intersection(SetState s) {
+        return Sets.intersection(s.setA, s.setB);
+    }
+
+    @Benchmark
+    public Set<Object> intersectionVarargs(SetState s) {
+        return Sets.intersection(s.setA, s.setB, s.setC);
+    }
+
+    @Benchmark
+    public Set<Object> difference(SetState s) {
+        return Sets.difference(s.setA, s.setB);
+    }
+
+    @Benchmark
+    public Set<Object> symmetricDifference(SetState s) {
+        return Sets.symmetricDifference(s.setA, s.setB);
+    }
+}
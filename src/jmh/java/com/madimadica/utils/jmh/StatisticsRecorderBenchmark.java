@@ -0,0 +1,107 @@
+package com.madimadica.utils.jmh;
+
+import com.madimadica.utils.StatisticsAccumulator;
+import com.madimadica.utils.StatisticsRecorder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link StatisticsRecorder} under 1 to 64 concurrent writers,
+ * against a {@link StatisticsAccumulator} guarded by a single lock.
+ * <p>
+ *     Each writer records one sample per operation, so the score is the latency of a single record call.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsRecorderBenchmark {
+
+    /**
+     * One recorder and one locked accumulator shared by every writer thread.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedState {
+        public StatisticsRecorder recorder;
+        public StatisticsAccumulator accumulator;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            recorder = new StatisticsRecorder();
+            accumulator = new StatisticsAccumulator();
+        }
+    }
+
+    private static double sample() {
+        return ThreadLocalRandom.current().nextDouble(1000);
+    }
+
+    private static void recordLocked(SharedState s) {
+        final double value = sample();
+        synchronized (s.accumulator) {
+            s.accumulator.accept(value);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void recorder1(SharedState s) {
+        s.recorder.accept(sample());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recorder4(SharedState s) {
+        s.recorder.accept(sample());
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void recorder16(SharedState s) {
+        s.recorder.accept(sample());
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void recorder64(SharedState s) {
+        s.recorder.accept(sample());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void locked1(SharedState s) {
+        recordLocked(s);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void locked4(SharedState s) {
+        recordLocked(s);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void locked16(SharedState s) {
+        recordLocked(s);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void locked64(SharedState s) {
+        recordLocked(s);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public StatisticsAccumulator snapshotWhileRecording(SharedState s) {
+        if (ThreadLocalRandom.current().nextInt(64) == 0) {
+            return s.recorder.snapshot();
+        }
+        s.recorder.accept(sample());
+        return null;
+    }
+}
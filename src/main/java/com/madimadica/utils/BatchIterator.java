@@ -0,0 +1,122 @@
+package com.madimadica.utils;
+
+import java.util.*;
+
+/**
+ * Lazily groups the elements of a source iterator into consecutive batches.
+ * <p>
+ *     Every batch contains {@code batchSize} elements, except for the last batch which may be smaller.
+ *     By default, each batch is an immutable copy, so only a single batch is held in memory at a time
+ *     unless the caller keeps them. When reusing the buffer, every batch is the same read-only list,
+ *     whose contents are replaced by each call to {@link #next()}.
+ * </p>
+ * @param <T> Type of batch elements
+ */
+final class BatchIterator<T> implements Iterator<List<T>> {
+
+    /**
+     * Largest batch array to allocate up-front, larger batches grow as elements arrive.
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1 << 14;
+
+    private final Iterator<? extends T> source;
+    private final int batchSize;
+    private final ReusedBatch<T> reused;
+
+    BatchIterator(Iterator<? extends T> source, int batchSize) {
+        this(source, batchSize, false);
+    }
+
+    BatchIterator(Iterator<? extends T> source, int batchSize, boolean reuseBuffer) {
+        this.source = Objects.requireNonNull(source);
+        this.batchSize = requirePositiveSize(batchSize, "Batch size");
+        this.reused = reuseBuffer ? new ReusedBatch<>(new Object[Math.min(batchSize, MAX_INITIAL_CAPACITY)]) : null;
+    }
+
+    /**
+     * Validate a batch or partition size.
+     * @param size size to validate
+     * @param name name of the size in the exception message, such as {@code "Batch size"}
+     * @return {@code size}
+     * @throws IllegalArgumentException if {@code size} is less than 1
+     */
+    static int requirePositiveSize(int size, String name) {
+        if (size < 1) {
+            throw new IllegalArgumentException(name + " must be at least 1, was " + size);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return source.hasNext();
+    }
+
+    @Override
+    public List<T> next() {
+        if (!source.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (reused != null) {
+            return nextReused();
+        }
+        Object[] batch = new Object[Math.min(batchSize, MAX_INITIAL_CAPACITY)];
+        int count = 0;
+        while (count < batchSize && source.hasNext()) {
+            if (count == batch.length) {
+                batch = grow(batch);
+            }
+            batch[count++] = source.next();
+        }
+        if (count < batch.length) {
+            batch = Arrays.copyOf(batch, count);
+        }
+        return ImmutableArrayList.wrap(batch, count);
+    }
+
+    private List<T> nextReused() {
+        Object[] batch = reused.elements;
+        final int previousCount = reused.size;
+        int count = 0;
+        while (count < batchSize && source.hasNext()) {
+            if (count == batch.length) {
+                batch = grow(batch);
+            }
+            batch[count++] = source.next();
+        }
+        // Release references left over from a larger previous batch
+        Arrays.fill(batch, count, Math.max(count, previousCount), null);
+        reused.elements = batch;
+        reused.size = count;
+        return reused;
+    }
+
+    private Object[] grow(Object[] batch) {
+        return Arrays.copyOf(batch, (int) Math.min(batchSize, 2L * batch.length));
+    }
+
+    /**
+     * Read-only list over the reused buffer.
+     * @param <T> Type of batch elements
+     */
+    private static final class ReusedBatch<T> extends AbstractList<T> implements RandomAccess {
+        private Object[] elements;
+        private int size;
+
+        ReusedBatch(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            return (T) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
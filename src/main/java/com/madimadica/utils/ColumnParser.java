@@ -0,0 +1,243 @@
+package com.madimadica.utils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bulk parsers backing the {@code NumberUtils.parseInts}, {@code parseLongs} and their parallel methods.
+ * <p>
+ *     Each string is parsed the same as {@link IntegerParser} parses it in radix 10, but eight digits at a time,
+ *     SIMD within a register: eight characters are packed into the bytes of a {@code long},
+ *     checked to all be ASCII digits with a few masks and adds, and combined into their value with three multiplies.
+ *     Anything other than an optional sign and at most 19 ASCII digits, such as non-ASCII digits or leading zeros
+ *     beyond the length of a {@code long}, is handed to {@link IntegerParser} instead.
+ * </p>
+ * <p>
+ *     Invalid elements are first recorded in a {@code long[]} of bitmap words, so parallel tasks,
+ *     whose ranges are aligned to 64 elements, never share a word, and are then copied into the caller's {@link BitSet}.
+ * </p>
+ */
+final class ColumnParser {
+
+    private ColumnParser() {}
+
+    /**
+     * Parse a column of strings into {@code int}s
+     * @param pool pool to parse large columns on, or null to parse on this thread
+     */
+    static void parseInts(List<String> column, int[] out, BitSet invalid, ForkJoinPool pool) {
+        final List<String> list = randomAccess(column);
+        final int size = checkOutput(list, out.length, invalid);
+        final long[] words = new long[(size + 63) >>> 6];
+        parallelize(list, pool, (from, to) -> parseInts(list, out, words, from, to));
+        report(words, size, invalid);
+    }
+
+    /**
+     * Parse a column of strings into {@code long}s
+     * @param pool pool to parse large columns on, or null to parse on this thread
+     */
+    static void parseLongs(List<String> column, long[] out, BitSet invalid, ForkJoinPool pool) {
+        final List<String> list = randomAccess(column);
+        final int size = checkOutput(list, out.length, invalid);
+        final long[] words = new long[(size + 63) >>> 6];
+        parallelize(list, pool, (from, to) -> parseLongs(list, out, words, from, to));
+        report(words, size, invalid);
+    }
+
+    /**
+     * Copy a list into an array list, if it cannot get elements by index in constant time
+     */
+    private static List<String> randomAccess(List<String> column) {
+        if (column instanceof RandomAccess) {
+            return column;
+        }
+        return Arrays.asList(column.toArray(new String[0]));
+    }
+
+    private static int checkOutput(List<String> column, int outLength, BitSet invalid) {
+        Objects.requireNonNull(invalid);
+        final int size = column.size();
+        if (outLength < size) {
+            throw new IllegalArgumentException("Output array length " + outLength + " is less than column size " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Parse the column in ranges on the given pool, or in one range on this thread if the pool is null
+     * or the column is too small to be worth splitting
+     */
+    private static void parallelize(List<String> column, ForkJoinPool pool, Range range) {
+        final int size = column.size();
+        if (pool != null && ParallelLists.isParallel(column, pool)) {
+            // Round up to a whole number of bitmap words
+            final int chunkSize = (ParallelLists.chunkSize(size, pool) + 63) & ~63;
+            pool.invoke(new RangeTask(range, 0, size, chunkSize));
+        } else {
+            range.parse(0, size);
+        }
+    }
+
+    private static void parseInts(List<String> column, int[] out, long[] words, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            final long value = parse(column.get(i), Integer.MAX_VALUE, IntegerParser.INVALID_INT);
+            if (value == IntegerParser.INVALID_INT) {
+                out[i] = 0;
+                words[i >>> 6] |= 1L << i;
+            } else {
+                out[i] = (int) value;
+            }
+        }
+    }
+
+    private static void parseLongs(List<String> column, long[] out, long[] words, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            final String s = column.get(i);
+            final long value = parse(s, Long.MAX_VALUE, Long.MIN_VALUE);
+            if (value == Long.MIN_VALUE && IntegerParser.isInvalidLong(s, 10)) {
+                out[i] = 0;
+                words[i >>> 6] |= 1L << i;
+            } else {
+                out[i] = value;
+            }
+        }
+    }
+
+    /**
+     * Set the bits of the invalid elements, and clear the bits of the valid elements
+     */
+    private static void report(long[] words, int size, BitSet invalid) {
+        invalid.clear(0, size);
+        for (int w = 0; w < words.length; ++w) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                invalid.set((w << 6) + Long.numberOfTrailingZeros(word));
+            }
+        }
+    }
+
+    /**
+     * Parse a decimal string into a number in {@code [-max - 1, max]}, the same as {@link IntegerParser}
+     * @param max {@code Integer.MAX_VALUE} or {@code Long.MAX_VALUE}
+     * @param invalid value to return for invalid input
+     * @return the parsed value, or {@code invalid}
+     */
+    static long parse(String s, long max, long invalid) {
+        if (s == null) {
+            return invalid;
+        }
+        final int maxDigits = max == Integer.MAX_VALUE ? 10 : 19;
+        final int len = s.length();
+        int i = 0;
+        boolean negative = false;
+        if (len > 0) {
+            final char first = s.charAt(0);
+            if (first == '-' || first == '+') {
+                negative = first == '-';
+                i = 1;
+            }
+        }
+        final int digits = len - i;
+        if (digits == 0 || digits > maxDigits) {
+            return parseScalar(s, max, invalid);
+        }
+        // At most 19 digits, which is below 2^64, so the magnitude is exact as an unsigned long
+        long magnitude = 0;
+        for (; len - i >= 8; i += 8) {
+            // Little endian, so the first character is the lowest byte
+            long chunk = 0;
+            int nonAscii = 0;
+            for (int k = 7; k >= 0; --k) {
+                final char c = s.charAt(i + k);
+                nonAscii |= c;
+                chunk = chunk << 8 | c;
+            }
+            if (nonAscii >= 0x80 || !isEightDigits(chunk)) {
+                return parseScalar(s, max, invalid);
+            }
+            magnitude = magnitude * 100_000_000 + eightDigits(chunk);
+        }
+        for (; i < len; ++i) {
+            final int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return parseScalar(s, max, invalid);
+            }
+            magnitude = magnitude * 10 + digit;
+        }
+        // Unsigned, as max + 1 is 2^63 for a long
+        if (Long.compareUnsigned(magnitude, negative ? max + 1 : max) > 0) {
+            return invalid;
+        }
+        return negative ? -magnitude : magnitude;
+    }
+
+    private static long parseScalar(String s, long max, long invalid) {
+        return max == Integer.MAX_VALUE ? IntegerParser.parseInt(s, 10) : IntegerParser.parseLong(s, 10, invalid);
+    }
+
+    /**
+     * Check if the eight bytes of a {@code long} are all ASCII digits, given that they are all ASCII.
+     * Adding 6 carries a digit's low nibble into its high nibble only if it is above 9.
+     */
+    static boolean isEightDigits(long chunk) {
+        return ((chunk & 0xF0F0F0F0F0F0F0F0L)
+                | (((chunk + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4)) == 0x3333333333333333L;
+    }
+
+    /**
+     * Find the value of eight ASCII digits packed little endian into a {@code long},
+     * combining adjacent digits, then pairs of digits, then quadruples of digits
+     */
+    static int eightDigits(long chunk) {
+        chunk -= 0x3030303030303030L;
+        chunk = chunk * 10 + (chunk >>> 8);
+        return (int) (((chunk & 0x000000FF000000FFL) * (100 + (1_000_000L << 32))
+                + ((chunk >>> 16) & 0x000000FF000000FFL) * (1 + (10_000L << 32))) >>> 32);
+    }
+
+    /**
+     * Parser of the elements in {@code [from, to)} of a column.
+     */
+    @FunctionalInterface
+    private interface Range {
+        void parse(int from, int to);
+    }
+
+    /**
+     * Parses the range {@code [from, to)}, splitting it at multiples of 64.
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Range range;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        RangeTask(Range range, int from, int to, int chunkSize) {
+            this.range = range;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                range.parse(from, to);
+            } else {
+                // Rounded down to a multiple of 64, still strictly between from and to, as the range is over a chunk long
+                int mid = ((from + to) >>> 1) & ~63;
+                invokeAll(
+                        new RangeTask(range, from, mid, chunkSize),
+                        new RangeTask(range, mid, to, chunkSize)
+                );
+            }
+        }
+    }
+}
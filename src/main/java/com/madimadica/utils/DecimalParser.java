@@ -0,0 +1,912 @@
+package com.madimadica.utils;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Exception-free floating point parsers backing the {@code NumberUtils.parseDouble} and {@code parseFloat} methods.
+ * <p>
+ *     These accept exactly the strings that {@link Double#parseDouble(String)} and {@link Float#parseFloat(String)}
+ *     accept, and return the same, correctly rounded, value for them, but report invalid input with a sentinel
+ *     instead of throwing {@link NumberFormatException}.
+ * </p>
+ * <p>
+ *     Decimal input is converted with Clinger's fast path when the significand and power of ten are both exact
+ *     as a {@code double} or {@code float}, and otherwise with the Eisel-Lemire algorithm, which multiplies the
+ *     significand by a 128 bit approximation of the power of ten. That is always enough to round correctly
+ *     when the significand has at most 19 digits. Longer significands are truncated to 19 digits,
+ *     which is only ambiguous when the result is within one unit of the last truncated digit of a rounding boundary.
+ *     Only those rare inputs, and hexadecimal input, are handed to the JDK parser, after checking they are valid.
+ * </p>
+ * <p>
+ *     Like {@link IntegerParser}, ranges of a {@link CharSequence}, {@code byte[]} or {@link ByteBuffer} are parsed
+ *     in place, each with its own copy of the scanning loop, and bytes are read as ISO-8859-1.
+ * </p>
+ */
+final class DecimalParser {
+
+    /**
+     * Result of the parsers for invalid input, which is the bits of a {@code NaN} that they never return.
+     * Valid {@code NaN} input is parsed to {@link Double#NaN} or {@link Float#NaN}.
+     */
+    static final long INVALID = -1L;
+
+    /**
+     * Result of {@link #toBits} when the truncated significand does not determine the rounding.
+     */
+    private static final long AMBIGUOUS = -2L;
+
+    /**
+     * Decimal exponents beyond this are infinite or zero for any significand a string can hold,
+     * so the exponent of the input stops growing here instead of overflowing.
+     */
+    private static final long EXPONENT_LIMIT = 1L << 48;
+
+    private static final int DOUBLE_MANTISSA_BITS = 52;
+    private static final int DOUBLE_MINIMUM_EXPONENT = -1023;
+    private static final int DOUBLE_INFINITE_POWER = 0x7FF;
+    private static final int DOUBLE_SMALLEST_POWER_OF_TEN = -342;
+    private static final int DOUBLE_LARGEST_POWER_OF_TEN = 308;
+    private static final int DOUBLE_MIN_EXPONENT_ROUND_TO_EVEN = -4;
+    private static final int DOUBLE_MAX_EXPONENT_ROUND_TO_EVEN = 23;
+    private static final int DOUBLE_MAX_EXPONENT_FAST_PATH = 22;
+
+    private static final int FLOAT_MANTISSA_BITS = 23;
+    private static final int FLOAT_MINIMUM_EXPONENT = -127;
+    private static final int FLOAT_INFINITE_POWER = 0xFF;
+    private static final int FLOAT_SMALLEST_POWER_OF_TEN = -64;
+    private static final int FLOAT_LARGEST_POWER_OF_TEN = 38;
+    private static final int FLOAT_MIN_EXPONENT_ROUND_TO_EVEN = -17;
+    private static final int FLOAT_MAX_EXPONENT_ROUND_TO_EVEN = 10;
+    private static final int FLOAT_MAX_EXPONENT_FAST_PATH = 10;
+
+    /**
+     * Powers of ten that are exact as a {@code double}, for Clinger's fast path.
+     */
+    private static final double[] DOUBLE_POWERS_OF_TEN = new double[DOUBLE_MAX_EXPONENT_FAST_PATH + 1];
+
+    /**
+     * Powers of ten that are exact as a {@code float}, for Clinger's fast path.
+     */
+    private static final float[] FLOAT_POWERS_OF_TEN = new float[FLOAT_MAX_EXPONENT_FAST_PATH + 1];
+
+    /**
+     * For each {@code q} from {@link #DOUBLE_SMALLEST_POWER_OF_TEN} to {@link #DOUBLE_LARGEST_POWER_OF_TEN},
+     * the high and low halves of the 128 most significant bits of {@code 5^q}, rounded down for {@code q >= 0},
+     * and up for {@code q < 0}. The power of two in {@code 10^q} is accounted for separately.
+     */
+    private static final long[] POWERS_OF_FIVE = new long[2 * (DOUBLE_LARGEST_POWER_OF_TEN - DOUBLE_SMALLEST_POWER_OF_TEN + 1)];
+
+    static {
+        double doublePower = 1;
+        for (int q = 0; q < DOUBLE_POWERS_OF_TEN.length; ++q) {
+            DOUBLE_POWERS_OF_TEN[q] = doublePower;
+            doublePower *= 10;
+        }
+        float floatPower = 1;
+        for (int q = 0; q < FLOAT_POWERS_OF_TEN.length; ++q) {
+            FLOAT_POWERS_OF_TEN[q] = floatPower;
+            floatPower *= 10;
+        }
+        final BigInteger five = BigInteger.valueOf(5);
+        for (int q = DOUBLE_SMALLEST_POWER_OF_TEN; q <= DOUBLE_LARGEST_POWER_OF_TEN; ++q) {
+            BigInteger bits;
+            if (q < 0) {
+                // A reciprocal of 2 * 64 bits more than 5^-q, plus one, so that it is never below the true value
+                final BigInteger power = five.pow(-q);
+                final int z = power.bitLength();
+                final int b = q >= -27 ? z + 127 : 2 * z + 2 * 64;
+                bits = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+            } else {
+                bits = five.pow(q);
+            }
+            bits = bits.bitLength() > 128 ? bits.shiftRight(bits.bitLength() - 128) : bits.shiftLeft(128 - bits.bitLength());
+            final int index = 2 * (q - DOUBLE_SMALLEST_POWER_OF_TEN);
+            POWERS_OF_FIVE[index] = bits.shiftRight(64).longValue();
+            POWERS_OF_FIVE[index + 1] = bits.longValue();
+        }
+    }
+
+    private DecimalParser() {}
+
+    /**
+     * Parse a string into a {@code double}, accepting the same strings as {@link Double#parseDouble(String)}
+     * @return the bits of the parsed value, or {@link #INVALID} if the string is null or not a number
+     */
+    static long parseDouble(String s) {
+        if (s == null) {
+            return INVALID;
+        }
+        return parse(s, 0, s.length(), false);
+    }
+
+    /**
+     * Parse a string into a {@code float}, accepting the same strings as {@link Float#parseFloat(String)}
+     * @return the bits of the parsed value, as an {@code int}, or {@link #INVALID} if the string is null or not a number
+     */
+    static long parseFloat(String s) {
+        if (s == null) {
+            return INVALID;
+        }
+        return parse(s, 0, s.length(), true);
+    }
+
+    /**
+     * Parse a range of characters into a {@code double}, the same as {@link #parseDouble(String)}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    static long parseDouble(CharSequence s, int begin, int end) {
+        return parseRange(s, begin, end, false);
+    }
+
+    /**
+     * Parse a range of characters into a {@code float}, the same as {@link #parseFloat(String)}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    static long parseFloat(CharSequence s, int begin, int end) {
+        return parseRange(s, begin, end, true);
+    }
+
+    private static long parseRange(CharSequence s, int begin, int end, boolean isFloat) {
+        Objects.checkFromToIndex(begin, end, s.length());
+        if (s instanceof String) {
+            return parse((String) s, begin, end, isFloat);
+        }
+        return parse(s, begin, end, isFloat);
+    }
+
+    /**
+     * Parse a range of ISO-8859-1 bytes into a {@code double}, the same as {@link #parseDouble(String)}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    static long parseDouble(byte[] bytes, int begin, int end) {
+        Objects.checkFromToIndex(begin, end, bytes.length);
+        return parse(bytes, begin, end, false);
+    }
+
+    /**
+     * Parse a range of ISO-8859-1 bytes into a {@code float}, the same as {@link #parseFloat(String)}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    static long parseFloat(byte[] bytes, int begin, int end) {
+        Objects.checkFromToIndex(begin, end, bytes.length);
+        return parse(bytes, begin, end, true);
+    }
+
+    /**
+     * Parse the ISO-8859-1 bytes at absolute indices of a buffer into a {@code double},
+     * the same as {@link #parseDouble(String)}. The position and limit of the buffer are not used or modified.
+     * @throws IndexOutOfBoundsException if the range is not within the limit of the buffer
+     */
+    static long parseDouble(ByteBuffer buffer, int begin, int end) {
+        return parseRange(buffer, begin, end, false);
+    }
+
+    /**
+     * Parse the ISO-8859-1 bytes at absolute indices of a buffer into a {@code float},
+     * the same as {@link #parseFloat(String)}. The position and limit of the buffer are not used or modified.
+     * @throws IndexOutOfBoundsException if the range is not within the limit of the buffer
+     */
+    static long parseFloat(ByteBuffer buffer, int begin, int end) {
+        return parseRange(buffer, begin, end, true);
+    }
+
+    private static long parseRange(ByteBuffer buffer, int begin, int end, boolean isFloat) {
+        Objects.checkFromToIndex(begin, end, buffer.limit());
+        if (buffer.hasArray()) {
+            final int offset = buffer.arrayOffset();
+            return parse(buffer.array(), offset + begin, offset + end, isFloat);
+        }
+        return parse(buffer, begin, end, isFloat);
+    }
+
+    private static String latin1(ByteBuffer buffer, int begin, int end) {
+        final byte[] bytes = new byte[end - begin];
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = buffer.get(begin + i);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /*
+     * The scanning loops, one per source, which are otherwise identical.
+     * Each follows the grammar of Double.parseDouble on the trimmed range [begin, end),
+     * and finds the sign, the first 19 significant digits and the decimal exponent of a decimal number.
+     */
+
+    private static long parse(String s, int begin, int end, boolean isFloat) {
+        // Trimmed the same as String.trim()
+        while (begin < end && s.charAt(begin) <= ' ') {
+            ++begin;
+        }
+        while (end > begin && s.charAt(end - 1) <= ' ') {
+            --end;
+        }
+        if (begin == end) {
+            return INVALID;
+        }
+        int i = begin;
+        char c = s.charAt(i);
+        final boolean negative = c == '-';
+        if (negative || c == '+') {
+            if (++i == end) {
+                return INVALID;
+            }
+            c = s.charAt(i);
+        }
+        if (c == 'N' || c == 'I') {
+            if (matches(s, i, end, "NaN")) {
+                return isFloat ? Float.floatToRawIntBits(Float.NaN) : Double.doubleToRawLongBits(Double.NaN);
+            }
+            if (matches(s, i, end, "Infinity")) {
+                return toInfinityBits(negative, isFloat);
+            }
+            return INVALID;
+        }
+        if (c == '0' && i + 1 < end && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X')) {
+            return parseHex(s.substring(begin, end), isFloat);
+        }
+
+        // The significand is the first 19 significant digits, and the value is significand * 10^exponent
+        long significand = 0;
+        int digits = 0;
+        long exponent = 0;
+        boolean truncated = false;
+        final int integerBegin = i;
+        while (i < end && s.charAt(i) == '0') {
+            ++i;
+        }
+        for (; i < end; ++i) {
+            final int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (digits < 19) {
+                significand = 10 * significand + digit;
+                ++digits;
+            } else {
+                ++exponent;
+                truncated |= digit != 0;
+            }
+        }
+        boolean hasDigits = i > integerBegin;
+        if (i < end && s.charAt(i) == '.') {
+            final int fractionBegin = ++i;
+            if (digits == 0) {
+                while (i < end && s.charAt(i) == '0') {
+                    ++i;
+                }
+                exponent -= i - fractionBegin;
+            }
+            for (; i < end; ++i) {
+                final int digit = s.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (digits < 19) {
+                    significand = 10 * significand + digit;
+                    ++digits;
+                    --exponent;
+                } else {
+                    truncated |= digit != 0;
+                }
+            }
+            hasDigits |= i > fractionBegin;
+        }
+        if (!hasDigits) {
+            return INVALID;
+        }
+        if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            if (++i == end) {
+                return INVALID;
+            }
+            c = s.charAt(i);
+            final boolean negativeExponent = c == '-';
+            if (negativeExponent || c == '+') {
+                ++i;
+            }
+            final int exponentBegin = i;
+            long explicitExponent = 0;
+            for (; i < end; ++i) {
+                final int digit = s.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (explicitExponent < EXPONENT_LIMIT) {
+                    explicitExponent = 10 * explicitExponent + digit;
+                }
+            }
+            if (i == exponentBegin) {
+                return INVALID;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i < end) {
+            // Only a type suffix may follow the number
+            c = s.charAt(i);
+            if (i + 1 != end || (c != 'f' && c != 'F' && c != 'd' && c != 'D')) {
+                return INVALID;
+            }
+        }
+        final long bits = toBits(negative, significand, exponent, truncated, isFloat);
+        return bits == AMBIGUOUS ? parseJdk(s.substring(begin, end), isFloat) : bits;
+    }
+
+    private static boolean matches(String s, int i, int end, String word) {
+        if (end - i != word.length()) {
+            return false;
+        }
+        for (int j = 0; j < word.length(); ++j) {
+            if (s.charAt(i + j) != word.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parse(CharSequence s, int begin, int end, boolean isFloat) {
+        // Trimmed the same as String.trim()
+        while (begin < end && s.charAt(begin) <= ' ') {
+            ++begin;
+        }
+        while (end > begin && s.charAt(end - 1) <= ' ') {
+            --end;
+        }
+        if (begin == end) {
+            return INVALID;
+        }
+        int i = begin;
+        char c = s.charAt(i);
+        final boolean negative = c == '-';
+        if (negative || c == '+') {
+            if (++i == end) {
+                return INVALID;
+            }
+            c = s.charAt(i);
+        }
+        if (c == 'N' || c == 'I') {
+            if (matches(s, i, end, "NaN")) {
+                return isFloat ? Float.floatToRawIntBits(Float.NaN) : Double.doubleToRawLongBits(Double.NaN);
+            }
+            if (matches(s, i, end, "Infinity")) {
+                return toInfinityBits(negative, isFloat);
+            }
+            return INVALID;
+        }
+        if (c == '0' && i + 1 < end && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X')) {
+            return parseHex(s.subSequence(begin, end).toString(), isFloat);
+        }
+
+        // The significand is the first 19 significant digits, and the value is significand * 10^exponent
+        long significand = 0;
+        int digits = 0;
+        long exponent = 0;
+        boolean truncated = false;
+        final int integerBegin = i;
+        while (i < end && s.charAt(i) == '0') {
+            ++i;
+        }
+        for (; i < end; ++i) {
+            final int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (digits < 19) {
+                significand = 10 * significand + digit;
+                ++digits;
+            } else {
+                ++exponent;
+                truncated |= digit != 0;
+            }
+        }
+        boolean hasDigits = i > integerBegin;
+        if (i < end && s.charAt(i) == '.') {
+            final int fractionBegin = ++i;
+            if (digits == 0) {
+                while (i < end && s.charAt(i) == '0') {
+                    ++i;
+                }
+                exponent -= i - fractionBegin;
+            }
+            for (; i < end; ++i) {
+                final int digit = s.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (digits < 19) {
+                    significand = 10 * significand + digit;
+                    ++digits;
+                    --exponent;
+                } else {
+                    truncated |= digit != 0;
+                }
+            }
+            hasDigits |= i > fractionBegin;
+        }
+        if (!hasDigits) {
+            return INVALID;
+        }
+        if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            if (++i == end) {
+                return INVALID;
+            }
+            c = s.charAt(i);
+            final boolean negativeExponent = c == '-';
+            if (negativeExponent || c == '+') {
+                ++i;
+            }
+            final int exponentBegin = i;
+            long explicitExponent = 0;
+            for (; i < end; ++i) {
+                final int digit = s.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (explicitExponent < EXPONENT_LIMIT) {
+                    explicitExponent = 10 * explicitExponent + digit;
+                }
+            }
+            if (i == exponentBegin) {
+                return INVALID;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i < end) {
+            // Only a type suffix may follow the number
+            c = s.charAt(i);
+            if (i + 1 != end || (c != 'f' && c != 'F' && c != 'd' && c != 'D')) {
+                return INVALID;
+            }
+        }
+        final long bits = toBits(negative, significand, exponent, truncated, isFloat);
+        return bits == AMBIGUOUS ? parseJdk(s.subSequence(begin, end).toString(), isFloat) : bits;
+    }
+
+    private static boolean matches(CharSequence s, int i, int end, String word) {
+        if (end - i != word.length()) {
+            return false;
+        }
+        for (int j = 0; j < word.length(); ++j) {
+            if (s.charAt(i + j) != word.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parse(byte[] bytes, int begin, int end, boolean isFloat) {
+        // Trimmed the same as String.trim()
+        while (begin < end && (char) (bytes[begin] & 0xFF) <= ' ') {
+            ++begin;
+        }
+        while (end > begin && (char) (bytes[end - 1] & 0xFF) <= ' ') {
+            --end;
+        }
+        if (begin == end) {
+            return INVALID;
+        }
+        int i = begin;
+        char c = (char) (bytes[i] & 0xFF);
+        final boolean negative = c == '-';
+        if (negative || c == '+') {
+            if (++i == end) {
+                return INVALID;
+            }
+            c = (char) (bytes[i] & 0xFF);
+        }
+        if (c == 'N' || c == 'I') {
+            if (matches(bytes, i, end, "NaN")) {
+                return isFloat ? Float.floatToRawIntBits(Float.NaN) : Double.doubleToRawLongBits(Double.NaN);
+            }
+            if (matches(bytes, i, end, "Infinity")) {
+                return toInfinityBits(negative, isFloat);
+            }
+            return INVALID;
+        }
+        if (c == '0' && i + 1 < end && ((char) (bytes[i + 1] & 0xFF) == 'x' || (char) (bytes[i + 1] & 0xFF) == 'X')) {
+            return parseHex(new String(bytes, begin, end - begin, StandardCharsets.ISO_8859_1), isFloat);
+        }
+
+        // The significand is the first 19 significant digits, and the value is significand * 10^exponent
+        long significand = 0;
+        int digits = 0;
+        long exponent = 0;
+        boolean truncated = false;
+        final int integerBegin = i;
+        while (i < end && (char) (bytes[i] & 0xFF) == '0') {
+            ++i;
+        }
+        for (; i < end; ++i) {
+            final int digit = (char) (bytes[i] & 0xFF) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (digits < 19) {
+                significand = 10 * significand + digit;
+                ++digits;
+            } else {
+                ++exponent;
+                truncated |= digit != 0;
+            }
+        }
+        boolean hasDigits = i > integerBegin;
+        if (i < end && (char) (bytes[i] & 0xFF) == '.') {
+            final int fractionBegin = ++i;
+            if (digits == 0) {
+                while (i < end && (char) (bytes[i] & 0xFF) == '0') {
+                    ++i;
+                }
+                exponent -= i - fractionBegin;
+            }
+            for (; i < end; ++i) {
+                final int digit = (char) (bytes[i] & 0xFF) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (digits < 19) {
+                    significand = 10 * significand + digit;
+                    ++digits;
+                    --exponent;
+                } else {
+                    truncated |= digit != 0;
+                }
+            }
+            hasDigits |= i > fractionBegin;
+        }
+        if (!hasDigits) {
+            return INVALID;
+        }
+        if (i < end && ((char) (bytes[i] & 0xFF) == 'e' || (char) (bytes[i] & 0xFF) == 'E')) {
+            if (++i == end) {
+                return INVALID;
+            }
+            c = (char) (bytes[i] & 0xFF);
+            final boolean negativeExponent = c == '-';
+            if (negativeExponent || c == '+') {
+                ++i;
+            }
+            final int exponentBegin = i;
+            long explicitExponent = 0;
+            for (; i < end; ++i) {
+                final int digit = (char) (bytes[i] & 0xFF) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (explicitExponent < EXPONENT_LIMIT) {
+                    explicitExponent = 10 * explicitExponent + digit;
+                }
+            }
+            if (i == exponentBegin) {
+                return INVALID;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i < end) {
+            // Only a type suffix may follow the number
+            c = (char) (bytes[i] & 0xFF);
+            if (i + 1 != end || (c != 'f' && c != 'F' && c != 'd' && c != 'D')) {
+                return INVALID;
+            }
+        }
+        final long bits = toBits(negative, significand, exponent, truncated, isFloat);
+        return bits == AMBIGUOUS ? parseJdk(new String(bytes, begin, end - begin, StandardCharsets.ISO_8859_1), isFloat) : bits;
+    }
+
+    private static boolean matches(byte[] bytes, int i, int end, String word) {
+        if (end - i != word.length()) {
+            return false;
+        }
+        for (int j = 0; j < word.length(); ++j) {
+            if ((char) (bytes[i + j] & 0xFF) != word.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parse(ByteBuffer buffer, int begin, int end, boolean isFloat) {
+        // Trimmed the same as String.trim()
+        while (begin < end && (char) (buffer.get(begin) & 0xFF) <= ' ') {
+            ++begin;
+        }
+        while (end > begin && (char) (buffer.get(end - 1) & 0xFF) <= ' ') {
+            --end;
+        }
+        if (begin == end) {
+            return INVALID;
+        }
+        int i = begin;
+        char c = (char) (buffer.get(i) & 0xFF);
+        final boolean negative = c == '-';
+        if (negative || c == '+') {
+            if (++i == end) {
+                return INVALID;
+            }
+            c = (char) (buffer.get(i) & 0xFF);
+        }
+        if (c == 'N' || c == 'I') {
+            if (matches(buffer, i, end, "NaN")) {
+                return isFloat ? Float.floatToRawIntBits(Float.NaN) : Double.doubleToRawLongBits(Double.NaN);
+            }
+            if (matches(buffer, i, end, "Infinity")) {
+                return toInfinityBits(negative, isFloat);
+            }
+            return INVALID;
+        }
+        if (c == '0' && i + 1 < end && ((char) (buffer.get(i + 1) & 0xFF) == 'x' || (char) (buffer.get(i + 1) & 0xFF) == 'X')) {
+            return parseHex(latin1(buffer, begin, end), isFloat);
+        }
+
+        // The significand is the first 19 significant digits, and the value is significand * 10^exponent
+        long significand = 0;
+        int digits = 0;
+        long exponent = 0;
+        boolean truncated = false;
+        final int integerBegin = i;
+        while (i < end && (char) (buffer.get(i) & 0xFF) == '0') {
+            ++i;
+        }
+        for (; i < end; ++i) {
+            final int digit = (char) (buffer.get(i) & 0xFF) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (digits < 19) {
+                significand = 10 * significand + digit;
+                ++digits;
+            } else {
+                ++exponent;
+                truncated |= digit != 0;
+            }
+        }
+        boolean hasDigits = i > integerBegin;
+        if (i < end && (char) (buffer.get(i) & 0xFF) == '.') {
+            final int fractionBegin = ++i;
+            if (digits == 0) {
+                while (i < end && (char) (buffer.get(i) & 0xFF) == '0') {
+                    ++i;
+                }
+                exponent -= i - fractionBegin;
+            }
+            for (; i < end; ++i) {
+                final int digit = (char) (buffer.get(i) & 0xFF) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (digits < 19) {
+                    significand = 10 * significand + digit;
+                    ++digits;
+                    --exponent;
+                } else {
+                    truncated |= digit != 0;
+                }
+            }
+            hasDigits |= i > fractionBegin;
+        }
+        if (!hasDigits) {
+            return INVALID;
+        }
+        if (i < end && ((char) (buffer.get(i) & 0xFF) == 'e' || (char) (buffer.get(i) & 0xFF) == 'E')) {
+            if (++i == end) {
+                return INVALID;
+            }
+            c = (char) (buffer.get(i) & 0xFF);
+            final boolean negativeExponent = c == '-';
+            if (negativeExponent || c == '+') {
+                ++i;
+            }
+            final int exponentBegin = i;
+            long explicitExponent = 0;
+            for (; i < end; ++i) {
+                final int digit = (char) (buffer.get(i) & 0xFF) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (explicitExponent < EXPONENT_LIMIT) {
+                    explicitExponent = 10 * explicitExponent + digit;
+                }
+            }
+            if (i == exponentBegin) {
+                return INVALID;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i < end) {
+            // Only a type suffix may follow the number
+            c = (char) (buffer.get(i) & 0xFF);
+            if (i + 1 != end || (c != 'f' && c != 'F' && c != 'd' && c != 'D')) {
+                return INVALID;
+            }
+        }
+        final long bits = toBits(negative, significand, exponent, truncated, isFloat);
+        return bits == AMBIGUOUS ? parseJdk(latin1(buffer, begin, end), isFloat) : bits;
+    }
+
+    private static boolean matches(ByteBuffer buffer, int i, int end, String word) {
+        if (end - i != word.length()) {
+            return false;
+        }
+        for (int j = 0; j < word.length(); ++j) {
+            if ((char) (buffer.get(i + j) & 0xFF) != word.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check a trimmed hexadecimal floating point literal against the grammar of {@link Double#valueOf(String)},
+     * and parse it with the JDK if it is valid, as they are too rare to be worth a parser of their own
+     */
+    private static long parseHex(String s, boolean isFloat) {
+        final int end = s.length();
+        int i = s.charAt(0) == '-' || s.charAt(0) == '+' ? 3 : 2;
+        final int integerBegin = i;
+        while (i < end && isHexDigit(s.charAt(i))) {
+            ++i;
+        }
+        int digits = i - integerBegin;
+        if (i < end && s.charAt(i) == '.') {
+            final int fractionBegin = ++i;
+            while (i < end && isHexDigit(s.charAt(i))) {
+                ++i;
+            }
+            digits += i - fractionBegin;
+        }
+        if (digits == 0 || i == end || (s.charAt(i) != 'p' && s.charAt(i) != 'P')) {
+            return INVALID;
+        }
+        if (++i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            ++i;
+        }
+        final int exponentBegin = i;
+        while (i < end && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+            ++i;
+        }
+        if (i == exponentBegin) {
+            return INVALID;
+        }
+        if (i + 1 == end) {
+            final char c = s.charAt(i);
+            if (c == 'f' || c == 'F' || c == 'd' || c == 'D') {
+                ++i;
+            }
+        }
+        return i == end ? parseJdk(s, isFloat) : INVALID;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return c < 128 && IntegerParser.digit(c, 16) >= 0;
+    }
+
+    /**
+     * Parse input already known to be valid with the JDK, which cannot throw
+     */
+    private static long parseJdk(String s, boolean isFloat) {
+        return isFloat ? Float.floatToRawIntBits(Float.parseFloat(s)) : Double.doubleToRawLongBits(Double.parseDouble(s));
+    }
+
+    private static long toInfinityBits(boolean negative, boolean isFloat) {
+        if (isFloat) {
+            return Float.floatToRawIntBits(negative ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY);
+        }
+        return Double.doubleToRawLongBits(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Round {@code significand * 10^exponent} to the nearest {@code double} or {@code float}
+     * @param significand unsigned significand of at most 19 digits
+     * @param truncated if nonzero digits were dropped after the significand
+     * @return the bits of the result, or {@link #AMBIGUOUS} if the truncated digits could change it
+     */
+    private static long toBits(boolean negative, long significand, long exponent, boolean truncated, boolean isFloat) {
+        if (isFloat) {
+            if (!truncated && significand >= 0 && significand <= 1L << (FLOAT_MANTISSA_BITS + 1)
+                    && exponent >= -FLOAT_MAX_EXPONENT_FAST_PATH && exponent <= FLOAT_MAX_EXPONENT_FAST_PATH) {
+                // Clinger's fast path, both operands are exact, so the one rounding of the operation is correct
+                float value = significand;
+                value = exponent < 0 ? value / FLOAT_POWERS_OF_TEN[(int) -exponent] : value * FLOAT_POWERS_OF_TEN[(int) exponent];
+                return Float.floatToRawIntBits(negative ? -value : value);
+            }
+            long bits = eiselLemire(significand, exponent, FLOAT_MANTISSA_BITS, FLOAT_MINIMUM_EXPONENT,
+                    FLOAT_INFINITE_POWER, FLOAT_SMALLEST_POWER_OF_TEN, FLOAT_LARGEST_POWER_OF_TEN,
+                    FLOAT_MIN_EXPONENT_ROUND_TO_EVEN, FLOAT_MAX_EXPONENT_ROUND_TO_EVEN);
+            if (truncated && bits != eiselLemire(significand + 1, exponent, FLOAT_MANTISSA_BITS, FLOAT_MINIMUM_EXPONENT,
+                    FLOAT_INFINITE_POWER, FLOAT_SMALLEST_POWER_OF_TEN, FLOAT_LARGEST_POWER_OF_TEN,
+                    FLOAT_MIN_EXPONENT_ROUND_TO_EVEN, FLOAT_MAX_EXPONENT_ROUND_TO_EVEN)) {
+                return AMBIGUOUS;
+            }
+            return (int) (negative ? bits | 1L << 31 : bits);
+        }
+        if (!truncated && significand >= 0 && significand <= 1L << (DOUBLE_MANTISSA_BITS + 1)
+                && exponent >= -DOUBLE_MAX_EXPONENT_FAST_PATH && exponent <= DOUBLE_MAX_EXPONENT_FAST_PATH) {
+            double value = significand;
+            value = exponent < 0 ? value / DOUBLE_POWERS_OF_TEN[(int) -exponent] : value * DOUBLE_POWERS_OF_TEN[(int) exponent];
+            return Double.doubleToRawLongBits(negative ? -value : value);
+        }
+        long bits = eiselLemire(significand, exponent, DOUBLE_MANTISSA_BITS, DOUBLE_MINIMUM_EXPONENT,
+                DOUBLE_INFINITE_POWER, DOUBLE_SMALLEST_POWER_OF_TEN, DOUBLE_LARGEST_POWER_OF_TEN,
+                DOUBLE_MIN_EXPONENT_ROUND_TO_EVEN, DOUBLE_MAX_EXPONENT_ROUND_TO_EVEN);
+        if (truncated && bits != eiselLemire(significand + 1, exponent, DOUBLE_MANTISSA_BITS, DOUBLE_MINIMUM_EXPONENT,
+                DOUBLE_INFINITE_POWER, DOUBLE_SMALLEST_POWER_OF_TEN, DOUBLE_LARGEST_POWER_OF_TEN,
+                DOUBLE_MIN_EXPONENT_ROUND_TO_EVEN, DOUBLE_MAX_EXPONENT_ROUND_TO_EVEN)) {
+            return AMBIGUOUS;
+        }
+        return negative ? bits | Long.MIN_VALUE : bits;
+    }
+
+    /**
+     * Round {@code w * 10^q} to the nearest binary floating point number with the Eisel-Lemire algorithm,
+     * as described by Lemire in "Number Parsing at a Gigabyte per Second", and in the fast_float library
+     * @param w unsigned significand, of at most 19 digits
+     * @return the unsigned bits of the result, in the format with the given parameters
+     */
+    private static long eiselLemire(long w, long q, int mantissaBits, int minimumExponent, int infinitePower,
+                                    int smallestPowerOfTen, int largestPowerOfTen,
+                                    int minExponentRoundToEven, int maxExponentRoundToEven) {
+        if (w == 0 || q < smallestPowerOfTen) {
+            return 0;
+        }
+        if (q > largestPowerOfTen) {
+            return (long) infinitePower << mantissaBits;
+        }
+        final int leadingZeros = Long.numberOfLeadingZeros(w);
+        w <<= leadingZeros;
+
+        // The high 64 bits of w * 5^q, and enough of the low bits to know if the high bits are exact
+        final int index = 2 * ((int) q - DOUBLE_SMALLEST_POWER_OF_TEN);
+        long high = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+        long low = w * POWERS_OF_FIVE[index];
+        final long precisionMask = -1L >>> (mantissaBits + 3);
+        if ((high & precisionMask) == precisionMask) {
+            final long secondHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                ++high;
+            }
+        }
+
+        final int upperBit = (int) (high >>> 63);
+        final int shift = upperBit + 64 - mantissaBits - 3;
+        long mantissa = high >>> shift;
+        // floor(log2(10^q)) + 63, without a logarithm
+        int power2 = (((152170 + 65536) * (int) q) >> 16) + 63 + upperBit - leadingZeros - minimumExponent;
+        if (power2 <= 0) {
+            // Subnormal, or zero
+            if (-power2 + 1 >= 64) {
+                return 0;
+            }
+            mantissa >>>= -power2 + 1;
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            // Rounding up may have made it the smallest normal number, whose exponent is 1
+            power2 = mantissa < 1L << mantissaBits ? 0 : 1;
+            return (long) power2 << mantissaBits | mantissa;
+        }
+        if (Long.compareUnsigned(low, 1) <= 0 && q >= minExponentRoundToEven && q <= maxExponentRoundToEven
+                && (mantissa & 3) == 1 && mantissa << shift == high) {
+            // Exactly halfway between two numbers, round to even instead of up
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= 2L << mantissaBits) {
+            mantissa = 1L << mantissaBits;
+            ++power2;
+        }
+        mantissa &= ~(1L << mantissaBits);
+        if (power2 >= infinitePower) {
+            return (long) infinitePower << mantissaBits;
+        }
+        return (long) power2 << mantissaBits | mantissa;
+    }
+
+    /**
+     * Find the high 64 bits of the unsigned 128 bit product of two longs, as {@code Math.unsignedMultiplyHigh} in Java 18
+     */
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+}
@@ -0,0 +1,384 @@
+package com.madimadica.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/**
+ * A list of primitive {@code double} values, backed by an {@code double[]}.
+ * <p>
+ *     Unlike a {@code List<Double>}, the values are never boxed, so each element uses 8 bytes.
+ *     Bulk operations such as {@link #sort()}, {@link #binarySearch(double)} and {@link #sum()}
+ *     operate directly on the backing array.
+ * </p>
+ * <p>
+ *     Lists created by {@link #of(double...)} and {@link #copyOf(Collection)} are immutable, and throw
+ *     {@link UnsupportedOperationException} on any modification. Lists created by {@link #ofMutable(double...)}
+ *     or the constructors are mutable, and grow as needed.
+ * </p>
+ * @see IntList
+ * @see LongList
+ * @since 1.0
+ */
+public final class DoubleList {
+
+    private static final double[] EMPTY = {};
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private double[] elements;
+    private int size;
+    private final boolean mutable;
+
+    /**
+     * Create an empty, mutable list.
+     */
+    public DoubleList() {
+        this(EMPTY, 0, true);
+    }
+
+    /**
+     * Create an empty, mutable list with space for {@code initialCapacity} elements before resizing.
+     * @param initialCapacity initial capacity of the backing array
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public DoubleList(int initialCapacity) {
+        this(new double[requireNonNegative(initialCapacity)], 0, true);
+    }
+
+    private DoubleList(double[] elements, int size, boolean mutable) {
+        this.elements = elements;
+        this.size = size;
+        this.mutable = mutable;
+    }
+
+    private static int requireNonNegative(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        return capacity;
+    }
+
+    /**
+     * Wrap an array as an immutable list, without copying.
+     * @param elements array to wrap, which must no longer be modified
+     * @param size number of leading elements that belong to the list
+     * @return an immutable list backed by the array
+     */
+    static DoubleList wrap(double[] elements, int size) {
+        return new DoubleList(elements, size, false);
+    }
+
+    /**
+     * Returns an immutable list containing the given values.
+     * @param values values of the list
+     * @return an immutable list containing a copy of the values, in order.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     * @since 1.0
+     */
+    public static DoubleList of(double... values) {
+        return new DoubleList(values.clone(), values.length, false);
+    }
+
+    /**
+     * Returns a mutable list containing the given values.
+     * @param values initial values of the list
+     * @return a mutable list containing a copy of the values, in order.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     * @since 1.0
+     */
+    public static DoubleList ofMutable(double... values) {
+        return new DoubleList(values.clone(), values.length, true);
+    }
+
+    /**
+     * Returns an immutable list containing the unboxed elements of the collection, in encounter order.
+     * @param collection collection to copy elements from.
+     * @return an immutable list of the unboxed elements.
+     * @throws NullPointerException if {@code collection} or any of its elements is {@code null}.
+     * @since 1.0
+     */
+    public static DoubleList copyOf(Collection<? extends Double> collection) {
+        double[] values = new double[collection.size()];
+        int i = 0;
+        for (Double value : collection) {
+            values[i++] = value;
+        }
+        return new DoubleList(values, i, false);
+    }
+
+    /**
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this list has no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return true if this list can be modified.
+     */
+    public boolean isMutable() {
+        return mutable;
+    }
+
+    /**
+     * Get the element at the given index.
+     * @param index index of the element
+     * @return the element at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public double get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * Replace the element at the given index.
+     * @param index index of the element
+     * @param value new value
+     * @return the previous value at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws UnsupportedOperationException if this list is immutable
+     */
+    public double set(int index, double value) {
+        checkMutable();
+        Objects.checkIndex(index, size);
+        double previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Append a value to the end of this list.
+     * @param value value to append
+     * @throws UnsupportedOperationException if this list is immutable
+     */
+    public void add(double value) {
+        checkMutable();
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Append all the values to the end of this list.
+     * @param values values to append
+     * @throws UnsupportedOperationException if this list is immutable
+     */
+    public void addAll(double... values) {
+        checkMutable();
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Append all the values of another list to the end of this list.
+     * @param other list of values to append
+     * @throws UnsupportedOperationException if this list is immutable
+     */
+    public void addAll(DoubleList other) {
+        checkMutable();
+        final int otherSize = other.size;
+        ensureCapacity(size + otherSize);
+        System.arraycopy(other.elements, 0, elements, size, otherSize);
+        size += otherSize;
+    }
+
+    /**
+     * Remove the element at the given index, shifting any subsequent elements to the left.
+     * @param index index of the element to remove
+     * @return the removed value
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws UnsupportedOperationException if this list is immutable
+     */
+    public double removeAt(int index) {
+        checkMutable();
+        Objects.checkIndex(index, size);
+        double previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        --size;
+        return previous;
+    }
+
+    /**
+     * Remove all elements from this list, keeping its capacity.
+     * @throws UnsupportedOperationException if this list is immutable
+     */
+    public void clear() {
+        checkMutable();
+        size = 0;
+    }
+
+    /**
+     * Ensure this list can hold at least {@code minCapacity} elements without resizing.
+     * @param minCapacity minimum capacity
+     * @throws UnsupportedOperationException if this list is immutable
+     */
+    public void ensureCapacity(int minCapacity) {
+        checkMutable();
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Check if this list contains the value.
+     * @param value value to search for
+     * @return true if any element is equal to {@code value}
+     */
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Find the first index of the value.
+     * Values are compared as if by {@link Double#equals(Object)}, so {@code NaN} is found,
+     * and {@code 0.0} and {@code -0.0} are different values.
+     * @param value value to search for
+     * @return the first index of {@code value}, or {@code -1} if it is not present
+     */
+    public int indexOf(double value) {
+        final double[] elements = this.elements;
+        final int size = this.size;
+        final long bits = Double.doubleToLongBits(value);
+        for (int i = 0; i < size; ++i) {
+            if (Double.doubleToLongBits(elements[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sort this list in-place, in ascending order, as defined by {@link Double#compare(double, double)}.
+     * @throws UnsupportedOperationException if this list is immutable
+     */
+    public void sort() {
+        checkMutable();
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Search this list for the value with a binary search. The list must be sorted in ascending order.
+     * @param value value to search for
+     * @return the index of {@code value} if present, otherwise <code>(-(insertion point) - 1)</code>.
+     * @see Arrays#binarySearch(double[], int, int, double)
+     */
+    public int binarySearch(double value) {
+        return Arrays.binarySearch(elements, 0, size, value);
+    }
+
+    /**
+     * Find the sum of all elements.
+     * @return the sum of all elements, or 0 if empty
+     * @see MathUtils#sum(double...)
+     */
+    public double sum() {
+        final double[] elements = this.elements;
+        final int size = this.size;
+        double total = 0;
+        for (int i = 0; i < size; ++i) {
+            total += elements[i];
+        }
+        return total;
+    }
+
+    /**
+     * Perform an action for each element, in order.
+     * @param action action to perform
+     */
+    public void forEach(DoubleConsumer action) {
+        final double[] elements = this.elements;
+        final int size = this.size;
+        for (int i = 0; i < size; ++i) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * @return a new array containing every element, in order.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * @return a sequential stream of the elements.
+     */
+    public DoubleStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Box every element into an immutable {@code List<Double>}.
+     * @return an immutable list of the boxed elements, in order.
+     */
+    public List<Double> boxed() {
+        Object[] boxed = new Object[size];
+        for (int i = 0; i < size; ++i) {
+            boxed[i] = elements[i];
+        }
+        return ImmutableArrayList.wrap(boxed, size);
+    }
+
+    /**
+     * Compares the elements of two lists, regardless of mutability.
+     * @param o object to compare to
+     * @return true if {@code o} is an {@code DoubleList} with the same elements in the same order.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DoubleList)) return false;
+        DoubleList other = (DoubleList) o;
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    /**
+     * @return a hash code equal to the {@link List#hashCode()} of the {@link #boxed()} elements.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; ++i) {
+            hash = 31 * hash + Double.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < size; ++i) {
+            sj.add(String.valueOf(elements[i]));
+        }
+        return sj.toString();
+    }
+
+    private void checkMutable() {
+        if (!mutable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, elements.length == 0 ? DEFAULT_CAPACITY : elements.length + (elements.length >> 1));
+        if (newCapacity < 0) {
+            // Overflow
+            newCapacity = Math.max(minCapacity, Integer.MAX_VALUE - 8);
+        }
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+}
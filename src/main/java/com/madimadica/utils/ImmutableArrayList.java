@@ -0,0 +1,100 @@
+package com.madimadica.utils;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, random access list backed directly by a range of an array.
+ * <p>
+ *     The array is <strong>not</strong> copied, so callers must not modify
+ *     or leak the array once it has been wrapped.
+ * </p>
+ * <p>
+ *     Serialized as a {@link SerializedForm} of only the elements in range,
+ *     so the wrapped array and this class's layout are free to change.
+ * </p>
+ * @param <E> Type of list elements
+ */
+final class ImmutableArrayList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] elements;
+    private final int offset;
+    private final int size;
+
+    private ImmutableArrayList(Object[] elements, int offset, int size) {
+        this.elements = elements;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * Wrap the first {@code size} elements of the array as an immutable list, without copying.
+     * @param elements array to wrap, which must no longer be modified
+     * @param size number of leading elements that belong to the list
+     * @return an immutable list view of the array
+     * @param <E> Type of list elements
+     */
+    static <E> List<E> wrap(Object[] elements, int size) {
+        if (size == 0) {
+            return List.of();
+        }
+        return new ImmutableArrayList<>(elements, 0, size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[offset + index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOfRange(elements, offset, offset + size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final int end = offset + size;
+        for (int i = offset; i < end; ++i) {
+            action.accept((E) elements[i]);
+        }
+    }
+
+    private Object writeReplace() {
+        return new SerializedForm(toArray());
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedForm required");
+    }
+
+    /**
+     * Serialization proxy of an {@link ImmutableArrayList}, which deserializes into a new list of the same elements.
+     */
+    private static final class SerializedForm implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] elements;
+
+        SerializedForm(Object[] elements) {
+            this.elements = elements;
+        }
+
+        private Object readResolve() {
+            return wrap(elements, elements.length);
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.madimadica.utils;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Compact immutable map, storing its keys and values interleaved in a single array in insertion order.
+ * <p>
+ *     Maps of up to {@value #LINEAR_SCAN_MAX} entries are searched by a linear scan of the keys.
+ *     Larger maps add a flat open-addressing index of entry positions, probed linearly.
+ *     Keys may not be {@code null}, values may be {@code null}. Iteration is always in insertion order.
+ * </p>
+ * <p>
+ *     Serialized as a {@link SerializedForm} of only the pairs, as the index depends on hash codes,
+ *     which may differ in the deserializing JVM.
+ * </p>
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class ImmutableArrayMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Largest map searched by a linear scan, instead of a hash index.
+     */
+    static final int LINEAR_SCAN_MAX = 8;
+
+    private static final ImmutableArrayMap<?, ?> EMPTY = new ImmutableArrayMap<>(new Object[0], 0, null);
+
+    /**
+     * Keys at even indices, each followed by its value.
+     */
+    private final Object[] pairs;
+    private final int size;
+
+    /**
+     * Hash table of entry positions plus one, where {@code 0} marks a free slot,
+     * or {@code null} for small maps.
+     */
+    private final int[] index;
+    private transient Set<Map.Entry<K, V>> entrySet;
+
+    private ImmutableArrayMap(Object[] pairs, int size, int[] index) {
+        this.pairs = pairs;
+        this.size = size;
+        this.index = index;
+    }
+
+    /**
+     * Create a map from interleaved keys and values, taking ownership of the array.
+     * <p>
+     *     When {@code rejectDuplicates} is false, a repeated key replaces the value of its first occurrence,
+     *     keeping the position of the first occurrence, as if by repeated {@link Map#put}.
+     * </p>
+     * @param pairs non-null keys at even indices, each followed by its value, which is compacted in place
+     * @param size number of key-value pairs in the array
+     * @param rejectDuplicates true to throw on a repeated key
+     * @return an immutable map of the pairs
+     * @param <K> key type
+     * @param <V> value type
+     * @throws IllegalArgumentException if {@code rejectDuplicates} is true and there are any duplicate keys
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> Map<K, V> fromPairs(Object[] pairs, int size, boolean rejectDuplicates) {
+        if (size == 0) {
+            return (Map<K, V>) EMPTY;
+        }
+        final int[] index = size > LINEAR_SCAN_MAX ? new int[tableSizeFor(size)] : null;
+        int unique = 0;
+        for (int i = 0; i < size; ++i) {
+            final Object key = pairs[2 * i];
+            final Object value = pairs[2 * i + 1];
+            int existing = index == null ? scan(pairs, unique, key) : insertIndex(index, pairs, key, unique);
+            if (existing >= 0) {
+                if (rejectDuplicates) {
+                    throw new IllegalArgumentException("Duplicate key: \"" + key + "\" not allowed.");
+                }
+                pairs[2 * existing + 1] = value;
+            } else {
+                pairs[2 * unique] = key;
+                pairs[2 * unique + 1] = value;
+                ++unique;
+            }
+        }
+        if (unique < size) {
+            Arrays.fill(pairs, 2 * unique, 2 * size, null);
+        }
+        return new ImmutableArrayMap<>(pairs, unique, index);
+    }
+
+    /**
+     * Create a map from the entries of another map, whose keys are non-null. Keys that are distinct in {@code map}
+     * but equal here, such as those of an {@link IdentityHashMap}, keep their first position and last value.
+     * @param map map to copy
+     * @return an immutable copy of {@code map}, in its iteration order
+     * @param <K> key type
+     * @param <V> value type
+     */
+    static <K, V> Map<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        Object[] pairs = new Object[2 * map.size()];
+        int size = 0;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            pairs[2 * size] = Objects.requireNonNull(entry.getKey());
+            pairs[2 * size + 1] = entry.getValue();
+            ++size;
+        }
+        return fromPairs(pairs, size, false);
+    }
+
+    private static int tableSizeFor(int size) {
+        // At most half full, so probe runs stay short
+        return Integer.highestOneBit(size - 1) << 2;
+    }
+
+    private static int mix(int hashCode) {
+        final int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return the position of {@code key} among the first {@code size} pairs, or {@code -1}
+     */
+    private static int scan(Object[] pairs, int size, Object key) {
+        for (int i = 0; i < size; ++i) {
+            if (key.equals(pairs[2 * i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Index {@code key} at {@code position}, unless it is already indexed.
+     * @return the existing position of {@code key}, or {@code -1} if it was added
+     */
+    private static int insertIndex(int[] index, Object[] pairs, Object key, int position) {
+        final int mask = index.length - 1;
+        int slot = mix(key.hashCode()) & mask;
+        int current;
+        while ((current = index[slot]) != 0) {
+            if (key.equals(pairs[2 * (current - 1)])) {
+                return current - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+        return -1;
+    }
+
+    /**
+     * @return the position of {@code key}, or {@code -1} if there is no entry
+     */
+    private int positionOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        final int[] index = this.index;
+        if (index == null) {
+            return scan(pairs, size, key);
+        }
+        final int mask = index.length - 1;
+        int slot = mix(key.hashCode()) & mask;
+        int current;
+        while ((current = index[slot]) != 0) {
+            if (key.equals(pairs[2 * (current - 1)])) {
+                return current - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return positionOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < size; ++i) {
+            if (Objects.equals(value, pairs[2 * i + 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int position = positionOf(key);
+        return position >= 0 ? (V) pairs[2 * position + 1] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        int position = positionOf(key);
+        return position >= 0 ? (V) pairs[2 * position + 1] : defaultValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < size; ++i) {
+            action.accept((K) pairs[2 * i], (V) pairs[2 * i + 1]);
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < size; ++i) {
+            hash += pairs[2 * i].hashCode() ^ Objects.hashCode(pairs[2 * i + 1]);
+        }
+        return hash;
+    }
+
+    private Object writeReplace() {
+        return new SerializedForm(Arrays.copyOf(pairs, 2 * size));
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedForm required");
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> entries = entrySet;
+        if (entries == null) {
+            entrySet = entries = new EntrySet();
+        }
+        return entries;
+    }
+
+    /**
+     * Read-only view of the entries, in insertion order.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Map.Entry<K, V> next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    int i = next++;
+                    return new AbstractMap.SimpleImmutableEntry<>((K) pairs[2 * i], (V) pairs[2 * i + 1]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            int position = positionOf(entry.getKey());
+            return position >= 0 && Objects.equals(entry.getValue(), pairs[2 * position + 1]);
+        }
+    }
+
+    /**
+     * Serialization proxy of an {@link ImmutableArrayMap}, which deserializes into a new map of the same entries and order.
+     */
+    private static final class SerializedForm implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Keys at even indices, each followed by its value.
+         */
+        private final Object[] pairs;
+
+        SerializedForm(Object[] pairs) {
+            this.pairs = pairs;
+        }
+
+        private Object readResolve() {
+            return fromPairs(pairs, pairs.length / 2, false);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.madimadica.utils;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Compact immutable set, storing its elements in a single array in insertion order.
+ * <p>
+ *     Sets of up to {@value #LINEAR_SCAN_MAX} elements are searched by a linear scan.
+ *     Larger sets add a flat open-addressing index of element positions, probed linearly.
+ *     A {@code null} element is stored as a private marker, so it is found like any other element.
+ *     Iteration is always in insertion order.
+ * </p>
+ * <p>
+ *     Serialized as a {@link SerializedForm} of only the elements, as neither the {@code null} marker
+ *     nor the index, which depends on hash codes, carries over to the deserializing JVM.
+ * </p>
+ * @param <E> element type
+ */
+final class ImmutableArraySet<E> extends AbstractSet<E> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Largest set searched by a linear scan, instead of a hash index.
+     */
+    static final int LINEAR_SCAN_MAX = 8;
+
+    /**
+     * Stands in for a {@code null} element, so that every array slot can be compared with {@code equals}.
+     */
+    private static final Object NULL = new Object();
+
+    private static final ImmutableArraySet<?> EMPTY = new ImmutableArraySet<>(new Object[0], 0, null);
+
+    private final Object[] elements;
+    private final int size;
+
+    /**
+     * Hash table of element positions plus one, where {@code 0} marks a free slot,
+     * or {@code null} for small sets.
+     */
+    private final int[] index;
+
+    private ImmutableArraySet(Object[] elements, int size, int[] index) {
+        this.elements = elements;
+        this.size = size;
+        this.index = index;
+    }
+
+    /**
+     * Create a set from the elements of an array, taking ownership of the array.
+     * <p>
+     *     Duplicates are detected while the set is built. When {@code rejectDuplicates} is false,
+     *     only the first occurrence of each element is kept.
+     * </p>
+     * @param elements elements of the set, which may include {@code null}, compacted in place.
+     *                 This must be an {@code Object[]}, so that it can store the {@code null} marker.
+     * @param size number of elements in the array
+     * @param rejectDuplicates true to throw on a repeated element
+     * @return an immutable set of the elements
+     * @param <E> element type
+     * @throws IllegalArgumentException if {@code rejectDuplicates} is true and there are any duplicate elements
+     */
+    @SuppressWarnings("unchecked")
+    static <E> Set<E> fromArray(Object[] elements, int size, boolean rejectDuplicates) {
+        if (size == 0) {
+            return (Set<E>) EMPTY;
+        }
+        final int[] index = size > LINEAR_SCAN_MAX ? new int[tableSizeFor(size)] : null;
+        int unique = 0;
+        for (int i = 0; i < size; ++i) {
+            final Object element = elements[i] == null ? NULL : elements[i];
+            boolean present = index == null ? scan(elements, unique, element) >= 0 : !insertIndex(index, elements, element, unique);
+            if (present) {
+                if (rejectDuplicates) {
+                    throw new IllegalArgumentException("Arguments may not contain duplicates");
+                }
+            } else {
+                elements[unique++] = element;
+            }
+        }
+        if (unique < size) {
+            Arrays.fill(elements, unique, size, null);
+        }
+        return new ImmutableArraySet<>(elements, unique, index);
+    }
+
+    /**
+     * Create a set from the elements of a collection, keeping the first occurrence of any duplicates.
+     * @param collection collection to copy, which may include {@code null}
+     * @return an immutable copy of {@code collection}, in its iteration order
+     * @param <E> element type
+     */
+    static <E> Set<E> copyOf(Collection<? extends E> collection) {
+        Object[] elements = collection.toArray();
+        if (elements.getClass() != Object[].class) {
+            elements = Arrays.copyOf(elements, elements.length, Object[].class);
+        }
+        return fromArray(elements, elements.length, false);
+    }
+
+    private static int tableSizeFor(int size) {
+        // At most half full, so probe runs stay short
+        return Integer.highestOneBit(size - 1) << 2;
+    }
+
+    private static int mix(int hashCode) {
+        final int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int hash(Object element) {
+        return element == NULL ? 0 : mix(element.hashCode());
+    }
+
+    /**
+     * @return the position of {@code element} among the first {@code size} elements, or {@code -1}
+     */
+    private static int scan(Object[] elements, int size, Object element) {
+        for (int i = 0; i < size; ++i) {
+            if (element.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Index {@code element} at {@code position}, unless it is already indexed.
+     * @return true if the element was added
+     */
+    private static boolean insertIndex(int[] index, Object[] elements, Object element, int position) {
+        final int mask = index.length - 1;
+        int slot = hash(element) & mask;
+        int current;
+        while ((current = index[slot]) != 0) {
+            if (element.equals(elements[current - 1])) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        final Object element = o == null ? NULL : o;
+        final int[] index = this.index;
+        if (index == null) {
+            return scan(elements, size, element) >= 0;
+        }
+        final int mask = index.length - 1;
+        int slot = hash(element) & mask;
+        int current;
+        while ((current = index[slot]) != 0) {
+            if (element.equals(elements[current - 1])) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                Object element = elements[next++];
+                return element == NULL ? null : (E) element;
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < size; ++i) {
+            Object element = elements[i];
+            action.accept(element == NULL ? null : (E) element);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = Arrays.copyOf(elements, size);
+        for (int i = 0; i < size; ++i) {
+            if (result[i] == NULL) {
+                result[i] = null;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < size; ++i) {
+            if (elements[i] != NULL) {
+                hash += elements[i].hashCode();
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    private Object writeReplace() {
+        return new SerializedForm(toArray());
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedForm required");
+    }
+
+    /**
+     * Serialization proxy of an {@link ImmutableArraySet}, which deserializes into a new set of the same elements and order.
+     */
+    private static final class SerializedForm implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Elements in iteration order, with {@code null} in place of the marker.
+         */
+        private final Object[] elements;
+
+        SerializedForm(Object[] elements) {
+            this.elements = elements;
+        }
+
+        private Object readResolve() {
+            return fromArray(elements, elements.length, false);
+        }
+    }
+}
@@ -0,0 +1,1301 @@
+package com.madimadica.utils;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * A compressed bitmap set of {@code int} values, for dense values such as IDs, indexes and ranges.
+ * <p>
+ *     Values are split by their high 16 bits into chunks of up to 65536 values. Each chunk is stored in whichever
+ *     container is smallest for its contents: a sorted array of the low 16 bits for sparse chunks,
+ *     a 1024-word bitmap for dense chunks, or a list of runs for consecutive values, see {@link #runOptimize()}.
+ *     Dense sets take about one bit per possible value, instead of the dozens of bytes per element of a {@code HashSet}.
+ * </p>
+ * <p>
+ *     The set algebra methods, such as {@link #union(IntBitmapSet, IntBitmapSet)}, combine matching chunks
+ *     64 values at a time with bitwise operations on whole words, so combining millions of dense values
+ *     takes a few thousand {@code long} operations. {@link Sets#union(Set, Set)} and the other
+ *     {@link Sets} algebra use these automatically when both arguments are bitmap sets.
+ * </p>
+ * <p>
+ *     This is a {@code Set<Integer>}, iterated in ascending order, and does not allow {@code null}.
+ *     The primitive methods, such as {@link #contains(int)} and {@link #forEachInt(IntConsumer)}, avoid boxing.
+ *     Sets created by {@link #of(int...)}, {@link #ofRange(int, int)} and {@link #copyOf(Collection)} are immutable,
+ *     and throw {@link UnsupportedOperationException} on any modification. Sets created by
+ *     {@link #ofMutable(int...)}, the constructors, or the set algebra methods are mutable.
+ * </p>
+ * @see IntSet
+ * @see Sets
+ * @since 1.0
+ */
+public final class IntBitmapSet extends AbstractSet<Integer> {
+
+    /**
+     * Largest number of values in an array container, above which a bitmap is smaller.
+     */
+    private static final int ARRAY_MAX = 4096;
+
+    /**
+     * Number of {@code long} words in a bitmap container.
+     */
+    private static final int BITMAP_WORDS = 1024;
+
+    /**
+     * High 16 bits of each chunk, as unsigned values in ascending order.
+     * Values are offset by {@link Integer#MIN_VALUE} first, so that unsigned order is the same as signed order.
+     */
+    private char[] keys;
+    private Container[] containers;
+    /**
+     * Number of chunks in use.
+     */
+    private int chunks;
+    private long cardinality;
+    private final boolean mutable;
+
+    /**
+     * Create an empty, mutable set.
+     */
+    public IntBitmapSet() {
+        this(4, true);
+    }
+
+    /**
+     * Create a mutable copy of another set.
+     * @param other set to copy
+     */
+    public IntBitmapSet(IntBitmapSet other) {
+        this(other, true);
+    }
+
+    private IntBitmapSet(int initialChunks, boolean mutable) {
+        this.keys = new char[initialChunks];
+        this.containers = new Container[initialChunks];
+        this.mutable = mutable;
+    }
+
+    private IntBitmapSet(IntBitmapSet other, boolean mutable) {
+        this(Math.max(other.chunks, 1), mutable);
+        for (int i = 0; i < other.chunks; ++i) {
+            append(other.keys[i], other.containers[i].copy());
+        }
+    }
+
+    /**
+     * Returns an immutable set containing the given values. Duplicate values are ignored.
+     * @param values values of the set
+     * @return an immutable set containing the values.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     * @since 1.0
+     */
+    public static IntBitmapSet of(int... values) {
+        IntBitmapSet set = new IntBitmapSet(4, false);
+        for (int value : values) {
+            set.insert(value);
+        }
+        set.optimize();
+        return set;
+    }
+
+    /**
+     * Returns a mutable set containing the given values. Duplicate values are ignored.
+     * @param values initial values of the set
+     * @return a mutable set containing the values.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     * @since 1.0
+     */
+    public static IntBitmapSet ofMutable(int... values) {
+        IntBitmapSet set = new IntBitmapSet();
+        for (int value : values) {
+            set.insert(value);
+        }
+        return set;
+    }
+
+    /**
+     * Returns an immutable set of every value in a range, stored as runs.
+     * @param fromInclusive smallest value of the set
+     * @param toExclusive one more than the largest value of the set
+     * @return an immutable set of the values from {@code fromInclusive} up to {@code toExclusive}.
+     * @throws IllegalArgumentException if {@code fromInclusive} is greater than {@code toExclusive}
+     * @since 1.0
+     */
+    public static IntBitmapSet ofRange(int fromInclusive, int toExclusive) {
+        if (fromInclusive > toExclusive) {
+            throw new IllegalArgumentException("Range start " + fromInclusive + " is after range end " + toExclusive);
+        }
+        IntBitmapSet set = new IntBitmapSet(4, false);
+        long start = unsigned(fromInclusive);
+        final long end = unsigned(toExclusive);
+        while (start < end) {
+            final long chunkEnd = Math.min(end, (start | 0xFFFF) + 1);
+            final int low = (int) (start & 0xFFFF);
+            set.append((char) (start >>> 16), new RunContainer(new char[]{(char) low}, new char[]{(char) (chunkEnd - start - 1)}, 1));
+            start = chunkEnd;
+        }
+        return set;
+    }
+
+    /**
+     * Returns an immutable set containing the unboxed elements of the collection.
+     * @param collection collection to copy elements from.
+     * @return an immutable set of the unboxed elements.
+     * @throws NullPointerException if {@code collection} or any of its elements is {@code null}.
+     * @since 1.0
+     */
+    public static IntBitmapSet copyOf(Collection<? extends Integer> collection) {
+        if (collection instanceof IntBitmapSet) {
+            IntBitmapSet set = new IntBitmapSet((IntBitmapSet) collection, false);
+            set.optimize();
+            return set;
+        }
+        IntBitmapSet set = new IntBitmapSet(4, false);
+        for (Integer value : collection) {
+            set.insert(value);
+        }
+        set.optimize();
+        return set;
+    }
+
+    /**
+     * @return the number of elements in this set, or {@link Integer#MAX_VALUE} if there are more.
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(cardinality, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the number of elements in this set, which may be more than {@link Integer#MAX_VALUE}.
+     */
+    public long longSize() {
+        return cardinality;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * @return true if this set can be modified.
+     */
+    public boolean isMutable() {
+        return mutable;
+    }
+
+    /**
+     * Check if this set contains the value.
+     * @param value value to search for
+     * @return true if {@code value} is in this set
+     */
+    public boolean contains(int value) {
+        final int u = value ^ Integer.MIN_VALUE;
+        final int index = indexOf((char) (u >>> 16));
+        return index >= 0 && containers[index].contains(u & 0xFFFF);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && contains((int) (Integer) o);
+    }
+
+    /**
+     * Add a value to this set.
+     * @param value value to add
+     * @return true if the value was not already in this set
+     * @throws UnsupportedOperationException if this set is immutable
+     */
+    public boolean add(int value) {
+        checkMutable();
+        return insert(value);
+    }
+
+    /**
+     * Add a value to this set.
+     * @param value value to add
+     * @return true if the value was not already in this set
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @throws UnsupportedOperationException if this set is immutable
+     */
+    @Override
+    public boolean add(Integer value) {
+        return add((int) value);
+    }
+
+    /**
+     * Add every value to this set.
+     * @param values values to add
+     * @throws UnsupportedOperationException if this set is immutable
+     */
+    public void addAll(int... values) {
+        checkMutable();
+        for (int value : values) {
+            insert(value);
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Integer> c) {
+        checkMutable();
+        if (c instanceof IntBitmapSet) {
+            return replaceWith(union(this, (IntBitmapSet) c));
+        }
+        return super.addAll(c);
+    }
+
+    /**
+     * Remove a value from this set.
+     * @param value value to remove
+     * @return true if the value was in this set
+     * @throws UnsupportedOperationException if this set is immutable
+     */
+    public boolean remove(int value) {
+        checkMutable();
+        final int u = value ^ Integer.MIN_VALUE;
+        final int index = indexOf((char) (u >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        final Container container = containers[index];
+        final int before = container.cardinality();
+        final Container updated = container.remove(u & 0xFFFF);
+        if (updated.cardinality() == before) {
+            return false;
+        }
+        --cardinality;
+        if (updated.cardinality() == 0) {
+            removeChunk(index);
+        } else {
+            containers[index] = updated;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        checkMutable();
+        return o instanceof Integer && remove((int) (Integer) o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        checkMutable();
+        if (c instanceof IntBitmapSet) {
+            return replaceWith(difference(this, (IntBitmapSet) c));
+        }
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        checkMutable();
+        if (c instanceof IntBitmapSet) {
+            return replaceWith(intersection(this, (IntBitmapSet) c));
+        }
+        return super.retainAll(c);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Integer> filter) {
+        checkMutable();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public void clear() {
+        checkMutable();
+        Arrays.fill(containers, 0, chunks, null);
+        chunks = 0;
+        cardinality = 0;
+    }
+
+    /**
+     * Convert every chunk to whichever container is smallest for its contents, including runs of consecutive values.
+     * <p>
+     *     This does not change the elements of this set. Sets created by the immutable factories are already optimized.
+     * </p>
+     * @throws UnsupportedOperationException if this set is immutable
+     */
+    public void runOptimize() {
+        checkMutable();
+        optimize();
+    }
+
+    /**
+     * Perform an action on every value in this set, in ascending order, without boxing.
+     * <p>
+     *     This is named differently from {@link #forEach(java.util.function.Consumer)},
+     *     so that a lambda argument is not ambiguous between the two.
+     * </p>
+     * @param action action to perform on each value
+     */
+    public void forEachInt(IntConsumer action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < chunks; ++i) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * @return a new array of the values in this set, in ascending order.
+     */
+    public int[] toIntArray() {
+        int[] values = new int[size()];
+        int[] count = {0};
+        forEachInt((int value) -> values[count[0]++] = value);
+        return values;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<>() {
+            /**
+             * Unsigned, offset value to search from, which is more than any value once exhausted.
+             */
+            private long next = ceiling(0);
+            private long last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next <= 0xFFFF_FFFFL;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = ceiling(next + 1);
+                return (int) last ^ Integer.MIN_VALUE;
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                IntBitmapSet.this.remove((int) last ^ Integer.MIN_VALUE);
+                last = -1;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof IntBitmapSet)) {
+            return super.equals(o);
+        }
+        IntBitmapSet other = (IntBitmapSet) o;
+        if (cardinality != other.cardinality || chunks != other.chunks) {
+            return false;
+        }
+        for (int i = 0; i < chunks; ++i) {
+            if (keys[i] != other.keys[i] || Container.xor(containers[i], other.containers[i]) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {0};
+        forEachInt((int value) -> hash[0] += value);
+        return hash[0];
+    }
+
+    /**
+     * Compute the union of two sets
+     * @param setA set A
+     * @param setB set B
+     * @return a new, mutable set, consisting of all the elements in set A and set B.
+     * @see Sets#union(Set, Set)
+     * @since 1.0
+     */
+    public static IntBitmapSet union(IntBitmapSet setA, IntBitmapSet setB) {
+        IntBitmapSet union = new IntBitmapSet(Math.max(setA.chunks + setB.chunks, 1), true);
+        int i = 0;
+        int j = 0;
+        while (i < setA.chunks && j < setB.chunks) {
+            final char keyA = setA.keys[i];
+            final char keyB = setB.keys[j];
+            if (keyA < keyB) {
+                union.append(keyA, setA.containers[i++].copy());
+            } else if (keyA > keyB) {
+                union.append(keyB, setB.containers[j++].copy());
+            } else {
+                union.append(keyA, Container.or(setA.containers[i++], setB.containers[j++]));
+            }
+        }
+        for (; i < setA.chunks; ++i) {
+            union.append(setA.keys[i], setA.containers[i].copy());
+        }
+        for (; j < setB.chunks; ++j) {
+            union.append(setB.keys[j], setB.containers[j].copy());
+        }
+        return union;
+    }
+
+    /**
+     * Compute the union of two or more sets
+     * @param sets sets to union
+     * @return a new, mutable set, consisting of all the elements in all the sets.
+     * @see Sets#union(Set[])
+     * @since 1.0
+     */
+    public static IntBitmapSet union(IntBitmapSet... sets) {
+        IntBitmapSet union = new IntBitmapSet();
+        for (IntBitmapSet set : sets) {
+            union = union(union, set);
+        }
+        return union;
+    }
+
+    /**
+     * Compute the intersection of two sets
+     * @param setA set A
+     * @param setB set B
+     * @return a new, mutable set, consisting of only the elements in both sets.
+     * @see Sets#intersection(Set, Set)
+     * @since 1.0
+     */
+    public static IntBitmapSet intersection(IntBitmapSet setA, IntBitmapSet setB) {
+        IntBitmapSet intersection = new IntBitmapSet(Math.max(Math.min(setA.chunks, setB.chunks), 1), true);
+        int i = 0;
+        int j = 0;
+        while (i < setA.chunks && j < setB.chunks) {
+            final char keyA = setA.keys[i];
+            final char keyB = setB.keys[j];
+            if (keyA < keyB) {
+                ++i;
+            } else if (keyA > keyB) {
+                ++j;
+            } else {
+                intersection.append(keyA, Container.and(setA.containers[i++], setB.containers[j++]));
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Compute the intersection of two or more sets
+     * @param sets sets to intersect
+     * @return a new, mutable set, consisting of only the elements in every set.
+     * @see Sets#intersection(Set[])
+     * @since 1.0
+     */
+    public static IntBitmapSet intersection(IntBitmapSet... sets) {
+        if (sets.length == 0) {
+            return new IntBitmapSet();
+        } else if (sets.length == 1) {
+            return new IntBitmapSet(sets[0], true);
+        }
+        IntBitmapSet intersection = intersection(sets[0], sets[1]);
+        for (int i = 2; i < sets.length && !intersection.isEmpty(); ++i) {
+            intersection = intersection(intersection, sets[i]);
+        }
+        return intersection;
+    }
+
+    /**
+     * Compute the asymmetric difference of two sets. That is, <code>A - B</code>
+     * @param setA set A
+     * @param setB set B
+     * @return a new, mutable set, consisting of the elements in set A and not in set B.
+     * @see Sets#difference(Set, Set)
+     * @since 1.0
+     */
+    public static IntBitmapSet difference(IntBitmapSet setA, IntBitmapSet setB) {
+        IntBitmapSet difference = new IntBitmapSet(Math.max(setA.chunks, 1), true);
+        int j = 0;
+        for (int i = 0; i < setA.chunks; ++i) {
+            final char key = setA.keys[i];
+            while (j < setB.chunks && setB.keys[j] < key) {
+                ++j;
+            }
+            if (j < setB.chunks && setB.keys[j] == key) {
+                difference.append(key, Container.andNot(setA.containers[i], setB.containers[j]));
+            } else {
+                difference.append(key, setA.containers[i].copy());
+            }
+        }
+        return difference;
+    }
+
+    /**
+     * Compute the symmetric difference of two sets.
+     * @param setA set A
+     * @param setB set B
+     * @return a new, mutable set, consisting of the elements that appear in only 1 set.
+     * @see Sets#symmetricDifference(Set, Set)
+     * @since 1.0
+     */
+    public static IntBitmapSet symmetricDifference(IntBitmapSet setA, IntBitmapSet setB) {
+        IntBitmapSet result = new IntBitmapSet(Math.max(setA.chunks + setB.chunks, 1), true);
+        int i = 0;
+        int j = 0;
+        while (i < setA.chunks && j < setB.chunks) {
+            final char keyA = setA.keys[i];
+            final char keyB = setB.keys[j];
+            if (keyA < keyB) {
+                result.append(keyA, setA.containers[i++].copy());
+            } else if (keyA > keyB) {
+                result.append(keyB, setB.containers[j++].copy());
+            } else {
+                result.append(keyA, Container.xor(setA.containers[i++], setB.containers[j++]));
+            }
+        }
+        for (; i < setA.chunks; ++i) {
+            result.append(setA.keys[i], setA.containers[i].copy());
+        }
+        for (; j < setB.chunks; ++j) {
+            result.append(setB.keys[j], setB.containers[j].copy());
+        }
+        return result;
+    }
+
+    /**
+     * @return {@code value} offset by {@link Integer#MIN_VALUE}, as an unsigned value
+     */
+    private static long unsigned(int value) {
+        return (value ^ Integer.MIN_VALUE) & 0xFFFF_FFFFL;
+    }
+
+    private void checkMutable() {
+        if (!mutable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * @return the index of the chunk with the given key, or {@code -(insertion point) - 1}
+     */
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, chunks, key);
+    }
+
+    /**
+     * @return the smallest unsigned, offset value in this set at or after {@code from},
+     * or more than {@code 0xFFFFFFFF} if there is none
+     */
+    private long ceiling(long from) {
+        if (from > 0xFFFF_FFFFL) {
+            return from;
+        }
+        int index = indexOf((char) (from >>> 16));
+        int low = (int) (from & 0xFFFF);
+        if (index < 0) {
+            index = -index - 1;
+            low = 0;
+        }
+        for (; index < chunks; ++index, low = 0) {
+            final int next = containers[index].nextValue(low);
+            if (next >= 0) {
+                return ((long) keys[index] << 16) | next;
+            }
+        }
+        return 1L << 32;
+    }
+
+    private boolean insert(int value) {
+        final int u = value ^ Integer.MIN_VALUE;
+        final char key = (char) (u >>> 16);
+        final int index = indexOf(key);
+        if (index < 0) {
+            insertChunk(-index - 1, key, new ArrayContainer(new char[]{(char) u}, 1));
+            ++cardinality;
+            return true;
+        }
+        final Container container = containers[index];
+        final int before = container.cardinality();
+        final Container updated = container.add(u & 0xFFFF);
+        containers[index] = updated;
+        if (updated.cardinality() == before) {
+            return false;
+        }
+        ++cardinality;
+        return true;
+    }
+
+    /**
+     * Add a chunk after every existing chunk, unless it is {@code null}.
+     */
+    private void append(char key, Container container) {
+        if (container != null) {
+            insertChunk(chunks, key, container);
+            cardinality += container.cardinality();
+        }
+    }
+
+    private void insertChunk(int index, char key, Container container) {
+        if (chunks == keys.length) {
+            final int capacity = Math.max(4, chunks + (chunks >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, chunks - index);
+        System.arraycopy(containers, index, containers, index + 1, chunks - index);
+        keys[index] = key;
+        containers[index] = container;
+        ++chunks;
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, chunks - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, chunks - index - 1);
+        containers[--chunks] = null;
+    }
+
+    /**
+     * Take over the contents of another set, which must not be used afterwards.
+     * @return true if the number of elements changed
+     */
+    private boolean replaceWith(IntBitmapSet other) {
+        final boolean changed = cardinality != other.cardinality;
+        keys = other.keys;
+        containers = other.containers;
+        chunks = other.chunks;
+        cardinality = other.cardinality;
+        return changed;
+    }
+
+    private void optimize() {
+        for (int i = 0; i < chunks; ++i) {
+            containers[i] = containers[i].optimize();
+        }
+    }
+
+    /**
+     * The low 16 bits of the values in one chunk.
+     * <p>
+     *     Containers are mutated in place by {@link #add} and {@link #remove} where possible,
+     *     and otherwise replaced by a container of another kind. The binary operations never modify their inputs,
+     *     and return {@code null} instead of an empty container.
+     * </p>
+     */
+    private abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(int low);
+
+        /**
+         * @return this container, or a replacement of another kind, with {@code low} added
+         */
+        abstract Container add(int low);
+
+        /**
+         * @return this container, or a replacement of another kind, with {@code low} removed
+         */
+        abstract Container remove(int low);
+
+        /**
+         * @return the smallest value at or after {@code low}, or {@code -1}
+         */
+        abstract int nextValue(int low);
+
+        /**
+         * Perform an action on every value, where {@code high} is the unsigned, offset high 16 bits.
+         */
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract Container copy();
+
+        /**
+         * @return the smallest container with the same values
+         */
+        abstract Container optimize();
+
+        /**
+         * @return a new bitmap of the values
+         */
+        abstract long[] toWords();
+
+        abstract void orInto(long[] words);
+
+        abstract void xorInto(long[] words);
+
+        /**
+         * Clear the bits of the values in this container.
+         */
+        abstract void andNotInto(long[] words);
+
+        void andInto(long[] words) {
+            final long[] mine = toWords();
+            for (int i = 0; i < BITMAP_WORDS; ++i) {
+                words[i] &= mine[i];
+            }
+        }
+
+        static Container or(Container a, Container b) {
+            if (a instanceof ArrayContainer && b instanceof ArrayContainer
+                    && a.cardinality() + b.cardinality() <= ARRAY_MAX) {
+                return ArrayContainer.merge((ArrayContainer) a, (ArrayContainer) b, false);
+            }
+            final long[] words = a.toWords();
+            b.orInto(words);
+            return fromWords(words);
+        }
+
+        static Container and(Container a, Container b) {
+            if (a instanceof ArrayContainer) {
+                return ((ArrayContainer) a).filter(b, true);
+            } else if (b instanceof ArrayContainer) {
+                return ((ArrayContainer) b).filter(a, true);
+            }
+            final long[] words = a.toWords();
+            b.andInto(words);
+            return fromWords(words);
+        }
+
+        static Container andNot(Container a, Container b) {
+            if (a instanceof ArrayContainer) {
+                return ((ArrayContainer) a).filter(b, false);
+            }
+            final long[] words = a.toWords();
+            b.andNotInto(words);
+            return fromWords(words);
+        }
+
+        static Container xor(Container a, Container b) {
+            if (a instanceof ArrayContainer && b instanceof ArrayContainer
+                    && a.cardinality() + b.cardinality() <= ARRAY_MAX) {
+                return ArrayContainer.merge((ArrayContainer) a, (ArrayContainer) b, true);
+            }
+            final long[] words = a.toWords();
+            b.xorInto(words);
+            return fromWords(words);
+        }
+
+        /**
+         * @return the container of the values of a bitmap, taking ownership of the words, or {@code null} if it is empty
+         */
+        static Container fromWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality == 0) {
+                return null;
+            } else if (cardinality <= ARRAY_MAX) {
+                return ArrayContainer.fromWords(words, cardinality);
+            }
+            return new BitmapContainer(words, cardinality);
+        }
+
+        /**
+         * Apply {@code op} to the bits of the values from {@code start} to {@code end}, inclusive:
+         * {@code 0} to set, {@code 1} to clear, {@code 2} to flip.
+         */
+        static void applyRange(long[] words, int start, int end, int op) {
+            final int firstWord = start >>> 6;
+            final int lastWord = end >>> 6;
+            for (int w = firstWord; w <= lastWord; ++w) {
+                long mask = -1L;
+                if (w == firstWord) {
+                    mask &= -1L << start;
+                }
+                if (w == lastWord) {
+                    mask &= -1L >>> (63 - (end & 63));
+                }
+                if (op == 0) {
+                    words[w] |= mask;
+                } else if (op == 1) {
+                    words[w] &= ~mask;
+                } else {
+                    words[w] ^= mask;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorted array of distinct values, for chunks of up to {@value #ARRAY_MAX} values.
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        static ArrayContainer fromWords(long[] words, int cardinality) {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int w = 0; w < BITMAP_WORDS; ++w) {
+                long word = words[w];
+                while (word != 0) {
+                    values[count++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        /**
+         * Merge two arrays into their union, or their symmetric difference when {@code exclusive} is true.
+         */
+        static Container merge(ArrayContainer a, ArrayContainer b, boolean exclusive) {
+            char[] values = new char[a.cardinality + b.cardinality];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < a.cardinality && j < b.cardinality) {
+                final char x = a.values[i];
+                final char y = b.values[j];
+                if (x < y) {
+                    values[count++] = x;
+                    ++i;
+                } else if (x > y) {
+                    values[count++] = y;
+                    ++j;
+                } else {
+                    if (!exclusive) {
+                        values[count++] = x;
+                    }
+                    ++i;
+                    ++j;
+                }
+            }
+            while (i < a.cardinality) {
+                values[count++] = a.values[i++];
+            }
+            while (j < b.cardinality) {
+                values[count++] = b.values[j++];
+            }
+            return count == 0 ? null : new ArrayContainer(values, count);
+        }
+
+        /**
+         * @return the values that are, or are not, in {@code other}
+         */
+        Container filter(Container other, boolean keepPresent) {
+            char[] kept = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; ++i) {
+                if (other.contains(values[i]) == keepPresent) {
+                    kept[count++] = values[i];
+                }
+            }
+            return count == 0 ? null : new ArrayContainer(kept, count);
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return Arrays.binarySearch(values, 0, cardinality, (char) low) >= 0;
+        }
+
+        @Override
+        Container add(int low) {
+            final int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                final long[] words = toWords();
+                words[low >>> 6] |= 1L << low;
+                return new BitmapContainer(words, cardinality + 1);
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality << 1)));
+            }
+            final int insertion = -index - 1;
+            System.arraycopy(values, insertion, values, insertion + 1, cardinality - insertion);
+            values[insertion] = (char) low;
+            ++cardinality;
+            return this;
+        }
+
+        @Override
+        Container remove(int low) {
+            final int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                --cardinality;
+            }
+            return this;
+        }
+
+        @Override
+        int nextValue(int low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < cardinality ? values[index] : -1;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; ++i) {
+                action.accept((high | values[i]) ^ Integer.MIN_VALUE);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        Container optimize() {
+            int runs = 0;
+            for (int i = 0; i < cardinality; ++i) {
+                if (i == 0 || values[i] != values[i - 1] + 1) {
+                    ++runs;
+                }
+            }
+            if (runs * 2 < cardinality) {
+                return RunContainer.fromSorted(values, cardinality, runs);
+            }
+            return values.length == cardinality ? this : copy();
+        }
+
+        @Override
+        long[] toWords() {
+            final long[] words = new long[BITMAP_WORDS];
+            orInto(words);
+            return words;
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int i = 0; i < cardinality; ++i) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+        }
+
+        @Override
+        void xorInto(long[] words) {
+            for (int i = 0; i < cardinality; ++i) {
+                words[values[i] >>> 6] ^= 1L << values[i];
+            }
+        }
+
+        @Override
+        void andNotInto(long[] words) {
+            for (int i = 0; i < cardinality; ++i) {
+                words[values[i] >>> 6] &= ~(1L << values[i]);
+            }
+        }
+    }
+
+    /**
+     * One bit per possible value, for chunks of more than {@value #ARRAY_MAX} values.
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(int low) {
+            final long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) {
+                words[low >>> 6] |= bit;
+                ++cardinality;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(int low) {
+            final long bit = 1L << low;
+            if ((words[low >>> 6] & bit) != 0) {
+                words[low >>> 6] &= ~bit;
+                if (--cardinality <= ARRAY_MAX) {
+                    return ArrayContainer.fromWords(words, cardinality);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        int nextValue(int low) {
+            int w = low >>> 6;
+            long word = words[w] & (-1L << low);
+            while (word == 0) {
+                if (++w == BITMAP_WORDS) {
+                    return -1;
+                }
+                word = words[w];
+            }
+            return (w << 6) | Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int w = 0; w < BITMAP_WORDS; ++w) {
+                long word = words[w];
+                while (word != 0) {
+                    action.accept((high | (w << 6) | Long.numberOfTrailingZeros(word)) ^ Integer.MIN_VALUE);
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        Container optimize() {
+            int runs = 0;
+            long previous = 0;
+            for (long word : words) {
+                // A run starts at each set bit whose lower neighbour is clear
+                runs += Long.bitCount(word & ~((word << 1) | (previous >>> 63)));
+                previous = word;
+            }
+            if (runs * 4 < BITMAP_WORDS * 8) {
+                return RunContainer.fromWords(words, runs, cardinality);
+            }
+            return this;
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+
+        @Override
+        void andInto(long[] target) {
+            for (int i = 0; i < BITMAP_WORDS; ++i) {
+                target[i] &= words[i];
+            }
+        }
+
+        @Override
+        void orInto(long[] target) {
+            for (int i = 0; i < BITMAP_WORDS; ++i) {
+                target[i] |= words[i];
+            }
+        }
+
+        @Override
+        void xorInto(long[] target) {
+            for (int i = 0; i < BITMAP_WORDS; ++i) {
+                target[i] ^= words[i];
+            }
+        }
+
+        @Override
+        void andNotInto(long[] target) {
+            for (int i = 0; i < BITMAP_WORDS; ++i) {
+                target[i] &= ~words[i];
+            }
+        }
+    }
+
+    /**
+     * Sorted, disjoint runs of consecutive values, for chunks with few runs.
+     * Each run is stored as its first value and its length minus one.
+     * Runs are only created by {@link #optimize()} and {@link #ofRange(int, int)}, and are replaced on modification.
+     */
+    private static final class RunContainer extends Container {
+        private final char[] starts;
+        private final char[] lengths;
+        private final int runs;
+        private final int cardinality;
+
+        RunContainer(char[] starts, char[] lengths, int runs) {
+            this.starts = starts;
+            this.lengths = lengths;
+            this.runs = runs;
+            int cardinality = 0;
+            for (int i = 0; i < runs; ++i) {
+                cardinality += lengths[i] + 1;
+            }
+            this.cardinality = cardinality;
+        }
+
+        static RunContainer fromSorted(char[] values, int cardinality, int runs) {
+            char[] starts = new char[runs];
+            char[] lengths = new char[runs];
+            int run = -1;
+            for (int i = 0; i < cardinality; ++i) {
+                if (i == 0 || values[i] != values[i - 1] + 1) {
+                    starts[++run] = values[i];
+                } else {
+                    ++lengths[run];
+                }
+            }
+            return new RunContainer(starts, lengths, runs);
+        }
+
+        static RunContainer fromWords(long[] words, int runs, int cardinality) {
+            char[] starts = new char[runs];
+            char[] lengths = new char[runs];
+            int run = -1;
+            int low = 0;
+            while ((low = nextSetBit(words, low)) >= 0) {
+                int end = nextClearBit(words, low);
+                starts[++run] = (char) low;
+                lengths[run] = (char) (end - low - 1);
+                low = end;
+            }
+            return new RunContainer(starts, lengths, runs);
+        }
+
+        private static int nextSetBit(long[] words, int from) {
+            if (from >= BITMAP_WORDS * 64) {
+                return -1;
+            }
+            int w = from >>> 6;
+            long word = words[w] & (-1L << from);
+            while (word == 0) {
+                if (++w == BITMAP_WORDS) {
+                    return -1;
+                }
+                word = words[w];
+            }
+            return (w << 6) | Long.numberOfTrailingZeros(word);
+        }
+
+        private static int nextClearBit(long[] words, int from) {
+            int w = from >>> 6;
+            long word = ~words[w] & (-1L << from);
+            while (word == 0) {
+                if (++w == BITMAP_WORDS) {
+                    return BITMAP_WORDS * 64;
+                }
+                word = ~words[w];
+            }
+            return (w << 6) | Long.numberOfTrailingZeros(word);
+        }
+
+        /**
+         * @return the index of the last run starting at or before {@code low}, or {@code -1}
+         */
+        private int runAtOrBefore(int low) {
+            int index = Arrays.binarySearch(starts, 0, runs, (char) low);
+            return index >= 0 ? index : -index - 2;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int low) {
+            final int run = runAtOrBefore(low);
+            return run >= 0 && low <= starts[run] + lengths[run];
+        }
+
+        @Override
+        Container add(int low) {
+            if (contains(low)) {
+                return this;
+            }
+            final long[] words = toWords();
+            words[low >>> 6] |= 1L << low;
+            return cardinality + 1 <= ARRAY_MAX
+                    ? ArrayContainer.fromWords(words, cardinality + 1)
+                    : new BitmapContainer(words, cardinality + 1);
+        }
+
+        @Override
+        Container remove(int low) {
+            if (!contains(low)) {
+                return this;
+            }
+            final long[] words = toWords();
+            words[low >>> 6] &= ~(1L << low);
+            return cardinality - 1 <= ARRAY_MAX
+                    ? ArrayContainer.fromWords(words, cardinality - 1)
+                    : new BitmapContainer(words, cardinality - 1);
+        }
+
+        @Override
+        int nextValue(int low) {
+            final int run = runAtOrBefore(low);
+            if (run >= 0 && low <= starts[run] + lengths[run]) {
+                return low;
+            }
+            return run + 1 < runs ? starts[run + 1] : -1;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < runs; ++i) {
+                final int end = starts[i] + lengths[i];
+                for (int low = starts[i]; low <= end; ++low) {
+                    action.accept((high | low) ^ Integer.MIN_VALUE);
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            // Never modified in place
+            return this;
+        }
+
+        @Override
+        Container optimize() {
+            if (runs * 4 < Math.min(cardinality * 2, BITMAP_WORDS * 8)) {
+                return this;
+            }
+            return cardinality <= ARRAY_MAX
+                    ? ArrayContainer.fromWords(toWords(), cardinality)
+                    : new BitmapContainer(toWords(), cardinality);
+        }
+
+        @Override
+        long[] toWords() {
+            final long[] words = new long[BITMAP_WORDS];
+            orInto(words);
+            return words;
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int i = 0; i < runs; ++i) {
+                applyRange(words, starts[i], starts[i] + lengths[i], 0);
+            }
+        }
+
+        @Override
+        void andNotInto(long[] words) {
+            for (int i = 0; i < runs; ++i) {
+                applyRange(words, starts[i], starts[i] + lengths[i], 1);
+            }
+        }
+
+        @Override
+        void xorInto(long[] words) {
+            for (int i = 0; i < runs; ++i) {
+                applyRange(words, starts[i], starts[i] + lengths[i], 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,1218 @@
+package com.madimadica.utils;
+
+import java.util.*;
+
+/**
+ * A hash map from primitive {@code int} keys to object values, using open addressing with linear probing.
+ * <p>
+ *     Unlike a {@code Map<Integer, V>}, the keys are never boxed and there is no node per entry,
+ *     the keys and values are stored inline in two parallel arrays. Iteration order is unspecified.
+ *     Values may be {@code null}.
+ * </p>
+ * <p>
+ *     Maps created by {@link #of()} and {@link #copyOf(Map)} are immutable, and throw
+ *     {@link UnsupportedOperationException} on any modification. Maps created by {@link #ofMutable()}
+ *     or the constructors are mutable.
+ * </p>
+ * @param <V> value type
+ * @see LongObjectMap
+ * @see ObjectIntMap
+ * @since 1.0
+ */
+public final class IntObjectMap<V> {
+
+    /**
+     * Maximum ratio of occupied table slots before the table is doubled.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MIN_CAPACITY = 4;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Marker returned by {@link #insert} when the key had no previous entry, since values may be {@code null}.
+     */
+    private static final Object NO_PREVIOUS = new Object();
+
+    /**
+     * Hash table of keys, where {@code 0} marks a free slot.
+     * The entry for the key {@code 0} itself is tracked by {@link #containsZeroKey} and {@link #zeroValue}.
+     */
+    private int[] keys;
+    private Object[] values;
+    private boolean containsZeroKey;
+    private Object zeroValue;
+    private int size;
+    private int mask;
+    private int maxFill;
+    private final boolean mutable;
+
+    /**
+     * Consumer of map entries, to iterate without boxing keys.
+     * @param <V> value type
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        /**
+         * Accept an entry.
+         * @param key entry key
+         * @param value entry value
+         */
+        void accept(int key, V value);
+    }
+
+    /**
+     * Create an empty, mutable map.
+     */
+    public IntObjectMap() {
+        this(0);
+    }
+
+    /**
+     * Create an empty, mutable map, which can hold {@code expectedSize} entries before resizing.
+     * @param expectedSize number of entries expected to be added
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public IntObjectMap(int expectedSize) {
+        this(expectedSize, true);
+    }
+
+    private IntObjectMap(int expectedSize, boolean mutable) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+        }
+        this.mutable = mutable;
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Creates an empty, immutable map.
+     * @return An empty immutable map.
+     * @param <V> value type
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of() {
+        return new IntObjectMap<>(0, false);
+    }
+
+    /**
+     * Creates an immutable map with 1 entry.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1) {
+        IntObjectMap<V> map = new IntObjectMap<>(1, false);
+        map.putUnique(k1, v1);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 2 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1, int k2, V v2) {
+        IntObjectMap<V> map = new IntObjectMap<>(2, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 3 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1, int k2, V v2, int k3, V v3) {
+        IntObjectMap<V> map = new IntObjectMap<>(3, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 4 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4) {
+        IntObjectMap<V> map = new IntObjectMap<>(4, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 5 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5) {
+        IntObjectMap<V> map = new IntObjectMap<>(5, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 6 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6) {
+        IntObjectMap<V> map = new IntObjectMap<>(6, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 7 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7) {
+        IntObjectMap<V> map = new IntObjectMap<>(7, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 8 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7, int k8, V v8) {
+        IntObjectMap<V> map = new IntObjectMap<>(8, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 9 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7, int k8, V v8, int k9, V v9) {
+        IntObjectMap<V> map = new IntObjectMap<>(9, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 10 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7, int k8, V v8, int k9, V v9, int k10, V v10) {
+        IntObjectMap<V> map = new IntObjectMap<>(10, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 11 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7, int k8, V v8, int k9, V v9, int k10, V v10, int k11, V v11) {
+        IntObjectMap<V> map = new IntObjectMap<>(11, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 12 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @param k12 key for entry 12
+     * @param v12 value for entry 12
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> of(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7, int k8, V v8, int k9, V v9, int k10, V v10, int k11, V v11, int k12, V v12) {
+        IntObjectMap<V> map = new IntObjectMap<>(12, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        map.putUnique(k12, v12);
+        return map;
+    }
+
+    /**
+     * Creates an empty, mutable map.
+     * @return An empty mutable map.
+     * @param <V> value type
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable() {
+        return new IntObjectMap<>(0, true);
+    }
+
+    /**
+     * Creates a mutable map with 1 entry.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1) {
+        IntObjectMap<V> map = new IntObjectMap<>(1, true);
+        map.putUnique(k1, v1);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 2 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1, int k2, V v2) {
+        IntObjectMap<V> map = new IntObjectMap<>(2, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 3 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1, int k2, V v2, int k3, V v3) {
+        IntObjectMap<V> map = new IntObjectMap<>(3, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 4 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4) {
+        IntObjectMap<V> map = new IntObjectMap<>(4, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 5 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5) {
+        IntObjectMap<V> map = new IntObjectMap<>(5, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 6 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6) {
+        IntObjectMap<V> map = new IntObjectMap<>(6, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 7 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7) {
+        IntObjectMap<V> map = new IntObjectMap<>(7, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 8 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7, int k8, V v8) {
+        IntObjectMap<V> map = new IntObjectMap<>(8, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 9 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7, int k8, V v8, int k9, V v9) {
+        IntObjectMap<V> map = new IntObjectMap<>(9, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 10 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7, int k8, V v8, int k9, V v9, int k10, V v10) {
+        IntObjectMap<V> map = new IntObjectMap<>(10, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 11 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7, int k8, V v8, int k9, V v9, int k10, V v10, int k11, V v11) {
+        IntObjectMap<V> map = new IntObjectMap<>(11, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 12 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @param k12 key for entry 12
+     * @param v12 value for entry 12
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> ofMutable(int k1, V v1, int k2, V v2, int k3, V v3, int k4, V v4, int k5, V v5, int k6, V v6, int k7, V v7, int k8, V v8, int k9, V v9, int k10, V v10, int k11, V v11, int k12, V v12) {
+        IntObjectMap<V> map = new IntObjectMap<>(12, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        map.putUnique(k12, v12);
+        return map;
+    }
+
+    /**
+     * Creates an immutable copy of the given map, unboxing its keys.
+     * <br>
+     * The values may be {@code null}.
+     * @param mapToCopy a non-null map to copy the entries from.
+     * @return An immutable map with the same entries.
+     * @param <V> value type
+     * @throws NullPointerException if any key is null.
+     * @since 1.0
+     */
+    public static <V> IntObjectMap<V> copyOf(Map<Integer, ? extends V> mapToCopy) {
+        IntObjectMap<V> map = new IntObjectMap<>(mapToCopy.size(), false);
+        for (Map.Entry<Integer, ? extends V> entry : mapToCopy.entrySet()) {
+            map.insert(entry.getKey(), entry.getValue());
+        }
+        return map;
+    }
+
+    /**
+     * @return the number of entries in this map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this map has no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return true if this map can be modified.
+     */
+    public boolean isMutable() {
+        return mutable;
+    }
+
+    /**
+     * Check if this map contains an entry for the key.
+     * @param key key to search for
+     * @return true if there is an entry for {@code key}, even if its value is {@code null}
+     */
+    public boolean containsKey(int key) {
+        if (key == 0) {
+            return containsZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Get the value for the key.
+     * @param key key to search for
+     * @return the value for {@code key}, or {@code null} if there is no entry
+     */
+    public V get(int key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Get the value for the key, or a default value if there is no entry.
+     * @param key key to search for
+     * @param defaultValue value to return if there is no entry for {@code key}
+     * @return the value for {@code key}, or {@code defaultValue} if there is no entry
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(int key, V defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? (V) zeroValue : defaultValue;
+        }
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : defaultValue;
+    }
+
+    /**
+     * Associate the value with the key, replacing any previous value.
+     * @param key entry key
+     * @param value entry value, which may be {@code null}
+     * @return the previous value for {@code key}, or {@code null} if there was no entry
+     * @throws UnsupportedOperationException if this map is immutable
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        checkMutable();
+        Object previous = insert(key, value);
+        return previous == NO_PREVIOUS ? null : (V) previous;
+    }
+
+    /**
+     * Remove the entry for the key.
+     * @param key key of the entry to remove
+     * @return the previous value for {@code key}, or {@code null} if there was no entry
+     * @throws UnsupportedOperationException if this map is immutable
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        checkMutable();
+        if (key == 0) {
+            if (!containsZeroKey) {
+                return null;
+            }
+            Object previous = zeroValue;
+            containsZeroKey = false;
+            zeroValue = null;
+            --size;
+            return (V) previous;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object previous = values[index];
+        shiftKeys(index);
+        --size;
+        return (V) previous;
+    }
+
+    /**
+     * Remove all entries from this map, keeping its capacity.
+     * @throws UnsupportedOperationException if this map is immutable
+     */
+    public void clear() {
+        checkMutable();
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        containsZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    /**
+     * Perform an action for each entry, in no particular order.
+     * @param action action to perform
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        if (containsZeroKey) {
+            action.accept(0, (V) zeroValue);
+        }
+        final int[] keys = this.keys;
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return a new array containing every key, in no particular order.
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int i = 0;
+        if (containsZeroKey) {
+            result[i++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Box every key into an immutable {@code Map<Integer, V>}.
+     * @return an immutable map with the same entries, where values may be {@code null}.
+     */
+    public Map<Integer, V> boxed() {
+        Map<Integer, V> map = new HashMap<>(size + (size / 3) + 1);
+        forEach(map::put);
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Compares the entries of two maps, regardless of mutability.
+     * @param o object to compare to
+     * @return true if {@code o} is an {@code IntObjectMap} with equal values for the same keys.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntObjectMap)) return false;
+        IntObjectMap<?> other = (IntObjectMap<?>) o;
+        if (size != other.size || containsZeroKey != other.containsZeroKey) {
+            return false;
+        }
+        if (containsZeroKey && !Objects.equals(zeroValue, other.zeroValue)) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != 0) {
+                int index = other.indexOf(keys[i]);
+                if (index < 0 || !Objects.equals(values[i], other.values[index])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a hash code equal to the {@link Map#hashCode()} of the {@link #boxed()} entries.
+     */
+    @Override
+    public int hashCode() {
+        int hash = containsZeroKey ? Objects.hashCode(zeroValue) : 0;
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != 0) {
+                hash += Integer.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner sj = new StringJoiner(", ", "{", "}");
+        forEach((key, value) -> sj.add(key + "=" + value));
+        return sj.toString();
+    }
+
+    /**
+     * Scramble the bits of a key, so that sequential keys are spread across the table.
+     */
+    private static int mix(int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        if (needed > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) Math.ceil(capacity * LOAD_FACTOR));
+    }
+
+    private void checkMutable() {
+        if (!mutable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Find the table index of a non-zero key.
+     * @return the index of {@code key}, or {@code -1} if there is no entry
+     */
+    private int indexOf(int key) {
+        final int[] keys = this.keys;
+        final int mask = this.mask;
+        int pos = mix(key) & mask;
+        int current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void putUnique(int key, V value) {
+        if (insert(key, value) != NO_PREVIOUS) {
+            throw new IllegalArgumentException("Duplicate key: \"" + key + "\" not allowed.");
+        }
+    }
+
+    /**
+     * Insert or replace an entry.
+     * @return the previous value, or {@link #NO_PREVIOUS} if there was no entry for {@code key}
+     */
+    private Object insert(int key, Object value) {
+        if (key == 0) {
+            Object previous = containsZeroKey ? zeroValue : NO_PREVIOUS;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                ++size;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        final int[] keys = this.keys;
+        int pos = mix(key) & mask;
+        int current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) {
+                Object previous = values[pos];
+                values[pos] = value;
+                return previous;
+            }
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = key;
+        values[pos] = value;
+        if (++size >= maxFill) {
+            rehash(keys.length << 1);
+        }
+        return NO_PREVIOUS;
+    }
+
+    private void rehash(int capacity) {
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        final int[] keys = this.keys;
+        final Object[] values = this.values;
+        final int mask = this.mask;
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != 0) {
+                int pos = mix(oldKeys[i]) & mask;
+                while (keys[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Backward-shift deletion: closes the gap at {@code pos} by moving later entries of the
+     * probe run into it, so that lookups never need tombstones.
+     */
+    private void shiftKeys(int pos) {
+        final int[] keys = this.keys;
+        final Object[] values = this.values;
+        final int mask = this.mask;
+        int last;
+        int slot;
+        int current;
+        while (true) {
+            pos = ((last = pos) + 1) & mask;
+            while (true) {
+                if ((current = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    values[last] = null;
+                    return;
+                }
+                slot = mix(current) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[pos];
+        }
+    }
+}
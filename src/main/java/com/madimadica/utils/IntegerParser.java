@@ -0,0 +1,435 @@
+package com.madimadica.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Exception-free integer parsers backing the {@code NumberUtils.parse...} methods.
+ * <p>
+ *     These accept exactly the strings that {@link Integer#parseInt(String, int)} and
+ *     {@link Long#parseLong(String, int)} accept, including an optional leading sign and non-ASCII digits,
+ *     but report invalid input with a sentinel return value instead of throwing {@link NumberFormatException}.
+ *     An invalid radix is invalid input too.
+ * </p>
+ * <p>
+ *     Ranges of a {@link CharSequence}, {@code byte[]} or {@link ByteBuffer} are parsed in place, without copying
+ *     them into a string. Bytes are read as ASCII, so any byte outside of it is invalid, the same as parsing
+ *     the bytes decoded as ISO-8859-1. Each source has its own copy of the parsing loop,
+ *     so that none of them slows down the others with a megamorphic {@code charAt} call.
+ * </p>
+ */
+final class IntegerParser {
+
+    /**
+     * Result of the {@code parseInt} methods for invalid input, outside the range of {@code int}.
+     */
+    static final long INVALID_INT = Long.MIN_VALUE;
+
+    /**
+     * Value of each ASCII character as a digit, in any radix up to 36, or {@code -1} if it is never a digit.
+     */
+    private static final byte[] ASCII_DIGITS = new byte[128];
+
+    static {
+        for (int c = 0; c < ASCII_DIGITS.length; ++c) {
+            ASCII_DIGITS[c] = (byte) Character.digit(c, Character.MAX_RADIX);
+        }
+    }
+
+    private IntegerParser() {}
+
+    /**
+     * Find the value of a character as a digit, the same as {@link Character#digit(char, int)}
+     * @return the value of the digit, or {@code -1} if it is not a digit in the radix
+     */
+    static int digit(char c, int radix) {
+        if (c < ASCII_DIGITS.length) {
+            final int digit = ASCII_DIGITS[c];
+            return digit < radix ? digit : -1;
+        }
+        return Character.digit(c, radix);
+    }
+
+    /**
+     * Find the value of a character as a decimal digit, the same as {@link Character#digit(char, int)} in radix 10
+     * @return the value of the digit, or {@code -1} if it is not a decimal digit
+     */
+    static int decimalDigit(char c) {
+        final int digit = c - '0';
+        if (digit >= 0 && digit <= 9) {
+            return digit;
+        }
+        return c < ASCII_DIGITS.length ? -1 : Character.digit(c, 10);
+    }
+
+    /**
+     * Find the value of an ASCII byte as a digit
+     * @return the value of the digit, or {@code -1} if it is not an ASCII digit in the radix
+     */
+    static int digit(byte b, int radix) {
+        if (b < 0) {
+            return -1;
+        }
+        final int digit = ASCII_DIGITS[b];
+        return digit < radix ? digit : -1;
+    }
+
+    /**
+     * Find the value of an ASCII byte as a decimal digit
+     * @return the value of the digit, or {@code -1} if it is not an ASCII decimal digit
+     */
+    static int decimalDigit(byte b) {
+        final int digit = b - '0';
+        return digit >= 0 && digit <= 9 ? digit : -1;
+    }
+
+    private static boolean isValidRadix(int radix) {
+        return radix >= Character.MIN_RADIX && radix <= Character.MAX_RADIX;
+    }
+
+    /**
+     * Parse a string into an {@code int}, accepting the same strings as {@link Integer#parseInt(String, int)}
+     * @return the parsed value, or {@link #INVALID_INT} if the string is null, not a number, or out of range
+     */
+    static long parseInt(String s, int radix) {
+        if (s == null) {
+            return INVALID_INT;
+        }
+        return parse(s, 0, s.length(), radix, Integer.MAX_VALUE, INVALID_INT);
+    }
+
+    /**
+     * Parse a string into a {@code long}, accepting the same strings as {@link Long#parseLong(String, int)}.
+     * <p>
+     *     As every {@code long} is a possible result, invalid input is reported by returning {@code invalid}.
+     *     A caller that needs to tell a valid {@code invalid} apart from invalid input can parse again
+     *     with a different sentinel, as input is only invalid if both parses return their sentinel.
+     * </p>
+     * @param invalid value to return for invalid input
+     * @return the parsed value, or {@code invalid} if the string is null, not a number, or out of range
+     */
+    static long parseLong(String s, int radix, long invalid) {
+        if (s == null) {
+            return invalid;
+        }
+        return parse(s, 0, s.length(), radix, Long.MAX_VALUE, invalid);
+    }
+
+    /**
+     * Check if {@link #parseLong(String, int, long)} returning {@code Long.MIN_VALUE} means the input was invalid
+     * @param s input that parsed to {@code Long.MIN_VALUE}
+     * @return true if the input was invalid, rather than the number {@code Long.MIN_VALUE}
+     */
+    static boolean isInvalidLong(String s, int radix) {
+        return parseLong(s, radix, Long.MAX_VALUE) == Long.MAX_VALUE;
+    }
+
+    /**
+     * Parse a range of characters into an {@code int}, the same as {@link #parseInt(String, int)}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    static long parseInt(CharSequence s, int begin, int end, int radix) {
+        return parseRange(s, begin, end, radix, Integer.MAX_VALUE, INVALID_INT);
+    }
+
+    /**
+     * Parse a range of characters into a {@code long}, the same as {@link #parseLong(String, int, long)}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    static long parseLong(CharSequence s, int begin, int end, int radix, long invalid) {
+        return parseRange(s, begin, end, radix, Long.MAX_VALUE, invalid);
+    }
+
+    /**
+     * Check if {@link #parseLong(CharSequence, int, int, int, long)} returning {@code Long.MIN_VALUE}
+     * means the input was invalid, the same as {@link #isInvalidLong(String, int)}
+     */
+    static boolean isInvalidLong(CharSequence s, int begin, int end, int radix) {
+        return parseLong(s, begin, end, radix, Long.MAX_VALUE) == Long.MAX_VALUE;
+    }
+
+    private static long parseRange(CharSequence s, int begin, int end, int radix, long max, long invalid) {
+        Objects.checkFromToIndex(begin, end, s.length());
+        if (s instanceof String) {
+            return parse((String) s, begin, end, radix, max, invalid);
+        }
+        return parse(s, begin, end, radix, max, invalid);
+    }
+
+    /**
+     * Parse a range of ASCII bytes into an {@code int}, the same as {@link #parseInt(String, int)}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    static long parseInt(byte[] bytes, int begin, int end, int radix) {
+        Objects.checkFromToIndex(begin, end, bytes.length);
+        return parse(bytes, begin, end, radix, Integer.MAX_VALUE, INVALID_INT);
+    }
+
+    /**
+     * Parse a range of ASCII bytes into a {@code long}, the same as {@link #parseLong(String, int, long)}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    static long parseLong(byte[] bytes, int begin, int end, int radix, long invalid) {
+        Objects.checkFromToIndex(begin, end, bytes.length);
+        return parse(bytes, begin, end, radix, Long.MAX_VALUE, invalid);
+    }
+
+    /**
+     * Check if {@link #parseLong(byte[], int, int, int, long)} returning {@code Long.MIN_VALUE}
+     * means the input was invalid, the same as {@link #isInvalidLong(String, int)}
+     */
+    static boolean isInvalidLong(byte[] bytes, int begin, int end, int radix) {
+        return parseLong(bytes, begin, end, radix, Long.MAX_VALUE) == Long.MAX_VALUE;
+    }
+
+    /**
+     * Parse the ASCII bytes at absolute indices of a buffer into an {@code int},
+     * the same as {@link #parseInt(String, int)}. The position and limit of the buffer are not used or modified.
+     * @throws IndexOutOfBoundsException if the range is not within the limit of the buffer
+     */
+    static long parseInt(ByteBuffer buffer, int begin, int end, int radix) {
+        return parseRange(buffer, begin, end, radix, Integer.MAX_VALUE, INVALID_INT);
+    }
+
+    /**
+     * Parse the ASCII bytes at absolute indices of a buffer into a {@code long},
+     * the same as {@link #parseLong(String, int, long)}. The position and limit of the buffer are not used or modified.
+     * @throws IndexOutOfBoundsException if the range is not within the limit of the buffer
+     */
+    static long parseLong(ByteBuffer buffer, int begin, int end, int radix, long invalid) {
+        return parseRange(buffer, begin, end, radix, Long.MAX_VALUE, invalid);
+    }
+
+    /**
+     * Check if {@link #parseLong(ByteBuffer, int, int, int, long)} returning {@code Long.MIN_VALUE}
+     * means the input was invalid, the same as {@link #isInvalidLong(String, int)}
+     */
+    static boolean isInvalidLong(ByteBuffer buffer, int begin, int end, int radix) {
+        return parseLong(buffer, begin, end, radix, Long.MAX_VALUE) == Long.MAX_VALUE;
+    }
+
+    private static long parseRange(ByteBuffer buffer, int begin, int end, int radix, long max, long invalid) {
+        Objects.checkFromToIndex(begin, end, buffer.limit());
+        if (buffer.hasArray()) {
+            final int offset = buffer.arrayOffset();
+            return parse(buffer.array(), offset + begin, offset + end, radix, max, invalid);
+        }
+        return parse(buffer, begin, end, radix, max, invalid);
+    }
+
+    /**
+     * Find the least value that can be multiplied by the radix without going below the limit.
+     * A limit within the range of {@code int} cannot be passed by more than one digit without overflowing a long,
+     * so there is no need to divide, and the loops below need only check the limit itself.
+     */
+    private static long multiplyLimit(long limit, int radix) {
+        return limit >= Integer.MIN_VALUE ? Long.MIN_VALUE : limit / radix;
+    }
+
+    /*
+     * The parsing loops, one per source, which are otherwise identical.
+     * Each parses a signed number in [-max - 1, max] from the range [begin, end) like Long.parseLong,
+     * accumulating negatively, as the magnitude of -max - 1 does not fit in a long when max is Long.MAX_VALUE.
+     * The decimal loop is separate, so its multiplications and divisions are by a constant.
+     */
+
+    private static long parse(String s, int begin, int end, int radix, long max, long invalid) {
+        if (begin == end || !isValidRadix(radix)) {
+            return invalid;
+        }
+        int i = begin;
+        long limit = -max;
+        boolean negative = false;
+        final char first = s.charAt(i);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = -max - 1;
+            } else if (first != '+') {
+                return invalid;
+            }
+            if (++i == end) {
+                return invalid;
+            }
+        }
+        long result = 0;
+        if (radix == 10) {
+            final long multiplyLimit = multiplyLimit(limit, 10);
+            for (; i < end; ++i) {
+                final int digit = decimalDigit(s.charAt(i));
+                if (digit < 0 || result < multiplyLimit) {
+                    return invalid;
+                }
+                result *= 10;
+                if (result < limit + digit) {
+                    return invalid;
+                }
+                result -= digit;
+            }
+        } else {
+            final long multiplyLimit = multiplyLimit(limit, radix);
+            for (; i < end; ++i) {
+                final int digit = digit(s.charAt(i), radix);
+                if (digit < 0 || result < multiplyLimit) {
+                    return invalid;
+                }
+                result *= radix;
+                if (result < limit + digit) {
+                    return invalid;
+                }
+                result -= digit;
+            }
+        }
+        return negative ? result : -result;
+    }
+
+    private static long parse(CharSequence s, int begin, int end, int radix, long max, long invalid) {
+        if (begin == end || !isValidRadix(radix)) {
+            return invalid;
+        }
+        int i = begin;
+        long limit = -max;
+        boolean negative = false;
+        final char first = s.charAt(i);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = -max - 1;
+            } else if (first != '+') {
+                return invalid;
+            }
+            if (++i == end) {
+                return invalid;
+            }
+        }
+        long result = 0;
+        if (radix == 10) {
+            final long multiplyLimit = multiplyLimit(limit, 10);
+            for (; i < end; ++i) {
+                final int digit = decimalDigit(s.charAt(i));
+                if (digit < 0 || result < multiplyLimit) {
+                    return invalid;
+                }
+                result *= 10;
+                if (result < limit + digit) {
+                    return invalid;
+                }
+                result -= digit;
+            }
+        } else {
+            final long multiplyLimit = multiplyLimit(limit, radix);
+            for (; i < end; ++i) {
+                final int digit = digit(s.charAt(i), radix);
+                if (digit < 0 || result < multiplyLimit) {
+                    return invalid;
+                }
+                result *= radix;
+                if (result < limit + digit) {
+                    return invalid;
+                }
+                result -= digit;
+            }
+        }
+        return negative ? result : -result;
+    }
+
+    private static long parse(byte[] bytes, int begin, int end, int radix, long max, long invalid) {
+        if (begin == end || !isValidRadix(radix)) {
+            return invalid;
+        }
+        int i = begin;
+        long limit = -max;
+        boolean negative = false;
+        final byte first = bytes[i];
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = -max - 1;
+            } else if (first != '+') {
+                return invalid;
+            }
+            if (++i == end) {
+                return invalid;
+            }
+        }
+        long result = 0;
+        if (radix == 10) {
+            final long multiplyLimit = multiplyLimit(limit, 10);
+            for (; i < end; ++i) {
+                final int digit = decimalDigit(bytes[i]);
+                if (digit < 0 || result < multiplyLimit) {
+                    return invalid;
+                }
+                result *= 10;
+                if (result < limit + digit) {
+                    return invalid;
+                }
+                result -= digit;
+            }
+        } else {
+            final long multiplyLimit = multiplyLimit(limit, radix);
+            for (; i < end; ++i) {
+                final int digit = digit(bytes[i], radix);
+                if (digit < 0 || result < multiplyLimit) {
+                    return invalid;
+                }
+                result *= radix;
+                if (result < limit + digit) {
+                    return invalid;
+                }
+                result -= digit;
+            }
+        }
+        return negative ? result : -result;
+    }
+
+    private static long parse(ByteBuffer buffer, int begin, int end, int radix, long max, long invalid) {
+        if (begin == end || !isValidRadix(radix)) {
+            return invalid;
+        }
+        int i = begin;
+        long limit = -max;
+        boolean negative = false;
+        final byte first = buffer.get(i);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = -max - 1;
+            } else if (first != '+') {
+                return invalid;
+            }
+            if (++i == end) {
+                return invalid;
+            }
+        }
+        long result = 0;
+        if (radix == 10) {
+            final long multiplyLimit = multiplyLimit(limit, 10);
+            for (; i < end; ++i) {
+                final int digit = decimalDigit(buffer.get(i));
+                if (digit < 0 || result < multiplyLimit) {
+                    return invalid;
+                }
+                result *= 10;
+                if (result < limit + digit) {
+                    return invalid;
+                }
+                result -= digit;
+            }
+        } else {
+            final long multiplyLimit = multiplyLimit(limit, radix);
+            for (; i < end; ++i) {
+                final int digit = digit(buffer.get(i), radix);
+                if (digit < 0 || result < multiplyLimit) {
+                    return invalid;
+                }
+                result *= radix;
+                if (result < limit + digit) {
+                    return invalid;
+                }
+                result -= digit;
+            }
+        }
+        return negative ? result : -result;
+    }
+}
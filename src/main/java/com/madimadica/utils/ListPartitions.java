@@ -0,0 +1,69 @@
+package com.madimadica.utils;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of consecutive, immutable range views over a {@link RandomAccess} list.
+ * <p>
+ *     Partition {@code i} covers the indices {@code [i * partitionSize, (i + 1) * partitionSize)},
+ *     clamped to the size of the source list, so trailing partitions may be empty.
+ *     Neither the partitions nor this list copy any elements, each partition is created on access.
+ * </p>
+ * @param <T> Type of list elements
+ */
+final class ListPartitions<T> extends AbstractList<List<T>> implements RandomAccess {
+
+    private final List<T> list;
+    private final int partitionSize;
+    private final int partitionCount;
+
+    ListPartitions(List<T> list, int partitionSize, int partitionCount) {
+        this.list = list;
+        this.partitionSize = partitionSize;
+        this.partitionCount = partitionCount;
+    }
+
+    @Override
+    public List<T> get(int index) {
+        Objects.checkIndex(index, partitionCount);
+        final int sourceSize = list.size();
+        final int from = (int) Math.min((long) index * partitionSize, sourceSize);
+        final int to = (int) Math.min((long) from + partitionSize, sourceSize);
+        return new Range<>(list, from, to - from);
+    }
+
+    @Override
+    public int size() {
+        return partitionCount;
+    }
+
+    /**
+     * Immutable view of {@code size} elements of a list, starting at {@code offset}.
+     * @param <T> Type of list elements
+     */
+    static final class Range<T> extends AbstractList<T> implements RandomAccess {
+        private final List<T> list;
+        private final int offset;
+        private final int size;
+
+        Range(List<T> list, int offset, int size) {
+            this.list = list;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            return list.get(offset + index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.madimadica.utils;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Static helper methods and factories for dealing with Lists.
@@ -120,15 +125,32 @@ public abstract class Lists {
 
     /**
      * Map the given list into an immutable list by the given mapping function.
+     * <p>
+     *     The mappings are computed in a single pass into an exactly sized array,
+     *     which backs the returned list without being copied.
+     * </p>
      * @param list list to map
      * @param mapper function to map each element by.
      * @return an immutable list of the mappings.
      * @param <X> type of input list elements
      * @param <Y> type of output list elements
+     * @throws NullPointerException if any mapping is {@code null}.
      * @since 1.0
      */
     public static <X, Y> List<Y> map(List<X> list, Function<? super X, ? extends Y> mapper) {
-        return list.stream().map(mapper).collect(Collectors.toUnmodifiableList());
+        final int size = list.size();
+        final Object[] output = new Object[size];
+        if (list instanceof RandomAccess) {
+            for (int i = 0; i < size; ++i) {
+                output[i] = Objects.requireNonNull(mapper.apply(list.get(i)));
+            }
+        } else {
+            int i = 0;
+            for (X x : list) {
+                output[i++] = Objects.requireNonNull(mapper.apply(x));
+            }
+        }
+        return ImmutableArrayList.wrap(output, size);
     }
 
     /**
@@ -148,6 +170,105 @@ public abstract class Lists {
         return output;
     }
 
+    /**
+     * Map the given list into an immutable list by the given mapping function,
+     * splitting the work across the {@link ForkJoinPool#commonPool() common pool}.
+     * <p>
+     *     The mappings are in the same order as the original list. Lists that do not implement
+     *     {@link RandomAccess}, or are smaller than 8192 elements, are mapped sequentially
+     *     as if by {@link Lists#map(List, Function)}.
+     * </p>
+     * @param list list to map
+     * @param mapper stateless function to map each element by, which may be called concurrently.
+     * @return an immutable list of the mappings.
+     * @param <X> type of input list elements
+     * @param <Y> type of output list elements
+     * @throws NullPointerException if any mapping is {@code null}.
+     * @since 1.0
+     */
+    public static <X, Y> List<Y> parallelMap(List<X> list, Function<? super X, ? extends Y> mapper) {
+        return parallelMap(list, mapper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Map the given list into an immutable list by the given mapping function,
+     * splitting the work across the given {@link ForkJoinPool}.
+     * <p>
+     *     The mappings are in the same order as the original list. Lists that do not implement
+     *     {@link RandomAccess}, or are smaller than 8192 elements, are mapped sequentially
+     *     as if by {@link Lists#map(List, Function)}.
+     * </p>
+     * @param list list to map
+     * @param mapper stateless function to map each element by, which may be called concurrently.
+     * @param pool pool to run the mapping on
+     * @return an immutable list of the mappings.
+     * @param <X> type of input list elements
+     * @param <Y> type of output list elements
+     * @throws NullPointerException if any mapping is {@code null}.
+     * @since 1.0
+     */
+    public static <X, Y> List<Y> parallelMap(List<X> list, Function<? super X, ? extends Y> mapper, ForkJoinPool pool) {
+        Objects.requireNonNull(mapper);
+        if (ParallelLists.isParallel(list, pool)) {
+            return ParallelLists.map(list, mapper, pool);
+        }
+        return map(list, mapper);
+    }
+
+    /**
+     * Map the given list into an immutable {@link IntList} by the given mapping function, without boxing.
+     * @param list list to apply mapping to
+     * @param mapper function to map each element by.
+     * @return an immutable list of the mappings.
+     * @param <X> type of input list elements
+     * @since 1.0
+     */
+    public static <X> IntList mapToInt(List<X> list, ToIntFunction<? super X> mapper) {
+        final int size = list.size();
+        final int[] output = new int[size];
+        int i = 0;
+        for (X x : list) {
+            output[i++] = mapper.applyAsInt(x);
+        }
+        return IntList.wrap(output, size);
+    }
+
+    /**
+     * Map the given list into an immutable {@link LongList} by the given mapping function, without boxing.
+     * @param list list to apply mapping to
+     * @param mapper function to map each element by.
+     * @return an immutable list of the mappings.
+     * @param <X> type of input list elements
+     * @since 1.0
+     */
+    public static <X> LongList mapToLong(List<X> list, ToLongFunction<? super X> mapper) {
+        final int size = list.size();
+        final long[] output = new long[size];
+        int i = 0;
+        for (X x : list) {
+            output[i++] = mapper.applyAsLong(x);
+        }
+        return LongList.wrap(output, size);
+    }
+
+    /**
+     * Map the given list into an immutable {@link DoubleList} by the given mapping function, without boxing.
+     * @param list list to apply mapping to
+     * @param mapper function to map each element by.
+     * @return an immutable list of the mappings.
+     * @param <X> type of input list elements
+     * @since 1.0
+     */
+    public static <X> DoubleList mapToDouble(List<X> list, ToDoubleFunction<? super X> mapper) {
+        final int size = list.size();
+        final double[] output = new double[size];
+        int i = 0;
+        for (X x : list) {
+            output[i++] = mapper.applyAsDouble(x);
+        }
+        return DoubleList.wrap(output, size);
+    }
+
     /**
      * Map a list to an immutable set by a given mapping function.
      * @param list list to map elements from
@@ -261,16 +382,66 @@ public abstract class Lists {
         return output;
     }
 
+    /**
+     * Convert a list of elements to a mapping of those same elements by the given primitive {@code keyMapper}.
+     * The result is an immutable {@link LongObjectMap}, so the keys are never boxed.
+     * @param list Elements to turn into a {@link LongObjectMap}
+     * @param keyMapper Function to determine the key of an element/entry. This mapping should return a unique value per element.
+     * @return An immutable map from the extracted keys to the original values
+     * @param <V> Type of the resulting entry values, also the type of the input list
+     * @throws IllegalStateException If the extracted keys are not unique
+     * @throws NullPointerException If the mapper is {@code null}, or if any list element is {@code null}.
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> toLongKeyedMap(List<V> list, ToLongFunction<? super V> keyMapper) {
+        final int size = list.size();
+        final long[] keys = new long[size];
+        final Object[] values = new Object[size];
+        int i = 0;
+        for (V v : list) {
+            values[i] = Objects.requireNonNull(v);
+            keys[i++] = keyMapper.applyAsLong(v);
+        }
+        return LongObjectMap.build(keys, values, size);
+    }
+
     /**
      * Filter the given list into an immutable list by the given predicate.
+     * <p>
+     *     The matching elements are collected in a single pass into an array
+     *     presized for the whole list, which backs the returned list without being copied,
+     *     unless less than half of the elements match.
+     * </p>
      * @param list list to filter
      * @param predicate predicate to filter on
      * @return an immutable list of the matching elements.
      * @param <X> type of input and output list elements
+     * @throws NullPointerException if any matching element is {@code null}.
      * @since 1.0
      */
     public static <X> List<X> filter(List<X> list, Predicate<? super X> predicate) {
-        return list.stream().filter(predicate).collect(Collectors.toUnmodifiableList());
+        final int size = list.size();
+        Object[] output = new Object[size];
+        int count = 0;
+        if (list instanceof RandomAccess) {
+            for (int i = 0; i < size; ++i) {
+                X x = list.get(i);
+                if (predicate.test(x)) {
+                    output[count++] = Objects.requireNonNull(x);
+                }
+            }
+        } else {
+            for (X x : list) {
+                if (predicate.test(x)) {
+                    output[count++] = Objects.requireNonNull(x);
+                }
+            }
+        }
+        if (count < (size >> 1)) {
+            // Don't hold on to a mostly empty array
+            output = Arrays.copyOf(output, count);
+        }
+        return ImmutableArrayList.wrap(output, count);
     }
 
     /**
@@ -291,6 +462,49 @@ public abstract class Lists {
         return output;
     }
 
+    /**
+     * Filter the given list into an immutable list by the given predicate,
+     * splitting the work across the {@link ForkJoinPool#commonPool() common pool}.
+     * <p>
+     *     The matching elements are in the same order as the original list. Lists that do not implement
+     *     {@link RandomAccess}, or are smaller than 8192 elements, are filtered sequentially
+     *     as if by {@link Lists#filter(List, Predicate)}.
+     * </p>
+     * @param list list to filter
+     * @param predicate stateless predicate to filter on, which may be called concurrently.
+     * @return an immutable list of the matching elements.
+     * @param <X> type of input and output list elements
+     * @throws NullPointerException if any matching element is {@code null}.
+     * @since 1.0
+     */
+    public static <X> List<X> parallelFilter(List<X> list, Predicate<? super X> predicate) {
+        return parallelFilter(list, predicate, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Filter the given list into an immutable list by the given predicate,
+     * splitting the work across the given {@link ForkJoinPool}.
+     * <p>
+     *     The matching elements are in the same order as the original list. Lists that do not implement
+     *     {@link RandomAccess}, or are smaller than 8192 elements, are filtered sequentially
+     *     as if by {@link Lists#filter(List, Predicate)}.
+     * </p>
+     * @param list list to filter
+     * @param predicate stateless predicate to filter on, which may be called concurrently.
+     * @param pool pool to run the filter on
+     * @return an immutable list of the matching elements.
+     * @param <X> type of input and output list elements
+     * @throws NullPointerException if any matching element is {@code null}.
+     * @since 1.0
+     */
+    public static <X> List<X> parallelFilter(List<X> list, Predicate<? super X> predicate, ForkJoinPool pool) {
+        Objects.requireNonNull(predicate);
+        if (ParallelLists.isParallel(list, pool)) {
+            return ParallelLists.filter(list, predicate, pool);
+        }
+        return filter(list, predicate);
+    }
+
     /**
      * Return an immutable, sorted copy of the input collection.
      * @param collection collection of elements to sort elements of
@@ -341,6 +555,107 @@ public abstract class Lists {
         return copy;
     }
 
+    /**
+     * Compute the union of two lists sorted in natural order, by a linear merge without hashing.
+     * <p>
+     *     Elements that compare equal are treated as the same element, so the result has no repeated elements.
+     * </p>
+     * @param listA sorted list A
+     * @param listB sorted list B
+     * @return an immutable list, sorted in natural order, consisting of all the elements in either list.
+     * @param <T> type of list elements
+     * @since 1.0
+     */
+    public static <T extends Comparable<? super T>> List<T> sortedUnion(List<T> listA, List<T> listB) {
+        return sortedUnion(listA, listB, Comparator.naturalOrder());
+    }
+
+    /**
+     * Compute the union of two lists sorted by the given comparator, by a linear merge without hashing.
+     * <p>
+     *     Elements that compare equal are treated as the same element, so the result has no repeated elements.
+     * </p>
+     * @param listA list A, sorted by {@code comparator}
+     * @param listB list B, sorted by {@code comparator}
+     * @param comparator sort order of both lists
+     * @return an immutable list, sorted by {@code comparator}, consisting of all the elements in either list.
+     * @param <T> type of list elements
+     * @since 1.0
+     */
+    public static <T> List<T> sortedUnion(List<T> listA, List<T> listB, Comparator<? super T> comparator) {
+        return Collections.unmodifiableList(SortedMerge.union(listA, listB, comparator));
+    }
+
+    /**
+     * Compute the intersection of two lists sorted in natural order, by a linear merge without hashing.
+     * <p>
+     *     Elements that compare equal are treated as the same element, so the result has no repeated elements.
+     *     When one list is much larger than the other, the larger list is searched by galloping
+     *     (exponential then binary) search instead of being walked element by element.
+     * </p>
+     * @param listA sorted list A
+     * @param listB sorted list B
+     * @return an immutable list, sorted in natural order, consisting of only the elements in both lists.
+     * @param <T> type of list elements
+     * @since 1.0
+     */
+    public static <T extends Comparable<? super T>> List<T> sortedIntersection(List<T> listA, List<T> listB) {
+        return sortedIntersection(listA, listB, Comparator.naturalOrder());
+    }
+
+    /**
+     * Compute the intersection of two lists sorted by the given comparator, by a linear merge without hashing.
+     * <p>
+     *     Elements that compare equal are treated as the same element, so the result has no repeated elements.
+     *     When one list is much larger than the other, the larger list is searched by galloping
+     *     (exponential then binary) search instead of being walked element by element.
+     * </p>
+     * @param listA list A, sorted by {@code comparator}
+     * @param listB list B, sorted by {@code comparator}
+     * @param comparator sort order of both lists
+     * @return an immutable list, sorted by {@code comparator}, consisting of only the elements in both lists.
+     * @param <T> type of list elements
+     * @since 1.0
+     */
+    public static <T> List<T> sortedIntersection(List<T> listA, List<T> listB, Comparator<? super T> comparator) {
+        return Collections.unmodifiableList(SortedMerge.intersection(listA, listB, comparator));
+    }
+
+    /**
+     * Compute the asymmetric difference, <code>A - B</code>, of two lists sorted in natural order, by a linear merge without hashing.
+     * <p>
+     *     Elements that compare equal are treated as the same element, so the result has no repeated elements.
+     *     When one list is much larger than the other, the larger list is searched by galloping
+     *     (exponential then binary) search instead of being walked element by element.
+     * </p>
+     * @param listA sorted list A
+     * @param listB sorted list B
+     * @return an immutable list, sorted in natural order, consisting of the elements in list A and not in list B.
+     * @param <T> type of list elements
+     * @since 1.0
+     */
+    public static <T extends Comparable<? super T>> List<T> sortedDifference(List<T> listA, List<T> listB) {
+        return sortedDifference(listA, listB, Comparator.naturalOrder());
+    }
+
+    /**
+     * Compute the asymmetric difference, <code>A - B</code>, of two lists sorted by the given comparator, by a linear merge without hashing.
+     * <p>
+     *     Elements that compare equal are treated as the same element, so the result has no repeated elements.
+     *     When one list is much larger than the other, the larger list is searched by galloping
+     *     (exponential then binary) search instead of being walked element by element.
+     * </p>
+     * @param listA list A, sorted by {@code comparator}
+     * @param listB list B, sorted by {@code comparator}
+     * @param comparator sort order of both lists
+     * @return an immutable list, sorted by {@code comparator}, consisting of the elements in list A and not in list B.
+     * @param <T> type of list elements
+     * @since 1.0
+     */
+    public static <T> List<T> sortedDifference(List<T> listA, List<T> listB, Comparator<? super T> comparator) {
+        return Collections.unmodifiableList(SortedMerge.difference(listA, listB, comparator));
+    }
+
     /**
      * Return an immutable copy of the given list in reverse order.
      * @param list list of original elements
@@ -482,6 +797,240 @@ public abstract class Lists {
         }
     }
 
+    /**
+     * <p>
+     *     Partition (split) the given list into a total of {@code numberOfPartitions} sublists,
+     *     without copying any elements.
+     * </p>
+     * <p>
+     *     The partitions have the same sizes as {@link Lists#partitionInto(List, int)}, but each partition is an
+     *     immutable view over a range of the original list. The original list must not be structurally modified
+     *     while the partitions are in use, and changes to its elements are visible through the partitions.
+     * </p>
+     * <p>
+     *     Lists that do not implement {@link RandomAccess} cannot be viewed efficiently by index,
+     *     so they are copied as if by {@link Lists#partitionInto(List, int)}.
+     * </p>
+     *
+     * @param list List to partition
+     * @param numberOfPartitions Total number of resulting partitions
+     * @return An immutable list of immutable partition views
+     * @param <T> Type of list elements
+     * @throws IllegalArgumentException if {@code numberOfPartitions} is less than 1
+     * @see Lists#partitionInto(List, int)
+     * @since 1.0
+     */
+    public static <T> List<List<T>> partitionViewInto(List<T> list, int numberOfPartitions) {
+        if (numberOfPartitions < 1) {
+            throw new IllegalArgumentException("Number of partitions must be at least 1, was " + numberOfPartitions);
+        }
+        if (!(list instanceof RandomAccess)) {
+            return partitionInto(list, numberOfPartitions);
+        }
+        final int size = list.size();
+        if (size < numberOfPartitions) {
+            // Singletons followed by empty partitions
+            return new ListPartitions<>(list, 1, numberOfPartitions);
+        }
+        int maxPartitionSize = (int) Math.ceil(size / (double) numberOfPartitions);
+        return partitionViewBySize(list, maxPartitionSize);
+    }
+
+    /**
+     * <p>
+     *     Partition (split) the given list into sublists of a size {@code partitionSize},
+     *     without copying any elements.
+     * </p>
+     * <p>
+     *     The partitions have the same sizes as {@link Lists#partitionBySize(List, int)}, but each partition is an
+     *     immutable view over a range of the original list. The original list must not be structurally modified
+     *     while the partitions are in use, and changes to its elements are visible through the partitions.
+     * </p>
+     * <p>
+     *     Lists that do not implement {@link RandomAccess} cannot be viewed efficiently by index,
+     *     so they are copied as if by {@link Lists#partitionBySize(List, int)}.
+     *     To avoid holding every copied partition at once, use {@link Lists#partitionBySizeLazily(List, int)}.
+     * </p>
+     *
+     * @param list List to partition
+     * @param partitionSize Maximum size of each resulting partition
+     * @return An immutable list of immutable partition views of size up to and including {@code partitionSize}
+     * @param <T> Type of list elements
+     * @throws IllegalArgumentException if {@code partitionSize} is less than 1
+     * @see Lists#partitionBySize(List, int)
+     * @since 1.0
+     */
+    public static <T> List<List<T>> partitionViewBySize(List<T> list, int partitionSize) {
+        BatchIterator.requirePositiveSize(partitionSize, "Partition size");
+        if (!(list instanceof RandomAccess)) {
+            return partitionBySize(list, partitionSize);
+        }
+        final int size = list.size();
+        final int totalPartitions = size < partitionSize ? 1 : (int) ((size + (long) partitionSize - 1) / partitionSize);
+        return new ListPartitions<>(list, partitionSize, totalPartitions);
+    }
+
+    /**
+     * <p>
+     *     Lazily partition (split) the given list into sublists of a size {@code partitionSize}.
+     * </p>
+     * <p>
+     *     Each partition is copied from the list's iterator only when it is requested, so only one partition
+     *     is held in memory at a time. This works for any list, including ones that do not implement
+     *     {@link RandomAccess} such as {@link LinkedList}. The partitions are immutable, and are in the same order
+     *     as {@link Lists#partitionBySize(List, int)}, except that an empty list has no partitions.
+     * </p>
+     * <p>
+     *     Each call to {@link Iterable#iterator()} starts a new pass over the list.
+     * </p>
+     *
+     * @param list List to partition
+     * @param partitionSize Maximum size of each resulting partition
+     * @return An iterable of immutable partitions of size up to and including {@code partitionSize}
+     * @param <T> Type of list elements
+     * @throws IllegalArgumentException if {@code partitionSize} is less than 1
+     * @throws NullPointerException if {@code list} is {@code null}
+     * @see Lists#partitionBySize(List, int)
+     * @since 1.0
+     */
+    public static <T> Iterable<List<T>> partitionBySizeLazily(List<T> list, int partitionSize) {
+        Objects.requireNonNull(list);
+        BatchIterator.requirePositiveSize(partitionSize, "Partition size");
+        return () -> new BatchIterator<>(list.iterator(), partitionSize);
+    }
+
+    /**
+     * <p>
+     *     Lazily group the remaining elements of an iterator into consecutive batches of size {@code batchSize}.
+     * </p>
+     * <p>
+     *     Elements are only read from {@code source} when the next batch is requested, so sources that do not fit
+     *     in memory, such as database cursors, can be processed one batch at a time. Every batch is an immutable copy
+     *     containing {@code batchSize} elements, except for the last batch which may be smaller.
+     *     An exhausted source has no batches. {@code null} elements are allowed.
+     * </p>
+     *
+     * @param source iterator to read elements from
+     * @param batchSize Maximum size of each batch
+     * @return An iterator of immutable batches
+     * @param <T> Type of batch elements
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1
+     * @throws NullPointerException if {@code source} is {@code null}
+     * @see Lists#batchReusingBuffer(Iterator, int)
+     * @since 1.0
+     */
+    public static <T> Iterator<List<T>> batch(Iterator<? extends T> source, int batchSize) {
+        return new BatchIterator<>(source, batchSize);
+    }
+
+    /**
+     * <p>
+     *     Lazily group the elements of an iterable into consecutive batches of size {@code batchSize}.
+     * </p>
+     * <p>
+     *     Elements are only read from {@code source} when the next batch is requested. Every batch is an immutable
+     *     copy containing {@code batchSize} elements, except for the last batch which may be smaller.
+     *     An empty source has no batches. {@code null} elements are allowed.
+     * </p>
+     * <p>
+     *     Each call to {@link Iterable#iterator()} starts a new pass over {@code source}.
+     * </p>
+     *
+     * @param source iterable to read elements from
+     * @param batchSize Maximum size of each batch
+     * @return An iterable of immutable batches
+     * @param <T> Type of batch elements
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1
+     * @throws NullPointerException if {@code source} is {@code null}
+     * @since 1.0
+     */
+    public static <T> Iterable<List<T>> batch(Iterable<? extends T> source, int batchSize) {
+        Objects.requireNonNull(source);
+        BatchIterator.requirePositiveSize(batchSize, "Batch size");
+        return () -> new BatchIterator<>(source.iterator(), batchSize);
+    }
+
+    /**
+     * <p>
+     *     Lazily group the remaining elements of an iterator into consecutive batches of size {@code batchSize},
+     *     reusing a single buffer for every batch.
+     * </p>
+     * <p>
+     *     This behaves like {@link Lists#batch(Iterator, int)}, except every call to {@link Iterator#next()}
+     *     returns the <strong>same</strong> read-only list, whose contents are replaced by the next batch.
+     *     This keeps memory constant and allocation free per batch, but each batch must be fully consumed
+     *     (or copied) before requesting the next one, and must not be kept.
+     * </p>
+     *
+     * @param source iterator to read elements from
+     * @param batchSize Maximum size of each batch
+     * @return An iterator of a reused, read-only batch
+     * @param <T> Type of batch elements
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1
+     * @throws NullPointerException if {@code source} is {@code null}
+     * @since 1.0
+     */
+    public static <T> Iterator<List<T>> batchReusingBuffer(Iterator<? extends T> source, int batchSize) {
+        return new BatchIterator<>(source, batchSize, true);
+    }
+
+    /**
+     * <p>
+     *     Lazily group the elements of a stream into consecutive batches of size {@code batchSize}.
+     * </p>
+     * <p>
+     *     The returned stream is sequential, and only reads elements from {@code source} as batches are consumed.
+     *     Every batch is an immutable copy containing {@code batchSize} elements, except for the last batch
+     *     which may be smaller. Closing the returned stream closes {@code source}.
+     * </p>
+     *
+     * @param source stream to read elements from
+     * @param batchSize Maximum size of each batch
+     * @return A stream of immutable batches
+     * @param <T> Type of batch elements
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1
+     * @throws NullPointerException if {@code source} is {@code null}
+     * @see Lists#batchStreamReusingBuffer(Stream, int)
+     * @since 1.0
+     */
+    public static <T> Stream<List<T>> batchStream(Stream<? extends T> source, int batchSize) {
+        return batchStream(source, batchSize, false);
+    }
+
+    /**
+     * <p>
+     *     Lazily group the elements of a stream into consecutive batches of size {@code batchSize},
+     *     reusing a single buffer for every batch.
+     * </p>
+     * <p>
+     *     This behaves like {@link Lists#batchStream(Stream, int)}, except every element of the returned stream
+     *     is the <strong>same</strong> read-only list, whose contents are replaced by the next batch.
+     *     Each batch must be fully consumed (or copied) by the downstream operation before the next batch is read,
+     *     so this should only be used with stateless, non-buffering operations such as {@link Stream#forEach}.
+     * </p>
+     *
+     * @param source stream to read elements from
+     * @param batchSize Maximum size of each batch
+     * @return A stream of a reused, read-only batch
+     * @param <T> Type of batch elements
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1
+     * @throws NullPointerException if {@code source} is {@code null}
+     * @since 1.0
+     */
+    public static <T> Stream<List<T>> batchStreamReusingBuffer(Stream<? extends T> source, int batchSize) {
+        return batchStream(source, batchSize, true);
+    }
+
+    private static <T> Stream<List<T>> batchStream(Stream<? extends T> source, int batchSize, boolean reuseBuffer) {
+        Objects.requireNonNull(source);
+        BatchIterator.requirePositiveSize(batchSize, "Batch size");
+        Spliterator<List<T>> spliterator = Spliterators.spliteratorUnknownSize(
+                new BatchIterator<>(source.iterator(), batchSize, reuseBuffer),
+                Spliterator.ORDERED | Spliterator.NONNULL
+        );
+        return StreamSupport.stream(spliterator, false).onClose(source::close);
+    }
+
     /**
      * Flat-Map a variable number of collections into a single list (immutable).
      * @param collections varargs of collections to flatten
@@ -660,6 +1209,65 @@ public abstract class Lists {
         return map;
     }
 
+    /**
+     * Group elements by a key mapping function, splitting the work across the
+     * {@link ForkJoinPool#commonPool() common pool}. All elements with the same mapped key are part of the same group.
+     * <p>
+     *     Each task groups a contiguous range of the list, and the resulting maps are merged
+     *     so that every group keeps the original encounter order. Lists that do not implement
+     *     {@link RandomAccess}, or are smaller than 8192 elements, are grouped sequentially
+     *     as if by {@link Lists#groupBy(Collection, Function)}.
+     * </p>
+     * <p>
+     *     Returned {@link Map} and {@link List}s are guaranteed mutable with {@link HashMap} and {@link ArrayList} respectively.
+     * </p>
+     * <p>
+     *     Mappings to {@code null} keys are allowed, which differs from {@link Collectors#groupingBy(Function)}
+     * </p>
+     * @param list list of data to cluster
+     * @param classifier stateless function of how to cluster the data (the key to group on), which may be called concurrently.
+     * @return A mutable Map of Mutable Lists.
+     * @param <K> Type of the key to group on
+     * @param <V> Type of the elements being grouped
+     * @throws NullPointerException if any element of {@code list} is {@code null}.
+     * @since 1.0
+     */
+    public static <K, V> Map<K, List<V>> parallelGroupBy(List<V> list, Function<? super V, ? extends K> classifier) {
+        return parallelGroupBy(list, classifier, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Group elements by a key mapping function, splitting the work across the given {@link ForkJoinPool}.
+     * All elements with the same mapped key are part of the same group.
+     * <p>
+     *     Each task groups a contiguous range of the list, and the resulting maps are merged
+     *     so that every group keeps the original encounter order. Lists that do not implement
+     *     {@link RandomAccess}, or are smaller than 8192 elements, are grouped sequentially
+     *     as if by {@link Lists#groupBy(Collection, Function)}.
+     * </p>
+     * <p>
+     *     Returned {@link Map} and {@link List}s are guaranteed mutable with {@link HashMap} and {@link ArrayList} respectively.
+     * </p>
+     * <p>
+     *     Mappings to {@code null} keys are allowed, which differs from {@link Collectors#groupingBy(Function)}
+     * </p>
+     * @param list list of data to cluster
+     * @param classifier stateless function of how to cluster the data (the key to group on), which may be called concurrently.
+     * @param pool pool to run the grouping on
+     * @return A mutable Map of Mutable Lists.
+     * @param <K> Type of the key to group on
+     * @param <V> Type of the elements being grouped
+     * @throws NullPointerException if any element of {@code list} is {@code null}.
+     * @since 1.0
+     */
+    public static <K, V> Map<K, List<V>> parallelGroupBy(List<V> list, Function<? super V, ? extends K> classifier, ForkJoinPool pool) {
+        Objects.requireNonNull(classifier);
+        if (ParallelLists.isParallel(list, pool)) {
+            return ParallelLists.groupBy(list, classifier, pool);
+        }
+        return groupBy(list, classifier);
+    }
+
     /**
      * Group elements by a key mapping function. All elements with the same mapped key are part of the same group.
      * <p>
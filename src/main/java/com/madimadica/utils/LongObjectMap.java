@@ -0,0 +1,1237 @@
+package com.madimadica.utils;
+
+import java.util.*;
+
+/**
+ * A hash map from primitive {@code long} keys to object values, using open addressing with linear probing.
+ * <p>
+ *     Unlike a {@code Map<Long, V>}, the keys are never boxed and there is no node per entry,
+ *     the keys and values are stored inline in two parallel arrays. Iteration order is unspecified.
+ *     Values may be {@code null}.
+ * </p>
+ * <p>
+ *     Maps created by {@link #of()} and {@link #copyOf(Map)} are immutable, and throw
+ *     {@link UnsupportedOperationException} on any modification. Maps created by {@link #ofMutable()}
+ *     or the constructors are mutable.
+ * </p>
+ * @param <V> value type
+ * @see IntObjectMap
+ * @see ObjectIntMap
+ * @since 1.0
+ */
+public final class LongObjectMap<V> {
+
+    /**
+     * Maximum ratio of occupied table slots before the table is doubled.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MIN_CAPACITY = 4;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Marker returned by {@link #insert} when the key had no previous entry, since values may be {@code null}.
+     */
+    private static final Object NO_PREVIOUS = new Object();
+
+    /**
+     * Hash table of keys, where {@code 0} marks a free slot.
+     * The entry for the key {@code 0} itself is tracked by {@link #containsZeroKey} and {@link #zeroValue}.
+     */
+    private long[] keys;
+    private Object[] values;
+    private boolean containsZeroKey;
+    private Object zeroValue;
+    private int size;
+    private int mask;
+    private int maxFill;
+    private final boolean mutable;
+
+    /**
+     * Consumer of map entries, to iterate without boxing keys.
+     * @param <V> value type
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        /**
+         * Accept an entry.
+         * @param key entry key
+         * @param value entry value
+         */
+        void accept(long key, V value);
+    }
+
+    /**
+     * Create an empty, mutable map.
+     */
+    public LongObjectMap() {
+        this(0);
+    }
+
+    /**
+     * Create an empty, mutable map, which can hold {@code expectedSize} entries before resizing.
+     * @param expectedSize number of entries expected to be added
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public LongObjectMap(int expectedSize) {
+        this(expectedSize, true);
+    }
+
+    private LongObjectMap(int expectedSize, boolean mutable) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+        }
+        this.mutable = mutable;
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Creates an empty, immutable map.
+     * @return An empty immutable map.
+     * @param <V> value type
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of() {
+        return new LongObjectMap<>(0, false);
+    }
+
+    /**
+     * Creates an immutable map with 1 entry.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1) {
+        LongObjectMap<V> map = new LongObjectMap<>(1, false);
+        map.putUnique(k1, v1);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 2 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1, long k2, V v2) {
+        LongObjectMap<V> map = new LongObjectMap<>(2, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 3 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3) {
+        LongObjectMap<V> map = new LongObjectMap<>(3, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 4 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4) {
+        LongObjectMap<V> map = new LongObjectMap<>(4, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 5 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5) {
+        LongObjectMap<V> map = new LongObjectMap<>(5, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 6 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6) {
+        LongObjectMap<V> map = new LongObjectMap<>(6, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 7 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7) {
+        LongObjectMap<V> map = new LongObjectMap<>(7, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 8 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7, long k8, V v8) {
+        LongObjectMap<V> map = new LongObjectMap<>(8, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 9 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7, long k8, V v8, long k9, V v9) {
+        LongObjectMap<V> map = new LongObjectMap<>(9, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 10 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7, long k8, V v8, long k9, V v9, long k10, V v10) {
+        LongObjectMap<V> map = new LongObjectMap<>(10, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 11 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7, long k8, V v8, long k9, V v9, long k10, V v10, long k11, V v11) {
+        LongObjectMap<V> map = new LongObjectMap<>(11, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 12 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @param k12 key for entry 12
+     * @param v12 value for entry 12
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> of(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7, long k8, V v8, long k9, V v9, long k10, V v10, long k11, V v11, long k12, V v12) {
+        LongObjectMap<V> map = new LongObjectMap<>(12, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        map.putUnique(k12, v12);
+        return map;
+    }
+
+    /**
+     * Creates an empty, mutable map.
+     * @return An empty mutable map.
+     * @param <V> value type
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable() {
+        return new LongObjectMap<>(0, true);
+    }
+
+    /**
+     * Creates a mutable map with 1 entry.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1) {
+        LongObjectMap<V> map = new LongObjectMap<>(1, true);
+        map.putUnique(k1, v1);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 2 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1, long k2, V v2) {
+        LongObjectMap<V> map = new LongObjectMap<>(2, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 3 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1, long k2, V v2, long k3, V v3) {
+        LongObjectMap<V> map = new LongObjectMap<>(3, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 4 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4) {
+        LongObjectMap<V> map = new LongObjectMap<>(4, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 5 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5) {
+        LongObjectMap<V> map = new LongObjectMap<>(5, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 6 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6) {
+        LongObjectMap<V> map = new LongObjectMap<>(6, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 7 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7) {
+        LongObjectMap<V> map = new LongObjectMap<>(7, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 8 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7, long k8, V v8) {
+        LongObjectMap<V> map = new LongObjectMap<>(8, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 9 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7, long k8, V v8, long k9, V v9) {
+        LongObjectMap<V> map = new LongObjectMap<>(9, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 10 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7, long k8, V v8, long k9, V v9, long k10, V v10) {
+        LongObjectMap<V> map = new LongObjectMap<>(10, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 11 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7, long k8, V v8, long k9, V v9, long k10, V v10, long k11, V v11) {
+        LongObjectMap<V> map = new LongObjectMap<>(11, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 12 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @param k12 key for entry 12
+     * @param v12 value for entry 12
+     * @return A mutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> ofMutable(long k1, V v1, long k2, V v2, long k3, V v3, long k4, V v4, long k5, V v5, long k6, V v6, long k7, V v7, long k8, V v8, long k9, V v9, long k10, V v10, long k11, V v11, long k12, V v12) {
+        LongObjectMap<V> map = new LongObjectMap<>(12, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        map.putUnique(k12, v12);
+        return map;
+    }
+
+    /**
+     * Creates an immutable copy of the given map, unboxing its keys.
+     * <br>
+     * The values may be {@code null}.
+     * @param mapToCopy a non-null map to copy the entries from.
+     * @return An immutable map with the same entries.
+     * @param <V> value type
+     * @throws NullPointerException if any key is null.
+     * @since 1.0
+     */
+    public static <V> LongObjectMap<V> copyOf(Map<Long, ? extends V> mapToCopy) {
+        LongObjectMap<V> map = new LongObjectMap<>(mapToCopy.size(), false);
+        for (Map.Entry<Long, ? extends V> entry : mapToCopy.entrySet()) {
+            map.insert(entry.getKey(), entry.getValue());
+        }
+        return map;
+    }
+
+    /**
+     * Builds an immutable map from the first {@code size} keys and values, rejecting any repeated key.
+     * @param keys keys of each entry
+     * @param values values of each entry, at the same index as their key
+     * @param size number of entries
+     * @return An immutable map with the given entries.
+     * @param <V> value type
+     * @throws IllegalStateException if there are any duplicate keys
+     */
+    static <V> LongObjectMap<V> build(long[] keys, Object[] values, int size) {
+        LongObjectMap<V> map = new LongObjectMap<>(size, false);
+        for (int i = 0; i < size; ++i) {
+            if (map.insert(keys[i], values[i]) != NO_PREVIOUS) {
+                throw new IllegalStateException("Duplicate key mapping: " + keys[i]);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * @return the number of entries in this map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this map has no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return true if this map can be modified.
+     */
+    public boolean isMutable() {
+        return mutable;
+    }
+
+    /**
+     * Check if this map contains an entry for the key.
+     * @param key key to search for
+     * @return true if there is an entry for {@code key}, even if its value is {@code null}
+     */
+    public boolean containsKey(long key) {
+        if (key == 0) {
+            return containsZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Get the value for the key.
+     * @param key key to search for
+     * @return the value for {@code key}, or {@code null} if there is no entry
+     */
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Get the value for the key, or a default value if there is no entry.
+     * @param key key to search for
+     * @param defaultValue value to return if there is no entry for {@code key}
+     * @return the value for {@code key}, or {@code defaultValue} if there is no entry
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? (V) zeroValue : defaultValue;
+        }
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : defaultValue;
+    }
+
+    /**
+     * Associate the value with the key, replacing any previous value.
+     * @param key entry key
+     * @param value entry value, which may be {@code null}
+     * @return the previous value for {@code key}, or {@code null} if there was no entry
+     * @throws UnsupportedOperationException if this map is immutable
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        checkMutable();
+        Object previous = insert(key, value);
+        return previous == NO_PREVIOUS ? null : (V) previous;
+    }
+
+    /**
+     * Remove the entry for the key.
+     * @param key key of the entry to remove
+     * @return the previous value for {@code key}, or {@code null} if there was no entry
+     * @throws UnsupportedOperationException if this map is immutable
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        checkMutable();
+        if (key == 0) {
+            if (!containsZeroKey) {
+                return null;
+            }
+            Object previous = zeroValue;
+            containsZeroKey = false;
+            zeroValue = null;
+            --size;
+            return (V) previous;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object previous = values[index];
+        shiftKeys(index);
+        --size;
+        return (V) previous;
+    }
+
+    /**
+     * Remove all entries from this map, keeping its capacity.
+     * @throws UnsupportedOperationException if this map is immutable
+     */
+    public void clear() {
+        checkMutable();
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        containsZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    /**
+     * Perform an action for each entry, in no particular order.
+     * @param action action to perform
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        if (containsZeroKey) {
+            action.accept(0L, (V) zeroValue);
+        }
+        final long[] keys = this.keys;
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return a new array containing every key, in no particular order.
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int i = 0;
+        if (containsZeroKey) {
+            result[i++] = 0L;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Box every key into an immutable {@code Map<Long, V>}.
+     * @return an immutable map with the same entries, where values may be {@code null}.
+     */
+    public Map<Long, V> boxed() {
+        Map<Long, V> map = new HashMap<>(size + (size / 3) + 1);
+        forEach(map::put);
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Compares the entries of two maps, regardless of mutability.
+     * @param o object to compare to
+     * @return true if {@code o} is an {@code LongObjectMap} with equal values for the same keys.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongObjectMap)) return false;
+        LongObjectMap<?> other = (LongObjectMap<?>) o;
+        if (size != other.size || containsZeroKey != other.containsZeroKey) {
+            return false;
+        }
+        if (containsZeroKey && !Objects.equals(zeroValue, other.zeroValue)) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != 0) {
+                int index = other.indexOf(keys[i]);
+                if (index < 0 || !Objects.equals(values[i], other.values[index])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a hash code equal to the {@link Map#hashCode()} of the {@link #boxed()} entries.
+     */
+    @Override
+    public int hashCode() {
+        int hash = containsZeroKey ? Objects.hashCode(zeroValue) : 0;
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != 0) {
+                hash += Long.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner sj = new StringJoiner(", ", "{", "}");
+        forEach((key, value) -> sj.add(key + "=" + value));
+        return sj.toString();
+    }
+
+    /**
+     * Scramble the bits of a key, so that sequential keys are spread across the table.
+     */
+    private static int mix(long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        if (needed > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) Math.ceil(capacity * LOAD_FACTOR));
+    }
+
+    private void checkMutable() {
+        if (!mutable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Find the table index of a non-zero key.
+     * @return the index of {@code key}, or {@code -1} if there is no entry
+     */
+    private int indexOf(long key) {
+        final long[] keys = this.keys;
+        final int mask = this.mask;
+        int pos = mix(key) & mask;
+        long current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void putUnique(long key, V value) {
+        if (insert(key, value) != NO_PREVIOUS) {
+            throw new IllegalArgumentException("Duplicate key: \"" + key + "\" not allowed.");
+        }
+    }
+
+    /**
+     * Insert or replace an entry.
+     * @return the previous value, or {@link #NO_PREVIOUS} if there was no entry for {@code key}
+     */
+    private Object insert(long key, Object value) {
+        if (key == 0) {
+            Object previous = containsZeroKey ? zeroValue : NO_PREVIOUS;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                ++size;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        final long[] keys = this.keys;
+        int pos = mix(key) & mask;
+        long current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) {
+                Object previous = values[pos];
+                values[pos] = value;
+                return previous;
+            }
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = key;
+        values[pos] = value;
+        if (++size >= maxFill) {
+            rehash(keys.length << 1);
+        }
+        return NO_PREVIOUS;
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        final long[] keys = this.keys;
+        final Object[] values = this.values;
+        final int mask = this.mask;
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != 0) {
+                int pos = mix(oldKeys[i]) & mask;
+                while (keys[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Backward-shift deletion: closes the gap at {@code pos} by moving later entries of the
+     * probe run into it, so that lookups never need tombstones.
+     */
+    private void shiftKeys(int pos) {
+        final long[] keys = this.keys;
+        final Object[] values = this.values;
+        final int mask = this.mask;
+        int last;
+        int slot;
+        long current;
+        while (true) {
+            pos = ((last = pos) + 1) & mask;
+            while (true) {
+                if ((current = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    values[last] = null;
+                    return;
+                }
+                slot = mix(current) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[pos];
+        }
+    }
+}
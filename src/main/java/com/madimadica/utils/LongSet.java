@@ -0,0 +1,578 @@
+package com.madimadica.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A hash set of primitive {@code long} values, using open addressing with linear probing.
+ * <p>
+ *     Unlike a {@code Set<Long>}, the values are never boxed and there is no node per element,
+ *     every value is stored inline in a single {@code long[]} table. Iteration order is unspecified.
+ * </p>
+ * <p>
+ *     Sets created by {@link #of(long...)} and {@link #copyOf(Collection)} are immutable, and throw
+ *     {@link UnsupportedOperationException} on any modification. Sets created by {@link #ofMutable(long...)},
+ *     the constructors, or the set algebra methods such as {@link #union(LongSet, LongSet)} are mutable.
+ *     The set algebra mirrors the equivalent methods in {@link Sets}.
+ * </p>
+ * @see IntSet
+ * @see Sets
+ * @since 1.0
+ */
+public final class LongSet {
+
+    /**
+     * Maximum ratio of occupied table slots before the table is doubled.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MIN_CAPACITY = 4;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Hash table of values, where {@code 0} marks a free slot.
+     * The value {@code 0} itself is tracked by {@link #containsZero}.
+     */
+    private long[] table;
+    private boolean containsZero;
+    private int size;
+    private int mask;
+    private int maxFill;
+    private final boolean mutable;
+
+    /**
+     * Create an empty, mutable set.
+     */
+    public LongSet() {
+        this(0);
+    }
+
+    /**
+     * Create an empty, mutable set, which can hold {@code expectedSize} elements before resizing.
+     * @param expectedSize number of elements expected to be added
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public LongSet(int expectedSize) {
+        this(expectedSize, true);
+    }
+
+    /**
+     * Create a mutable copy of another set.
+     * @param other set to copy
+     */
+    public LongSet(LongSet other) {
+        this(other, true);
+    }
+
+    private LongSet(int expectedSize, boolean mutable) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+        }
+        this.mutable = mutable;
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    private LongSet(LongSet other, boolean mutable) {
+        this.table = other.table.clone();
+        this.containsZero = other.containsZero;
+        this.size = other.size;
+        this.mask = other.mask;
+        this.maxFill = other.maxFill;
+        this.mutable = mutable;
+    }
+
+    /**
+     * Returns an immutable set containing the given values. Duplicate values are ignored.
+     * @param values values of the set
+     * @return an immutable set containing the values.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     * @since 1.0
+     */
+    public static LongSet of(long... values) {
+        LongSet set = new LongSet(values.length, false);
+        set.insertAll(values);
+        return set;
+    }
+
+    /**
+     * Returns a mutable set containing the given values. Duplicate values are ignored.
+     * @param values initial values of the set
+     * @return a mutable set containing the values.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     * @since 1.0
+     */
+    public static LongSet ofMutable(long... values) {
+        LongSet set = new LongSet(values.length, true);
+        set.insertAll(values);
+        return set;
+    }
+
+    /**
+     * Returns an immutable set containing the unboxed elements of the collection.
+     * @param collection collection to copy elements from.
+     * @return an immutable set of the unboxed elements.
+     * @throws NullPointerException if {@code collection} or any of its elements is {@code null}.
+     * @since 1.0
+     */
+    public static LongSet copyOf(Collection<? extends Long> collection) {
+        LongSet set = new LongSet(collection.size(), false);
+        for (Long value : collection) {
+            set.insert(value);
+        }
+        return set;
+    }
+
+    /**
+     * @return the number of elements in this set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this set has no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return true if this set can be modified.
+     */
+    public boolean isMutable() {
+        return mutable;
+    }
+
+    /**
+     * Check if this set contains the value.
+     * @param value value to search for
+     * @return true if {@code value} is in this set
+     */
+    public boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        final long[] table = this.table;
+        final int mask = this.mask;
+        int pos = mix(value) & mask;
+        long current;
+        while ((current = table[pos]) != 0) {
+            if (current == value) {
+                return true;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Add a value to this set.
+     * @param value value to add
+     * @return true if this set did not already contain {@code value}
+     * @throws UnsupportedOperationException if this set is immutable
+     */
+    public boolean add(long value) {
+        checkMutable();
+        return insert(value);
+    }
+
+    /**
+     * Add all the values to this set.
+     * @param values values to add
+     * @throws UnsupportedOperationException if this set is immutable
+     */
+    public void addAll(long... values) {
+        checkMutable();
+        insertAll(values);
+    }
+
+    /**
+     * Add all the values of another set to this set.
+     * @param other set of values to add
+     * @throws UnsupportedOperationException if this set is immutable
+     */
+    public void addAll(LongSet other) {
+        checkMutable();
+        insertAll(other);
+    }
+
+    /**
+     * Remove a value from this set.
+     * @param value value to remove
+     * @return true if this set contained {@code value}
+     * @throws UnsupportedOperationException if this set is immutable
+     */
+    public boolean remove(long value) {
+        checkMutable();
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            --size;
+            return true;
+        }
+        final long[] table = this.table;
+        int pos = mix(value) & mask;
+        long current;
+        while ((current = table[pos]) != 0) {
+            if (current == value) {
+                shiftKeys(pos);
+                --size;
+                return true;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Remove all elements from this set, keeping its capacity.
+     * @throws UnsupportedOperationException if this set is immutable
+     */
+    public void clear() {
+        checkMutable();
+        Arrays.fill(table, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Perform an action for each element, in no particular order.
+     * @param action action to perform
+     */
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (long value : table) {
+            if (value != 0) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * @return a new array containing every element, in no particular order.
+     */
+    public long[] toArray() {
+        long[] values = new long[size];
+        int i = 0;
+        if (containsZero) {
+            values[i++] = 0;
+        }
+        for (long value : table) {
+            if (value != 0) {
+                values[i++] = value;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @return a sequential stream of the elements, in no particular order.
+     */
+    public LongStream stream() {
+        return Arrays.stream(toArray());
+    }
+
+    /**
+     * Box every element into an immutable {@code Set<Long>}.
+     * @return an immutable set of the boxed elements.
+     */
+    public Set<Long> boxed() {
+        Long[] boxed = new Long[size];
+        int i = 0;
+        if (containsZero) {
+            boxed[i++] = 0L;
+        }
+        for (long value : table) {
+            if (value != 0) {
+                boxed[i++] = value;
+            }
+        }
+        return Set.of(boxed);
+    }
+
+    /**
+     * Compares the elements of two sets, regardless of mutability.
+     * @param o object to compare to
+     * @return true if {@code o} is an {@code LongSet} with the same elements.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongSet)) return false;
+        LongSet other = (LongSet) o;
+        if (size != other.size || containsZero != other.containsZero) {
+            return false;
+        }
+        for (long value : table) {
+            if (value != 0 && !other.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a hash code equal to the {@link Set#hashCode()} of the {@link #boxed()} elements.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (long value : table) {
+            hash += Long.hashCode(value);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+        forEach(value -> sj.add(String.valueOf(value)));
+        return sj.toString();
+    }
+
+    /**
+     * Compute the union of two sets
+     * @param setA set A
+     * @param setB set B
+     * @return a new, mutable set, consisting of all the elements in set A and set B.
+     * @see Sets#union(Set, Set)
+     * @since 1.0
+     */
+    public static LongSet union(LongSet setA, LongSet setB) {
+        LongSet larger = setA.size >= setB.size ? setA : setB;
+        LongSet smaller = larger == setA ? setB : setA;
+        LongSet union = new LongSet(larger.size + smaller.size, true);
+        union.insertAll(larger);
+        union.insertAll(smaller);
+        return union;
+    }
+
+    /**
+     * Compute the union of two or more sets
+     * @param sets sets to union
+     * @return a new, mutable set, consisting of all the elements in all the sets.
+     * @see Sets#union(Set[])
+     * @since 1.0
+     */
+    public static LongSet union(LongSet... sets) {
+        int largest = 0;
+        for (LongSet set : sets) {
+            largest = Math.max(largest, set.size);
+        }
+        LongSet union = new LongSet(largest, true);
+        for (LongSet set : sets) {
+            union.insertAll(set);
+        }
+        return union;
+    }
+
+    /**
+     * Compute the intersection of two sets
+     * @param setA set A
+     * @param setB set B
+     * @return a new, mutable set, consisting of only the elements in both sets.
+     * @see Sets#intersection(Set, Set)
+     * @since 1.0
+     */
+    public static LongSet intersection(LongSet setA, LongSet setB) {
+        LongSet smaller = setA.size <= setB.size ? setA : setB;
+        LongSet larger = smaller == setA ? setB : setA;
+        LongSet intersection = new LongSet(smaller.size, true);
+        if (smaller.containsZero && larger.containsZero) {
+            intersection.insert(0);
+        }
+        for (long value : smaller.table) {
+            if (value != 0 && larger.contains(value)) {
+                intersection.insert(value);
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Compute the intersection of two or more sets
+     * @param sets sets to intersect
+     * @return a new, mutable set, consisting of only the elements in every set.
+     * @see Sets#intersection(Set[])
+     * @since 1.0
+     */
+    public static LongSet intersection(LongSet... sets) {
+        if (sets.length == 0) {
+            return new LongSet();
+        } else if (sets.length == 1) {
+            return new LongSet(sets[0], true);
+        }
+        LongSet intersection = intersection(sets[0], sets[1]);
+        for (int i = 2; i < sets.length && !intersection.isEmpty(); ++i) {
+            intersection = intersection(intersection, sets[i]);
+        }
+        return intersection;
+    }
+
+    /**
+     * Compute the asymmetric difference of two sets. That is, <code>A - B</code>
+     * @param setA set A
+     * @param setB set B
+     * @return a new, mutable set, consisting of the elements in set A and not in set B.
+     * @see Sets#difference(Set, Set)
+     * @since 1.0
+     */
+    public static LongSet difference(LongSet setA, LongSet setB) {
+        LongSet difference = new LongSet(setA.size, true);
+        if (setA.containsZero && !setB.containsZero) {
+            difference.insert(0);
+        }
+        for (long value : setA.table) {
+            if (value != 0 && !setB.contains(value)) {
+                difference.insert(value);
+            }
+        }
+        return difference;
+    }
+
+    /**
+     * Compute the symmetric difference of two sets.
+     * @param setA set A
+     * @param setB set B
+     * @return a new, mutable set, consisting of the elements that appear in only 1 set.
+     * @see Sets#symmetricDifference(Set, Set)
+     * @since 1.0
+     */
+    public static LongSet symmetricDifference(LongSet setA, LongSet setB) {
+        LongSet result = new LongSet(setA.size + setB.size, true);
+        if (setA.containsZero != setB.containsZero) {
+            result.insert(0);
+        }
+        for (long value : setA.table) {
+            if (value != 0 && !setB.contains(value)) {
+                result.insert(value);
+            }
+        }
+        for (long value : setB.table) {
+            if (value != 0 && !setA.contains(value)) {
+                result.insert(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Scramble the bits of a value, so that sequential values are spread across the table.
+     */
+    private static int mix(long value) {
+        final long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        if (needed > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) Math.ceil(capacity * LOAD_FACTOR));
+    }
+
+    private void checkMutable() {
+        if (!mutable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private void insertAll(LongSet other) {
+        if (other.containsZero) {
+            insert(0);
+        }
+        for (long value : other.table) {
+            if (value != 0) {
+                insert(value);
+            }
+        }
+    }
+
+    private void insertAll(long[] values) {
+        for (long value : values) {
+            insert(value);
+        }
+    }
+
+    private boolean insert(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            ++size;
+            return true;
+        }
+        final long[] table = this.table;
+        int pos = mix(value) & mask;
+        long current;
+        while ((current = table[pos]) != 0) {
+            if (current == value) {
+                return false;
+            }
+            pos = (pos + 1) & mask;
+        }
+        table[pos] = value;
+        if (++size >= maxFill) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    private void rehash(int capacity) {
+        final long[] old = table;
+        allocate(capacity);
+        final long[] table = this.table;
+        final int mask = this.mask;
+        for (long value : old) {
+            if (value != 0) {
+                int pos = mix(value) & mask;
+                while (table[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+                table[pos] = value;
+            }
+        }
+    }
+
+    /**
+     * Backward-shift deletion: closes the gap at {@code pos} by moving later entries of the
+     * probe run into it, so that lookups never need tombstones.
+     */
+    private void shiftKeys(int pos) {
+        final long[] table = this.table;
+        final int mask = this.mask;
+        int last;
+        int slot;
+        long current;
+        while (true) {
+            pos = ((last = pos) + 1) & mask;
+            while (true) {
+                if ((current = table[pos]) == 0) {
+                    table[last] = 0;
+                    return;
+                }
+                slot = mix(current) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            table[last] = current;
+        }
+    }
+}
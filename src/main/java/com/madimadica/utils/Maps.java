@@ -1,6 +1,5 @@
 package com.madimadica.utils;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -33,9 +32,7 @@ public abstract class Maps {
         if (k1 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(1);
-        map.put(k1, v1);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1}, 1, false);
     }
 
     /**
@@ -56,10 +53,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(2);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2}, 2, false);
     }
 
     /**
@@ -82,11 +76,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(3);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3}, 3, false);
     }
 
     /**
@@ -111,12 +101,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(4);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4}, 4, false);
     }
 
     /**
@@ -143,13 +128,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(5);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5}, 5, false);
     }
 
     /**
@@ -178,14 +157,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(6);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6}, 6, false);
     }
 
     /**
@@ -216,15 +188,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(7);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7}, 7, false);
     }
 
     /**
@@ -257,16 +221,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null || k8 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(8);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8}, 8, false);
     }
 
     /**
@@ -301,17 +256,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null || k8 == null || k9 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(9);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9}, 9, false);
     }
 
     /**
@@ -348,18 +293,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null || k8 == null || k9 == null || k10 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(10);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        map.put(k10, v10);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10}, 10, false);
     }
 
     /**
@@ -398,19 +332,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null || k8 == null || k9 == null || k10 == null || k11 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(11);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        map.put(k10, v10);
-        map.put(k11, v11);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10, k11, v11}, 11, false);
     }
 
     /**
@@ -451,20 +373,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null || k8 == null || k9 == null || k10 == null || k11 == null || k12 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new HashMap<>(12);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        map.put(k10, v10);
-        map.put(k11, v11);
-        map.put(k12, v12);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10, k11, v11, k12, v12}, 12, false);
     }
 
     /**
@@ -933,9 +842,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(1);
-        map.put(k1, v1);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1}, 1, false);
     }
 
     /**
@@ -956,10 +863,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null || k2 == null || v2 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(2);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2}, 2, false);
     }
 
     /**
@@ -982,11 +886,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null || k2 == null || v2 == null || k3 == null || v3 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(3);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3}, 3, false);
     }
 
     /**
@@ -1011,12 +911,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null || k2 == null || v2 == null || k3 == null || v3 == null || k4 == null || v4 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(4);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4}, 4, false);
     }
 
     /**
@@ -1043,13 +938,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null || k2 == null || v2 == null || k3 == null || v3 == null || k4 == null || v4 == null || k5 == null || v5 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(5);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5}, 5, false);
     }
 
     /**
@@ -1078,14 +967,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null || k2 == null || v2 == null || k3 == null || v3 == null || k4 == null || v4 == null || k5 == null || v5 == null || k6 == null || v6 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(6);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6}, 6, false);
     }
 
     /**
@@ -1116,15 +998,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null || k2 == null || v2 == null || k3 == null || v3 == null || k4 == null || v4 == null || k5 == null || v5 == null || k6 == null || v6 == null || k7 == null || v7 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(7);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7}, 7, false);
     }
 
     /**
@@ -1157,16 +1031,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null || k2 == null || v2 == null || k3 == null || v3 == null || k4 == null || v4 == null || k5 == null || v5 == null || k6 == null || v6 == null || k7 == null || v7 == null || k8 == null || v8 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(8);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8}, 8, false);
     }
 
     /**
@@ -1201,17 +1066,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null || k2 == null || v2 == null || k3 == null || v3 == null || k4 == null || v4 == null || k5 == null || v5 == null || k6 == null || v6 == null || k7 == null || v7 == null || k8 == null || v8 == null || k9 == null || v9 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(9);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9}, 9, false);
     }
 
     /**
@@ -1248,18 +1103,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null || k2 == null || v2 == null || k3 == null || v3 == null || k4 == null || v4 == null || k5 == null || v5 == null || k6 == null || v6 == null || k7 == null || v7 == null || k8 == null || v8 == null || k9 == null || v9 == null || k10 == null || v10 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(10);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        map.put(k10, v10);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10}, 10, false);
     }
 
     /**
@@ -1298,19 +1142,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null || k2 == null || v2 == null || k3 == null || v3 == null || k4 == null || v4 == null || k5 == null || v5 == null || k6 == null || v6 == null || k7 == null || v7 == null || k8 == null || v8 == null || k9 == null || v9 == null || k10 == null || v10 == null || k11 == null || v11 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(11);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        map.put(k10, v10);
-        map.put(k11, v11);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10, k11, v11}, 11, false);
     }
 
     /**
@@ -1351,20 +1183,7 @@ public abstract class Maps {
         if (k1 == null || v1 == null || k2 == null || v2 == null || k3 == null || v3 == null || k4 == null || v4 == null || k5 == null || v5 == null || k6 == null || v6 == null || k7 == null || v7 == null || k8 == null || v8 == null || k9 == null || v9 == null || k10 == null || v10 == null || k11 == null || v11 == null || k12 == null || v12 == null) {
             throw new NullPointerException("Map keys and values cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(12);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        map.put(k10, v10);
-        map.put(k11, v11);
-        map.put(k12, v12);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10, k11, v11, k12, v12}, 12, false);
     }
 
     /**
@@ -1383,9 +1202,7 @@ public abstract class Maps {
         if (k1 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(1);
-        map.put(k1, v1);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1}, 1, false);
     }
 
     /**
@@ -1406,10 +1223,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(2);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2}, 2, false);
     }
 
     /**
@@ -1432,11 +1246,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(3);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3}, 3, false);
     }
 
     /**
@@ -1461,12 +1271,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(4);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4}, 4, false);
     }
 
     /**
@@ -1493,13 +1298,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(5);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5}, 5, false);
     }
 
     /**
@@ -1528,14 +1327,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(6);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6}, 6, false);
     }
 
     /**
@@ -1566,15 +1358,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(7);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7}, 7, false);
     }
 
     /**
@@ -1607,16 +1391,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null || k8 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(8);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8}, 8, false);
     }
 
     /**
@@ -1651,17 +1426,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null || k8 == null || k9 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(9);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9}, 9, false);
     }
 
     /**
@@ -1698,18 +1463,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null || k8 == null || k9 == null || k10 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(10);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        map.put(k10, v10);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10}, 10, false);
     }
 
     /**
@@ -1748,19 +1502,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null || k8 == null || k9 == null || k10 == null || k11 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(11);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        map.put(k10, v10);
-        map.put(k11, v11);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10, k11, v11}, 11, false);
     }
 
     /**
@@ -1801,20 +1543,7 @@ public abstract class Maps {
         if (k1 == null || k2 == null || k3 == null || k4 == null || k5 == null || k6 == null || k7 == null || k8 == null || k9 == null || k10 == null || k11 == null || k12 == null) {
             throw new NullPointerException("Map keys cannot be null");
         }
-        Map<K, V> map = new LinkedHashMap<>(12);
-        map.put(k1, v1);
-        map.put(k2, v2);
-        map.put(k3, v3);
-        map.put(k4, v4);
-        map.put(k5, v5);
-        map.put(k6, v6);
-        map.put(k7, v7);
-        map.put(k8, v8);
-        map.put(k9, v9);
-        map.put(k10, v10);
-        map.put(k11, v11);
-        map.put(k12, v12);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(new Object[] {k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10, k11, v11, k12, v12}, 12, false);
     }
 
     /**
@@ -2285,18 +2014,12 @@ public abstract class Maps {
     @SafeVarargs
     public static <K, V> Map<K, V> ofNullableEntries(Map.Entry<? extends K, ? extends V>... entries) {
         Objects.requireNonNull(entries);
-        Map<K, V> map = new HashMap<>(entries.length);
-        List<Map.Entry<? extends K, ? extends V>> entryList = List.of(entries);
-        int prevSize = 0;
-        for (Map.Entry<? extends K, ? extends V> entry : entryList) {
-            K key = Objects.requireNonNull(entry.getKey());
-            V value = entry.getValue();
-            map.put(key, value);
-            if (map.size() != ++prevSize) {
-                throw new IllegalArgumentException("Duplicate key: \"" + key + "\" not allowed.");
-            }
+        Object[] pairs = new Object[2 * entries.length];
+        for (int i = 0; i < entries.length; ++i) {
+            pairs[2 * i] = Objects.requireNonNull(entries[i].getKey());
+            pairs[2 * i + 1] = entries[i].getValue();
         }
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(pairs, entries.length, true);
     }
 
     /**
@@ -2349,18 +2072,12 @@ public abstract class Maps {
     @SafeVarargs
     public static <K, V> Map<K, V> ofOrderedEntries(Map.Entry<? extends K, ? extends V>... entries) {
         Objects.requireNonNull(entries);
-        Map<K, V> map = new LinkedHashMap<>(entries.length);
-        List<Map.Entry<? extends K, ? extends V>> entryList = List.of(entries);
-        int prevSize = 0;
-        for (Map.Entry<? extends K, ? extends V> entry : entryList) {
-            K key = Objects.requireNonNull(entry.getKey());
-            V value = Objects.requireNonNull(entry.getValue());
-            map.put(key, value);
-            if (map.size() != ++prevSize) {
-                throw new IllegalArgumentException("Duplicate key: \"" + key + "\" not allowed.");
-            }
+        Object[] pairs = new Object[2 * entries.length];
+        for (int i = 0; i < entries.length; ++i) {
+            pairs[2 * i] = Objects.requireNonNull(entries[i].getKey());
+            pairs[2 * i + 1] = Objects.requireNonNull(entries[i].getValue());
         }
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(pairs, entries.length, true);
     }
 
     /**
@@ -2381,18 +2098,12 @@ public abstract class Maps {
     @SafeVarargs
     public static <K, V> Map<K, V> ofOrderedNullableEntries(Map.Entry<? extends K, ? extends V>... entries) {
         Objects.requireNonNull(entries);
-        Map<K, V> map = new LinkedHashMap<>(entries.length);
-        List<Map.Entry<? extends K, ? extends V>> entryList = List.of(entries);
-        int prevSize = 0;
-        for (Map.Entry<? extends K, ? extends V> entry : entryList) {
-            K key = Objects.requireNonNull(entry.getKey());
-            V value = entry.getValue();
-            map.put(key, value);
-            if (map.size() != ++prevSize) {
-                throw new IllegalArgumentException("Duplicate key: \"" + key + "\" not allowed.");
-            }
+        Object[] pairs = new Object[2 * entries.length];
+        for (int i = 0; i < entries.length; ++i) {
+            pairs[2 * i] = Objects.requireNonNull(entries[i].getKey());
+            pairs[2 * i + 1] = entries[i].getValue();
         }
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.fromPairs(pairs, entries.length, true);
     }
 
     /**
@@ -2441,8 +2152,7 @@ public abstract class Maps {
         if (mapToCopy.containsKey(null)) {
            throw new NullPointerException("Map may not contain null keys");
         }
-        Map<K, V> map = new HashMap<>(mapToCopy);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.copyOf(mapToCopy);
     }
 
     /**
@@ -2462,8 +2172,7 @@ public abstract class Maps {
         if (mapToCopy.containsValue(null)) {
            throw new NullPointerException("Map may not contain null values");
         }
-        Map<K, V> map = new LinkedHashMap<>(mapToCopy);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.copyOf(mapToCopy);
     }
 
     /**
@@ -2480,8 +2189,7 @@ public abstract class Maps {
         if (mapToCopy.containsKey(null)) {
            throw new NullPointerException("Map may not contain null keys");
         }
-        Map<K, V> map = new LinkedHashMap<>(mapToCopy);
-        return Collections.unmodifiableMap(map);
+        return ImmutableArrayMap.copyOf(mapToCopy);
     }
 
 
@@ -45,7 +45,9 @@ public class MathUtils {
     }
 
     /**
-     * Find the minimum of the given elements
+     * Find the minimum of the given elements.
+     * {@code NaN} elements are ignored, unless the first element is {@code NaN}, which is then returned.
+     * Of several zeros, the first one is returned.
      * @param array arguments
      * @return the minimum
      * @throws IllegalArgumentException if length is 0
@@ -66,7 +68,9 @@ public class MathUtils {
     }
 
     /**
-     * Find the minimum of the given elements
+     * Find the minimum of the given elements.
+     * {@code NaN} elements are ignored, unless the first element is {@code NaN}, which is then returned.
+     * Of several zeros, the first one is returned.
      * @param array arguments
      * @return the minimum
      * @throws IllegalArgumentException if length is 0
@@ -129,7 +133,9 @@ public class MathUtils {
     }
 
     /**
-     * Find the maximum of the given elements
+     * Find the maximum of the given elements.
+     * {@code NaN} elements are ignored, unless the first element is {@code NaN}, which is then returned.
+     * Of several zeros, the first one is returned.
      * @param array arguments
      * @return the maximum
      * @throws IllegalArgumentException if length is 0
@@ -150,7 +156,9 @@ public class MathUtils {
     }
 
     /**
-     * Find the maximum of the given elements
+     * Find the maximum of the given elements.
+     * {@code NaN} elements are ignored, unless the first element is {@code NaN}, which is then returned.
+     * Of several zeros, the first one is returned.
      * @param array arguments
      * @return the maximum
      * @throws IllegalArgumentException if length is 0
@@ -200,6 +208,7 @@ public class MathUtils {
 
     /**
      * Find the sum of the given elements.
+     * The elements are added in order, as floating point addition is not associative.
      * @param args arguments
      * @return the sum of all elements
      */
@@ -213,6 +222,7 @@ public class MathUtils {
 
     /**
      * Find the sum of the given elements.
+     * The elements are added in order, as floating point addition is not associative.
      * @param args arguments
      * @return the sum of all elements
      */
@@ -234,11 +244,8 @@ public class MathUtils {
         if (args.length == 0) {
             throw new IllegalArgumentException("Array arg must have at least 1 element");
         }
-        double total = 0;
-        for (int x : args) {
-            total += x;
-        }
-        return total / args.length;
+        // The long sum of ints is exact and vectorizes, unlike a chain of dependent double additions
+        return (double) sum(args) / args.length;
     }
 
     /**
@@ -358,43 +365,43 @@ public class MathUtils {
         return (Math.abs(a) / gcd(a, b)) * Math.abs(b);
     }
 
+    /**
+     * Number of elements the variance computations read per block,
+     * few enough for a block to still be cached when it is read a second time.
+     */
+    private static final int VARIANCE_BLOCK = 1024;
+
     /**
      * Compute the population variance
      * @param args population
      * @return population variance
+     * @throws IllegalArgumentException if length is 0
      */
     public static double variance(int... args) {
-        double xbar = average(args);
-        double deltas = 0;
-        for (int xi : args) {
-            double diff = (xi - xbar);
-            deltas += (diff * diff);
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Array arg must have at least 1 element");
         }
-        return deltas / args.length;
+        return sumOfSquaredDeviations(args) / args.length;
     }
 
     /**
      * Compute the sample variance
      * @param args samples
      * @return sample variance
+     * @throws IllegalArgumentException if length is less than 2
      */
     public static double sampleVariance(int... args) {
         if (args.length <= 1) {
             throw new IllegalArgumentException("Must have at least 2 samples");
         }
-        double ybar = average(args);
-        double deltas = 0;
-        for (int yi : args) {
-            double diff = (yi - ybar);
-            deltas += (diff * diff);
-        }
-        return deltas / (args.length - 1);
+        return sumOfSquaredDeviations(args) / (args.length - 1);
     }
 
     /**
      * Compute the population standard deviation
      * @param args population
      * @return population standard deviation
+     * @throws IllegalArgumentException if length is 0
      */
     public static double stdDev(int... args) {
         return Math.sqrt(variance(args));
@@ -404,48 +411,72 @@ public class MathUtils {
      * Compute the sample standard deviation
      * @param args sample
      * @return sample standard deviation
+     * @throws IllegalArgumentException if length is less than 2
      */
     public static double sampleStdDev(int... args) {
         return Math.sqrt(sampleVariance(args));
     }
 
+    /**
+     * Compute the sum of the squared deviations from the mean, reading each element from memory once.
+     * Each block is summed, then re-read from cache to sum its squared deviations from its own mean,
+     * and the blocks are combined with the pairwise update of Chan, Golub and LeVeque.
+     */
+    private static double sumOfSquaredDeviations(int[] args) {
+        final int len = args.length;
+        double mean = 0;
+        double m2 = 0;
+        for (int from = 0; from < len; from += VARIANCE_BLOCK) {
+            final int to = Math.min(len, from + VARIANCE_BLOCK);
+            long blockSum = 0;
+            for (int i = from; i < to; ++i) {
+                blockSum += args[i];
+            }
+            final int blockCount = to - from;
+            final double blockMean = (double) blockSum / blockCount;
+            double blockM2 = 0;
+            for (int i = from; i < to; ++i) {
+                double diff = args[i] - blockMean;
+                blockM2 += diff * diff;
+            }
+            final double delta = blockMean - mean;
+            mean += delta * blockCount / to;
+            m2 += blockM2 + delta * delta * ((double) from * blockCount / to);
+        }
+        return m2;
+    }
+
     /**
      * Compute the population variance
      * @param args population
      * @return population variance
+     * @throws IllegalArgumentException if length is 0
      */
     public static double variance(long... args) {
-        double xbar = average(args);
-        double deltas = 0;
-        for (long xi : args) {
-            double diff = (xi - xbar);
-            deltas += (diff * diff);
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Array arg must have at least 1 element");
         }
-        return deltas / args.length;
+        return sumOfSquaredDeviations(args) / args.length;
     }
 
     /**
      * Compute the sample variance
      * @param args samples
      * @return sample variance
+     * @throws IllegalArgumentException if length is less than 2
      */
     public static double sampleVariance(long... args) {
         if (args.length <= 1) {
             throw new IllegalArgumentException("Must have at least 2 samples");
         }
-        double ybar = average(args);
-        double deltas = 0;
-        for (long yi : args) {
-            double diff = (yi - ybar);
-            deltas += (diff * diff);
-        }
-        return deltas / (args.length - 1);
+        return sumOfSquaredDeviations(args) / (args.length - 1);
     }
 
     /**
      * Compute the population standard deviation
      * @param args population
      * @return population standard deviation
+     * @throws IllegalArgumentException if length is 0
      */
     public static double stdDev(long... args) {
         return Math.sqrt(variance(args));
@@ -455,48 +486,72 @@ public class MathUtils {
      * Compute the sample standard deviation
      * @param args sample
      * @return sample standard deviation
+     * @throws IllegalArgumentException if length is less than 2
      */
     public static double sampleStdDev(long... args) {
         return Math.sqrt(sampleVariance(args));
     }
 
+    /**
+     * Compute the sum of the squared deviations from the mean, reading each element from memory once.
+     * Each block is summed, then re-read from cache to sum its squared deviations from its own mean,
+     * and the blocks are combined with the pairwise update of Chan, Golub and LeVeque.
+     */
+    private static double sumOfSquaredDeviations(long[] args) {
+        final int len = args.length;
+        double mean = 0;
+        double m2 = 0;
+        for (int from = 0; from < len; from += VARIANCE_BLOCK) {
+            final int to = Math.min(len, from + VARIANCE_BLOCK);
+            double blockSum = 0;
+            for (int i = from; i < to; ++i) {
+                blockSum += args[i];
+            }
+            final int blockCount = to - from;
+            final double blockMean = blockSum / blockCount;
+            double blockM2 = 0;
+            for (int i = from; i < to; ++i) {
+                double diff = args[i] - blockMean;
+                blockM2 += diff * diff;
+            }
+            final double delta = blockMean - mean;
+            mean += delta * blockCount / to;
+            m2 += blockM2 + delta * delta * ((double) from * blockCount / to);
+        }
+        return m2;
+    }
+
     /**
      * Compute the population variance
      * @param args population
      * @return population variance
+     * @throws IllegalArgumentException if length is 0
      */
     public static double variance(float... args) {
-        double xbar = average(args);
-        double deltas = 0;
-        for (float xi : args) {
-            double diff = (xi - xbar);
-            deltas += (diff * diff);
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Array arg must have at least 1 element");
         }
-        return deltas / args.length;
+        return sumOfSquaredDeviations(args) / args.length;
     }
-    
+
     /**
      * Compute the sample variance
      * @param args samples
      * @return sample variance
+     * @throws IllegalArgumentException if length is less than 2
      */
     public static double sampleVariance(float... args) {
         if (args.length <= 1) {
             throw new IllegalArgumentException("Must have at least 2 samples");
         }
-        double ybar = average(args);
-        double deltas = 0;
-        for (float yi : args) {
-            double diff = (yi - ybar);
-            deltas += (diff * diff);
-        }
-        return deltas / (args.length - 1);
+        return sumOfSquaredDeviations(args) / (args.length - 1);
     }
 
     /**
      * Compute the population standard deviation
      * @param args population
      * @return population standard deviation
+     * @throws IllegalArgumentException if length is 0
      */
     public static double stdDev(float... args) {
         return Math.sqrt(variance(args));
@@ -506,60 +561,163 @@ public class MathUtils {
      * Compute the sample standard deviation
      * @param args sample
      * @return sample standard deviation
+     * @throws IllegalArgumentException if length is less than 2
      */
     public static double sampleStdDev(float... args) {
         return Math.sqrt(sampleVariance(args));
     }
 
+    /**
+     * Compute the sum of the squared deviations from the mean, reading each element from memory once.
+     * Each block is summed, then re-read from cache to sum its squared deviations from its own mean,
+     * and the blocks are combined with the pairwise update of Chan, Golub and LeVeque.
+     */
+    private static double sumOfSquaredDeviations(float[] args) {
+        final int len = args.length;
+        double mean = 0;
+        double m2 = 0;
+        for (int from = 0; from < len; from += VARIANCE_BLOCK) {
+            final int to = Math.min(len, from + VARIANCE_BLOCK);
+            double blockSum = 0;
+            for (int i = from; i < to; ++i) {
+                blockSum += args[i];
+            }
+            final int blockCount = to - from;
+            final double blockMean = blockSum / blockCount;
+            double blockM2 = 0;
+            for (int i = from; i < to; ++i) {
+                double diff = args[i] - blockMean;
+                blockM2 += diff * diff;
+            }
+            final double delta = blockMean - mean;
+            mean += delta * blockCount / to;
+            m2 += blockM2 + delta * delta * ((double) from * blockCount / to);
+        }
+        return m2;
+    }
+
     /**
      * Compute the population variance
      * @param args population
      * @return population variance
+     * @throws IllegalArgumentException if length is 0
      */
     public static double variance(double... args) {
-        double xbar = average(args);
-        double deltas = 0;
-        for (double xi : args) {
-            double diff = (xi - xbar);
-            deltas += (diff * diff);
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Array arg must have at least 1 element");
         }
-        return deltas / args.length;
+        return sumOfSquaredDeviations(args) / args.length;
     }
 
     /**
      * Compute the sample variance
      * @param args samples
      * @return sample variance
+     * @throws IllegalArgumentException if length is less than 2
      */
     public static double sampleVariance(double... args) {
         if (args.length <= 1) {
             throw new IllegalArgumentException("Must have at least 2 samples");
         }
-        double ybar = average(args);
-        double deltas = 0;
-        for (double yi : args) {
-            double diff = (yi - ybar);
-            deltas += (diff * diff);
-        }
-        return deltas / (args.length - 1);
+        return sumOfSquaredDeviations(args) / (args.length - 1);
     }
 
     /**
      * Compute the population standard deviation
      * @param args population
      * @return population standard deviation
+     * @throws IllegalArgumentException if length is 0
      */
     public static double stdDev(double... args) {
         return Math.sqrt(variance(args));
     }
-    
+
     /**
      * Compute the sample standard deviation
      * @param args sample
      * @return sample standard deviation
+     * @throws IllegalArgumentException if length is less than 2
      */
     public static double sampleStdDev(double... args) {
         return Math.sqrt(sampleVariance(args));
     }
 
+    /**
+     * Compute the sum of the squared deviations from the mean, reading each element from memory once.
+     * Each block is summed, then re-read from cache to sum its squared deviations from its own mean,
+     * and the blocks are combined with the pairwise update of Chan, Golub and LeVeque.
+     */
+    private static double sumOfSquaredDeviations(double[] args) {
+        final int len = args.length;
+        double mean = 0;
+        double m2 = 0;
+        for (int from = 0; from < len; from += VARIANCE_BLOCK) {
+            final int to = Math.min(len, from + VARIANCE_BLOCK);
+            double blockSum = 0;
+            for (int i = from; i < to; ++i) {
+                blockSum += args[i];
+            }
+            final int blockCount = to - from;
+            final double blockMean = blockSum / blockCount;
+            double blockM2 = 0;
+            for (int i = from; i < to; ++i) {
+                double diff = args[i] - blockMean;
+                blockM2 += diff * diff;
+            }
+            final double delta = blockMean - mean;
+            mean += delta * blockCount / to;
+            m2 += blockM2 + delta * delta * ((double) from * blockCount / to);
+        }
+        return m2;
+    }
+
+    /**
+     * Compute the minimum, maximum, sum, mean and variance of the given elements, reading each element once.
+     * <p>
+     *     The minimum, maximum and sum are the same as from {@link #min(double...)}, {@link #max(double...)}
+     *     and {@link #sum(double...)}, and the variances are the same as from {@link #variance(double...)}
+     *     and {@link #sampleVariance(double...)}.
+     * </p>
+     * @param args arguments
+     * @return the statistics of all elements
+     * @throws IllegalArgumentException if length is 0
+     */
+    public static Statistics summarize(double... args) {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Array arg must have at least 1 element");
+        }
+        final int len = args.length;
+        double min = args[0];
+        double max = args[0];
+        double total = 0;
+        double mean = 0;
+        double m2 = 0;
+        for (int from = 0; from < len; from += VARIANCE_BLOCK) {
+            final int to = Math.min(len, from + VARIANCE_BLOCK);
+            double blockSum = 0;
+            for (int i = from; i < to; ++i) {
+                double cur = args[i];
+                if (cur < min) {
+                    min = cur;
+                }
+                if (cur > max) {
+                    max = cur;
+                }
+                total += cur;
+                blockSum += cur;
+            }
+            final int blockCount = to - from;
+            final double blockMean = blockSum / blockCount;
+            double blockM2 = 0;
+            for (int i = from; i < to; ++i) {
+                double diff = args[i] - blockMean;
+                blockM2 += diff * diff;
+            }
+            final double delta = blockMean - mean;
+            mean += delta * blockCount / to;
+            m2 += blockM2 + delta * delta * ((double) from * blockCount / to);
+        }
+        return new Statistics(len, min, max, total, m2);
+    }
+
 }
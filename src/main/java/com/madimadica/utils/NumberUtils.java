@@ -1,7 +1,15 @@
 package com.madimadica.utils;
 
-
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Utilities for fast operations on primitive number types.
@@ -222,23 +230,19 @@ public abstract class NumberUtils {
 
     /**
      * Attempts to parse the string argument into a byte.
-     * Any exceptional value will result in {@link Optional#empty()}.
+     * Any exceptional value will result in {@link Optional#empty()}, without throwing and catching an exception.
      *
      * @param s the {@code String} to be parsed.
      * @return an {@link Optional<Byte>} represented by the string argument.
      * @see Byte#parseByte(String)
      */
     public static Optional<Byte> parseByte(String s) {
-        try {
-            return Optional.of(Byte.parseByte(s));
-        } catch (NumberFormatException ignored) {
-            return Optional.empty();
-        }
+        return parseByte(s, 10);
     }
 
     /**
      * Attempts to parse the string argument into a byte.
-     * Any exceptional value will result in {@link Optional#empty()}.
+     * Any exceptional value will result in {@link Optional#empty()}, without throwing and catching an exception.
      *
      * @param s the {@code String} to be parsed.
      * @param radix the radix to be used while parsing
@@ -246,32 +250,60 @@ public abstract class NumberUtils {
      * @see Byte#parseByte(String, int)
      */
     public static Optional<Byte> parseByte(String s, int radix) {
-        try {
-            return Optional.of(Byte.parseByte(s, radix));
-        } catch (NumberFormatException ignored) {
+        final long value = IntegerParser.parseInt(s, radix);
+        // Also rejects IntegerParser.INVALID_INT, which is below every int
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
             return Optional.empty();
         }
+        return Optional.of((byte) value);
+    }
+
+    /**
+     * Parses the string argument into a byte, or returns a default value if it cannot be parsed.
+     * Unlike {@link #parseByte(String)}, this neither boxes nor allocates.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param defaultValue the value to return if the string cannot be parsed.
+     * @return the {@code byte} represented by the string argument, or {@code defaultValue}.
+     * @see Byte#parseByte(String)
+     */
+    public static byte parseByteOrDefault(String s, byte defaultValue) {
+        return parseByteOrDefault(s, 10, defaultValue);
+    }
+
+    /**
+     * Parses the string argument into a byte, or returns a default value if it cannot be parsed.
+     * Unlike {@link #parseByte(String, int)}, this neither boxes nor allocates.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param radix the radix to be used while parsing
+     * @param defaultValue the value to return if the string cannot be parsed.
+     * @return the {@code byte} represented by the string argument, or {@code defaultValue}.
+     * @see Byte#parseByte(String, int)
+     */
+    public static byte parseByteOrDefault(String s, int radix, byte defaultValue) {
+        final long value = IntegerParser.parseInt(s, radix);
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            return defaultValue;
+        }
+        return (byte) value;
     }
 
     /**
      * Attempts to parse the string argument into a short.
-     * Any exceptional value will result in {@link Optional#empty()}.
+     * Any exceptional value will result in {@link Optional#empty()}, without throwing and catching an exception.
      *
      * @param s the {@code String} to be parsed.
      * @return an {@link Optional<Short>} represented by the string argument.
      * @see Short#parseShort(String)
      */
     public static Optional<Short> parseShort(String s) {
-        try {
-            return Optional.of(Short.parseShort(s));
-        } catch (NumberFormatException ignored) {
-            return Optional.empty();
-        }
+        return parseShort(s, 10);
     }
 
     /**
      * Attempts to parse the string argument into a short.
-     * Any exceptional value will result in {@link Optional#empty()}.
+     * Any exceptional value will result in {@link Optional#empty()}, without throwing and catching an exception.
      *
      * @param s the {@code String} to be parsed.
      * @param radix the radix to be used while parsing
@@ -279,32 +311,60 @@ public abstract class NumberUtils {
      * @see Short#parseShort(String, int)
      */
     public static Optional<Short> parseShort(String s, int radix) {
-        try {
-            return Optional.of(Short.parseShort(s, radix));
-        } catch (NumberFormatException ignored) {
+        final long value = IntegerParser.parseInt(s, radix);
+        // Also rejects IntegerParser.INVALID_INT, which is below every int
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
             return Optional.empty();
         }
+        return Optional.of((short) value);
+    }
+
+    /**
+     * Parses the string argument into a short, or returns a default value if it cannot be parsed.
+     * Unlike {@link #parseShort(String)}, this neither boxes nor allocates.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param defaultValue the value to return if the string cannot be parsed.
+     * @return the {@code short} represented by the string argument, or {@code defaultValue}.
+     * @see Short#parseShort(String)
+     */
+    public static short parseShortOrDefault(String s, short defaultValue) {
+        return parseShortOrDefault(s, 10, defaultValue);
+    }
+
+    /**
+     * Parses the string argument into a short, or returns a default value if it cannot be parsed.
+     * Unlike {@link #parseShort(String, int)}, this neither boxes nor allocates.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param radix the radix to be used while parsing
+     * @param defaultValue the value to return if the string cannot be parsed.
+     * @return the {@code short} represented by the string argument, or {@code defaultValue}.
+     * @see Short#parseShort(String, int)
+     */
+    public static short parseShortOrDefault(String s, int radix, short defaultValue) {
+        final long value = IntegerParser.parseInt(s, radix);
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            return defaultValue;
+        }
+        return (short) value;
     }
 
     /**
      * Attempts to parse the string argument into an integer.
-     * Any exceptional value will result in {@link Optional#empty()}.
+     * Any exceptional value will result in {@link Optional#empty()}, without throwing and catching an exception.
      *
      * @param s the {@code String} to be parsed.
      * @return an {@link Optional<Integer>} represented by the string argument.
      * @see Integer#parseInt(String)
      */
     public static Optional<Integer> parseInt(String s) {
-        try {
-            return Optional.of(Integer.parseInt(s));
-        } catch (NumberFormatException ignored) {
-            return Optional.empty();
-        }
+        return parseInt(s, 10);
     }
 
     /**
      * Attempts to parse the string argument into an integer.
-     * Any exceptional value will result in {@link Optional#empty()}.
+     * Any exceptional value will result in {@link Optional#empty()}, without throwing and catching an exception.
      *
      * @param s the {@code String} to be parsed.
      * @param radix the radix to be used while parsing
@@ -312,32 +372,318 @@ public abstract class NumberUtils {
      * @see Integer#parseInt(String, int)
      */
     public static Optional<Integer> parseInt(String s, int radix) {
-        try {
-            return Optional.of(Integer.parseInt(s, radix));
-        } catch (NumberFormatException ignored) {
+        final long value = IntegerParser.parseInt(s, radix);
+        if (value == IntegerParser.INVALID_INT) {
             return Optional.empty();
         }
+        return Optional.of((int) value);
+    }
+
+    /**
+     * Attempts to parse the string argument into an integer, without boxing it.
+     * Any exceptional value will result in {@link OptionalInt#empty()}.
+     *
+     * @param s the {@code String} to be parsed.
+     * @return an {@link OptionalInt} represented by the string argument.
+     * @see Integer#parseInt(String)
+     */
+    public static OptionalInt parseOptionalInt(String s) {
+        return parseOptionalInt(s, 10);
+    }
+
+    /**
+     * Attempts to parse the string argument into an integer, without boxing it.
+     * Any exceptional value will result in {@link OptionalInt#empty()}.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param radix the radix to be used while parsing
+     * @return an {@link OptionalInt} represented by the string argument.
+     * @see Integer#parseInt(String, int)
+     */
+    public static OptionalInt parseOptionalInt(String s, int radix) {
+        final long value = IntegerParser.parseInt(s, radix);
+        if (value == IntegerParser.INVALID_INT) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of((int) value);
+    }
+
+    /**
+     * Parses the string argument into an int, or returns a default value if it cannot be parsed.
+     * Unlike {@link #parseInt(String)}, this neither boxes nor allocates.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param defaultValue the value to return if the string cannot be parsed.
+     * @return the {@code int} represented by the string argument, or {@code defaultValue}.
+     * @see Integer#parseInt(String)
+     */
+    public static int parseIntOrDefault(String s, int defaultValue) {
+        return parseIntOrDefault(s, 10, defaultValue);
+    }
+
+    /**
+     * Parses the string argument into an int, or returns a default value if it cannot be parsed.
+     * Unlike {@link #parseInt(String, int)}, this neither boxes nor allocates.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param radix the radix to be used while parsing
+     * @param defaultValue the value to return if the string cannot be parsed.
+     * @return the {@code int} represented by the string argument, or {@code defaultValue}.
+     * @see Integer#parseInt(String, int)
+     */
+    public static int parseIntOrDefault(String s, int radix, int defaultValue) {
+        final long value = IntegerParser.parseInt(s, radix);
+        if (value == IntegerParser.INVALID_INT) {
+            return defaultValue;
+        }
+        return (int) value;
+    }
+
+    /**
+     * Attempts to parse the characters of a sequence from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalInt#empty()}.
+     *
+     * @param s the {@code CharSequence} containing the characters to be parsed, such as a {@link StringBuilder} or {@link java.nio.CharBuffer}.
+     * @param begin the index of the first character to parse.
+     * @param end the index after the last character to parse.
+     * @return an {@link OptionalInt} represented by the characters in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code s.length()}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static OptionalInt parseOptionalInt(CharSequence s, int begin, int end) {
+        return parseOptionalInt(s, begin, end, 10);
+    }
+
+    /**
+     * Attempts to parse the characters of a sequence from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalInt#empty()}.
+     *
+     * @param s the {@code CharSequence} containing the characters to be parsed, such as a {@link StringBuilder} or {@link java.nio.CharBuffer}.
+     * @param begin the index of the first character to parse.
+     * @param end the index after the last character to parse.
+     * @param radix the radix to be used while parsing
+     * @return an {@link OptionalInt} represented by the characters in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code s.length()}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static OptionalInt parseOptionalInt(CharSequence s, int begin, int end, int radix) {
+        final long value = IntegerParser.parseInt(s, begin, end, radix);
+        if (value == IntegerParser.INVALID_INT) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of((int) value);
+    }
+
+    /**
+     * Parses the characters of a sequence from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     *
+     * @param s the {@code CharSequence} containing the characters to be parsed, such as a {@link StringBuilder} or {@link java.nio.CharBuffer}.
+     * @param begin the index of the first character to parse.
+     * @param end the index after the last character to parse.
+     * @param defaultValue the value to return if the characters cannot be parsed.
+     * @return the {@code int} represented by the characters in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code s.length()}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static int parseIntOrDefault(CharSequence s, int begin, int end, int defaultValue) {
+        return parseIntOrDefault(s, begin, end, 10, defaultValue);
+    }
+
+    /**
+     * Parses the characters of a sequence from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     *
+     * @param s the {@code CharSequence} containing the characters to be parsed, such as a {@link StringBuilder} or {@link java.nio.CharBuffer}.
+     * @param begin the index of the first character to parse.
+     * @param end the index after the last character to parse.
+     * @param radix the radix to be used while parsing
+     * @param defaultValue the value to return if the characters cannot be parsed.
+     * @return the {@code int} represented by the characters in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code s.length()}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static int parseIntOrDefault(CharSequence s, int begin, int end, int radix, int defaultValue) {
+        final long value = IntegerParser.parseInt(s, begin, end, radix);
+        if (value == IntegerParser.INVALID_INT) {
+            return defaultValue;
+        }
+        return (int) value;
+    }
+
+    /**
+     * Attempts to parse the ASCII bytes of an array from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalInt#empty()}.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param bytes the array containing the ASCII bytes to be parsed.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @return an {@link OptionalInt} represented by the bytes in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code bytes.length}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static OptionalInt parseOptionalInt(byte[] bytes, int begin, int end) {
+        return parseOptionalInt(bytes, begin, end, 10);
+    }
+
+    /**
+     * Attempts to parse the ASCII bytes of an array from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalInt#empty()}.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param bytes the array containing the ASCII bytes to be parsed.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param radix the radix to be used while parsing
+     * @return an {@link OptionalInt} represented by the bytes in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code bytes.length}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static OptionalInt parseOptionalInt(byte[] bytes, int begin, int end, int radix) {
+        final long value = IntegerParser.parseInt(bytes, begin, end, radix);
+        if (value == IntegerParser.INVALID_INT) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of((int) value);
+    }
+
+    /**
+     * Parses the ASCII bytes of an array from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param bytes the array containing the ASCII bytes to be parsed.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code int} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code bytes.length}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static int parseIntOrDefault(byte[] bytes, int begin, int end, int defaultValue) {
+        return parseIntOrDefault(bytes, begin, end, 10, defaultValue);
+    }
+
+    /**
+     * Parses the ASCII bytes of an array from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param bytes the array containing the ASCII bytes to be parsed.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param radix the radix to be used while parsing
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code int} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code bytes.length}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static int parseIntOrDefault(byte[] bytes, int begin, int end, int radix, int defaultValue) {
+        final long value = IntegerParser.parseInt(bytes, begin, end, radix);
+        if (value == IntegerParser.INVALID_INT) {
+            return defaultValue;
+        }
+        return (int) value;
+    }
+
+    /**
+     * Attempts to parse the ASCII bytes at absolute indices of a buffer from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalInt#empty()}.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param buffer the buffer containing the ASCII bytes to be parsed, whose position and limit are left unchanged.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @return an {@link OptionalInt} represented by the bytes in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code buffer.limit()}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static OptionalInt parseOptionalInt(ByteBuffer buffer, int begin, int end) {
+        return parseOptionalInt(buffer, begin, end, 10);
+    }
+
+    /**
+     * Attempts to parse the ASCII bytes at absolute indices of a buffer from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalInt#empty()}.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param buffer the buffer containing the ASCII bytes to be parsed, whose position and limit are left unchanged.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param radix the radix to be used while parsing
+     * @return an {@link OptionalInt} represented by the bytes in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code buffer.limit()}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static OptionalInt parseOptionalInt(ByteBuffer buffer, int begin, int end, int radix) {
+        final long value = IntegerParser.parseInt(buffer, begin, end, radix);
+        if (value == IntegerParser.INVALID_INT) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of((int) value);
+    }
+
+    /**
+     * Parses the ASCII bytes at absolute indices of a buffer from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param buffer the buffer containing the ASCII bytes to be parsed, whose position and limit are left unchanged.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code int} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code buffer.limit()}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static int parseIntOrDefault(ByteBuffer buffer, int begin, int end, int defaultValue) {
+        return parseIntOrDefault(buffer, begin, end, 10, defaultValue);
+    }
+
+    /**
+     * Parses the ASCII bytes at absolute indices of a buffer from {@code begin} (inclusive) to {@code end} (exclusive) into an integer,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param buffer the buffer containing the ASCII bytes to be parsed, whose position and limit are left unchanged.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param radix the radix to be used while parsing
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code int} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code buffer.limit()}.
+     * @see Integer#parseInt(CharSequence, int, int, int)
+     */
+    public static int parseIntOrDefault(ByteBuffer buffer, int begin, int end, int radix, int defaultValue) {
+        final long value = IntegerParser.parseInt(buffer, begin, end, radix);
+        if (value == IntegerParser.INVALID_INT) {
+            return defaultValue;
+        }
+        return (int) value;
     }
 
     /**
      * Attempts to parse the string argument into a long.
-     * Any exceptional value will result in {@link Optional#empty()}.
+     * Any exceptional value will result in {@link Optional#empty()}, without throwing and catching an exception.
      *
      * @param s the {@code String} to be parsed.
      * @return an {@link Optional<Long>} represented by the string argument.
      * @see Long#parseLong(String)
      */
     public static Optional<Long> parseLong(String s) {
-        try {
-            return Optional.of(Long.parseLong(s));
-        } catch (NumberFormatException ignored) {
-            return Optional.empty();
-        }
+        return parseLong(s, 10);
     }
 
     /**
      * Attempts to parse the string argument into a long.
-     * Any exceptional value will result in {@link Optional#empty()}.
+     * Any exceptional value will result in {@link Optional#empty()}, without throwing and catching an exception.
      *
      * @param s the {@code String} to be parsed.
      * @param radix the radix to be used while parsing
@@ -345,11 +691,289 @@ public abstract class NumberUtils {
      * @see Long#parseLong(String, int)
      */
     public static Optional<Long> parseLong(String s, int radix) {
-        try {
-            return Optional.of(Long.parseLong(s, radix));
-        } catch (NumberFormatException ignored) {
+        final long value = IntegerParser.parseLong(s, radix, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE && IntegerParser.isInvalidLong(s, radix)) {
             return Optional.empty();
         }
+        return Optional.of(value);
+    }
+
+    /**
+     * Attempts to parse the string argument into a long, without boxing it.
+     * Any exceptional value will result in {@link OptionalLong#empty()}.
+     *
+     * @param s the {@code String} to be parsed.
+     * @return an {@link OptionalLong} represented by the string argument.
+     * @see Long#parseLong(String)
+     */
+    public static OptionalLong parseOptionalLong(String s) {
+        return parseOptionalLong(s, 10);
+    }
+
+    /**
+     * Attempts to parse the string argument into a long, without boxing it.
+     * Any exceptional value will result in {@link OptionalLong#empty()}.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param radix the radix to be used while parsing
+     * @return an {@link OptionalLong} represented by the string argument.
+     * @see Long#parseLong(String, int)
+     */
+    public static OptionalLong parseOptionalLong(String s, int radix) {
+        final long value = IntegerParser.parseLong(s, radix, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE && IntegerParser.isInvalidLong(s, radix)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(value);
+    }
+
+    /**
+     * Parses the string argument into a long, or returns a default value if it cannot be parsed.
+     * Unlike {@link #parseLong(String)}, this neither boxes nor allocates.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param defaultValue the value to return if the string cannot be parsed.
+     * @return the {@code long} represented by the string argument, or {@code defaultValue}.
+     * @see Long#parseLong(String)
+     */
+    public static long parseLongOrDefault(String s, long defaultValue) {
+        return parseLongOrDefault(s, 10, defaultValue);
+    }
+
+    /**
+     * Parses the string argument into a long, or returns a default value if it cannot be parsed.
+     * Unlike {@link #parseLong(String, int)}, this neither boxes nor allocates.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param radix the radix to be used while parsing
+     * @param defaultValue the value to return if the string cannot be parsed.
+     * @return the {@code long} represented by the string argument, or {@code defaultValue}.
+     * @see Long#parseLong(String, int)
+     */
+    public static long parseLongOrDefault(String s, int radix, long defaultValue) {
+        // The default is also returned for valid input equal to it, so no second parse is needed
+        return IntegerParser.parseLong(s, radix, defaultValue);
+    }
+
+    /**
+     * Attempts to parse the characters of a sequence from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalLong#empty()}.
+     *
+     * @param s the {@code CharSequence} containing the characters to be parsed, such as a {@link StringBuilder} or {@link java.nio.CharBuffer}.
+     * @param begin the index of the first character to parse.
+     * @param end the index after the last character to parse.
+     * @return an {@link OptionalLong} represented by the characters in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code s.length()}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static OptionalLong parseOptionalLong(CharSequence s, int begin, int end) {
+        return parseOptionalLong(s, begin, end, 10);
+    }
+
+    /**
+     * Attempts to parse the characters of a sequence from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalLong#empty()}.
+     *
+     * @param s the {@code CharSequence} containing the characters to be parsed, such as a {@link StringBuilder} or {@link java.nio.CharBuffer}.
+     * @param begin the index of the first character to parse.
+     * @param end the index after the last character to parse.
+     * @param radix the radix to be used while parsing
+     * @return an {@link OptionalLong} represented by the characters in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code s.length()}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static OptionalLong parseOptionalLong(CharSequence s, int begin, int end, int radix) {
+        final long value = IntegerParser.parseLong(s, begin, end, radix, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE && IntegerParser.isInvalidLong(s, begin, end, radix)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(value);
+    }
+
+    /**
+     * Parses the characters of a sequence from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     *
+     * @param s the {@code CharSequence} containing the characters to be parsed, such as a {@link StringBuilder} or {@link java.nio.CharBuffer}.
+     * @param begin the index of the first character to parse.
+     * @param end the index after the last character to parse.
+     * @param defaultValue the value to return if the characters cannot be parsed.
+     * @return the {@code long} represented by the characters in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code s.length()}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static long parseLongOrDefault(CharSequence s, int begin, int end, long defaultValue) {
+        return parseLongOrDefault(s, begin, end, 10, defaultValue);
+    }
+
+    /**
+     * Parses the characters of a sequence from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     *
+     * @param s the {@code CharSequence} containing the characters to be parsed, such as a {@link StringBuilder} or {@link java.nio.CharBuffer}.
+     * @param begin the index of the first character to parse.
+     * @param end the index after the last character to parse.
+     * @param radix the radix to be used while parsing
+     * @param defaultValue the value to return if the characters cannot be parsed.
+     * @return the {@code long} represented by the characters in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code s.length()}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static long parseLongOrDefault(CharSequence s, int begin, int end, int radix, long defaultValue) {
+        // The default is also returned for valid input equal to it, so no second parse is needed
+        return IntegerParser.parseLong(s, begin, end, radix, defaultValue);
+    }
+
+    /**
+     * Attempts to parse the ASCII bytes of an array from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalLong#empty()}.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param bytes the array containing the ASCII bytes to be parsed.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @return an {@link OptionalLong} represented by the bytes in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code bytes.length}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static OptionalLong parseOptionalLong(byte[] bytes, int begin, int end) {
+        return parseOptionalLong(bytes, begin, end, 10);
+    }
+
+    /**
+     * Attempts to parse the ASCII bytes of an array from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalLong#empty()}.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param bytes the array containing the ASCII bytes to be parsed.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param radix the radix to be used while parsing
+     * @return an {@link OptionalLong} represented by the bytes in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code bytes.length}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static OptionalLong parseOptionalLong(byte[] bytes, int begin, int end, int radix) {
+        final long value = IntegerParser.parseLong(bytes, begin, end, radix, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE && IntegerParser.isInvalidLong(bytes, begin, end, radix)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(value);
+    }
+
+    /**
+     * Parses the ASCII bytes of an array from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param bytes the array containing the ASCII bytes to be parsed.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code long} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code bytes.length}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static long parseLongOrDefault(byte[] bytes, int begin, int end, long defaultValue) {
+        return parseLongOrDefault(bytes, begin, end, 10, defaultValue);
+    }
+
+    /**
+     * Parses the ASCII bytes of an array from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param bytes the array containing the ASCII bytes to be parsed.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param radix the radix to be used while parsing
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code long} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code bytes.length}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static long parseLongOrDefault(byte[] bytes, int begin, int end, int radix, long defaultValue) {
+        // The default is also returned for valid input equal to it, so no second parse is needed
+        return IntegerParser.parseLong(bytes, begin, end, radix, defaultValue);
+    }
+
+    /**
+     * Attempts to parse the ASCII bytes at absolute indices of a buffer from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalLong#empty()}.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param buffer the buffer containing the ASCII bytes to be parsed, whose position and limit are left unchanged.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @return an {@link OptionalLong} represented by the bytes in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code buffer.limit()}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static OptionalLong parseOptionalLong(ByteBuffer buffer, int begin, int end) {
+        return parseOptionalLong(buffer, begin, end, 10);
+    }
+
+    /**
+     * Attempts to parse the ASCII bytes at absolute indices of a buffer from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * without copying them into a {@code String}, nor boxing the result.
+     * Any exceptional value will result in {@link OptionalLong#empty()}.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param buffer the buffer containing the ASCII bytes to be parsed, whose position and limit are left unchanged.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param radix the radix to be used while parsing
+     * @return an {@link OptionalLong} represented by the bytes in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code buffer.limit()}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static OptionalLong parseOptionalLong(ByteBuffer buffer, int begin, int end, int radix) {
+        final long value = IntegerParser.parseLong(buffer, begin, end, radix, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE && IntegerParser.isInvalidLong(buffer, begin, end, radix)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(value);
+    }
+
+    /**
+     * Parses the ASCII bytes at absolute indices of a buffer from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param buffer the buffer containing the ASCII bytes to be parsed, whose position and limit are left unchanged.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code long} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code buffer.limit()}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static long parseLongOrDefault(ByteBuffer buffer, int begin, int end, long defaultValue) {
+        return parseLongOrDefault(buffer, begin, end, 10, defaultValue);
+    }
+
+    /**
+     * Parses the ASCII bytes at absolute indices of a buffer from {@code begin} (inclusive) to {@code end} (exclusive) into a long,
+     * or returns a default value if they cannot be parsed. This neither copies, boxes, nor allocates.
+     * Bytes outside of ASCII are never digits.
+     *
+     * @param buffer the buffer containing the ASCII bytes to be parsed, whose position and limit are left unchanged.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param radix the radix to be used while parsing
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code long} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code buffer.limit()}.
+     * @see Long#parseLong(CharSequence, int, int, int)
+     */
+    public static long parseLongOrDefault(ByteBuffer buffer, int begin, int end, int radix, long defaultValue) {
+        // The default is also returned for valid input equal to it, so no second parse is needed
+        return IntegerParser.parseLong(buffer, begin, end, radix, defaultValue);
     }
 
     /**
@@ -428,34 +1052,394 @@ public abstract class NumberUtils {
 
     /**
      * Attempts to parse the string argument into a float.
-     * Any exceptional value will result in {@link Optional#empty()}.
+     * Any exceptional value will result in {@link Optional#empty()}, without throwing and catching an exception.
      *
      * @param s the {@code String} to be parsed.
-     * @return an {@link Optional<Short>} represented by the string argument.
+     * @return an {@link Optional<Float>} represented by the string argument.
      * @see Float#parseFloat(String)
      */
     public static Optional<Float> parseFloat(String s) {
-        try {
-            return Optional.of(Float.parseFloat(s));
-        } catch (Exception ignored) {
+        final long bits = DecimalParser.parseFloat(s);
+        if (bits == DecimalParser.INVALID) {
             return Optional.empty();
         }
+        return Optional.of(Float.intBitsToFloat((int) bits));
+    }
+
+    /**
+     * Parses the string argument into a float, or returns a default value if it cannot be parsed.
+     * Unlike {@link #parseFloat(String)}, this neither boxes nor allocates.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param defaultValue the value to return if the string cannot be parsed.
+     * @return the {@code float} represented by the string argument, or {@code defaultValue}.
+     * @see Float#parseFloat(String)
+     */
+    public static float parseFloatOrDefault(String s, float defaultValue) {
+        final long bits = DecimalParser.parseFloat(s);
+        if (bits == DecimalParser.INVALID) {
+            return defaultValue;
+        }
+        return Float.intBitsToFloat((int) bits);
     }
 
     /**
      * Attempts to parse the string argument into a double.
-     * Any exceptional value will result in {@link Optional#empty()}.
+     * Any exceptional value will result in {@link Optional#empty()}, without throwing and catching an exception.
      *
      * @param s the {@code String} to be parsed.
      * @return an {@link Optional<Double>} represented by the string argument.
      * @see Double#parseDouble(String)
      */
     public static Optional<Double> parseDouble(String s) {
-        try {
-            return Optional.of(Double.parseDouble(s));
-        } catch (Exception ignored) {
+        final long bits = DecimalParser.parseDouble(s);
+        if (bits == DecimalParser.INVALID) {
             return Optional.empty();
         }
+        return Optional.of(Double.longBitsToDouble(bits));
+    }
+
+    /**
+     * Attempts to parse the string argument into a double, without boxing it.
+     * Any exceptional value will result in {@link OptionalDouble#empty()}.
+     *
+     * @param s the {@code String} to be parsed.
+     * @return an {@link OptionalDouble} represented by the string argument.
+     * @see Double#parseDouble(String)
+     */
+    public static OptionalDouble parseOptionalDouble(String s) {
+        final long bits = DecimalParser.parseDouble(s);
+        if (bits == DecimalParser.INVALID) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(Double.longBitsToDouble(bits));
+    }
+
+    /**
+     * Parses the string argument into a double, or returns a default value if it cannot be parsed.
+     * Unlike {@link #parseDouble(String)}, this neither boxes nor allocates.
+     *
+     * @param s the {@code String} to be parsed.
+     * @param defaultValue the value to return if the string cannot be parsed.
+     * @return the {@code double} represented by the string argument, or {@code defaultValue}.
+     * @see Double#parseDouble(String)
+     */
+    public static double parseDoubleOrDefault(String s, double defaultValue) {
+        final long bits = DecimalParser.parseDouble(s);
+        if (bits == DecimalParser.INVALID) {
+            return defaultValue;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Attempts to parse the characters of a sequence from {@code begin} (inclusive) to {@code end} (exclusive) into a double,
+     * without copying them into a {@code String} (except for hexadecimal input and some inputs of more than 19 significant digits), nor boxing the result.
+     * Any exceptional value will result in {@link OptionalDouble#empty()}.
+     *
+     * @param s the {@code CharSequence} containing the characters to be parsed, such as a {@link StringBuilder} or {@link java.nio.CharBuffer}.
+     * @param begin the index of the first character to parse.
+     * @param end the index after the last character to parse.
+     * @return an {@link OptionalDouble} represented by the characters in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code s.length()}.
+     * @see Double#parseDouble(String)
+     */
+    public static OptionalDouble parseOptionalDouble(CharSequence s, int begin, int end) {
+        final long bits = DecimalParser.parseDouble(s, begin, end);
+        if (bits == DecimalParser.INVALID) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(Double.longBitsToDouble(bits));
+    }
+
+    /**
+     * Parses the characters of a sequence from {@code begin} (inclusive) to {@code end} (exclusive) into a double,
+     * or returns a default value if they cannot be parsed.
+     * Except for hexadecimal input and some inputs of more than 19 significant digits, this neither copies, boxes, nor allocates.
+     *
+     * @param s the {@code CharSequence} containing the characters to be parsed, such as a {@link StringBuilder} or {@link java.nio.CharBuffer}.
+     * @param begin the index of the first character to parse.
+     * @param end the index after the last character to parse.
+     * @param defaultValue the value to return if the characters cannot be parsed.
+     * @return the {@code double} represented by the characters in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code s.length()}.
+     * @see Double#parseDouble(String)
+     */
+    public static double parseDoubleOrDefault(CharSequence s, int begin, int end, double defaultValue) {
+        final long bits = DecimalParser.parseDouble(s, begin, end);
+        if (bits == DecimalParser.INVALID) {
+            return defaultValue;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Parses the characters of a sequence from {@code begin} (inclusive) to {@code end} (exclusive) into a float,
+     * or returns a default value if they cannot be parsed.
+     * Except for hexadecimal input and some inputs of more than 19 significant digits, this neither copies, boxes, nor allocates.
+     *
+     * @param s the {@code CharSequence} containing the characters to be parsed, such as a {@link StringBuilder} or {@link java.nio.CharBuffer}.
+     * @param begin the index of the first character to parse.
+     * @param end the index after the last character to parse.
+     * @param defaultValue the value to return if the characters cannot be parsed.
+     * @return the {@code float} represented by the characters in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code s.length()}.
+     * @see Float#parseFloat(String)
+     */
+    public static float parseFloatOrDefault(CharSequence s, int begin, int end, float defaultValue) {
+        final long bits = DecimalParser.parseFloat(s, begin, end);
+        if (bits == DecimalParser.INVALID) {
+            return defaultValue;
+        }
+        return Float.intBitsToFloat((int) bits);
+    }
+
+    /**
+     * Attempts to parse the ISO-8859-1 bytes of an array from {@code begin} (inclusive) to {@code end} (exclusive) into a double,
+     * without copying them into a {@code String} (except for hexadecimal input and some inputs of more than 19 significant digits), nor boxing the result.
+     * Any exceptional value will result in {@link OptionalDouble#empty()}.
+     *
+     * @param bytes the array containing the ISO-8859-1 (or ASCII) bytes to be parsed.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @return an {@link OptionalDouble} represented by the bytes in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code bytes.length}.
+     * @see Double#parseDouble(String)
+     */
+    public static OptionalDouble parseOptionalDouble(byte[] bytes, int begin, int end) {
+        final long bits = DecimalParser.parseDouble(bytes, begin, end);
+        if (bits == DecimalParser.INVALID) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(Double.longBitsToDouble(bits));
+    }
+
+    /**
+     * Parses the ISO-8859-1 bytes of an array from {@code begin} (inclusive) to {@code end} (exclusive) into a double,
+     * or returns a default value if they cannot be parsed.
+     * Except for hexadecimal input and some inputs of more than 19 significant digits, this neither copies, boxes, nor allocates.
+     *
+     * @param bytes the array containing the ISO-8859-1 (or ASCII) bytes to be parsed.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code double} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code bytes.length}.
+     * @see Double#parseDouble(String)
+     */
+    public static double parseDoubleOrDefault(byte[] bytes, int begin, int end, double defaultValue) {
+        final long bits = DecimalParser.parseDouble(bytes, begin, end);
+        if (bits == DecimalParser.INVALID) {
+            return defaultValue;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Parses the ISO-8859-1 bytes of an array from {@code begin} (inclusive) to {@code end} (exclusive) into a float,
+     * or returns a default value if they cannot be parsed.
+     * Except for hexadecimal input and some inputs of more than 19 significant digits, this neither copies, boxes, nor allocates.
+     *
+     * @param bytes the array containing the ISO-8859-1 (or ASCII) bytes to be parsed.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code float} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code bytes.length}.
+     * @see Float#parseFloat(String)
+     */
+    public static float parseFloatOrDefault(byte[] bytes, int begin, int end, float defaultValue) {
+        final long bits = DecimalParser.parseFloat(bytes, begin, end);
+        if (bits == DecimalParser.INVALID) {
+            return defaultValue;
+        }
+        return Float.intBitsToFloat((int) bits);
+    }
+
+    /**
+     * Attempts to parse the ISO-8859-1 bytes at absolute indices of a buffer from {@code begin} (inclusive) to {@code end} (exclusive) into a double,
+     * without copying them into a {@code String} (except for hexadecimal input and some inputs of more than 19 significant digits), nor boxing the result.
+     * Any exceptional value will result in {@link OptionalDouble#empty()}.
+     *
+     * @param buffer the buffer containing the ISO-8859-1 (or ASCII) bytes to be parsed, whose position and limit are left unchanged.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @return an {@link OptionalDouble} represented by the bytes in the range.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code buffer.limit()}.
+     * @see Double#parseDouble(String)
+     */
+    public static OptionalDouble parseOptionalDouble(ByteBuffer buffer, int begin, int end) {
+        final long bits = DecimalParser.parseDouble(buffer, begin, end);
+        if (bits == DecimalParser.INVALID) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(Double.longBitsToDouble(bits));
+    }
+
+    /**
+     * Parses the ISO-8859-1 bytes at absolute indices of a buffer from {@code begin} (inclusive) to {@code end} (exclusive) into a double,
+     * or returns a default value if they cannot be parsed.
+     * Except for hexadecimal input and some inputs of more than 19 significant digits, this neither copies, boxes, nor allocates.
+     *
+     * @param buffer the buffer containing the ISO-8859-1 (or ASCII) bytes to be parsed, whose position and limit are left unchanged.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code double} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code buffer.limit()}.
+     * @see Double#parseDouble(String)
+     */
+    public static double parseDoubleOrDefault(ByteBuffer buffer, int begin, int end, double defaultValue) {
+        final long bits = DecimalParser.parseDouble(buffer, begin, end);
+        if (bits == DecimalParser.INVALID) {
+            return defaultValue;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Parses the ISO-8859-1 bytes at absolute indices of a buffer from {@code begin} (inclusive) to {@code end} (exclusive) into a float,
+     * or returns a default value if they cannot be parsed.
+     * Except for hexadecimal input and some inputs of more than 19 significant digits, this neither copies, boxes, nor allocates.
+     *
+     * @param buffer the buffer containing the ISO-8859-1 (or ASCII) bytes to be parsed, whose position and limit are left unchanged.
+     * @param begin the index of the first byte to parse.
+     * @param end the index after the last byte to parse.
+     * @param defaultValue the value to return if the bytes cannot be parsed.
+     * @return the {@code float} represented by the bytes in the range, or {@code defaultValue}.
+     * @throws IndexOutOfBoundsException if {@code begin} is negative, or greater than {@code end}, or {@code end} is greater than {@code buffer.limit()}.
+     * @see Float#parseFloat(String)
+     */
+    public static float parseFloatOrDefault(ByteBuffer buffer, int begin, int end, float defaultValue) {
+        final long bits = DecimalParser.parseFloat(buffer, begin, end);
+        if (bits == DecimalParser.INVALID) {
+            return defaultValue;
+        }
+        return Float.intBitsToFloat((int) bits);
+    }
+
+    /**
+     * Parses a column of decimal strings into {@code int}s, eight digits at a time.
+     * <p>
+     *     Each element is parsed the same as {@link #parseIntOrDefault(String, int)}, into the same index of {@code out}.
+     *     Elements that cannot be parsed, including {@code null}, are written as {@code 0} and their indices are set in {@code invalid},
+     *     while the bits of all other indices below the column size are cleared, so the same {@link BitSet} can be reused across columns.
+     *     Nothing is boxed, and no exceptions are thrown for invalid elements.
+     * </p>
+     * @param column the decimal strings to parse.
+     * @param out the array to write the parsed values to, at least as long as the column.
+     * @param invalid the bitmap to report the indices of invalid elements in.
+     * @throws IllegalArgumentException if {@code out} is shorter than the column.
+     * @since 1.0
+     */
+    public static void parseInts(List<String> column, int[] out, BitSet invalid) {
+        ColumnParser.parseInts(column, out, invalid, null);
+    }
+
+    /**
+     * Parses a column of decimal strings into {@code int}s, eight digits at a time,
+     * the same as {@link #parseInts(List, int[], BitSet)}.
+     * @param column the decimal strings to parse.
+     * @param out the array to write the parsed values to, at least as long as the column.
+     * @param invalid the bitmap to report the indices of invalid elements in.
+     * @throws IllegalArgumentException if {@code out} is shorter than the column.
+     * @since 1.0
+     */
+    public static void parseInts(String[] column, int[] out, BitSet invalid) {
+        ColumnParser.parseInts(Arrays.asList(column), out, invalid, null);
+    }
+
+    /**
+     * Parses a column of decimal strings into {@code int}s the same as {@link #parseInts(List, int[], BitSet)},
+     * splitting the work across the {@link ForkJoinPool#commonPool() common pool}.
+     * @param column the decimal strings to parse.
+     * @param out the array to write the parsed values to, at least as long as the column.
+     * @param invalid the bitmap to report the indices of invalid elements in.
+     * @throws IllegalArgumentException if {@code out} is shorter than the column.
+     * @since 1.0
+     */
+    public static void parallelParseInts(List<String> column, int[] out, BitSet invalid) {
+        parallelParseInts(column, out, invalid, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses a column of decimal strings into {@code int}s the same as {@link #parseInts(List, int[], BitSet)},
+     * splitting the work across the given {@link ForkJoinPool}.
+     * <p>
+     *     Columns smaller than 8192 elements are parsed sequentially on the calling thread.
+     *     Lists that do not implement {@link java.util.RandomAccess} are first copied into an array.
+     * </p>
+     * @param column the decimal strings to parse.
+     * @param out the array to write the parsed values to, at least as long as the column.
+     * @param invalid the bitmap to report the indices of invalid elements in.
+     * @param pool pool to run the parsing on.
+     * @throws IllegalArgumentException if {@code out} is shorter than the column.
+     * @since 1.0
+     */
+    public static void parallelParseInts(List<String> column, int[] out, BitSet invalid, ForkJoinPool pool) {
+        ColumnParser.parseInts(column, out, invalid, Objects.requireNonNull(pool));
+    }
+
+    /**
+     * Parses a column of decimal strings into {@code long}s, eight digits at a time.
+     * <p>
+     *     Each element is parsed the same as {@link #parseLongOrDefault(String, long)}, into the same index of {@code out}.
+     *     Elements that cannot be parsed, including {@code null}, are written as {@code 0} and their indices are set in {@code invalid},
+     *     while the bits of all other indices below the column size are cleared, so the same {@link BitSet} can be reused across columns.
+     *     Nothing is boxed, and no exceptions are thrown for invalid elements.
+     * </p>
+     * @param column the decimal strings to parse.
+     * @param out the array to write the parsed values to, at least as long as the column.
+     * @param invalid the bitmap to report the indices of invalid elements in.
+     * @throws IllegalArgumentException if {@code out} is shorter than the column.
+     * @since 1.0
+     */
+    public static void parseLongs(List<String> column, long[] out, BitSet invalid) {
+        ColumnParser.parseLongs(column, out, invalid, null);
+    }
+
+    /**
+     * Parses a column of decimal strings into {@code long}s, eight digits at a time,
+     * the same as {@link #parseLongs(List, long[], BitSet)}.
+     * @param column the decimal strings to parse.
+     * @param out the array to write the parsed values to, at least as long as the column.
+     * @param invalid the bitmap to report the indices of invalid elements in.
+     * @throws IllegalArgumentException if {@code out} is shorter than the column.
+     * @since 1.0
+     */
+    public static void parseLongs(String[] column, long[] out, BitSet invalid) {
+        ColumnParser.parseLongs(Arrays.asList(column), out, invalid, null);
+    }
+
+    /**
+     * Parses a column of decimal strings into {@code long}s the same as {@link #parseLongs(List, long[], BitSet)},
+     * splitting the work across the {@link ForkJoinPool#commonPool() common pool}.
+     * @param column the decimal strings to parse.
+     * @param out the array to write the parsed values to, at least as long as the column.
+     * @param invalid the bitmap to report the indices of invalid elements in.
+     * @throws IllegalArgumentException if {@code out} is shorter than the column.
+     * @since 1.0
+     */
+    public static void parallelParseLongs(List<String> column, long[] out, BitSet invalid) {
+        parallelParseLongs(column, out, invalid, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses a column of decimal strings into {@code long}s the same as {@link #parseLongs(List, long[], BitSet)},
+     * splitting the work across the given {@link ForkJoinPool}.
+     * <p>
+     *     Columns smaller than 8192 elements are parsed sequentially on the calling thread.
+     *     Lists that do not implement {@link java.util.RandomAccess} are first copied into an array.
+     * </p>
+     * @param column the decimal strings to parse.
+     * @param out the array to write the parsed values to, at least as long as the column.
+     * @param invalid the bitmap to report the indices of invalid elements in.
+     * @param pool pool to run the parsing on.
+     * @throws IllegalArgumentException if {@code out} is shorter than the column.
+     * @since 1.0
+     */
+    public static void parallelParseLongs(List<String> column, long[] out, BitSet invalid, ForkJoinPool pool) {
+        ColumnParser.parseLongs(column, out, invalid, Objects.requireNonNull(pool));
     }
 
 }
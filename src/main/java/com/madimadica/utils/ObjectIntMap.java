@@ -0,0 +1,1201 @@
+package com.madimadica.utils;
+
+import java.util.*;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A hash map from object keys to primitive {@code int} values, using open addressing with linear probing.
+ * <p>
+ *     Unlike a {@code Map<K, Integer>}, the values are never boxed and there is no node per entry,
+ *     the keys and values are stored inline in two parallel arrays. Iteration order is unspecified.
+ *     Keys may not be {@code null}. This is well suited to counting, see {@link #addTo(Object, int)}.
+ * </p>
+ * <p>
+ *     Maps created by {@link #of()} and {@link #copyOf(Map)} are immutable, and throw
+ *     {@link UnsupportedOperationException} on any modification. Maps created by {@link #ofMutable()}
+ *     or the constructors are mutable.
+ * </p>
+ * @param <K> key type
+ * @see IntObjectMap
+ * @see LongObjectMap
+ * @since 1.0
+ */
+public final class ObjectIntMap<K> {
+
+    /**
+     * Maximum ratio of occupied table slots before the table is doubled.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MIN_CAPACITY = 4;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Hash table of keys, where {@code null} marks a free slot.
+     */
+    private Object[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+    private int maxFill;
+    private final boolean mutable;
+
+    /**
+     * Create an empty, mutable map.
+     */
+    public ObjectIntMap() {
+        this(0);
+    }
+
+    /**
+     * Create an empty, mutable map, which can hold {@code expectedSize} entries before resizing.
+     * @param expectedSize number of entries expected to be added
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public ObjectIntMap(int expectedSize) {
+        this(expectedSize, true);
+    }
+
+    private ObjectIntMap(int expectedSize, boolean mutable) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+        }
+        this.mutable = mutable;
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Creates an empty, immutable map.
+     * @return An empty immutable map.
+     * @param <K> key type
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of() {
+        return new ObjectIntMap<>(0, false);
+    }
+
+    /**
+     * Creates an immutable map with 1 entry.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(1, false);
+        map.putUnique(k1, v1);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 2 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1, K k2, int v2) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(2, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 3 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(3, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 4 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(4, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 5 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(5, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 6 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(6, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 7 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(7, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 8 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7, K k8, int v8) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(8, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 9 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7, K k8, int v8, K k9, int v9) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(9, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 10 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7, K k8, int v8, K k9, int v9, K k10, int v10) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(10, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 11 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7, K k8, int v8, K k9, int v9, K k10, int v10, K k11, int v11) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(11, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        return map;
+    }
+
+    /**
+     * Creates an immutable map with 12 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @param k12 key for entry 12
+     * @param v12 value for entry 12
+     * @return An immutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> of(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7, K k8, int v8, K k9, int v9, K k10, int v10, K k11, int v11, K k12, int v12) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(12, false);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        map.putUnique(k12, v12);
+        return map;
+    }
+
+    /**
+     * Creates an empty, mutable map.
+     * @return An empty mutable map.
+     * @param <K> key type
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable() {
+        return new ObjectIntMap<>(0, true);
+    }
+
+    /**
+     * Creates a mutable map with 1 entry.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(1, true);
+        map.putUnique(k1, v1);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 2 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1, K k2, int v2) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(2, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 3 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1, K k2, int v2, K k3, int v3) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(3, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 4 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(4, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 5 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(5, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 6 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(6, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 7 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(7, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 8 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7, K k8, int v8) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(8, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 9 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7, K k8, int v8, K k9, int v9) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(9, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 10 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7, K k8, int v8, K k9, int v9, K k10, int v10) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(10, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 11 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7, K k8, int v8, K k9, int v9, K k10, int v10, K k11, int v11) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(11, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        return map;
+    }
+
+    /**
+     * Creates a mutable map with 12 entries.
+     * @param k1 key for entry 1
+     * @param v1 value for entry 1
+     * @param k2 key for entry 2
+     * @param v2 value for entry 2
+     * @param k3 key for entry 3
+     * @param v3 value for entry 3
+     * @param k4 key for entry 4
+     * @param v4 value for entry 4
+     * @param k5 key for entry 5
+     * @param v5 value for entry 5
+     * @param k6 key for entry 6
+     * @param v6 value for entry 6
+     * @param k7 key for entry 7
+     * @param v7 value for entry 7
+     * @param k8 key for entry 8
+     * @param v8 value for entry 8
+     * @param k9 key for entry 9
+     * @param v9 value for entry 9
+     * @param k10 key for entry 10
+     * @param v10 value for entry 10
+     * @param k11 key for entry 11
+     * @param v11 value for entry 11
+     * @param k12 key for entry 12
+     * @param v12 value for entry 12
+     * @return A mutable map with the given entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key is {@code null}.
+     * @throws IllegalArgumentException if there are any duplicate keys
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> ofMutable(K k1, int v1, K k2, int v2, K k3, int v3, K k4, int v4, K k5, int v5, K k6, int v6, K k7, int v7, K k8, int v8, K k9, int v9, K k10, int v10, K k11, int v11, K k12, int v12) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(12, true);
+        map.putUnique(k1, v1);
+        map.putUnique(k2, v2);
+        map.putUnique(k3, v3);
+        map.putUnique(k4, v4);
+        map.putUnique(k5, v5);
+        map.putUnique(k6, v6);
+        map.putUnique(k7, v7);
+        map.putUnique(k8, v8);
+        map.putUnique(k9, v9);
+        map.putUnique(k10, v10);
+        map.putUnique(k11, v11);
+        map.putUnique(k12, v12);
+        return map;
+    }
+
+    /**
+     * Creates an immutable copy of the given map, unboxing its values.
+     * @param mapToCopy a non-null map to copy the entries from.
+     * @return An immutable map with the same entries.
+     * @param <K> key type
+     * @throws NullPointerException if any key or value is null.
+     * @since 1.0
+     */
+    public static <K> ObjectIntMap<K> copyOf(Map<? extends K, Integer> mapToCopy) {
+        ObjectIntMap<K> map = new ObjectIntMap<>(mapToCopy.size(), false);
+        for (Map.Entry<? extends K, Integer> entry : mapToCopy.entrySet()) {
+            map.insert(entry.getKey(), entry.getValue());
+        }
+        return map;
+    }
+
+    /**
+     * @return the number of entries in this map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this map has no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return true if this map can be modified.
+     */
+    public boolean isMutable() {
+        return mutable;
+    }
+
+    /**
+     * Check if this map contains an entry for the key.
+     * @param key key to search for
+     * @return true if there is an entry for {@code key}
+     */
+    public boolean containsKey(Object key) {
+        return key != null && indexOf(key) >= 0;
+    }
+
+    /**
+     * Get the value for the key, or a default value if there is no entry.
+     * @param key key to search for
+     * @param defaultValue value to return if there is no entry for {@code key}
+     * @return the value for {@code key}, or {@code defaultValue} if there is no entry
+     */
+    public int getOrDefault(Object key, int defaultValue) {
+        if (key == null) {
+            return defaultValue;
+        }
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    /**
+     * Associate the value with the key, replacing any previous value.
+     * @param key entry key
+     * @param value entry value
+     * @throws NullPointerException if {@code key} is {@code null}
+     * @throws UnsupportedOperationException if this map is immutable
+     */
+    public void put(K key, int value) {
+        checkMutable();
+        insert(key, value);
+    }
+
+    /**
+     * Add to the value for the key, treating a missing entry as {@code 0}.
+     * @param key entry key
+     * @param increment amount to add to the value
+     * @return the new value for {@code key}
+     * @throws NullPointerException if {@code key} is {@code null}
+     * @throws UnsupportedOperationException if this map is immutable
+     */
+    public int addTo(K key, int increment) {
+        checkMutable();
+        Objects.requireNonNull(key, "Map keys cannot be null");
+        final Object[] keys = this.keys;
+        int pos = mix(key.hashCode()) & mask;
+        Object current;
+        while ((current = keys[pos]) != null) {
+            if (current.equals(key)) {
+                return values[pos] += increment;
+            }
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = key;
+        values[pos] = increment;
+        if (++size >= maxFill) {
+            rehash(keys.length << 1);
+        }
+        return increment;
+    }
+
+    /**
+     * Remove the entry for the key.
+     * @param key key of the entry to remove
+     * @return true if there was an entry for {@code key}
+     * @throws UnsupportedOperationException if this map is immutable
+     */
+    public boolean remove(Object key) {
+        checkMutable();
+        if (key == null) {
+            return false;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        shiftKeys(index);
+        --size;
+        return true;
+    }
+
+    /**
+     * Remove all entries from this map, keeping its capacity.
+     * @throws UnsupportedOperationException if this map is immutable
+     */
+    public void clear() {
+        checkMutable();
+        Arrays.fill(keys, null);
+        size = 0;
+    }
+
+    /**
+     * Perform an action for each entry, in no particular order.
+     * @param action action to perform
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjIntConsumer<? super K> action) {
+        final Object[] keys = this.keys;
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != null) {
+                action.accept((K) keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return an immutable list of every key, in no particular order.
+     */
+    public List<K> keys() {
+        Object[] result = new Object[size];
+        int i = 0;
+        for (Object key : keys) {
+            if (key != null) {
+                result[i++] = key;
+            }
+        }
+        return ImmutableArrayList.wrap(result, size);
+    }
+
+    /**
+     * Box every value into an immutable {@code Map<K, Integer>}.
+     * @return an immutable map with the same entries.
+     */
+    public Map<K, Integer> boxed() {
+        Map<K, Integer> map = new HashMap<>(size + (size / 3) + 1);
+        forEach(map::put);
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Compares the entries of two maps, regardless of mutability.
+     * @param o object to compare to
+     * @return true if {@code o} is an {@code ObjectIntMap} with equal keys mapped to the same values.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ObjectIntMap)) return false;
+        ObjectIntMap<?> other = (ObjectIntMap<?>) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != null) {
+                int index = other.indexOf(keys[i]);
+                if (index < 0 || values[i] != other.values[index]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a hash code equal to the {@link Map#hashCode()} of the {@link #boxed()} entries.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != null) {
+                hash += keys[i].hashCode() ^ Integer.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner sj = new StringJoiner(", ", "{", "}");
+        forEach((key, value) -> sj.add(key + "=" + value));
+        return sj.toString();
+    }
+
+    /**
+     * Scramble the bits of a hash code, so that sequential hash codes are spread across the table.
+     */
+    private static int mix(int hashCode) {
+        final int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        if (needed > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) Math.ceil(capacity * LOAD_FACTOR));
+    }
+
+    private void checkMutable() {
+        if (!mutable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Find the table index of a non-null key.
+     * @return the index of {@code key}, or {@code -1} if there is no entry
+     */
+    private int indexOf(Object key) {
+        final Object[] keys = this.keys;
+        final int mask = this.mask;
+        int pos = mix(key.hashCode()) & mask;
+        Object current;
+        while ((current = keys[pos]) != null) {
+            if (current.equals(key)) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void putUnique(K key, int value) {
+        if (!insert(key, value)) {
+            throw new IllegalArgumentException("Duplicate key: \"" + key + "\" not allowed.");
+        }
+    }
+
+    /**
+     * Insert or replace an entry.
+     * @return true if there was no previous entry for {@code key}
+     */
+    private boolean insert(Object key, int value) {
+        Objects.requireNonNull(key, "Map keys cannot be null");
+        final Object[] keys = this.keys;
+        int pos = mix(key.hashCode()) & mask;
+        Object current;
+        while ((current = keys[pos]) != null) {
+            if (current.equals(key)) {
+                values[pos] = value;
+                return false;
+            }
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = key;
+        values[pos] = value;
+        if (++size >= maxFill) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    private void rehash(int capacity) {
+        final Object[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(capacity);
+        final Object[] keys = this.keys;
+        final int[] values = this.values;
+        final int mask = this.mask;
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != null) {
+                int pos = mix(oldKeys[i].hashCode()) & mask;
+                while (keys[pos] != null) {
+                    pos = (pos + 1) & mask;
+                }
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Backward-shift deletion: closes the gap at {@code pos} by moving later entries of the
+     * probe run into it, so that lookups never need tombstones.
+     */
+    private void shiftKeys(int pos) {
+        final Object[] keys = this.keys;
+        final int[] values = this.values;
+        final int mask = this.mask;
+        int last;
+        int slot;
+        Object current;
+        while (true) {
+            pos = ((last = pos) + 1) & mask;
+            while (true) {
+                if ((current = keys[pos]) == null) {
+                    keys[last] = null;
+                    return;
+                }
+                slot = mix(current.hashCode()) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[pos];
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.madimadica.utils;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Fork/join implementations backing the {@code Lists.parallel...} methods.
+ * <p>
+ *     Lists are split by index range, so only {@link RandomAccess} lists
+ *     of at least {@link #THRESHOLD} elements are processed in parallel.
+ * </p>
+ */
+final class ParallelLists {
+
+    /**
+     * Minimum list size to process in parallel, smaller lists use the sequential implementation.
+     */
+    static final int THRESHOLD = 1 << 13;
+
+    /**
+     * Minimum number of elements processed by a single task.
+     */
+    private static final int MIN_CHUNK = 1 << 10;
+
+    /**
+     * Number of chunks to create per thread of parallelism, to balance uneven work.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelLists() {}
+
+    /**
+     * Check if a list should be processed in parallel.
+     * @param list list to process
+     * @param pool pool to process on
+     * @return true if the list is large enough and supports indexed splitting
+     */
+    static boolean isParallel(List<?> list, ForkJoinPool pool) {
+        return list.size() >= THRESHOLD && list instanceof RandomAccess && pool.getParallelism() > 1;
+    }
+
+    /**
+     * Find the number of elements for each task to process, to split a list across a pool.
+     * @param size number of elements to split
+     * @param pool pool to process on
+     * @return the number of elements per task, at least {@link #MIN_CHUNK}
+     */
+    static int chunkSize(int size, ForkJoinPool pool) {
+        int chunks = pool.getParallelism() * CHUNKS_PER_THREAD;
+        return Math.max(MIN_CHUNK, (size + chunks - 1) / chunks);
+    }
+
+    static <X, Y> List<Y> map(List<X> list, Function<? super X, ? extends Y> mapper, ForkJoinPool pool) {
+        final int size = list.size();
+        Object[] output = new Object[size];
+        pool.invoke(new MapTask<>(list, mapper, output, 0, size, chunkSize(size, pool)));
+        return ImmutableArrayList.wrap(output, size);
+    }
+
+    static <X> List<X> filter(List<X> list, Predicate<? super X> predicate, ForkJoinPool pool) {
+        final int size = list.size();
+        final int chunkSize = chunkSize(size, pool);
+        final int chunks = (size + chunkSize - 1) / chunkSize;
+        Object[][] matches = new Object[chunks][];
+        int[] counts = new int[chunks];
+        pool.invoke(new FilterTask<>(list, predicate, matches, counts, 0, chunks, chunkSize));
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        Object[] output = new Object[total];
+        int offset = 0;
+        for (int i = 0; i < chunks; ++i) {
+            System.arraycopy(matches[i], 0, output, offset, counts[i]);
+            offset += counts[i];
+        }
+        return ImmutableArrayList.wrap(output, total);
+    }
+
+    static <K, V> Map<K, List<V>> groupBy(List<V> list, Function<? super V, ? extends K> classifier, ForkJoinPool pool) {
+        final int size = list.size();
+        return pool.invoke(new GroupByTask<K, V>(list, classifier, 0, size, chunkSize(size, pool)));
+    }
+
+    /**
+     * Maps the range {@code [from, to)} into the same indices of the output array.
+     */
+    private static final class MapTask<X, Y> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<X> list;
+        private final Function<? super X, ? extends Y> mapper;
+        private final Object[] output;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        MapTask(List<X> list, Function<? super X, ? extends Y> mapper, Object[] output, int from, int to, int chunkSize) {
+            this.list = list;
+            this.mapper = mapper;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; ++i) {
+                    output[i] = Objects.requireNonNull(mapper.apply(list.get(i)));
+                }
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                        new MapTask<>(list, mapper, output, from, mid, chunkSize),
+                        new MapTask<>(list, mapper, output, mid, to, chunkSize)
+                );
+            }
+        }
+    }
+
+    /**
+     * Filters the chunks {@code [fromChunk, toChunk)}, storing the matches of each chunk by its index.
+     */
+    private static final class FilterTask<X> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<X> list;
+        private final Predicate<? super X> predicate;
+        private final Object[][] matches;
+        private final int[] counts;
+        private final int fromChunk;
+        private final int toChunk;
+        private final int chunkSize;
+
+        FilterTask(List<X> list, Predicate<? super X> predicate, Object[][] matches, int[] counts, int fromChunk, int toChunk, int chunkSize) {
+            this.list = list;
+            this.predicate = predicate;
+            this.matches = matches;
+            this.counts = counts;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                final int from = fromChunk * chunkSize;
+                final int to = Math.min(from + chunkSize, list.size());
+                Object[] chunk = new Object[to - from];
+                int count = 0;
+                for (int i = from; i < to; ++i) {
+                    X x = list.get(i);
+                    if (predicate.test(x)) {
+                        chunk[count++] = Objects.requireNonNull(x);
+                    }
+                }
+                matches[fromChunk] = chunk;
+                counts[fromChunk] = count;
+            } else {
+                int mid = (fromChunk + toChunk) >>> 1;
+                invokeAll(
+                        new FilterTask<>(list, predicate, matches, counts, fromChunk, mid, chunkSize),
+                        new FilterTask<>(list, predicate, matches, counts, mid, toChunk, chunkSize)
+                );
+            }
+        }
+    }
+
+    /**
+     * Groups the range {@code [from, to)}, merging the right half's groups into the left half's.
+     */
+    private static final class GroupByTask<K, V> extends RecursiveTask<Map<K, List<V>>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<V> list;
+        private final Function<? super V, ? extends K> classifier;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        GroupByTask(List<V> list, Function<? super V, ? extends K> classifier, int from, int to, int chunkSize) {
+            this.list = list;
+            this.classifier = classifier;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected Map<K, List<V>> compute() {
+            if (to - from <= chunkSize) {
+                return Lists.groupBy(list.subList(from, to), classifier);
+            }
+            int mid = (from + to) >>> 1;
+            GroupByTask<K, V> leftTask = new GroupByTask<K, V>(list, classifier, from, mid, chunkSize);
+            leftTask.fork();
+            Map<K, List<V>> right = new GroupByTask<K, V>(list, classifier, mid, to, chunkSize).compute();
+            Map<K, List<V>> left = leftTask.join();
+            for (Map.Entry<K, List<V>> entry : right.entrySet()) {
+                List<V> group = left.get(entry.getKey());
+                if (group == null) {
+                    left.put(entry.getKey(), entry.getValue());
+                } else {
+                    group.addAll(entry.getValue());
+                }
+            }
+            return left;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.madimadica.utils;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join implementations backing the {@code Sets.parallel...} methods.
+ * <p>
+ *     The inputs are split into chunks with their {@link Spliterator}s. In a first pass, each chunk scatters
+ *     its elements into one bucket per hash range. In a second pass, each hash range builds its own {@link HashSet}
+ *     from its buckets, so no two tasks ever write to the same set and no locks are needed.
+ *     The result keeps the hash ranges as separate sets, behind a single mutable {@link Set}.
+ * </p>
+ */
+final class ParallelSets {
+
+    /**
+     * Number of hash ranges to create per thread of parallelism, to balance uneven work.
+     */
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    /**
+     * Number of chunks to create per thread of parallelism, to balance uneven work.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Minimum number of elements in a chunk, smaller inputs are not split.
+     */
+    private static final int MIN_CHUNK = 1 << 10;
+
+    private ParallelSets() {}
+
+    /**
+     * Check if sets should be combined in parallel.
+     * @param totalSize sum of the sizes of the sets
+     * @param pool pool to process on
+     * @return true if there are enough elements to be worth splitting
+     */
+    static boolean isParallel(long totalSize, ForkJoinPool pool) {
+        return totalSize >= ParallelLists.THRESHOLD && pool.getParallelism() > 1;
+    }
+
+    static <T> Set<T> union(Collection<? extends Set<T>> sets, long totalSize, ForkJoinPool pool) {
+        List<Spliterator<T>> chunks = new ArrayList<>();
+        final long chunkSize = chunkSize(totalSize, pool);
+        for (Set<T> set : sets) {
+            split(set.spliterator(), chunkSize, chunks);
+        }
+        return scatter(chunks, null, pool);
+    }
+
+    /**
+     * @param sets sets to intersect, the smallest first, and none empty
+     */
+    static <T> Set<T> intersection(List<Set<T>> sets, ForkJoinPool pool) {
+        List<Spliterator<T>> chunks = new ArrayList<>();
+        split(sets.get(0).spliterator(), chunkSize(sets.get(0).size(), pool), chunks);
+        return scatter(chunks, sets.subList(1, sets.size()), pool);
+    }
+
+    private static long chunkSize(long totalSize, ForkJoinPool pool) {
+        final long chunks = (long) pool.getParallelism() * CHUNKS_PER_THREAD;
+        return Math.max(MIN_CHUNK, (totalSize + chunks - 1) / chunks);
+    }
+
+    /**
+     * Split a spliterator into chunks of about {@code chunkSize} elements, or fewer when it cannot be split.
+     */
+    private static <T> void split(Spliterator<T> spliterator, long chunkSize, List<Spliterator<T>> chunks) {
+        Spliterator<T> prefix;
+        while (spliterator.estimateSize() > chunkSize && (prefix = spliterator.trySplit()) != null) {
+            split(prefix, chunkSize, chunks);
+        }
+        chunks.add(spliterator);
+    }
+
+    private static int partitionBits(ForkJoinPool pool) {
+        final int partitions = pool.getParallelism() * PARTITIONS_PER_THREAD;
+        return Math.min(16, 32 - Integer.numberOfLeadingZeros(partitions - 1));
+    }
+
+    /**
+     * @return the hash range of an element, from its highest hash bits, which {@link HashSet} does not index by
+     */
+    private static int partitionOf(Object element, int bits) {
+        return (Objects.hashCode(element) * 0x9E3779B9) >>> (32 - bits);
+    }
+
+    /**
+     * Scatter the elements of the chunks that are in every one of {@code filters} by hash range,
+     * then build one set per hash range.
+     * @param filters sets every element must be in, or {@code null} to keep every element
+     */
+    private static <T> Set<T> scatter(List<Spliterator<T>> chunks, List<Set<T>> filters, ForkJoinPool pool) {
+        final int bits = partitionBits(pool);
+        final int partitions = 1 << bits;
+        @SuppressWarnings("unchecked")
+        final List<T>[][] buckets = (List<T>[][]) new List<?>[chunks.size()][partitions];
+        pool.invoke(new ScatterTask<>(chunks, filters, buckets, bits, 0, chunks.size()));
+
+        @SuppressWarnings("unchecked")
+        final Set<T>[] parts = (Set<T>[]) new Set<?>[partitions];
+        pool.invoke(new BuildTask<>(buckets, parts, 0, partitions));
+        return new PartitionedSet<>(parts, bits);
+    }
+
+    /**
+     * Scatters the elements of the chunks {@code [fromChunk, toChunk)} into their buckets.
+     */
+    private static final class ScatterTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Spliterator<T>> chunks;
+        private final List<Set<T>> filters;
+        private final List<T>[][] buckets;
+        private final int bits;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ScatterTask(List<Spliterator<T>> chunks, List<Set<T>> filters, List<T>[][] buckets, int bits, int fromChunk, int toChunk) {
+            this.chunks = chunks;
+            this.filters = filters;
+            this.buckets = buckets;
+            this.bits = bits;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                final List<T>[] chunkBuckets = buckets[fromChunk];
+                final int expected = (int) Math.min(Integer.MAX_VALUE, chunks.get(fromChunk).estimateSize() >> bits) + 1;
+                for (int p = 0; p < chunkBuckets.length; ++p) {
+                    chunkBuckets[p] = new ArrayList<>(expected);
+                }
+                chunks.get(fromChunk).forEachRemaining(element -> {
+                    if (filters != null) {
+                        for (Set<T> filter : filters) {
+                            if (!filter.contains(element)) {
+                                return;
+                            }
+                        }
+                    }
+                    chunkBuckets[partitionOf(element, bits)].add(element);
+                });
+            } else if (toChunk > fromChunk) {
+                int mid = (fromChunk + toChunk) >>> 1;
+                invokeAll(
+                        new ScatterTask<>(chunks, filters, buckets, bits, fromChunk, mid),
+                        new ScatterTask<>(chunks, filters, buckets, bits, mid, toChunk)
+                );
+            }
+        }
+    }
+
+    /**
+     * Builds the sets of the hash ranges {@code [fromPartition, toPartition)} from the buckets of every chunk.
+     */
+    private static final class BuildTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T>[][] buckets;
+        private final Set<T>[] parts;
+        private final int fromPartition;
+        private final int toPartition;
+
+        BuildTask(List<T>[][] buckets, Set<T>[] parts, int fromPartition, int toPartition) {
+            this.buckets = buckets;
+            this.parts = parts;
+            this.fromPartition = fromPartition;
+            this.toPartition = toPartition;
+        }
+
+        @Override
+        protected void compute() {
+            if (toPartition - fromPartition == 1) {
+                final int p = fromPartition;
+                long expected = 0;
+                for (List<T>[] chunkBuckets : buckets) {
+                    expected += chunkBuckets[p].size();
+                }
+                Set<T> part = new HashSet<>((int) Math.min(1 << 30, (long) (expected / 0.75f) + 1));
+                for (List<T>[] chunkBuckets : buckets) {
+                    part.addAll(chunkBuckets[p]);
+                    chunkBuckets[p] = null;
+                }
+                parts[p] = part;
+            } else {
+                int mid = (fromPartition + toPartition) >>> 1;
+                invokeAll(
+                        new BuildTask<>(buckets, parts, fromPartition, mid),
+                        new BuildTask<>(buckets, parts, mid, toPartition)
+                );
+            }
+        }
+    }
+
+    /**
+     * Mutable set made of one {@link HashSet} per hash range, where each element is only ever in the set of its range.
+     */
+    private static final class PartitionedSet<E> extends AbstractSet<E> {
+        private final Set<E>[] parts;
+        private final int bits;
+
+        PartitionedSet(Set<E>[] parts, int bits) {
+            this.parts = parts;
+            this.bits = bits;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return parts[partitionOf(o, bits)].contains(o);
+        }
+
+        @Override
+        public boolean add(E e) {
+            return parts[partitionOf(e, bits)].add(e);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return parts[partitionOf(o, bits)].remove(o);
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (Set<E> part : parts) {
+                size += part.size();
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            for (Set<E> part : parts) {
+                if (!part.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            for (Set<E> part : parts) {
+                part.clear();
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                private int part = 0;
+                private Iterator<E> current = parts[0].iterator();
+                private Iterator<E> last;
+
+                @Override
+                public boolean hasNext() {
+                    while (!current.hasNext() && part + 1 < parts.length) {
+                        current = parts[++part].iterator();
+                    }
+                    return current.hasNext();
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    last = current;
+                    return current.next();
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    // hasNext() may have moved on to the next part since
+                    last.remove();
+                    last = null;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.madimadica.utils;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable, live view of the result of a set operation on two backing sets.
+ * <p>
+ *     No elements are copied when a view is created. {@link #contains(Object)} only looks up the element
+ *     in the backing sets, while {@link #iterator()} and {@link #size()} walk the backing sets on every call,
+ *     so {@code size()} is linear in the size of the backing sets. Changes to the backing sets are visible
+ *     through the view, and the view must not be iterated while a backing set is being modified.
+ *     Use {@link #immutableCopy()} or {@link #copyInto(Set)} when the result is needed many times.
+ * </p>
+ * <p>
+ *     Every mutating method throws {@link UnsupportedOperationException}.
+ *     The view supports {@code null} elements if and only if the backing sets do.
+ * </p>
+ * @param <E> element type
+ * @see Sets#unionView(Set, Set)
+ * @see Sets#intersectionView(Set, Set)
+ * @see Sets#differenceView(Set, Set)
+ * @since 1.0
+ */
+public abstract class SetView<E> extends AbstractSet<E> {
+
+    SetView() {}
+
+    /**
+     * Create a view of the union of two sets.
+     * @param setA set A
+     * @param setB set B
+     * @return a view of the elements in set A or set B, iterating set A first
+     * @param <E> element type
+     */
+    static <E> SetView<E> union(Set<E> setA, Set<E> setB) {
+        Objects.requireNonNull(setA);
+        Objects.requireNonNull(setB);
+        return new SetView<>() {
+            @Override
+            public boolean contains(Object o) {
+                return setA.contains(o) || setB.contains(o);
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return setA.isEmpty() && setB.isEmpty();
+            }
+
+            @Override
+            public int size() {
+                int size = setA.size();
+                for (E element : setB) {
+                    if (!setA.contains(element)) {
+                        ++size;
+                    }
+                }
+                return size;
+            }
+
+            @Override
+            public Iterator<E> iterator() {
+                final Iterator<E> first = setA.iterator();
+                final Iterator<E> rest = new FilteredIterator<>(setB.iterator(), element -> !setA.contains(element));
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return first.hasNext() || rest.hasNext();
+                    }
+
+                    @Override
+                    public E next() {
+                        return first.hasNext() ? first.next() : rest.next();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Create a view of the intersection of two sets.
+     * @param setA set A
+     * @param setB set B
+     * @return a view of the elements in both set A and set B, iterating whichever set is smaller
+     * @param <E> element type
+     */
+    static <E> SetView<E> intersection(Set<E> setA, Set<E> setB) {
+        Objects.requireNonNull(setA);
+        Objects.requireNonNull(setB);
+        return new SetView<>() {
+            @Override
+            public boolean contains(Object o) {
+                return setA.contains(o) && setB.contains(o);
+            }
+
+            @Override
+            public Iterator<E> iterator() {
+                if (setA.size() <= setB.size()) {
+                    return new FilteredIterator<>(setA.iterator(), setB::contains);
+                }
+                return new FilteredIterator<>(setB.iterator(), setA::contains);
+            }
+        };
+    }
+
+    /**
+     * Create a view of the asymmetric difference of two sets. That is, <code>A - B</code>
+     * @param setA set A
+     * @param setB set B
+     * @return a view of the elements in set A and not in set B
+     * @param <E> element type
+     */
+    static <E> SetView<E> difference(Set<E> setA, Set<E> setB) {
+        Objects.requireNonNull(setA);
+        Objects.requireNonNull(setB);
+        return new SetView<>() {
+            @Override
+            public boolean contains(Object o) {
+                return setA.contains(o) && !setB.contains(o);
+            }
+
+            @Override
+            public Iterator<E> iterator() {
+                return new FilteredIterator<>(setA.iterator(), element -> !setB.contains(element));
+            }
+        };
+    }
+
+    /**
+     * Copy the current elements of this view into an immutable set.
+     * <p>
+     *     The copy keeps the iteration order of this view, and is not affected by later changes to the backing sets.
+     * </p>
+     * @return a new, immutable set of the elements currently in this view
+     */
+    public Set<E> immutableCopy() {
+        List<E> elements = new ArrayList<>();
+        for (E element : this) {
+            elements.add(element);
+        }
+        return ImmutableArraySet.fromArray(elements.toArray(), elements.size(), false);
+    }
+
+    /**
+     * Add the current elements of this view to the given set.
+     * @param set set to add the elements to
+     * @return the given set
+     * @param <S> type of the given set
+     */
+    public <S extends Set<? super E>> S copyInto(S set) {
+        for (E element : this) {
+            set.add(element);
+        }
+        return set;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Iterator<E> it = iterator(); it.hasNext(); it.next()) {
+            ++size;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Read-only iterator over the elements of a source iterator that match a predicate.
+     * @param <E> element type
+     */
+    private static final class FilteredIterator<E> implements Iterator<E> {
+        private final Iterator<E> source;
+        private final Predicate<? super E> predicate;
+        private E next;
+        private boolean hasNext;
+
+        FilteredIterator(Iterator<E> source, Predicate<? super E> predicate) {
+            this.source = source;
+            this.predicate = predicate;
+            advance();
+        }
+
+        private void advance() {
+            while (source.hasNext()) {
+                E candidate = source.next();
+                if (predicate.test(candidate)) {
+                    next = candidate;
+                    hasNext = true;
+                    return;
+                }
+            }
+            next = null;
+            hasNext = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+            E result = next;
+            advance();
+            return result;
+        }
+    }
+}
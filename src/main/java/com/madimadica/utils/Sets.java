@@ -1,6 +1,7 @@
 package com.madimadica.utils;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -100,13 +101,7 @@ public abstract class Sets {
      */
     @SafeVarargs
     public static <T> Set<T> ofNullable(T... elements) {
-        Set<T> result = new HashSet<>(elements.length);
-        Collections.addAll(result, elements);
-        var out = Collections.unmodifiableSet(result);
-        if (out.size() != elements.length) {
-            throw new IllegalArgumentException("Arguments may not contain duplicates");
-        }
-        return out;
+        return ImmutableArraySet.fromArray(Arrays.copyOf(elements, elements.length, Object[].class), elements.length, true);
     }
 
     /**
@@ -160,16 +155,12 @@ public abstract class Sets {
     @SafeVarargs
     public static <T> Set<T> ofOrdered(T... elements) {
         final int len = elements.length;
-        Set<T> result = new LinkedHashSet<>(len);
         for (int i = 0; i < len; ++i) {
             if (elements[i] == null) {
                 throw new NullPointerException("Element at index " + i + " is null");
             }
-            if (!result.add(elements[i])) {
-                throw new IllegalArgumentException("Arguments may not contain duplicates");
-            }
         }
-        return Collections.unmodifiableSet(result);
+        return ImmutableArraySet.fromArray(Arrays.copyOf(elements, len, Object[].class), len, true);
     }
 
     /**
@@ -191,12 +182,7 @@ public abstract class Sets {
      */
     @SafeVarargs
     public static <T> Set<T> ofOrderedNullable(T... elements) {
-        Set<T> result = new LinkedHashSet<>(elements.length);
-        Collections.addAll(result, elements);
-        if (result.size() != elements.length) {
-            throw new IllegalArgumentException("Arguments may not contain duplicates");
-        }
-        return Collections.unmodifiableSet(result);
+        return ImmutableArraySet.fromArray(Arrays.copyOf(elements, elements.length, Object[].class), elements.length, true);
     }
 
     /**
@@ -243,8 +229,7 @@ public abstract class Sets {
      * @since 1.0
      */
     public static <T> Set<T> copyOfNullable(Collection<? extends T> originalCollection) {
-        Set<T> result = new HashSet<>(originalCollection);
-        return Collections.unmodifiableSet(result);
+        return ImmutableArraySet.copyOf(originalCollection);
     }
 
     /**
@@ -264,11 +249,11 @@ public abstract class Sets {
      * @since 1.0
      */
     public static <T> Set<T> copyOfOrdered(Collection<? extends T> originalCollection) {
-        var set = new LinkedHashSet<>(originalCollection);
+        Set<T> set = ImmutableArraySet.copyOf(originalCollection);
         if (set.contains(null)) {
             throw new NullPointerException("Collection to copy cannot contain nulls!");
         }
-        return Collections.unmodifiableSet(set);
+        return set;
     }
 
     /**
@@ -288,8 +273,7 @@ public abstract class Sets {
      * @since 1.0
      */
     public static <T> Set<T> copyOfOrderedNullable(Collection<? extends T> originalCollection) {
-        var set = new LinkedHashSet<>(originalCollection);
-        return Collections.unmodifiableSet(set);
+        return ImmutableArraySet.copyOf(originalCollection);
     }
 
     /**
@@ -510,6 +494,70 @@ public abstract class Sets {
         return set;
     }
 
+    /**
+     * Compute the union of two sorted sets with the same comparator, by a linear merge without hashing.
+     * <p>
+     *     Elements are compared only by the comparator, so elements that compare equal are treated as the same element,
+     *     even if they are not {@code equals}. When the comparator is inconsistent with equals, such as
+     *     {@link String#CASE_INSENSITIVE_ORDER}, this can differ from {@link #union(Set, Set)}.
+     * </p>
+     * @param setA sorted set A
+     * @param setB sorted set B, with the same comparator as set A
+     * @return a new, mutable {@link TreeSet} with the comparator of set A, consisting of all the elements in set A and set B.
+     * @param <T> Type of the elements
+     * @throws IllegalArgumentException if the sets do not have the same comparator
+     * @since 1.0
+     */
+    public static <T> TreeSet<T> sortedUnion(SortedSet<T> setA, SortedSet<T> setB) {
+        requireSameComparator(setA, setB);
+        return SortedMerge.union(setA, setB);
+    }
+
+    /**
+     * Compute the intersection of two sorted sets with the same comparator, by a linear merge without hashing.
+     * <p>
+     *     Elements are compared only by the comparator, so elements that compare equal are treated as the same element,
+     *     even if they are not {@code equals}. When one set is much larger than the other, each element of the smaller set
+     *     is looked up in the larger set instead.
+     * </p>
+     * @param setA sorted set A
+     * @param setB sorted set B, with the same comparator as set A
+     * @return a new, mutable {@link TreeSet} with the comparator of set A, consisting of only the elements in both sets.
+     * @param <T> Type of the elements
+     * @throws IllegalArgumentException if the sets do not have the same comparator
+     * @since 1.0
+     */
+    public static <T> TreeSet<T> sortedIntersection(SortedSet<T> setA, SortedSet<T> setB) {
+        requireSameComparator(setA, setB);
+        return SortedMerge.intersection(setA, setB);
+    }
+
+    /**
+     * Compute the asymmetric difference, <code>A - B</code>, of two sorted sets with the same comparator,
+     * by a linear merge without hashing.
+     * <p>
+     *     Elements are compared only by the comparator, so elements that compare equal are treated as the same element,
+     *     even if they are not {@code equals}. When the comparator is inconsistent with equals, such as
+     *     {@link String#CASE_INSENSITIVE_ORDER}, this can differ from {@link #difference(Set, Set)}.
+     * </p>
+     * @param setA sorted set A
+     * @param setB sorted set B, with the same comparator as set A
+     * @return a new, mutable {@link TreeSet} with the comparator of set A, consisting of the elements in set A and not in set B.
+     * @param <T> Type of the elements
+     * @throws IllegalArgumentException if the sets do not have the same comparator
+     * @since 1.0
+     */
+    public static <T> TreeSet<T> sortedDifference(SortedSet<T> setA, SortedSet<T> setB) {
+        requireSameComparator(setA, setB);
+        return SortedMerge.difference(setA, setB);
+    }
+
+    private static void requireSameComparator(SortedSet<?> setA, SortedSet<?> setB) {
+        if (!SortedMerge.isMergeable(setA, setB)) {
+            throw new IllegalArgumentException("Sorted sets must have the same comparator");
+        }
+    }
+
     /**
      * <p>
      *     Create an immutable, non-null set from the given iterable.
@@ -631,13 +679,21 @@ public abstract class Sets {
 
     /**
      * Compute the union of two sets
+     * <p>
+     *     When both sets are {@link IntBitmapSet}s, the result is an {@link IntBitmapSet} computed a word at a time.
+     *     To merge {@link SortedSet}s in sorted order without hashing, use {@link #sortedUnion(SortedSet, SortedSet)}.
+     * </p>
      * @param setA set A
      * @param setB set B
      * @return a new, mutable set, consisting of all the elements in set A and set B.
      * @param <T> Type of the elements
      * @since 1.0
      */
+    @SuppressWarnings("unchecked")
     public static <T> Set<T> union(Set<T> setA, Set<T> setB) {
+        if (setA instanceof IntBitmapSet && setB instanceof IntBitmapSet) {
+            return (Set<T>) IntBitmapSet.union((IntBitmapSet) setA, (IntBitmapSet) setB);
+        }
         Set<T> union = new HashSet<>(setA);
         union.addAll(setB);
         return union;
@@ -659,22 +715,91 @@ public abstract class Sets {
         return union;
     }
 
+    /**
+     * Compute the union of many sets, splitting the work across the common {@link ForkJoinPool}.
+     * @param sets sets to union, which must not be modified during the call
+     * @return a new, mutable set, consisting of all the elements in all the sets.
+     * @param <T> Type of the elements
+     * @see #parallelUnion(Collection, ForkJoinPool)
+     * @since 1.0
+     */
+    public static <T> Set<T> parallelUnion(Collection<? extends Set<T>> sets) {
+        return parallelUnion(sets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Compute the union of many sets, splitting the work across the given {@link ForkJoinPool}.
+     * <p>
+     *     Each set is split into chunks, and each chunk sorts its elements into buckets by hash range.
+     *     Each hash range then builds its own presized set from its buckets, so the threads never contend for a lock,
+     *     and no set is ever rehashed as it grows. The result is made of these per-range sets.
+     *     When there are fewer than 8192 elements in total, the sets are combined sequentially
+     *     as if by {@link #union(Set[])}.
+     * </p>
+     * @param sets sets to union, which must not be modified during the call
+     * @param pool pool to run the union on
+     * @return a new, mutable set, consisting of all the elements in all the sets.
+     * @param <T> Type of the elements
+     * @since 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Set<T> parallelUnion(Collection<? extends Set<T>> sets, ForkJoinPool pool) {
+        long totalSize = 0;
+        for (Set<T> set : sets) {
+            totalSize += set.size();
+        }
+        if (!ParallelSets.isParallel(totalSize, pool)) {
+            return union((Set<T>[]) sets.toArray(new Set<?>[0]));
+        }
+        return ParallelSets.union(sets, totalSize, pool);
+    }
+
     /**
      * Compute the intersection of two sets
+     * <p>
+     *     The smaller set is iterated and each of its elements is looked up in the larger set,
+     *     so the cost is proportional to the size of the smaller set.
+     *     If either set is a {@link SortedSet}, whose comparator may be inconsistent with equals,
+     *     set A is always the one iterated, so the result is the elements of set A that set B contains.
+     *     When both sets are {@link IntBitmapSet}s, the result is an {@link IntBitmapSet} computed a word at a time.
+     *     To merge {@link SortedSet}s in sorted order without hashing, use {@link #sortedIntersection(SortedSet, SortedSet)}.
+     * </p>
      * @param setA set A
      * @param setB set B
      * @return a new, mutable set, consisting of only the elements in both sets.
      * @param <T> Type of the elements
      * @since 1.0
      */
+    @SuppressWarnings("unchecked")
     public static <T> Set<T> intersection(Set<T> setA, Set<T> setB) {
-        Set<T> intersection = new HashSet<>(setA);
-        intersection.retainAll(setB);
+        if (setA instanceof IntBitmapSet && setB instanceof IntBitmapSet) {
+            return (Set<T>) IntBitmapSet.intersection((IntBitmapSet) setA, (IntBitmapSet) setB);
+        }
+        final Set<T> smaller;
+        final Set<T> larger;
+        if (setA.size() <= setB.size() || setA instanceof SortedSet || setB instanceof SortedSet) {
+            smaller = setA;
+            larger = setB;
+        } else {
+            smaller = setB;
+            larger = setA;
+        }
+        Set<T> intersection = newHashSet(smaller.size());
+        for (T element : smaller) {
+            if (larger.contains(element)) {
+                intersection.add(element);
+            }
+        }
         return intersection;
     }
 
     /**
      * Compute the intersection of two or more sets
+     * <p>
+     *     The sets are intersected from smallest to largest, stopping as soon as the intersection is empty.
+     *     If any set is a {@link SortedSet}, they are instead intersected in the given order,
+     *     as the order decides which of the elements that compare equal are kept.
+     * </p>
      * @param sets sets to union
      * @return a new, mutable set, consisting of only the elements in every set.
      * @param <T> Type of the elements
@@ -687,40 +812,216 @@ public abstract class Sets {
         } else if (sets.length == 1) {
             return new HashSet<>(sets[0]);
         } else {
-            Set<T> intersection = new HashSet<>(sets[0]);
-            for (int i = 1; i < sets.length; ++i) {
-                intersection.retainAll(sets[i]);
+            Set<T>[] ordered = sets.clone();
+            if (!anySorted(ordered)) {
+                Arrays.sort(ordered, Comparator.comparingInt(Set::size));
+            }
+            if (ordered[0].isEmpty()) {
+                return new HashSet<>();
+            }
+            Set<T> intersection = intersection(ordered[0], ordered[1]);
+            for (int i = 2; i < ordered.length && !intersection.isEmpty(); ++i) {
+                final Set<T> set = ordered[i];
+                intersection.removeIf(element -> !set.contains(element));
             }
             return intersection;
         }
     }
 
+    private static boolean anySorted(Set<?>[] sets) {
+        for (Set<?> set : sets) {
+            if (set instanceof SortedSet) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compute the intersection of many sets, splitting the work across the common {@link ForkJoinPool}.
+     * @param sets sets to intersect, which must not be modified during the call
+     * @return a new, mutable set, consisting of only the elements in every set.
+     * @param <T> Type of the elements
+     * @see #parallelIntersection(Collection, ForkJoinPool)
+     * @since 1.0
+     */
+    public static <T> Set<T> parallelIntersection(Collection<? extends Set<T>> sets) {
+        return parallelIntersection(sets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Compute the intersection of many sets, splitting the work across the given {@link ForkJoinPool}.
+     * <p>
+     *     The smallest set is split into chunks, and each chunk keeps the elements found in every other set,
+     *     checking the smaller sets first, and sorts them into buckets by hash range. Each hash range then builds
+     *     its own set from its buckets, so the threads never contend for a lock. The result is made of these
+     *     per-range sets. When the smallest set has fewer than 8192 elements, the sets are intersected sequentially
+     *     as if by {@link #intersection(Set[])}.
+     * </p>
+     * @param sets sets to intersect, which must not be modified during the call
+     * @param pool pool to run the intersection on
+     * @return a new, mutable set, consisting of only the elements in every set.
+     * @param <T> Type of the elements
+     * @since 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Set<T> parallelIntersection(Collection<? extends Set<T>> sets, ForkJoinPool pool) {
+        List<Set<T>> bySize = new ArrayList<>(sets);
+        bySize.sort(Comparator.comparingInt(Set::size));
+        if (bySize.size() < 2 || !ParallelSets.isParallel(bySize.get(0).size(), pool)) {
+            return intersection((Set<T>[]) bySize.toArray(new Set<?>[0]));
+        }
+        return ParallelSets.intersection(bySize, pool);
+    }
+
     /**
      * Compute the asymmetric difference of two sets. That is, <code>A - B</code>
+     * <p>
+     *     When set B is smaller than set A, set A is copied and the elements of set B are removed from the copy.
+     *     Otherwise, only the elements of set A that are not in set B are copied, without iterating set B.
+     *     When both sets are {@link IntBitmapSet}s, the result is an {@link IntBitmapSet} computed a word at a time.
+     *     To merge {@link SortedSet}s in sorted order without hashing, use {@link #sortedDifference(SortedSet, SortedSet)}.
+     * </p>
      * @param setA set A
      * @param setB set B
      * @return a new, mutable set, consisting of the elements in set A and not in set B.
      * @param <T> Type of the elements
      * @since 1.0
      */
+    @SuppressWarnings("unchecked")
     public static <T> Set<T> difference(Set<T> setA, Set<T> setB) {
-        Set<T> result = new HashSet<>(setA);
-        result.removeAll(setB);
+        if (setA instanceof IntBitmapSet && setB instanceof IntBitmapSet) {
+            return (Set<T>) IntBitmapSet.difference((IntBitmapSet) setA, (IntBitmapSet) setB);
+        }
+        if (setB.size() < setA.size()) {
+            Set<T> result = new HashSet<>(setA);
+            for (T element : setB) {
+                result.remove(element);
+            }
+            return result;
+        }
+        Set<T> result = newHashSet(setA.size());
+        for (T element : setA) {
+            if (!setB.contains(element)) {
+                result.add(element);
+            }
+        }
         return result;
     }
 
+    /**
+     * Create a live, unmodifiable view of the union of two sets, without copying any elements.
+     * <p>
+     *     Prefer this over {@link #union(Set, Set)} when the result is only queried with {@code contains}.
+     *     See {@link SetView} for the cost of each operation on the view.
+     * </p>
+     * @param setA set A
+     * @param setB set B
+     * @return a view of the elements in set A or set B.
+     * @param <T> Type of the elements
+     * @since 1.0
+     */
+    public static <T> SetView<T> unionView(Set<T> setA, Set<T> setB) {
+        return SetView.union(setA, setB);
+    }
+
+    /**
+     * Create a live, unmodifiable view of the intersection of two sets, without copying any elements.
+     * <p>
+     *     Prefer this over {@link #intersection(Set, Set)} when the result is only queried with {@code contains}.
+     *     See {@link SetView} for the cost of each operation on the view.
+     * </p>
+     * @param setA set A
+     * @param setB set B
+     * @return a view of the elements in both sets.
+     * @param <T> Type of the elements
+     * @since 1.0
+     */
+    public static <T> SetView<T> intersectionView(Set<T> setA, Set<T> setB) {
+        return SetView.intersection(setA, setB);
+    }
+
+    /**
+     * Create a live, unmodifiable view of the asymmetric difference of two sets, <code>A - B</code>, without copying any elements.
+     * <p>
+     *     Prefer this over {@link #difference(Set, Set)} when the result is only queried with {@code contains}.
+     *     See {@link SetView} for the cost of each operation on the view.
+     * </p>
+     * @param setA set A
+     * @param setB set B
+     * @return a view of the elements in set A and not in set B.
+     * @param <T> Type of the elements
+     * @since 1.0
+     */
+    public static <T> SetView<T> differenceView(Set<T> setA, Set<T> setB) {
+        return SetView.difference(setA, setB);
+    }
+
     /**
      * Compute the symmetric difference of two sets.
+     * <p>
+     *     Set A is copied, then each element of set B is added, or removed if it was already present,
+     *     so every element is hashed about once.
+     *     When both sets are {@link IntBitmapSet}s, the result is an {@link IntBitmapSet} computed a word at a time.
+     * </p>
      * @param setA set A
      * @param setB set B
      * @return a new, mutable set, consisting of the elements that appear in only 1 set.
      * @param <T> Type of the elements
      * @since 1.0
      */
+    @SuppressWarnings("unchecked")
     public static <T> Set<T> symmetricDifference(Set<T> setA, Set<T> setB) {
-        Set<T> union = union(setA, setB);
-        Set<T> intersection = intersection(setA, setB);
-        return difference(union, intersection);
+        if (setA instanceof IntBitmapSet && setB instanceof IntBitmapSet) {
+            return (Set<T>) IntBitmapSet.symmetricDifference((IntBitmapSet) setA, (IntBitmapSet) setB);
+        }
+        Set<T> result = newHashSet(setA.size() + setB.size());
+        result.addAll(setA);
+        for (T element : setB) {
+            if (!result.add(element)) {
+                result.remove(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compute the symmetric difference of two or more sets.
+     * <p>
+     *     This is the set of elements that appear in an odd number of the sets, which for two sets
+     *     is the same as {@link #symmetricDifference(Set, Set)}. Each element of each set is added,
+     *     or removed if it was already present, so every element is hashed about once.
+     * </p>
+     * @param sets sets to compute the symmetric difference of
+     * @return a new, mutable set, consisting of the elements that appear in an odd number of the sets.
+     * @param <T> Type of the elements
+     * @since 1.0
+     */
+    @SafeVarargs
+    public static <T> Set<T> symmetricDifference(Set<T>... sets) {
+        long totalSize = 0;
+        for (Set<T> set : sets) {
+            totalSize += set.size();
+        }
+        Set<T> result = newHashSet((int) Math.min(totalSize, 1 << 30));
+        for (Set<T> set : sets) {
+            for (T element : set) {
+                if (!result.add(element)) {
+                    result.remove(element);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Create a {@link HashSet} large enough to hold {@code expectedSize} elements without resizing.
+     * @param expectedSize number of elements expected to be added
+     * @return a new, empty, mutable set
+     * @param <T> Type of the elements
+     */
+    private static <T> Set<T> newHashSet(int expectedSize) {
+        return new HashSet<>(Math.max((int) (expectedSize / 0.75f) + 1, 16));
     }
 
 }
@@ -0,0 +1,448 @@
+package com.madimadica.utils;
+
+import java.util.*;
+
+/**
+ * Set algebra on sorted inputs by a linear merge, without hashing, producing sorted outputs.
+ * <p>
+ *     Inputs are sorted lists, or {@link SortedSet}s with the same comparator. Elements that compare equal
+ *     are treated as the same element, so the outputs never contain two elements that compare equal,
+ *     even when an input list has repeated elements. Where elements of both inputs compare equal, the output
+ *     keeps the element of input A, whichever input is larger. When one input is at least {@value #GALLOP_RATIO}
+ *     times larger than the other, the larger input is searched instead of being walked one element
+ *     at a time: lists by galloping (exponential then binary) search, sorted sets by their own lookups.
+ * </p>
+ */
+final class SortedMerge {
+
+    /**
+     * Smallest ratio between the sizes of the inputs where searching the larger input beats a linear merge.
+     */
+    static final int GALLOP_RATIO = 16;
+
+    private SortedMerge() {}
+
+    /**
+     * @return the comparator to use for a sorted set or list with the given comparator, never {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Comparator<? super T> orNatural(Comparator<? super T> comparator) {
+        return comparator == null ? (Comparator<? super T>) Comparator.naturalOrder() : comparator;
+    }
+
+    /**
+     * Test if two sets are sorted sets with the same order, so that they can be merged.
+     * @param setA set A
+     * @param setB set B
+     * @return true if both sets are {@link SortedSet}s with equal comparators
+     */
+    static boolean isMergeable(Set<?> setA, Set<?> setB) {
+        return setA instanceof SortedSet
+                && setB instanceof SortedSet
+                && orNatural(((SortedSet<?>) setA).comparator()).equals(orNatural(((SortedSet<?>) setB).comparator()));
+    }
+
+    /**
+     * Compute the union of two sorted sets with the same comparator.
+     * @return a new, mutable {@link TreeSet} with the comparator of set A
+     */
+    static <T> TreeSet<T> union(SortedSet<T> setA, SortedSet<T> setB) {
+        final Comparator<? super T> comparator = setA.comparator();
+        if (isSkewed(setA.size(), setB.size()) || isSkewed(setB.size(), setA.size())) {
+            // Build the larger set in linear time, then insert the few others
+            TreeSet<T> result = new TreeSet<>(comparator);
+            if (setA.size() >= setB.size()) {
+                result.addAll(setA);
+                result.addAll(setB);
+            } else {
+                result.addAll(setB);
+                for (T element : setA) {
+                    // Replace any equal element of set B, which TreeSet#add would keep
+                    result.remove(element);
+                    result.add(element);
+                }
+            }
+            return result;
+        }
+        return toTreeSet(union(setA.iterator(), setB.iterator(), orNatural(comparator), setA.size() + setB.size()), comparator);
+    }
+
+    /**
+     * Compute the intersection of two sorted sets with the same comparator.
+     * @return a new, mutable {@link TreeSet} with the comparator of set A
+     */
+    static <T> TreeSet<T> intersection(SortedSet<T> setA, SortedSet<T> setB) {
+        final Comparator<? super T> comparator = setA.comparator();
+        final List<T> output;
+        if (isSkewed(setA.size(), setB.size())) {
+            output = filter(setA, setB, true);
+        } else if (isSkewed(setB.size(), setA.size())) {
+            output = intersectionOfLarger(setA, setB, orNatural(comparator));
+        } else {
+            output = intersection(setA.iterator(), setB.iterator(), orNatural(comparator), Math.min(setA.size(), setB.size()));
+        }
+        return toTreeSet(output, comparator);
+    }
+
+    /**
+     * Compute the asymmetric difference of two sorted sets with the same comparator. That is, <code>A - B</code>
+     * @return a new, mutable {@link TreeSet} with the comparator of set A
+     */
+    static <T> TreeSet<T> difference(SortedSet<T> setA, SortedSet<T> setB) {
+        final Comparator<? super T> comparator = setA.comparator();
+        if (isSkewed(setA.size(), setB.size())) {
+            return toTreeSet(filter(setA, setB, false), comparator);
+        } else if (isSkewed(setB.size(), setA.size())) {
+            TreeSet<T> result = new TreeSet<>(comparator);
+            result.addAll(setA);
+            for (T element : setB) {
+                result.remove(element);
+            }
+            return result;
+        }
+        return toTreeSet(difference(setA.iterator(), setB.iterator(), orNatural(comparator), setA.size()), comparator);
+    }
+
+    /**
+     * Compute the union of two sorted lists.
+     * @return a new, mutable list, sorted by {@code comparator}
+     */
+    static <T> List<T> union(List<T> listA, List<T> listB, Comparator<? super T> comparator) {
+        return union(listA.iterator(), listB.iterator(), comparator, listA.size() + listB.size());
+    }
+
+    /**
+     * Compute the intersection of two sorted lists, galloping through the larger list when the sizes are skewed.
+     * @return a new, mutable list, sorted by {@code comparator}
+     */
+    static <T> List<T> intersection(List<T> listA, List<T> listB, Comparator<? super T> comparator) {
+        if (isSkewed(listA.size(), listB.size())) {
+            return gallop(listA, randomAccess(listB), comparator, true);
+        } else if (isSkewed(listB.size(), listA.size())) {
+            return intersectionOfLarger(randomAccess(listA), listB, comparator);
+        }
+        return intersection(listA.iterator(), listB.iterator(), comparator, Math.min(listA.size(), listB.size()));
+    }
+
+    /**
+     * Compute the asymmetric difference of two sorted lists, <code>A - B</code>,
+     * galloping through the larger list when the sizes are skewed.
+     * @return a new, mutable list, sorted by {@code comparator}
+     */
+    static <T> List<T> difference(List<T> listA, List<T> listB, Comparator<? super T> comparator) {
+        if (isSkewed(listA.size(), listB.size())) {
+            return gallop(listA, randomAccess(listB), comparator, false);
+        } else if (isSkewed(listB.size(), listA.size())) {
+            return differenceOfLarger(randomAccess(listA), listB, comparator);
+        }
+        return difference(listA.iterator(), listB.iterator(), comparator, listA.size());
+    }
+
+    /**
+     * @return true if an input of size {@code large} is large enough to be searched for the elements of an input of size {@code small}
+     */
+    private static boolean isSkewed(int small, int large) {
+        return (long) small * GALLOP_RATIO <= large;
+    }
+
+    private static <T> List<T> randomAccess(List<T> list) {
+        return list instanceof RandomAccess ? list : new ArrayList<>(list);
+    }
+
+    /**
+     * Append {@code element} unless it compares equal to the last element of the sorted output.
+     */
+    private static <T> void append(List<T> output, T element, Comparator<? super T> comparator) {
+        final int size = output.size();
+        if (size == 0 || comparator.compare(output.get(size - 1), element) != 0) {
+            output.add(element);
+        }
+    }
+
+    private static <T> List<T> union(Iterator<T> a, Iterator<T> b, Comparator<? super T> comparator, int expectedSize) {
+        List<T> output = new ArrayList<>(expectedSize);
+        boolean hasA = a.hasNext();
+        boolean hasB = b.hasNext();
+        T x = hasA ? a.next() : null;
+        T y = hasB ? b.next() : null;
+        while (hasA && hasB) {
+            final int cmp = comparator.compare(x, y);
+            if (cmp <= 0) {
+                append(output, x, comparator);
+                if (hasA = a.hasNext()) {
+                    x = a.next();
+                }
+            }
+            if (cmp >= 0) {
+                if (cmp > 0) {
+                    append(output, y, comparator);
+                }
+                if (hasB = b.hasNext()) {
+                    y = b.next();
+                }
+            }
+        }
+        while (hasA) {
+            append(output, x, comparator);
+            if (hasA = a.hasNext()) {
+                x = a.next();
+            }
+        }
+        while (hasB) {
+            append(output, y, comparator);
+            if (hasB = b.hasNext()) {
+                y = b.next();
+            }
+        }
+        return output;
+    }
+
+    private static <T> List<T> intersection(Iterator<T> a, Iterator<T> b, Comparator<? super T> comparator, int expectedSize) {
+        List<T> output = new ArrayList<>(expectedSize);
+        boolean hasA = a.hasNext();
+        boolean hasB = b.hasNext();
+        T x = hasA ? a.next() : null;
+        T y = hasB ? b.next() : null;
+        while (hasA && hasB) {
+            final int cmp = comparator.compare(x, y);
+            if (cmp == 0) {
+                append(output, x, comparator);
+            }
+            if (cmp <= 0 && (hasA = a.hasNext())) {
+                x = a.next();
+            }
+            if (cmp >= 0 && (hasB = b.hasNext())) {
+                y = b.next();
+            }
+        }
+        return output;
+    }
+
+    private static <T> List<T> difference(Iterator<T> a, Iterator<T> b, Comparator<? super T> comparator, int expectedSize) {
+        List<T> output = new ArrayList<>(expectedSize);
+        boolean hasA = a.hasNext();
+        boolean hasB = b.hasNext();
+        T x = hasA ? a.next() : null;
+        T y = hasB ? b.next() : null;
+        while (hasA && hasB) {
+            final int cmp = comparator.compare(x, y);
+            if (cmp > 0) {
+                if (hasB = b.hasNext()) {
+                    y = b.next();
+                }
+                continue;
+            }
+            if (cmp < 0) {
+                append(output, x, comparator);
+            }
+            // Keep y, it may equal the next x when list A has repeated elements
+            if (hasA = a.hasNext()) {
+                x = a.next();
+            }
+        }
+        while (hasA) {
+            append(output, x, comparator);
+            if (hasA = a.hasNext()) {
+                x = a.next();
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Keep the elements of the smaller input that are, or are not, in the larger sorted set.
+     */
+    private static <T> List<T> filter(SortedSet<T> smaller, SortedSet<T> larger, boolean keepPresent) {
+        List<T> output = new ArrayList<>(smaller.size());
+        for (T element : smaller) {
+            if (larger.contains(element) == keepPresent) {
+                output.add(element);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Keep the elements of the larger sorted set that are in the smaller one, looking each up in the larger set.
+     */
+    private static <T> List<T> intersectionOfLarger(SortedSet<T> larger, SortedSet<T> smaller, Comparator<? super T> comparator) {
+        List<T> output = new ArrayList<>(smaller.size());
+        for (T element : smaller) {
+            Iterator<T> tail = larger.tailSet(element).iterator();
+            if (tail.hasNext()) {
+                T candidate = tail.next();
+                if (comparator.compare(candidate, element) == 0) {
+                    output.add(candidate);
+                }
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Keep the elements of the larger list that are in the smaller list, galloping forward through the larger list from the last match.
+     */
+    private static <T> List<T> intersectionOfLarger(List<T> larger, List<T> smaller, Comparator<? super T> comparator) {
+        List<T> output = new ArrayList<>(smaller.size());
+        final int size = larger.size();
+        int position = 0;
+        for (T element : smaller) {
+            position = gallop(larger, position, element, comparator);
+            if (position < size && comparator.compare(larger.get(position), element) == 0) {
+                append(output, larger.get(position), comparator);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Keep the elements of the smaller list that are, or are not, in the larger list,
+     * galloping forward through the larger list from the last match.
+     */
+    private static <T> List<T> gallop(List<T> smaller, List<T> larger, Comparator<? super T> comparator, boolean keepPresent) {
+        List<T> output = new ArrayList<>(smaller.size());
+        final int size = larger.size();
+        int position = 0;
+        for (T element : smaller) {
+            position = gallop(larger, position, element, comparator);
+            boolean present = position < size && comparator.compare(larger.get(position), element) == 0;
+            if (present == keepPresent) {
+                append(output, element, comparator);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Copy the runs of the larger list between the elements of the smaller list, galloping over each run.
+     */
+    private static <T> List<T> differenceOfLarger(List<T> larger, List<T> smaller, Comparator<? super T> comparator) {
+        List<T> output = new ArrayList<>(larger.size());
+        final int size = larger.size();
+        int position = 0;
+        for (T excluded : smaller) {
+            final int end = gallop(larger, position, excluded, comparator);
+            for (; position < end; ++position) {
+                append(output, larger.get(position), comparator);
+            }
+            while (position < size && comparator.compare(larger.get(position), excluded) == 0) {
+                ++position;
+            }
+        }
+        for (; position < size; ++position) {
+            append(output, larger.get(position), comparator);
+        }
+        return output;
+    }
+
+    /**
+     * Find the first position at or after {@code from} whose element is not less than {@code key},
+     * by probing positions {@code from + 1, from + 3, from + 7, ...} and then binary searching the last gap.
+     * @return the position, or the size of the list if every element from {@code from} is less than {@code key}
+     */
+    static <T> int gallop(List<T> list, int from, T key, Comparator<? super T> comparator) {
+        final int size = list.size();
+        if (from >= size || comparator.compare(list.get(from), key) >= 0) {
+            return from;
+        }
+        // Invariant: list[low] < key, and high == size or list[high] >= key
+        int low = from;
+        int step = 1;
+        int high = from + 1;
+        while (high < size && comparator.compare(list.get(high), key) < 0) {
+            low = high;
+            step <<= 1;
+            high = (int) Math.min((long) low + step, size);
+        }
+        while (low + 1 < high) {
+            final int mid = (low + high) >>> 1;
+            if (comparator.compare(list.get(mid), key) < 0) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Build a tree set from a sorted list in linear time, through the sorted-input path of {@link TreeSet#addAll}.
+     */
+    private static <T> TreeSet<T> toTreeSet(List<T> sorted, Comparator<? super T> comparator) {
+        TreeSet<T> result = new TreeSet<>(comparator);
+        result.addAll(new SortedListSet<>(sorted, comparator));
+        return result;
+    }
+
+    /**
+     * Read-only {@link SortedSet} over a sorted list without repeated elements, only used to hand sorted input to a {@link TreeSet}.
+     */
+    private static final class SortedListSet<T> extends AbstractSet<T> implements SortedSet<T> {
+        private final List<T> elements;
+        private final Comparator<? super T> comparator;
+
+        SortedListSet(List<T> elements, Comparator<? super T> comparator) {
+            this.elements = elements;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Collections.unmodifiableList(elements).iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            @SuppressWarnings("unchecked")
+            T key = (T) o;
+            int position = positionOf(key);
+            return position < elements.size() && orNatural(comparator).compare(elements.get(position), key) == 0;
+        }
+
+        @Override
+        public Comparator<? super T> comparator() {
+            return comparator;
+        }
+
+        private int positionOf(T element) {
+            return gallop(elements, 0, element, orNatural(comparator));
+        }
+
+        @Override
+        public SortedSet<T> subSet(T fromElement, T toElement) {
+            final int from = positionOf(fromElement);
+            return new SortedListSet<>(elements.subList(from, Math.max(from, positionOf(toElement))), comparator);
+        }
+
+        @Override
+        public SortedSet<T> headSet(T toElement) {
+            return new SortedListSet<>(elements.subList(0, positionOf(toElement)), comparator);
+        }
+
+        @Override
+        public SortedSet<T> tailSet(T fromElement) {
+            return new SortedListSet<>(elements.subList(positionOf(fromElement), elements.size()), comparator);
+        }
+
+        @Override
+        public T first() {
+            if (elements.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return elements.get(0);
+        }
+
+        @Override
+        public T last() {
+            if (elements.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return elements.get(elements.size() - 1);
+        }
+    }
+}
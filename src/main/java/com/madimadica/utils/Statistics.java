@@ -0,0 +1,156 @@
+package com.madimadica.utils;
+
+/**
+ * Immutable summary statistics of a non-empty collection of numbers:
+ * the count, minimum, maximum, sum, mean and variances.
+ * <p>
+ *     The variances are derived from the sum of squared deviations from the mean, not from the mean of the squares,
+ *     so they stay accurate when the mean is large compared to the spread.
+ * </p>
+ * @see MathUtils#summarize(double...)
+ * @see StatisticsAccumulator#toStatistics()
+ * @since 1.0
+ */
+public final class Statistics {
+
+    private final long count;
+    private final double min;
+    private final double max;
+    private final double sum;
+    private final double m2;
+
+    /**
+     * @param count number of elements, at least 1
+     * @param m2 sum of the squared deviations from the mean
+     */
+    Statistics(long count, double min, double max, double sum, double m2) {
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+        this.m2 = m2;
+    }
+
+    /**
+     * Get the number of elements
+     * @return the number of elements
+     * @since 1.0
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Get the minimum, with the same rules for {@code NaN} and zeros as {@link MathUtils#min(double...)}
+     * @return the minimum
+     * @since 1.0
+     */
+    public double min() {
+        return min;
+    }
+
+    /**
+     * Get the maximum, with the same rules for {@code NaN} and zeros as {@link MathUtils#max(double...)}
+     * @return the maximum
+     * @since 1.0
+     */
+    public double max() {
+        return max;
+    }
+
+    /**
+     * Get the sum of all elements
+     * @return the sum
+     * @since 1.0
+     */
+    public double sum() {
+        return sum;
+    }
+
+    /**
+     * Get the mean of all elements
+     * @return the mean
+     * @since 1.0
+     */
+    public double mean() {
+        return sum / count;
+    }
+
+    /**
+     * Get the population variance
+     * @return the population variance
+     * @since 1.0
+     */
+    public double variance() {
+        return m2 / count;
+    }
+
+    /**
+     * Get the sample variance
+     * @return the sample variance
+     * @throws IllegalStateException if there are less than 2 elements
+     * @since 1.0
+     */
+    public double sampleVariance() {
+        if (count <= 1) {
+            throw new IllegalStateException("Must have at least 2 samples");
+        }
+        return m2 / (count - 1);
+    }
+
+    /**
+     * Get the population standard deviation
+     * @return the population standard deviation
+     * @since 1.0
+     */
+    public double stdDev() {
+        return Math.sqrt(variance());
+    }
+
+    /**
+     * Get the sample standard deviation
+     * @return the sample standard deviation
+     * @throws IllegalStateException if there are less than 2 elements
+     * @since 1.0
+     */
+    public double sampleStdDev() {
+        return Math.sqrt(sampleVariance());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Statistics)) {
+            return false;
+        }
+        Statistics other = (Statistics) o;
+        return count == other.count
+                && Double.compare(min, other.min) == 0
+                && Double.compare(max, other.max) == 0
+                && Double.compare(sum, other.sum) == 0
+                && Double.compare(m2, other.m2) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(count);
+        result = 31 * result + Double.hashCode(min);
+        result = 31 * result + Double.hashCode(max);
+        result = 31 * result + Double.hashCode(sum);
+        result = 31 * result + Double.hashCode(m2);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Statistics{count=" + count
+                + ", min=" + min
+                + ", max=" + max
+                + ", sum=" + sum
+                + ", mean=" + mean()
+                + ", variance=" + variance()
+                + '}';
+    }
+}
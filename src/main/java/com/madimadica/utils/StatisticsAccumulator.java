@@ -0,0 +1,252 @@
+package com.madimadica.utils;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Mutable accumulator of summary statistics over samples given one at a time, without keeping the samples.
+ * <p>
+ *     For {@code double} and {@code float} samples, the count, minimum, maximum, sum and mean are the same as
+ *     {@link MathUtils} computes over an array of the samples, in the order they were accepted. {@code int} and
+ *     {@code long} samples are widened to {@code double} and summed in {@code double}, so the sum does not wrap
+ *     around like {@link MathUtils#sum(long...)}, and once it exceeds 2<sup>53</sup> it is rounded, unlike the
+ *     exact {@code long} sum behind {@link MathUtils#average(int...)}. The variances are updated with Welford's
+ *     algorithm, so they agree with {@link MathUtils#variance(double...)} up to rounding.
+ * </p>
+ * <p>
+ *     Accumulators are not thread safe. To accumulate from several threads, give each thread its own accumulator
+ *     and {@link #combine(StatisticsAccumulator) combine} them afterward, such as with
+ *     {@code stream.collect(StatisticsAccumulator::new, StatisticsAccumulator::accept, StatisticsAccumulator::combine)}.
+ * </p>
+ * @see Statistics
+ * @since 1.0
+ */
+public final class StatisticsAccumulator implements DoubleConsumer, IntConsumer, LongConsumer {
+
+    private long count;
+    private double min;
+    private double max;
+    private double sum;
+    private double mean;
+    private double m2;
+
+    /**
+     * Create an empty accumulator
+     * @since 1.0
+     */
+    public StatisticsAccumulator() {}
+
+    /**
+     * Record a sample
+     * @param value sample to record
+     * @since 1.0
+     */
+    @Override
+    public void accept(int value) {
+        accept((double) value);
+    }
+
+    /**
+     * Record a sample
+     * @param value sample to record
+     * @since 1.0
+     */
+    @Override
+    public void accept(long value) {
+        accept((double) value);
+    }
+
+    /**
+     * Record a sample, {@code float} samples are widened exactly to {@code double}
+     * @param value sample to record
+     * @since 1.0
+     */
+    @Override
+    public void accept(double value) {
+        final long n = ++count;
+        if (n == 1) {
+            min = value;
+            max = value;
+        } else {
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+        sum += value;
+        final double delta = value - mean;
+        mean += delta / n;
+        m2 += delta * (value - mean);
+    }
+
+    /**
+     * Add the samples of another accumulator to this one, as if they had been accepted after the samples of this one.
+     * The other accumulator is not modified.
+     * @param other accumulator to add the samples of
+     * @since 1.0
+     */
+    public void combine(StatisticsAccumulator other) {
+        combine(other.count, other.min, other.max, other.sum, other.mean, other.m2);
+    }
+
+    /**
+     * Add the samples summarized by the given state, as if they had been accepted after the samples of this one.
+     * @param otherMean Welford mean of the other samples
+     * @param otherM2 sum of the squared deviations of the other samples from their mean
+     */
+    void combine(long otherCount, double otherMin, double otherMax, double otherSum, double otherMean, double otherM2) {
+        if (otherCount == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = otherCount;
+            min = otherMin;
+            max = otherMax;
+            sum = otherSum;
+            mean = otherMean;
+            m2 = otherM2;
+            return;
+        }
+        if (otherMin < min) {
+            min = otherMin;
+        }
+        if (otherMax > max) {
+            max = otherMax;
+        }
+        final long n = count + otherCount;
+        final double delta = otherMean - mean;
+        mean += delta * otherCount / n;
+        m2 += otherM2 + delta * delta * ((double) count * otherCount / n);
+        sum += otherSum;
+        count = n;
+    }
+
+    /**
+     * Get the number of samples
+     * @return the number of samples
+     * @since 1.0
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Get the minimum, with the same rules for {@code NaN} and zeros as {@link MathUtils#min(double...)}
+     * @return the minimum
+     * @throws IllegalStateException if there are no samples
+     * @since 1.0
+     */
+    public double min() {
+        checkNotEmpty();
+        return min;
+    }
+
+    /**
+     * Get the maximum, with the same rules for {@code NaN} and zeros as {@link MathUtils#max(double...)}
+     * @return the maximum
+     * @throws IllegalStateException if there are no samples
+     * @since 1.0
+     */
+    public double max() {
+        checkNotEmpty();
+        return max;
+    }
+
+    /**
+     * Get the sum of all samples, which is 0 if there are none
+     * @return the sum
+     * @since 1.0
+     */
+    public double sum() {
+        return sum;
+    }
+
+    /**
+     * Get the mean of all samples
+     * @return the mean
+     * @throws IllegalStateException if there are no samples
+     * @since 1.0
+     */
+    public double mean() {
+        checkNotEmpty();
+        return sum / count;
+    }
+
+    /**
+     * Get the population variance
+     * @return the population variance
+     * @throws IllegalStateException if there are no samples
+     * @since 1.0
+     */
+    public double variance() {
+        checkNotEmpty();
+        return m2 / count;
+    }
+
+    /**
+     * Get the sample variance
+     * @return the sample variance
+     * @throws IllegalStateException if there are less than 2 samples
+     * @since 1.0
+     */
+    public double sampleVariance() {
+        if (count <= 1) {
+            throw new IllegalStateException("Must have at least 2 samples");
+        }
+        return m2 / (count - 1);
+    }
+
+    /**
+     * Get the population standard deviation
+     * @return the population standard deviation
+     * @throws IllegalStateException if there are no samples
+     * @since 1.0
+     */
+    public double stdDev() {
+        return Math.sqrt(variance());
+    }
+
+    /**
+     * Get the sample standard deviation
+     * @return the sample standard deviation
+     * @throws IllegalStateException if there are less than 2 samples
+     * @since 1.0
+     */
+    public double sampleStdDev() {
+        return Math.sqrt(sampleVariance());
+    }
+
+    /**
+     * Create an immutable snapshot of the current statistics
+     * @return the statistics of all samples so far
+     * @throws IllegalStateException if there are no samples
+     * @since 1.0
+     */
+    public Statistics toStatistics() {
+        checkNotEmpty();
+        return new Statistics(count, min, max, sum, m2);
+    }
+
+    private void checkNotEmpty() {
+        if (count == 0) {
+            throw new IllegalStateException("Must have at least 1 sample");
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (count == 0) {
+            return "StatisticsAccumulator{count=0}";
+        }
+        return "StatisticsAccumulator{count=" + count
+                + ", min=" + min
+                + ", max=" + max
+                + ", sum=" + sum
+                + ", mean=" + mean()
+                + ", variance=" + variance()
+                + '}';
+    }
+}
@@ -0,0 +1,225 @@
+package com.madimadica.utils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Thread safe recorder of summary statistics, for samples recorded by many threads at once.
+ * <p>
+ *     Like {@link java.util.concurrent.atomic.LongAdder}, samples are spread over several cells,
+ *     here one per recording thread, so concurrent writers never touch the same cell or cache line,
+ *     and never wait for one another. A cell is only shared with {@link #snapshot()}, which combines them.
+ *     The cells of threads that have terminated are folded together by the next snapshot or new writer.
+ * </p>
+ * <p>
+ *     Each cell is a {@link StatisticsAccumulator} in all but name.
+ *     Every sample is either wholly in a snapshot or wholly missing from it, so the count, sum, minimum, maximum
+ *     and variances of a snapshot always describe the same samples. Samples recorded while a snapshot is being
+ *     taken may or may not be in it.
+ * </p>
+ * @see StatisticsAccumulator
+ * @since 1.0
+ */
+public final class StatisticsRecorder implements DoubleConsumer, IntConsumer, LongConsumer {
+
+    private final ThreadLocal<Cell> localCell = ThreadLocal.withInitial(this::register);
+
+    /**
+     * Cells of the live threads that have recorded samples, guarded by this.
+     */
+    private Cell[] cells = new Cell[0];
+
+    /**
+     * Samples of the threads that have terminated, guarded by this.
+     */
+    private final StatisticsAccumulator retired = new StatisticsAccumulator();
+
+    /**
+     * Create an empty recorder
+     * @since 1.0
+     */
+    public StatisticsRecorder() {}
+
+    /**
+     * Record a sample
+     * @param value sample to record
+     * @since 1.0
+     */
+    @Override
+    public void accept(int value) {
+        accept((double) value);
+    }
+
+    /**
+     * Record a sample
+     * @param value sample to record
+     * @since 1.0
+     */
+    @Override
+    public void accept(long value) {
+        accept((double) value);
+    }
+
+    /**
+     * Record a sample, {@code float} samples are widened exactly to {@code double}
+     * @param value sample to record
+     * @since 1.0
+     */
+    @Override
+    public void accept(double value) {
+        Cell cell = localCell.get();
+        cell.lock();
+        cell.accept(value);
+        cell.unlock();
+    }
+
+    /**
+     * Take a snapshot of the samples recorded so far
+     * @return a new accumulator with all samples recorded so far
+     * @since 1.0
+     */
+    public synchronized StatisticsAccumulator snapshot() {
+        retireTerminated();
+        StatisticsAccumulator snapshot = new StatisticsAccumulator();
+        snapshot.combine(retired);
+        for (Cell cell : cells) {
+            cell.lock();
+            try {
+                snapshot.combine(cell.count, cell.min, cell.max, cell.sum, cell.mean, cell.m2);
+            } finally {
+                cell.unlock();
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Create the cell of the current thread
+     */
+    private synchronized Cell register() {
+        retireTerminated();
+        Cell cell = new Cell(Thread.currentThread());
+        cells = Arrays.copyOf(cells, cells.length + 1);
+        cells[cells.length - 1] = cell;
+        return cell;
+    }
+
+    /**
+     * Fold the cells of terminated threads, which are never written again, into {@link #retired}.
+     */
+    private void retireTerminated() {
+        Cell[] live = new Cell[cells.length];
+        int liveCount = 0;
+        for (Cell cell : cells) {
+            Thread owner = cell.owner.get();
+            if (owner != null && owner.isAlive()) {
+                live[liveCount++] = cell;
+            } else {
+                retired.combine(cell.count, cell.min, cell.max, cell.sum, cell.mean, cell.m2);
+            }
+        }
+        if (liveCount < cells.length) {
+            cells = Arrays.copyOf(live, liveCount);
+        }
+    }
+
+    /**
+     * Padding before the fields of a cell, so two cells never share a cache line.
+     * The JVM lays out the fields of superclasses first.
+     */
+    @SuppressWarnings("unused")
+    private abstract static class CellPadding {
+        long p00, p01, p02, p03, p04, p05, p06, p07;
+        long p10, p11, p12, p13, p14, p15, p16, p17;
+    }
+
+    /**
+     * State of a cell, the same as in {@link StatisticsAccumulator}, guarded by {@code locked}.
+     */
+    private abstract static class CellFields extends CellPadding {
+        int locked;
+        long count;
+        double min;
+        double max;
+        double sum;
+        double mean;
+        double m2;
+    }
+
+    private static final class Cell extends CellFields {
+        /**
+         * Attempts to take a busy lock before giving up the processor, in case its holder is descheduled.
+         * Only a snapshot and the owner of the cell ever compete for it.
+         */
+        static final int SPINS_PER_YIELD = 64;
+        static final VarHandle LOCKED;
+
+        static {
+            try {
+                LOCKED = MethodHandles.lookup().findVarHandle(CellFields.class, "locked", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /**
+         * Thread writing to this cell, which does not keep it from being collected.
+         */
+        final WeakReference<Thread> owner;
+
+        @SuppressWarnings("unused")
+        long q00, q01, q02, q03, q04, q05, q06, q07;
+        @SuppressWarnings("unused")
+        long q10, q11, q12, q13, q14, q15, q16, q17;
+
+        Cell(Thread owner) {
+            this.owner = new WeakReference<>(owner);
+        }
+
+        boolean tryLock() {
+            return LOCKED.compareAndSet(this, 0, 1);
+        }
+
+        void lock() {
+            for (int spins = 1; !tryLock(); ++spins) {
+                if (spins % SPINS_PER_YIELD == 0) {
+                    Thread.yield();
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        void unlock() {
+            LOCKED.setRelease(this, 0);
+        }
+
+        /**
+         * Same update as {@link StatisticsAccumulator#accept(double)}, only call with the lock held.
+         */
+        void accept(double value) {
+            final long n = count + 1;
+            if (n == 1) {
+                min = value;
+                max = value;
+            } else {
+                if (value < min) {
+                    min = value;
+                }
+                if (value > max) {
+                    max = value;
+                }
+            }
+            sum += value;
+            final double delta = value - mean;
+            mean += delta / n;
+            m2 += delta * (value - mean);
+            count = n;
+        }
+    }
+}
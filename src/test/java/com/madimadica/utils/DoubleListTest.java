@@ -0,0 +1,71 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleListTest {
+
+    @Test
+    void testOf() {
+        DoubleList list = DoubleList.of(1.5, -2.5);
+        assertEquals(1.5, list.get(0));
+        assertFalse(list.isMutable());
+        assertThrows(UnsupportedOperationException.class, () -> list.add(4));
+    }
+
+    @Test
+    void testOfMutable() {
+        DoubleList list = DoubleList.ofMutable(3.0);
+        list.add(0.25);
+        list.addAll(1.0, 2.0);
+        assertArrayEquals(new double[]{3.0, 0.25, 1.0, 2.0}, list.toArray());
+        assertEquals(List.of(3.0, 0.25, 1.0, 2.0), list.boxed());
+    }
+
+    @Test
+    void testCopyOf() {
+        assertEquals(DoubleList.of(4, 5), DoubleList.copyOf(List.of(4.0, 5.0)));
+        assertThrows(NullPointerException.class, () -> DoubleList.copyOf(Arrays.asList(1.0, null)));
+        List<? extends Double> wildcard = List.of(7.0, 8.0);
+        assertEquals(DoubleList.of(7, 8), DoubleList.copyOf(wildcard));
+    }
+
+    @Test
+    void testSortAndBinarySearch() {
+        DoubleList list = DoubleList.ofMutable(Double.NaN, 1.0, -0.0, 0.0, Double.NEGATIVE_INFINITY, -3.0);
+        list.sort();
+        assertArrayEquals(new double[]{Double.NEGATIVE_INFINITY, -3.0, -0.0, 0.0, 1.0, Double.NaN}, list.toArray());
+        assertEquals(2, list.binarySearch(-0.0));
+        assertEquals(3, list.binarySearch(0.0));
+        assertEquals(5, list.binarySearch(Double.NaN));
+    }
+
+    @Test
+    void testIndexOf() {
+        DoubleList list = DoubleList.of(0.0, Double.NaN, -0.0);
+        assertEquals(1, list.indexOf(Double.NaN));
+        assertEquals(0, list.indexOf(0.0));
+        assertEquals(2, list.indexOf(-0.0));
+        assertFalse(list.contains(1.0));
+        assertEquals(List.of(0.0, Double.NaN, -0.0).indexOf(-0.0), list.indexOf(-0.0));
+    }
+
+    @Test
+    void testSum() {
+        assertEquals(0.0, new DoubleList().sum());
+        assertEquals(3.75, DoubleList.of(1.5, 2.25).sum());
+        assertTrue(Double.isNaN(DoubleList.of(1, Double.NaN).sum()));
+    }
+
+    @Test
+    void testEqualsHashCode() {
+        DoubleList list = DoubleList.of(1.5, Double.NaN);
+        assertEquals(List.of(1.5, Double.NaN).hashCode(), list.hashCode());
+        assertEquals(DoubleList.ofMutable(1.5, Double.NaN), list);
+        assertNotEquals(DoubleList.of(0.0), DoubleList.of(-0.0));
+    }
+}
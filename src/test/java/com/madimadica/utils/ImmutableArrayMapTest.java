@@ -0,0 +1,128 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableArrayMapTest {
+
+    private static Object[] pairs(int size) {
+        Object[] pairs = new Object[2 * size];
+        for (int i = 0; i < size; ++i) {
+            pairs[2 * i] = "k" + i;
+            pairs[2 * i + 1] = i % 3 == 0 ? null : i;
+        }
+        return pairs;
+    }
+
+    @Test
+    void testSerializable() throws Exception {
+        for (int size = 0; size <= 40; ++size) {
+            Map<Object, Object> map = ImmutableArrayMap.fromPairs(pairs(size), size, true);
+            Map<Object, Object> copy = SerializationTestUtils.roundTrip(map);
+            assertEquals(map, copy);
+            assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(copy.keySet()));
+            for (int i = 0; i <= size; ++i) {
+                assertEquals(map.containsKey("k" + i), copy.containsKey("k" + i));
+            }
+            assertThrows(UnsupportedOperationException.class, () -> copy.put("x", 1));
+        }
+        Map<String, Integer> map = Maps.ofOrdered("b", 2, "a", 1);
+        assertEquals(map, SerializationTestUtils.roundTrip(map));
+    }
+
+    @Test
+    void testMatchesLinkedHashMap() {
+        // Covers both the linear scan and the hashed index
+        for (int size = 0; size <= 40; ++size) {
+            Object[] pairs = pairs(size);
+            Map<Object, Object> expected = new LinkedHashMap<>();
+            for (int i = 0; i < size; ++i) {
+                expected.put(pairs[2 * i], pairs[2 * i + 1]);
+            }
+            Map<Object, Object> map = ImmutableArrayMap.fromPairs(pairs.clone(), size, true);
+            assertEquals(expected, map);
+            assertEquals(map, expected);
+            assertEquals(expected.hashCode(), map.hashCode());
+            assertEquals(expected.toString(), map.toString());
+            assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+            assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(map.values()));
+            for (int i = 0; i <= size; ++i) {
+                assertEquals(expected.containsKey("k" + i), map.containsKey("k" + i));
+                assertEquals(expected.get("k" + i), map.get("k" + i));
+                assertEquals(expected.getOrDefault("k" + i, -1), map.getOrDefault("k" + i, -1));
+            }
+            assertFalse(map.containsKey(null));
+            assertNull(map.get(null));
+            assertEquals(size > 0, map.containsValue(null));
+        }
+    }
+
+    @Test
+    void testDuplicateKeys() {
+        for (int size : new int[]{4, 20}) {
+            Object[] pairs = pairs(size);
+            pairs[2 * (size - 1)] = "k1";
+            pairs[2 * (size - 1) + 1] = "replaced";
+            assertThrows(IllegalArgumentException.class, () -> ImmutableArrayMap.fromPairs(pairs.clone(), size, true));
+            Map<Object, Object> map = ImmutableArrayMap.fromPairs(pairs.clone(), size, false);
+            assertEquals(size - 1, map.size());
+            assertEquals("replaced", map.get("k1"));
+            assertEquals(List.of("k0", "k1", "k2"), new ArrayList<>(map.keySet()).subList(0, 3));
+        }
+    }
+
+    @Test
+    void testFixedArityDuplicateKeysReplace() {
+        Map<Integer, String> map = Maps.ofOrderedNullable(1, "a", 2, "b", 1, "c");
+        assertEquals(2, map.size());
+        assertEquals(List.of(1, 2), new ArrayList<>(map.keySet()));
+        assertEquals("c", map.get(1));
+    }
+
+    @Test
+    void testCopyOfKeysDistinctOnlyInSource() {
+        Map<String, Integer> identityMap = new IdentityHashMap<>();
+        identityMap.put(new String("a"), 1);
+        identityMap.put(new String("a"), 2);
+        for (Map<String, Integer> copy : List.of(
+                Maps.copyOfNullable(identityMap),
+                Maps.copyOfOrdered(identityMap),
+                Maps.copyOfOrderedNullable(identityMap))) {
+            assertEquals(1, copy.size());
+            assertTrue(Set.of(1, 2).contains(copy.get("a")));
+        }
+    }
+
+    @Test
+    void testImmutable() {
+        Map<String, Integer> map = Maps.ofNullable("a", 1, "b", null);
+        assertThrows(UnsupportedOperationException.class, () -> map.put("c", 3));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("z"));
+        assertThrows(UnsupportedOperationException.class, () -> map.putIfAbsent("a", 3));
+        assertThrows(UnsupportedOperationException.class, () -> map.computeIfAbsent("a", k -> 3));
+        assertThrows(UnsupportedOperationException.class, () -> map.merge("a", 3, Integer::sum));
+        assertThrows(UnsupportedOperationException.class, () -> map.replaceAll((k, v) -> v));
+        assertThrows(UnsupportedOperationException.class, map::clear);
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(5));
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().iterator().remove());
+    }
+
+    @Test
+    void testOrderedEntries() {
+        List<Map.Entry<Integer, String>> entries = new ArrayList<>();
+        for (int i = 20; i > 0; --i) {
+            entries.add(Maps.entry(i, String.valueOf(i)));
+        }
+        @SuppressWarnings("unchecked")
+        Map<Integer, String> map = Maps.ofOrderedEntries(entries.toArray(new Map.Entry[0]));
+        List<Integer> keys = new ArrayList<>(map.keySet());
+        for (int i = 0; i < 20; ++i) {
+            assertEquals(20 - i, keys.get(i));
+        }
+        assertEquals(map, Maps.copyOfOrdered(map));
+        assertEquals(keys, new ArrayList<>(Maps.copyOfOrdered(map).keySet()));
+    }
+}
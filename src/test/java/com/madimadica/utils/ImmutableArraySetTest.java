@@ -0,0 +1,101 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableArraySetTest {
+
+    private static Object[] elements(int size) {
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; ++i) {
+            elements[i] = i == size / 2 ? null : "e" + (size - i);
+        }
+        return elements;
+    }
+
+    @Test
+    void testSerializable() throws Exception {
+        for (int size = 0; size <= 40; ++size) {
+            Set<Object> set = ImmutableArraySet.fromArray(elements(size), size, true);
+            Set<Object> copy = SerializationTestUtils.roundTrip(set);
+            assertEquals(set, copy);
+            assertEquals(new ArrayList<>(set), new ArrayList<>(copy));
+            assertEquals(size > 0, copy.contains(null));
+            assertThrows(UnsupportedOperationException.class, () -> copy.add("x"));
+        }
+        Set<Integer> union = Sets.unionView(Set.of(1, 2), Set.of(2, 3)).immutableCopy();
+        assertEquals(Set.of(1, 2, 3), SerializationTestUtils.roundTrip(union));
+    }
+
+    @Test
+    void testMatchesLinkedHashSet() {
+        // Covers both the linear scan and the hashed index
+        for (int size = 0; size <= 40; ++size) {
+            Object[] elements = elements(size);
+            Set<Object> expected = new LinkedHashSet<>(Arrays.asList(elements));
+            Set<Object> set = ImmutableArraySet.fromArray(elements.clone(), size, true);
+            assertEquals(expected, set);
+            assertEquals(set, expected);
+            assertEquals(expected.hashCode(), set.hashCode());
+            assertEquals(expected.toString(), set.toString());
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(set));
+            assertArrayEquals(expected.toArray(), set.toArray());
+            assertArrayEquals(expected.toArray(new Object[0]), set.toArray(new Object[0]));
+            for (int i = 0; i <= size + 1; ++i) {
+                assertEquals(expected.contains("e" + i), set.contains("e" + i));
+            }
+            assertEquals(size > 0, set.contains(null));
+        }
+    }
+
+    @Test
+    void testDuplicates() {
+        for (int size : new int[]{4, 20}) {
+            Object[] elements = elements(size);
+            elements[size - 1] = elements[0];
+            assertThrows(IllegalArgumentException.class, () -> ImmutableArraySet.fromArray(elements.clone(), size, true));
+            Set<Object> set = ImmutableArraySet.fromArray(elements.clone(), size, false);
+            assertEquals(size - 1, set.size());
+            assertEquals(Arrays.asList(elements).subList(0, size - 1), new ArrayList<>(set));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Sets.ofNullable(null, "a", null));
+    }
+
+    @Test
+    void testCopyOfKeepsFirstOccurrence() {
+        List<String> list = Arrays.asList("c", "a", null, "c", "b", null, "a");
+        Set<String> set = ImmutableArraySet.copyOf(list);
+        assertEquals(Arrays.asList("c", "a", null, "b"), new ArrayList<>(set));
+    }
+
+    @Test
+    void testOrdered() {
+        Integer[] values = new Integer[20];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = 20 - i;
+        }
+        Set<Integer> set = Sets.ofOrdered(values);
+        assertEquals(Arrays.asList(values), new ArrayList<>(set));
+        assertEquals(Arrays.asList(values), new ArrayList<>(Sets.copyOfOrdered(set)));
+    }
+
+    @Test
+    void testImmutable() {
+        Set<String> set = Sets.ofNullable("a", null);
+        assertThrows(UnsupportedOperationException.class, () -> set.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> set.addAll(List.of("c")));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeAll(List.of("a")));
+        assertThrows(UnsupportedOperationException.class, () -> set.retainAll(List.of("a")));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(Objects::isNull));
+        assertThrows(UnsupportedOperationException.class, set::clear);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            Iterator<String> it = set.iterator();
+            it.next();
+            it.remove();
+        });
+    }
+}
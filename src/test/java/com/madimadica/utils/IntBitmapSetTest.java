@@ -0,0 +1,222 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntBitmapSetTest {
+
+    /**
+     * Random values mixing sparse chunks, dense chunks, runs and negative values.
+     */
+    private static TreeSet<Integer> randomValues(Random random) {
+        TreeSet<Integer> values = new TreeSet<>();
+        for (int i = 0; i < 200; ++i) {
+            values.add(random.nextInt());
+        }
+        for (int i = 0; i < 10_000; ++i) {
+            values.add(random.nextInt(1 << 17));
+        }
+        int runStart = random.nextInt(1 << 20) - (1 << 19);
+        for (int i = 0; i < 70_000; ++i) {
+            values.add(runStart + i);
+        }
+        values.add(Integer.MIN_VALUE);
+        values.add(Integer.MAX_VALUE);
+        values.add(-1);
+        values.add(0);
+        return values;
+    }
+
+    private static IntBitmapSet bitmapOf(Collection<Integer> values, Random random) {
+        IntBitmapSet set = IntBitmapSet.ofMutable(values.stream().mapToInt(Integer::intValue).toArray());
+        if (random.nextBoolean()) {
+            set.runOptimize();
+        }
+        return set;
+    }
+
+    private static void assertMatches(TreeSet<Integer> expected, IntBitmapSet actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(actual), "Iteration should be in ascending order");
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toIntArray());
+    }
+
+    @Test
+    void testMatchesTreeSet() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 5; ++trial) {
+            TreeSet<Integer> expected = randomValues(random);
+            IntBitmapSet set = bitmapOf(expected, random);
+            assertMatches(expected, set);
+            assertMatches(expected, IntBitmapSet.copyOf(expected));
+            for (int i = 0; i < 10_000; ++i) {
+                int probe = i % 2 == 0 ? random.nextInt(1 << 18) : random.nextInt();
+                assertEquals(expected.contains(probe), set.contains(probe));
+            }
+            assertFalse(set.contains("0"));
+            assertFalse(set.contains(null));
+        }
+    }
+
+    @Test
+    void testAddAndRemove() {
+        Random random = new Random(7);
+        TreeSet<Integer> expected = new TreeSet<>();
+        IntBitmapSet set = new IntBitmapSet();
+        // Grow one chunk past the array limit, then shrink it back, crossing container kinds both ways
+        for (int i = 0; i < 20_000; ++i) {
+            int value = random.nextInt(8192);
+            assertEquals(expected.add(value), set.add(value));
+        }
+        assertMatches(expected, set);
+        set.runOptimize();
+        for (int i = 0; i < 20_000; ++i) {
+            int value = random.nextInt(8192);
+            assertEquals(expected.remove(value), set.remove(value));
+            if (i % 1000 == 0) {
+                assertMatches(expected, set);
+            }
+        }
+        assertMatches(expected, set);
+        for (int value : new ArrayList<>(expected)) {
+            assertTrue(set.remove(value));
+        }
+        assertTrue(set.isEmpty());
+        assertFalse(set.iterator().hasNext());
+    }
+
+    @Test
+    void testRunsAfterModification() {
+        IntBitmapSet set = new IntBitmapSet(IntBitmapSet.ofRange(-100, 100_000));
+        assertEquals(100_100, set.size());
+        assertTrue(set.remove(50_000));
+        assertTrue(set.add(200_000));
+        assertFalse(set.add(0));
+        assertFalse(set.contains(50_000));
+        assertEquals(100_100, set.size());
+        TreeSet<Integer> expected = IntStream.range(-100, 100_000).boxed().collect(Collectors.toCollection(TreeSet::new));
+        expected.remove(50_000);
+        expected.add(200_000);
+        assertMatches(expected, set);
+    }
+
+    @Test
+    void testOfRange() {
+        assertTrue(IntBitmapSet.ofRange(5, 5).isEmpty());
+        assertEquals(List.of(-2, -1, 0, 1), new ArrayList<>(IntBitmapSet.ofRange(-2, 2)));
+        IntBitmapSet all = IntBitmapSet.ofRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals(0xFFFF_FFFFL, all.longSize());
+        assertEquals(Integer.MAX_VALUE, all.size());
+        assertTrue(all.contains(Integer.MIN_VALUE));
+        assertFalse(all.contains(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> IntBitmapSet.ofRange(1, 0));
+    }
+
+    @Test
+    void testSetAlgebraMatchesSets() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 5; ++trial) {
+            TreeSet<Integer> valuesA = randomValues(random);
+            TreeSet<Integer> valuesB = randomValues(random);
+            valuesB.addAll(valuesA.headSet(random.nextInt(1 << 16)));
+            IntBitmapSet setA = bitmapOf(valuesA, random);
+            IntBitmapSet setB = bitmapOf(valuesB, random);
+            Set<Integer> hashA = new HashSet<>(valuesA);
+            Set<Integer> hashB = new HashSet<>(valuesB);
+
+            assertMatches(new TreeSet<>(Sets.union(hashA, hashB)), IntBitmapSet.union(setA, setB));
+            assertMatches(new TreeSet<>(Sets.intersection(hashA, hashB)), IntBitmapSet.intersection(setA, setB));
+            assertMatches(new TreeSet<>(Sets.difference(hashA, hashB)), IntBitmapSet.difference(setA, setB));
+            assertMatches(new TreeSet<>(Sets.difference(hashB, hashA)), IntBitmapSet.difference(setB, setA));
+            assertMatches(new TreeSet<>(Sets.symmetricDifference(hashA, hashB)), IntBitmapSet.symmetricDifference(setA, setB));
+            assertTrue(IntBitmapSet.symmetricDifference(setA, setA).isEmpty());
+        }
+    }
+
+    @Test
+    void testSetsDispatch() {
+        IntBitmapSet setA = IntBitmapSet.of(1, 2, 3, 100_000);
+        IntBitmapSet setB = IntBitmapSet.of(3, 4, 100_000);
+        assertEquals(Set.of(1, 2, 3, 4, 100_000), assertInstanceOf(IntBitmapSet.class, Sets.union(setA, setB)));
+        assertEquals(Set.of(3, 100_000), assertInstanceOf(IntBitmapSet.class, Sets.intersection(setA, setB)));
+        assertEquals(Set.of(1, 2), assertInstanceOf(IntBitmapSet.class, Sets.difference(setA, setB)));
+        assertEquals(Set.of(1, 2, 4), assertInstanceOf(IntBitmapSet.class, Sets.symmetricDifference(setA, setB)));
+        assertTrue(((IntBitmapSet) Sets.union(setA, setB)).isMutable());
+        assertEquals(Set.of(1, 2, 3, 4, 100_000), Sets.union(setA, Set.of(4)));
+    }
+
+    @Test
+    void testVarargsAlgebra() {
+        IntBitmapSet set1 = IntBitmapSet.of(1, 2, 3);
+        IntBitmapSet set2 = IntBitmapSet.of(2, 3, 4);
+        IntBitmapSet set3 = IntBitmapSet.of(3, 4, 5);
+        assertEquals(Set.of(1, 2, 3, 4, 5), IntBitmapSet.union(set1, set2, set3));
+        assertEquals(Set.of(3), IntBitmapSet.intersection(set1, set2, set3));
+        assertEquals(Set.of(), IntBitmapSet.union());
+        assertEquals(Set.of(), IntBitmapSet.intersection());
+        assertEquals(set1, IntBitmapSet.intersection(set1));
+    }
+
+    @Test
+    void testBulkOperations() {
+        IntBitmapSet set = IntBitmapSet.ofMutable(1, 2, 3, 4, 5);
+        assertTrue(set.removeAll(IntBitmapSet.of(2, 4)));
+        assertEquals(Set.of(1, 3, 5), set);
+        assertFalse(set.removeAll(IntBitmapSet.of(2)));
+        assertTrue(set.retainAll(List.of(1, 5)));
+        assertEquals(Set.of(1, 5), set);
+        assertTrue(set.addAll(IntBitmapSet.of(7)));
+        assertTrue(set.addAll(List.of(9)));
+        assertEquals(Set.of(1, 5, 7, 9), set);
+        assertTrue(set.removeIf(x -> x > 6));
+        assertEquals(Set.of(1, 5), set);
+        Iterator<Integer> it = set.iterator();
+        assertEquals(1, it.next());
+        it.remove();
+        assertThrows(IllegalStateException.class, it::remove);
+        assertEquals(5, it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+        assertEquals(Set.of(5), set);
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void testImmutable() {
+        IntBitmapSet set = IntBitmapSet.of(1, 2, 3);
+        assertFalse(set.isMutable());
+        assertTrue(IntBitmapSet.ofMutable().isMutable());
+        assertThrows(UnsupportedOperationException.class, () -> set.add(4));
+        assertThrows(UnsupportedOperationException.class, () -> set.add(Integer.valueOf(4)));
+        assertThrows(UnsupportedOperationException.class, () -> set.addAll(4, 5));
+        assertThrows(UnsupportedOperationException.class, () -> set.addAll(List.of()));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove(1));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove(Integer.valueOf(1)));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeAll(List.of(1)));
+        assertThrows(UnsupportedOperationException.class, () -> set.retainAll(List.of(1)));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(x -> true));
+        assertThrows(UnsupportedOperationException.class, set::clear);
+        assertThrows(UnsupportedOperationException.class, set::runOptimize);
+        assertThrows(UnsupportedOperationException.class, () -> IntBitmapSet.ofRange(0, 10).add(11));
+        assertThrows(UnsupportedOperationException.class, () -> IntBitmapSet.copyOf(List.of(1)).add(2));
+        assertThrows(NullPointerException.class, () -> IntBitmapSet.copyOf(Arrays.asList(1, null)));
+        List<? extends Integer> wildcard = List.of(3, 3, 4);
+        assertEquals(Set.of(3, 4), IntBitmapSet.copyOf(wildcard));
+    }
+
+    @Test
+    void testForEachInt() {
+        List<Integer> seen = new ArrayList<>();
+        IntBitmapSet.of(5, -5, 70_000, 0).forEachInt(seen::add);
+        assertEquals(List.of(-5, 0, 5, 70_000), seen);
+    }
+}
@@ -0,0 +1,132 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntListTest {
+
+    @Test
+    void testOf() {
+        int[] values = {3, 1, 2};
+        IntList list = IntList.of(values);
+        values[0] = 100;
+        assertEquals(3, list.size());
+        assertEquals(3, list.get(0));
+        assertFalse(list.isMutable());
+        assertThrows(UnsupportedOperationException.class, () -> list.add(4));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 4));
+        assertThrows(UnsupportedOperationException.class, list::sort);
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(NullPointerException.class, () -> IntList.of((int[]) null));
+    }
+
+    @Test
+    void testOfMutable() {
+        IntList list = IntList.ofMutable(3, 1, 2);
+        assertTrue(list.isMutable());
+        list.add(0);
+        list.addAll(7, 8);
+        list.addAll(IntList.of(9));
+        assertArrayEquals(new int[]{3, 1, 2, 0, 7, 8, 9}, list.toArray());
+        assertEquals(1, list.set(1, 5));
+        assertEquals(3, list.removeAt(0));
+        assertArrayEquals(new int[]{5, 2, 0, 7, 8, 9}, list.toArray());
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testGrowth() {
+        IntList list = new IntList();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i * 7);
+            expected.add(i * 7);
+        }
+        assertEquals(expected, list.boxed());
+        assertThrows(IllegalArgumentException.class, () -> new IntList(-1));
+    }
+
+    @Test
+    void testIndexBounds() {
+        IntList list = IntList.ofMutable(1, 2);
+        list.ensureCapacity(100);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(2));
+    }
+
+    @Test
+    void testCopyOf() {
+        IntList list = IntList.copyOf(List.of(4, 5, 6));
+        assertEquals(IntList.of(4, 5, 6), list);
+        assertFalse(list.isMutable());
+        assertThrows(NullPointerException.class, () -> IntList.copyOf(Arrays.asList(1, null)));
+        List<? extends Integer> wildcard = List.of(7, 8);
+        assertEquals(IntList.of(7, 8), IntList.copyOf(wildcard));
+    }
+
+    @Test
+    void testSortAndBinarySearch() {
+        Random random = new Random(42);
+        IntList list = new IntList();
+        for (int i = 0; i < 500; ++i) {
+            list.add(random.nextInt());
+        }
+        int[] expected = list.toArray();
+        Arrays.sort(expected);
+        list.sort();
+        assertArrayEquals(expected, list.toArray());
+        for (int i = 0; i < expected.length; ++i) {
+            assertEquals(expected[i], list.get(list.binarySearch(expected[i])));
+        }
+        assertEquals(-1, IntList.of(5, 6).binarySearch(4));
+        assertEquals(-3, IntList.of(5, 6).binarySearch(7));
+    }
+
+    @Test
+    void testSum() {
+        assertEquals(0, new IntList().sum());
+        assertEquals(6, IntList.of(1, 2, 3).sum());
+        assertEquals(2L * Integer.MAX_VALUE, IntList.of(Integer.MAX_VALUE, Integer.MAX_VALUE).sum());
+    }
+
+    @Test
+    void testSearch() {
+        IntList list = IntList.of(4, 5, 4);
+        assertEquals(0, list.indexOf(4));
+        assertEquals(-1, list.indexOf(6));
+        assertTrue(list.contains(5));
+        assertFalse(list.contains(6));
+    }
+
+    @Test
+    void testEqualsHashCodeToString() {
+        IntList mutable = IntList.ofMutable(1, 2, 3);
+        mutable.ensureCapacity(64);
+        IntList immutable = IntList.of(1, 2, 3);
+        assertEquals(immutable, mutable);
+        assertEquals(immutable.hashCode(), mutable.hashCode());
+        assertEquals(List.of(1, 2, 3).hashCode(), immutable.hashCode());
+        assertNotEquals(IntList.of(1, 2), immutable);
+        assertEquals("[1, 2, 3]", immutable.toString());
+        assertEquals(List.of(1, 2, 3).toString(), immutable.toString());
+    }
+
+    @Test
+    void testStreamAndForEach() {
+        IntList list = IntList.ofMutable(1, 2, 3);
+        list.ensureCapacity(64);
+        assertEquals(6, list.stream().sum());
+        int[] total = {0};
+        list.forEach(x -> total[0] += x);
+        assertEquals(6, total[0]);
+    }
+}
@@ -0,0 +1,107 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntObjectMapTest {
+
+    @Test
+    void testOf() {
+        IntObjectMap<String> map = IntObjectMap.of(1, "a", 0, "zero", -5, null);
+        assertEquals(3, map.size());
+        assertEquals("a", map.get(1));
+        assertEquals("zero", map.get(0));
+        assertNull(map.get(-5));
+        assertTrue(map.containsKey(-5));
+        assertFalse(map.containsKey(2));
+        assertEquals("x", map.getOrDefault(2, "x"));
+        assertNull(map.getOrDefault(-5, "x"));
+        assertFalse(map.isMutable());
+        assertThrows(UnsupportedOperationException.class, () -> map.put(2, "b"));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(1));
+        assertThrows(UnsupportedOperationException.class, map::clear);
+        assertThrows(IllegalArgumentException.class, () -> IntObjectMap.of(1, "a", 1, "b"));
+        assertThrows(IllegalArgumentException.class, () -> IntObjectMap.ofMutable(0, "a", 2, "b", 0, "c"));
+        assertTrue(IntObjectMap.of().isEmpty());
+    }
+
+    @Test
+    void testOfMutable() {
+        IntObjectMap<String> map = IntObjectMap.ofMutable(1, "a");
+        assertNull(map.put(0, "zero"));
+        assertEquals("zero", map.put(0, "ZERO"));
+        assertEquals("a", map.put(1, "A"));
+        assertEquals(Map.of(0, "ZERO", 1, "A"), map.boxed());
+        assertEquals("ZERO", map.remove(0));
+        assertNull(map.remove(0));
+        assertNull(map.remove(7));
+        assertEquals(Map.of(1, "A"), map.boxed());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+    }
+
+    @Test
+    void testOfTwelveEntries() {
+        Map<Integer, String> expected = new HashMap<>();
+        for (int i = 1; i <= 12; ++i) {
+            expected.put(i, "v" + i);
+        }
+        IntObjectMap<String> map = IntObjectMap.of(1, "v1", 2, "v2", 3, "v3", 4, "v4", 5, "v5", 6, "v6",
+                7, "v7", 8, "v8", 9, "v9", 10, "v10", 11, "v11", 12, "v12");
+        assertEquals(expected, map.boxed());
+        assertFalse(map.isMutable());
+        IntObjectMap<String> mutable = IntObjectMap.ofMutable(1, "v1", 2, "v2", 3, "v3", 4, "v4", 5, "v5", 6, "v6",
+                7, "v7", 8, "v8", 9, "v9", 10, "v10", 11, "v11", 12, "v12");
+        assertEquals(expected, mutable.boxed());
+        assertTrue(mutable.isMutable());
+        assertThrows(IllegalArgumentException.class, () -> IntObjectMap.of(1, "v1", 2, "v2", 3, "v3", 4, "v4", 5, "v5", 6, "v6",
+                7, "v7", 8, "v8", 9, "v9", 10, "v10", 11, "v11", 1, "v12"));
+    }
+
+    @Test
+    void testMatchesHashMap() {
+        Random random = new Random(3);
+        IntObjectMap<Integer> map = new IntObjectMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; ++i) {
+            int key = random.nextInt(1_000) - 500;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map.boxed());
+        assertEquals(expected.hashCode(), map.hashCode());
+        for (int key = -500; key < 500; ++key) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(expected.keySet().stream().mapToInt(Integer::intValue).sorted().toArray(), keys);
+    }
+
+    @Test
+    void testCopyOfAndEquals() {
+        Map<Integer, String> source = new HashMap<>();
+        source.put(0, null);
+        source.put(42, "b");
+        IntObjectMap<String> map = IntObjectMap.copyOf(source);
+        assertFalse(map.isMutable());
+        assertEquals(source, map.boxed());
+        assertEquals(IntObjectMap.ofMutable(42, "b", 0, null), map);
+        assertNotEquals(IntObjectMap.of(42, "b", 0, "c"), map);
+        assertEquals("{7=x}", IntObjectMap.of(7, "x").toString());
+        source.put(null, "c");
+        assertThrows(NullPointerException.class, () -> IntObjectMap.copyOf(source));
+        List<String> visited = new ArrayList<>();
+        map.forEach((key, value) -> visited.add(key + ":" + value));
+        visited.sort(null);
+        assertEquals(List.of("0:null", "42:b"), visited);
+    }
+}
@@ -0,0 +1,135 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntSetTest {
+
+    private static Set<Integer> randomSet(Random random, int size, int bound) {
+        Set<Integer> set = new HashSet<>();
+        while (set.size() < size) {
+            set.add(random.nextInt(bound) - bound / 2);
+        }
+        return set;
+    }
+
+    @Test
+    void testOf() {
+        IntSet set = IntSet.of(1, 2, 2, 0, 3);
+        assertEquals(4, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(3));
+        assertFalse(set.contains(4));
+        assertFalse(set.isMutable());
+        assertThrows(UnsupportedOperationException.class, () -> set.add(5));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove(1));
+        assertThrows(UnsupportedOperationException.class, set::clear);
+    }
+
+    @Test
+    void testOfMutable() {
+        IntSet set = IntSet.ofMutable(1, 2);
+        assertTrue(set.isMutable());
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(-7));
+        assertEquals(Set.of(0, 1, 2, -7), set.boxed());
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertTrue(set.remove(-7));
+        assertEquals(Set.of(1, 2), set.boxed());
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new IntSet(-1));
+    }
+
+    @Test
+    void testMatchesHashSet() {
+        Random random = new Random(7);
+        IntSet set = new IntSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 20_000; ++i) {
+            // Small bound to force collisions, long probe runs and removals within them
+            int value = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        assertEquals(expected, set.boxed());
+        for (int value = -1_000; value < 1_000; ++value) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+        int[] array = set.toArray();
+        Arrays.sort(array);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), array);
+        assertEquals(expected.size(), set.stream().count());
+    }
+
+    @Test
+    void testCopyOfAndBoxed() {
+        Set<Integer> boxed = Set.of(5, 0, -5, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        IntSet set = IntSet.copyOf(boxed);
+        assertFalse(set.isMutable());
+        assertEquals(boxed, set.boxed());
+        assertThrows(UnsupportedOperationException.class, () -> set.boxed().add(1));
+        assertThrows(NullPointerException.class, () -> IntSet.copyOf(Arrays.asList(1, null)));
+        Set<? extends Integer> wildcard = boxed;
+        assertEquals(set, IntSet.copyOf(wildcard));
+        IntSet copy = new IntSet(set);
+        assertTrue(copy.isMutable());
+        copy.add(1);
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    void testEqualsHashCodeToString() {
+        IntSet a = IntSet.of(1, 2, 3, 0);
+        IntSet b = IntSet.ofMutable(0, 3, 2, 1);
+        b.addAll(IntSet.of(4));
+        b.remove(4);
+        assertEquals(a, b);
+        assertEquals(Set.of(0, 1, 2, 3).hashCode(), a.hashCode());
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(IntSet.of(1, 2, 3), a);
+        assertEquals("[7]", IntSet.of(7).toString());
+    }
+
+    @Test
+    void testSetAlgebraMatchesSets() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 50; ++trial) {
+            Set<Integer> a = randomSet(random, random.nextInt(200), 400);
+            Set<Integer> b = randomSet(random, random.nextInt(200), 400);
+            Set<Integer> c = randomSet(random, random.nextInt(200), 400);
+            IntSet pa = IntSet.copyOf(a);
+            IntSet pb = IntSet.copyOf(b);
+            IntSet pc = IntSet.copyOf(c);
+            assertEquals(Sets.union(a, b), IntSet.union(pa, pb).boxed());
+            assertEquals(Sets.union(a, b, c), IntSet.union(pa, pb, pc).boxed());
+            assertEquals(Sets.intersection(a, b), IntSet.intersection(pa, pb).boxed());
+            assertEquals(Sets.intersection(a, b, c), IntSet.intersection(pa, pb, pc).boxed());
+            assertEquals(Sets.difference(a, b), IntSet.difference(pa, pb).boxed());
+            assertEquals(Sets.symmetricDifference(a, b), IntSet.symmetricDifference(pa, pb).boxed());
+            assertTrue(IntSet.union(pa, pb).isMutable());
+        }
+    }
+
+    @Test
+    void testSetAlgebraEdgeCases() {
+        assertTrue(IntSet.union().isEmpty());
+        assertTrue(IntSet.intersection().isEmpty());
+        IntSet single = IntSet.of(0, 1);
+        IntSet copy = IntSet.intersection(single);
+        assertEquals(single, copy);
+        assertTrue(copy.isMutable());
+        assertEquals(IntSet.of(0), IntSet.intersection(IntSet.of(0, 1), IntSet.of(0, 2)));
+        assertEquals(IntSet.of(0), IntSet.difference(IntSet.of(0, 1), IntSet.of(1)));
+        assertEquals(IntSet.of(0, 2), IntSet.symmetricDifference(IntSet.of(0, 1), IntSet.of(1, 2)));
+    }
+}
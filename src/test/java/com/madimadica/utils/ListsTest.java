@@ -2,10 +2,14 @@ package com.madimadica.utils;
 
 import com.madimadica.utils.internal.model.*;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -154,6 +158,95 @@ class ListsTest {
         assertImmutable(ages);
     }
 
+    @Test
+    void testMap_linkedList() {
+        List<Integer> original = new LinkedList<>(List.of(1, 2, 3));
+        List<String> mapped = Lists.map(original, String::valueOf);
+        assertEquals(List.of("1", "2", "3"), mapped);
+        assertImmutable(mapped);
+        assertThrows(UnsupportedOperationException.class, () -> mapped.set(0, "0"));
+    }
+
+    @Test
+    void testMap_empty() {
+        List<Integer> mapped = Lists.map(List.<Integer>of(), x -> x + 1);
+        assertTrue(mapped.isEmpty());
+        assertImmutable(mapped);
+    }
+
+    @Test
+    void testMap_nullMapping() {
+        assertThrows(NullPointerException.class, () -> Lists.map(List.of(1, 2), x -> null));
+    }
+
+    @Test
+    void testMapAndFilter_serializable() throws Exception {
+        List<Integer> original = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        List<String> mapped = Lists.map(original, String::valueOf);
+        List<String> mappedCopy = SerializationTestUtils.roundTrip(mapped);
+        assertEquals(mapped, mappedCopy);
+        assertImmutable(mappedCopy);
+
+        List<Integer> filtered = Lists.filter(original, x -> x % 3 == 0);
+        List<Integer> filteredCopy = SerializationTestUtils.roundTrip(filtered);
+        assertEquals(filtered, filteredCopy);
+        assertImmutable(filteredCopy);
+
+        List<List<Integer>> batches = new ArrayList<>();
+        Lists.batch(original.iterator(), 7).forEachRemaining(batches::add);
+        assertEquals(List.of(98, 99), SerializationTestUtils.roundTrip(batches.get(batches.size() - 1)));
+    }
+
+    @Test
+    void testMapToInt() {
+        IntList lengths = Lists.mapToInt(new LinkedList<>(List.of("a", "bb", "ccc")), String::length);
+        assertEquals(IntList.of(1, 2, 3), lengths);
+        assertFalse(lengths.isMutable());
+        assertThrows(UnsupportedOperationException.class, () -> lengths.add(4));
+        assertTrue(Lists.mapToInt(List.<String>of(), String::length).isEmpty());
+    }
+
+    @Test
+    void testSortedSetAlgebra() {
+        List<Integer> listA = List.of(1, 2, 2, 4, 6);
+        List<Integer> listB = List.of(2, 3, 4, 4, 5);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), Lists.sortedUnion(listA, listB));
+        assertEquals(List.of(2, 4), Lists.sortedIntersection(listA, listB));
+        assertEquals(List.of(1, 6), Lists.sortedDifference(listA, listB));
+        assertThrows(UnsupportedOperationException.class, () -> Lists.sortedUnion(listA, listB).add(7));
+
+        Comparator<String> caseInsensitive = String.CASE_INSENSITIVE_ORDER;
+        List<String> names = List.of("alice", "Bob", "carol");
+        List<String> others = List.of("ALICE", "dave");
+        assertEquals(List.of("alice", "Bob", "carol", "dave"), Lists.sortedUnion(names, others, caseInsensitive));
+        assertEquals(List.of("alice"), Lists.sortedIntersection(names, others, caseInsensitive));
+        assertEquals(List.of("Bob", "carol"), Lists.sortedDifference(names, others, caseInsensitive));
+    }
+
+    @Test
+    void testMapToLong() {
+        LongList squares = Lists.mapToLong(List.of(1, 2, 3_000_000), x -> (long) x * x);
+        assertEquals(LongList.of(1, 4, 9_000_000_000_000L), squares);
+        assertFalse(squares.isMutable());
+    }
+
+    @Test
+    void testToLongKeyedMap() {
+        List<String> words = List.of("a", "bb", "ccc");
+        LongObjectMap<String> byLength = Lists.toLongKeyedMap(words, s -> (long) s.length() << 40);
+        assertEquals(LongObjectMap.of(1L << 40, "a", 2L << 40, "bb", 3L << 40, "ccc"), byLength);
+        assertFalse(byLength.isMutable());
+        assertThrows(IllegalStateException.class, () -> Lists.toLongKeyedMap(List.of("a", "b"), String::length));
+        assertThrows(NullPointerException.class, () -> Lists.toLongKeyedMap(Arrays.asList("a", null), String::length));
+    }
+
+    @Test
+    void testMapToDouble() {
+        DoubleList halves = Lists.mapToDouble(List.of(1, 2, 3), x -> x / 2.0);
+        assertEquals(DoubleList.of(0.5, 1.0, 1.5), halves);
+        assertFalse(halves.isMutable());
+    }
+
     @Test
     void testMapMutable_a() {
         List<Animal> animals = List.of(
@@ -191,6 +284,31 @@ class ListsTest {
         assertImmutable(olderThan7);
     }
 
+    @Test
+    void testFilter_linkedList() {
+        List<Integer> original = new LinkedList<>(List.of(1, 2, 3, 4, 5));
+        List<Integer> odds = Lists.filter(original, x -> x % 2 == 1);
+        assertEquals(List.of(1, 3, 5), odds);
+        assertImmutable(odds);
+    }
+
+    @Test
+    void testFilter_sparseAndDense() {
+        List<Integer> original = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        assertEquals(List.of(0, 50), Lists.filter(original, x -> x % 50 == 0));
+        assertEquals(original, Lists.filter(original, x -> true));
+        List<Integer> none = Lists.filter(original, x -> false);
+        assertTrue(none.isEmpty());
+        assertImmutable(none);
+    }
+
+    @Test
+    void testFilter_nullMatch() {
+        List<Integer> original = Lists.ofNullable(1, null, 3);
+        assertEquals(List.of(1, 3), Lists.filter(original, Objects::nonNull));
+        assertThrows(NullPointerException.class, () -> Lists.filter(original, x -> true));
+    }
+
     @Test
     void testFilterMutable() {
         Dog a = new Dog(7, "A");
@@ -619,6 +737,164 @@ class ListsTest {
         assertEquals(List.of(9, 10), partitions.get(4));
     }
 
+    @Test
+    void testPartitionViewInto_matchesCopy() {
+        for (int size = 0; size <= 30; ++size) {
+            List<Integer> data = IntStream.range(0, size).boxed().collect(Collectors.toList());
+            for (int partitions = 1; partitions <= 12; ++partitions) {
+                var expected = Lists.partitionInto(data, partitions);
+                var views = Lists.partitionViewInto(data, partitions);
+                assertEquals(expected, views);
+                assertEquals(expected, Lists.partitionViewInto(new LinkedList<>(data), partitions));
+                assertImmutable(views);
+                for (var view : views) {
+                    assertImmutable(view);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPartitionViewBySize_matchesCopy() {
+        for (int size = 0; size <= 30; ++size) {
+            List<Integer> data = IntStream.range(0, size).boxed().collect(Collectors.toList());
+            for (int partitionSize = 1; partitionSize <= 12; ++partitionSize) {
+                var expected = Lists.partitionBySize(data, partitionSize);
+                var views = Lists.partitionViewBySize(data, partitionSize);
+                assertEquals(expected, views);
+                assertEquals(expected, Lists.partitionViewBySize(new LinkedList<>(data), partitionSize));
+                assertImmutable(views);
+                for (var view : views) {
+                    assertImmutable(view);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPartitionViewBySize_isView() {
+        List<Integer> data = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+        var views = Lists.partitionViewBySize(data, 3);
+        data.set(4, 40);
+        assertEquals(List.of(3, 40, 5), views.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> views.get(1).get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> views.get(4));
+    }
+
+    @Test
+    void testPartitionView_invalidSize() {
+        List<Integer> data = List.of(1, 2, 3);
+        IllegalArgumentException sizeException = assertThrows(IllegalArgumentException.class, () -> Lists.partitionViewBySize(data, 0));
+        assertEquals("Partition size must be at least 1, was 0", sizeException.getMessage());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Lists.partitionViewInto(data, 0));
+        assertEquals("Number of partitions must be at least 1, was 0", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> Lists.partitionBySizeLazily(data, 0));
+    }
+
+    @Test
+    void testPartitionBySizeLazily() {
+        List<Integer> data = new LinkedList<>(IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        var partitions = Lists.partitionBySizeLazily(data, 4);
+        List<List<Integer>> collected = new ArrayList<>();
+        for (var partition : partitions) {
+            assertImmutable(partition);
+            collected.add(partition);
+        }
+        assertEquals(Lists.partitionBySize(data, 4), collected);
+        // Iterable can be traversed again
+        assertEquals(3, Lists.ofIterable(partitions).size());
+
+        Iterator<List<Integer>> iterator = Lists.partitionBySizeLazily(List.<Integer>of(), 4).iterator();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testBatchIterator() {
+        Iterator<List<Integer>> batches = Lists.batch(IntStream.range(0, 7).iterator(), 3);
+        assertEquals(List.of(0, 1, 2), batches.next());
+        assertEquals(List.of(3, 4, 5), batches.next());
+        List<Integer> last = batches.next();
+        assertEquals(List.of(6), last);
+        assertImmutable(last);
+        assertFalse(batches.hasNext());
+        assertThrows(NoSuchElementException.class, batches::next);
+    }
+
+    @Test
+    void testBatchIterator_isLazy() {
+        Iterator<Integer> infinite = Stream.iterate(0, x -> x + 1).iterator();
+        Iterator<List<Integer>> batches = Lists.batch(infinite, 2);
+        assertEquals(List.of(0, 1), batches.next());
+        assertEquals(2, infinite.next());
+        assertEquals(List.of(3, 4), batches.next());
+    }
+
+    @Test
+    void testBatchIterable() {
+        Set<Integer> source = new TreeSet<>(Set.of(5, 4, 3, 2, 1));
+        Iterable<List<Integer>> batches = Lists.batch(source, 2);
+        List<List<Integer>> expected = List.of(List.of(1, 2), List.of(3, 4), List.of(5));
+        assertEquals(expected, Lists.ofIterable(batches));
+        assertEquals(expected, Lists.ofIterable(batches));
+        assertFalse(Lists.batch(List.of(), 2).iterator().hasNext());
+    }
+
+    @Test
+    void testBatchReusingBuffer() {
+        List<Integer> source = Lists.ofNullable(1, 2, null, 4, 5);
+        Iterator<List<Integer>> batches = Lists.batchReusingBuffer(source.iterator(), 2);
+        List<Integer> first = batches.next();
+        assertEquals(Lists.ofNullable(1, 2), first);
+        assertImmutable(first);
+        List<Integer> second = batches.next();
+        assertSame(first, second);
+        assertEquals(Lists.ofNullable(null, 4), second);
+        assertEquals(List.of(5), batches.next());
+        assertEquals(1, first.size());
+        assertFalse(batches.hasNext());
+    }
+
+    @Test
+    void testBatchStream() {
+        List<List<Integer>> batches = Lists.batchStream(IntStream.range(0, 10).boxed(), 4).collect(Collectors.toList());
+        assertEquals(List.of(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7), List.of(8, 9)), batches);
+        assertEquals(3, Lists.batchStream(Stream.iterate(0, x -> x + 1), 4).limit(3).count());
+        assertEquals(0, Lists.batchStream(Stream.empty(), 4).count());
+    }
+
+    @Test
+    void testBatchStream_closesSource() {
+        boolean[] closed = {false};
+        Stream<Integer> source = Stream.of(1, 2, 3).onClose(() -> closed[0] = true);
+        try (Stream<List<Integer>> batches = Lists.batchStream(source, 2)) {
+            assertEquals(2, batches.count());
+        }
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    void testBatchStreamReusingBuffer() {
+        List<Integer> sums = new ArrayList<>();
+        Lists.batchStreamReusingBuffer(IntStream.range(0, 10).boxed(), 3)
+                .forEach(batch -> sums.add(batch.stream().mapToInt(x -> x).sum()));
+        assertEquals(List.of(3, 12, 21, 9), sums);
+    }
+
+    @Test
+    void testBatch_invalidSize() {
+        for (Executable invalid : List.<Executable>of(
+                () -> Lists.batch(List.of(1).iterator(), 0),
+                () -> Lists.batch(List.of(1), 0),
+                () -> Lists.batchReusingBuffer(List.of(1).iterator(), 0),
+                () -> Lists.batchStream(Stream.of(1), 0))) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, invalid);
+            assertEquals("Batch size must be at least 1, was 0", e.getMessage());
+        }
+        assertThrows(IllegalArgumentException.class, () -> Lists.batch(List.of(1), -1));
+        assertThrows(NullPointerException.class, () -> Lists.batch((Iterator<Integer>) null, 1));
+    }
+
     @Test
     void testFlatMap() {
         var result = Lists.flatMap(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7, 8, 9));
@@ -794,4 +1070,67 @@ class ListsTest {
         assertMutableMap(org1Map, 123L);
         assertMutableMap(mapOrgIdToRepoIdToBranches, 123L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParallelMap() {
+        List<Integer> original = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        List<String> expected = Lists.map(original, String::valueOf);
+        assertEquals(expected, Lists.parallelMap(original, String::valueOf));
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            List<String> mapped = Lists.parallelMap(original, String::valueOf, pool);
+            assertEquals(expected, mapped);
+            assertImmutable(mapped);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(expected, Lists.parallelMap(new LinkedList<>(original), String::valueOf));
+        assertEquals(List.of("1", "2"), Lists.parallelMap(List.of(1, 2), String::valueOf));
+    }
+
+    @Test
+    void testParallelMap_nullMapping() {
+        List<Integer> original = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        assertThrows(NullPointerException.class, () -> Lists.parallelMap(original, x -> x == 54_321 ? null : x));
+    }
+
+    @Test
+    void testParallelFilter() {
+        List<Integer> original = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertEquals(Lists.filter(original, x -> x % 7 == 0), Lists.parallelFilter(original, x -> x % 7 == 0, pool));
+            assertEquals(original, Lists.parallelFilter(original, x -> true, pool));
+            List<Integer> none = Lists.parallelFilter(original, x -> false, pool);
+            assertTrue(none.isEmpty());
+            assertImmutable(none);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(List.of(3), Lists.parallelFilter(List.of(1, 2, 3), x -> x > 2));
+    }
+
+    @Test
+    void testParallelGroupBy() {
+        List<Integer> original = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        Function<Integer, Integer> classifier = x -> x % 10 == 0 ? null : x % 13;
+        Map<Integer, List<Integer>> expected = Lists.groupBy(original, classifier);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Map<Integer, List<Integer>> grouped = Lists.parallelGroupBy(original, classifier, pool);
+            assertEquals(expected, grouped);
+            assertMutableMap(grouped, -1);
+            assertMutable(grouped.get(null));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(expected, Lists.parallelGroupBy(original, classifier));
+    }
+
+    @Test
+    void testParallelGroupBy_nullElement() {
+        List<Integer> original = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        original.set(77_777, null);
+        assertThrows(NullPointerException.class, () -> Lists.parallelGroupBy(original, x -> x % 3));
+    }
+}
@@ -0,0 +1,69 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongListTest {
+
+    @Test
+    void testOf() {
+        LongList list = LongList.of(Long.MAX_VALUE, Long.MIN_VALUE);
+        assertEquals(Long.MAX_VALUE, list.get(0));
+        assertEquals(Long.MIN_VALUE, list.get(1));
+        assertFalse(list.isMutable());
+        assertThrows(UnsupportedOperationException.class, () -> list.add(4));
+    }
+
+    @Test
+    void testOfMutable() {
+        LongList list = LongList.ofMutable(3, 1);
+        list.add(1L << 40);
+        list.addAll(LongList.of(9));
+        assertArrayEquals(new long[]{3, 1, 1L << 40, 9}, list.toArray());
+        assertEquals(3, list.removeAt(0));
+        assertEquals(List.of(1L, 1L << 40, 9L), list.boxed());
+    }
+
+    @Test
+    void testCopyOf() {
+        assertEquals(LongList.of(4, 5), LongList.copyOf(List.of(4L, 5L)));
+        assertThrows(NullPointerException.class, () -> LongList.copyOf(Arrays.asList(1L, null)));
+        List<? extends Long> wildcard = List.of(7L, 8L);
+        assertEquals(LongList.of(7, 8), LongList.copyOf(wildcard));
+    }
+
+    @Test
+    void testSortAndBinarySearch() {
+        Random random = new Random(42);
+        LongList list = new LongList(16);
+        for (int i = 0; i < 500; ++i) {
+            list.add(random.nextLong());
+        }
+        long[] expected = list.toArray();
+        Arrays.sort(expected);
+        list.sort();
+        assertArrayEquals(expected, list.toArray());
+        for (long value : expected) {
+            assertEquals(value, list.get(list.binarySearch(value)));
+        }
+    }
+
+    @Test
+    void testSum() {
+        assertEquals(0, new LongList().sum());
+        assertEquals(3L << 40, LongList.of(1L << 40, 1L << 41).sum());
+    }
+
+    @Test
+    void testEqualsHashCode() {
+        LongList list = LongList.of(1L << 40, -1);
+        assertEquals(List.of(1L << 40, -1L).hashCode(), list.hashCode());
+        assertEquals(LongList.ofMutable(1L << 40, -1), list);
+        assertEquals("[1099511627776, -1]", list.toString());
+    }
+}
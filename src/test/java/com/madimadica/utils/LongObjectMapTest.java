@@ -0,0 +1,58 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongObjectMapTest {
+
+    @Test
+    void testOf() {
+        LongObjectMap<String> map = LongObjectMap.of(1L << 40, "a", 0, "zero");
+        assertEquals("a", map.get(1L << 40));
+        assertNull(map.get(1));
+        assertEquals("zero", map.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> map.put(2, "b"));
+        assertThrows(IllegalArgumentException.class, () -> LongObjectMap.of(1L << 40, "a", 1L << 40, "b"));
+    }
+
+    @Test
+    void testOfTwelveEntries() {
+        Map<Long, String> expected = new HashMap<>();
+        for (long i = 1; i <= 12; ++i) {
+            expected.put(i << 40, "v" + i);
+        }
+        LongObjectMap<String> map = LongObjectMap.of(1L << 40, "v1", 2L << 40, "v2", 3L << 40, "v3", 4L << 40, "v4",
+                5L << 40, "v5", 6L << 40, "v6", 7L << 40, "v7", 8L << 40, "v8", 9L << 40, "v9", 10L << 40, "v10",
+                11L << 40, "v11", 12L << 40, "v12");
+        assertEquals(expected, map.boxed());
+        LongObjectMap<String> mutable = LongObjectMap.ofMutable(1L << 40, "v1", 2L << 40, "v2", 3L << 40, "v3", 4L << 40, "v4",
+                5L << 40, "v5", 6L << 40, "v6", 7L << 40, "v7", 8L << 40, "v8", 9L << 40, "v9", 10L << 40, "v10",
+                11L << 40, "v11", 12L << 40, "v12");
+        assertEquals(expected, mutable.boxed());
+        assertTrue(mutable.isMutable());
+        assertThrows(IllegalArgumentException.class, () -> LongObjectMap.of(1, "v1", 2, "v2", 3, "v3", 4, "v4", 5, "v5", 6, "v6",
+                7, "v7", 8, "v8", 9, "v9", 10, "v10", 11, "v11", 1, "v12"));
+    }
+
+    @Test
+    void testMatchesHashMap() {
+        Random random = new Random(3);
+        LongObjectMap<Integer> map = LongObjectMap.ofMutable();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; ++i) {
+            // Keys differing only in their high bits, to check those bits are hashed
+            long key = (long) (random.nextInt(1_000) - 500) << 36;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        assertEquals(expected, map.boxed());
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(LongObjectMap.copyOf(expected), map);
+    }
+}
@@ -0,0 +1,68 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongSetTest {
+
+    private static Set<Long> randomSet(Random random, int size) {
+        Set<Long> set = new HashSet<>();
+        while (set.size() < size) {
+            // Values differing only in their high bits, to check those bits are hashed
+            set.add((long) random.nextInt(400) << 40);
+        }
+        return set;
+    }
+
+    @Test
+    void testOfAndMutation() {
+        LongSet set = LongSet.ofMutable(1L << 40, 0);
+        assertFalse(set.add(0));
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertEquals(Set.of(1L << 40, 0L, Long.MIN_VALUE), set.boxed());
+        assertTrue(set.remove(1L << 40));
+        assertFalse(set.contains(1L << 40));
+        assertThrows(UnsupportedOperationException.class, () -> LongSet.of(1).add(2));
+        List<? extends Long> wildcard = List.of(3L, 3L, 4L);
+        assertEquals(LongSet.of(3, 4), LongSet.copyOf(wildcard));
+    }
+
+    @Test
+    void testMatchesHashSet() {
+        Random random = new Random(7);
+        LongSet set = new LongSet(4);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 20_000; ++i) {
+            long value = (long) (random.nextInt(2_000) - 1_000) << 33;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+        assertEquals(expected, set.boxed());
+        assertEquals(expected.hashCode(), set.hashCode());
+    }
+
+    @Test
+    void testSetAlgebraMatchesSets() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 50; ++trial) {
+            Set<Long> a = randomSet(random, random.nextInt(200));
+            Set<Long> b = randomSet(random, random.nextInt(200));
+            Set<Long> c = randomSet(random, random.nextInt(200));
+            LongSet pa = LongSet.copyOf(a);
+            LongSet pb = LongSet.copyOf(b);
+            LongSet pc = LongSet.copyOf(c);
+            assertEquals(Sets.union(a, b), LongSet.union(pa, pb).boxed());
+            assertEquals(Sets.union(a, b, c), LongSet.union(pa, pb, pc).boxed());
+            assertEquals(Sets.intersection(a, b), LongSet.intersection(pa, pb).boxed());
+            assertEquals(Sets.intersection(a, b, c), LongSet.intersection(pa, pb, pc).boxed());
+            assertEquals(Sets.difference(a, b), LongSet.difference(pa, pb).boxed());
+            assertEquals(Sets.symmetricDifference(a, b), LongSet.symmetricDifference(pa, pb).boxed());
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.madimadica.utils;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class MathUtilsTest {
@@ -179,6 +182,174 @@ class MathUtilsTest {
     }
 
 
+    /**
+     * Arrays of every length up to 40, and one large one, whose values repeat often
+     * and include signed zeros, infinities and NaN, so ties are common.
+     */
+    private static double[][] trickyArrays() {
+        final double[] values = {0.0, -0.0, 1.5, -1.5, 7, -7, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        Random random = new Random(17);
+        double[][] arrays = new double[41][];
+        for (int len = 0; len < arrays.length; ++len) {
+            int size = len == 40 ? 10_000 : len + 1;
+            arrays[len] = new double[size];
+            for (int i = 0; i < size; ++i) {
+                // Mostly the first 4 values, which are where ties between zeros happen
+                arrays[len][i] = values[random.nextInt(random.nextBoolean() ? 4 : values.length)];
+            }
+        }
+        return arrays;
+    }
+
+    @Test
+    void aggregates_matchSequentialScan() {
+        for (double[] doubles : trickyArrays()) {
+            float[] floats = new float[doubles.length];
+            long[] longs = new long[doubles.length];
+            int[] ints = new int[doubles.length];
+            double expectedMin = doubles[0];
+            double expectedMax = doubles[0];
+            long expectedSum = 0;
+            for (int i = 0; i < doubles.length; ++i) {
+                floats[i] = (float) doubles[i];
+                longs[i] = Double.isNaN(doubles[i]) ? 3 : (long) (doubles[i] * 1e15);
+                ints[i] = (int) longs[i];
+                expectedSum += ints[i];
+                expectedMin = doubles[i] < expectedMin ? doubles[i] : expectedMin;
+                expectedMax = doubles[i] > expectedMax ? doubles[i] : expectedMax;
+            }
+            // Bitwise comparisons, to tell the signed zeros and NaN apart
+            assertEquals(Double.doubleToRawLongBits(expectedMin), Double.doubleToRawLongBits(MathUtils.min(doubles)));
+            assertEquals(Double.doubleToRawLongBits(expectedMax), Double.doubleToRawLongBits(MathUtils.max(doubles)));
+            assertEquals(Float.floatToRawIntBits((float) expectedMin), Float.floatToRawIntBits(MathUtils.min(floats)));
+            assertEquals(Float.floatToRawIntBits((float) expectedMax), Float.floatToRawIntBits(MathUtils.max(floats)));
+            assertEquals(Arrays.stream(longs).min().getAsLong(), MathUtils.min(longs));
+            assertEquals(Arrays.stream(longs).max().getAsLong(), MathUtils.max(longs));
+            assertEquals(Arrays.stream(ints).min().getAsInt(), MathUtils.min(ints));
+            assertEquals(Arrays.stream(ints).max().getAsInt(), MathUtils.max(ints));
+            assertEquals(expectedSum, MathUtils.sum(ints));
+            assertEquals(Arrays.stream(longs).sum(), MathUtils.sum(longs));
+            assertEquals((double) expectedSum / ints.length, MathUtils.average(ints));
+        }
+    }
+
+    @Test
+    void minMax_nanAndSignedZeros() {
+        assertTrue(Double.isNaN(MathUtils.min(Double.NaN, 1, 2, 3, 4, 5, 6)));
+        assertTrue(Float.isNaN(MathUtils.max(Float.NaN, 1, 2, 3, 4, 5, 6)));
+        assertEquals(1.0, MathUtils.min(5, Double.NaN, 4, 3, 2, 1, Double.NaN));
+        assertEquals(5f, MathUtils.max(5, Float.NaN, 4, 3, 2, 1, Float.NaN));
+        // The first of several zeros, as they compare equal
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(MathUtils.min(1, 2, 3, -0.0, 1, 0.0, 0.0, 0.0)));
+        assertEquals(Double.doubleToRawLongBits(0.0), Double.doubleToRawLongBits(MathUtils.max(-1, -2, -3, -4, 0.0, -0.0, -0.0)));
+        assertEquals(Float.floatToRawIntBits(-0f), Float.floatToRawIntBits(MathUtils.max(-1f, -2f, -0f, 0f, 0f, 0f)));
+    }
+
+    @Test
+    void sumAndAverage_extremes() {
+        int[] ints = new int[1001];
+        long[] longs = new long[1001];
+        Arrays.fill(ints, Integer.MAX_VALUE);
+        Arrays.fill(longs, Long.MAX_VALUE);
+        assertEquals(1001L * Integer.MAX_VALUE, MathUtils.sum(ints));
+        assertEquals(1001L * Long.MAX_VALUE, MathUtils.sum(longs), "Long sums wrap around");
+        assertEquals(Integer.MAX_VALUE, MathUtils.average(ints));
+    }
+
+    /**
+     * Two-pass variance, as a reference for the single-pass one.
+     */
+    private static double twoPassVariance(double[] args, int ddof) {
+        double mean = 0;
+        for (double x : args) {
+            mean += x;
+        }
+        mean /= args.length;
+        double m2 = 0;
+        for (double x : args) {
+            m2 += (x - mean) * (x - mean);
+        }
+        return m2 / (args.length - ddof);
+    }
+
+    @Test
+    void variance_matchesTwoPass() {
+        Random random = new Random(5);
+        // Sizes around the block boundaries, and a large offset that breaks the naive sum of squares
+        for (int size : new int[] {1, 2, 3, 1023, 1024, 1025, 5000, 100_000}) {
+            double[] doubles = new double[size];
+            float[] floats = new float[size];
+            long[] longs = new long[size];
+            int[] ints = new int[size];
+            for (int i = 0; i < size; ++i) {
+                ints[i] = 1_000_000_000 + random.nextInt(1000);
+                longs[i] = ints[i];
+                floats[i] = (float) random.nextGaussian();
+                doubles[i] = 1e9 + random.nextGaussian();
+            }
+            double[] intsAsDoubles = Arrays.stream(ints).asDoubleStream().toArray();
+            double[] floatsAsDoubles = new double[size];
+            for (int i = 0; i < size; ++i) {
+                floatsAsDoubles[i] = floats[i];
+            }
+            for (int ddof = 0; ddof <= Math.min(1, size - 1); ++ddof) {
+                assertEquals(twoPassVariance(intsAsDoubles, ddof), ddof == 0 ? MathUtils.variance(ints) : MathUtils.sampleVariance(ints), 1e-6);
+                assertEquals(twoPassVariance(intsAsDoubles, ddof), ddof == 0 ? MathUtils.variance(longs) : MathUtils.sampleVariance(longs), 1e-6);
+                assertEquals(twoPassVariance(floatsAsDoubles, ddof), ddof == 0 ? MathUtils.variance(floats) : MathUtils.sampleVariance(floats), 1e-9);
+                assertEquals(twoPassVariance(doubles, ddof), ddof == 0 ? MathUtils.variance(doubles) : MathUtils.sampleVariance(doubles), 1e-6);
+            }
+            assertEquals(Math.sqrt(MathUtils.variance(doubles)), MathUtils.stdDev(doubles));
+        }
+        assertEquals(1.25, MathUtils.variance(1, 2, 3, 4));
+        assertEquals(5.0 / 3, MathUtils.sampleVariance(1L, 2L, 3L, 4L));
+        assertEquals(2, MathUtils.stdDev(2f, 4f, 4f, 4f, 5f, 5f, 7f, 9f));
+        assertEquals(0, MathUtils.variance(7.5));
+    }
+
+    @Test
+    void variance_throwsOnTooFewElements() {
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.variance(new int[] {}));
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.variance(new long[] {}));
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.variance(new float[] {}));
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.variance(new double[] {}));
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.sampleStdDev(1));
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.sampleStdDev(1L));
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.sampleStdDev(1f));
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.sampleStdDev(1d));
+    }
+
+    @Test
+    void summarize_matchesSeparateCalls() {
+        for (double[] doubles : trickyArrays()) {
+            Statistics stats = MathUtils.summarize(doubles);
+            assertEquals(doubles.length, stats.count());
+            assertEquals(Double.doubleToRawLongBits(MathUtils.min(doubles)), Double.doubleToRawLongBits(stats.min()));
+            assertEquals(Double.doubleToRawLongBits(MathUtils.max(doubles)), Double.doubleToRawLongBits(stats.max()));
+            assertEquals(MathUtils.sum(doubles), stats.sum());
+            assertEquals(MathUtils.average(doubles), stats.mean());
+            assertEquals(MathUtils.variance(doubles), stats.variance());
+        }
+        Random random = new Random(9);
+        double[] doubles = random.doubles(10_000, -50, 50).toArray();
+        Statistics stats = MathUtils.summarize(doubles);
+        assertEquals(MathUtils.sum(doubles), stats.sum());
+        assertEquals(MathUtils.average(doubles), stats.mean());
+        assertEquals(MathUtils.variance(doubles), stats.variance());
+        assertEquals(MathUtils.sampleVariance(doubles), stats.sampleVariance());
+        assertEquals(MathUtils.stdDev(doubles), stats.stdDev());
+        assertEquals(MathUtils.sampleStdDev(doubles), stats.sampleStdDev());
+        assertEquals(stats, MathUtils.summarize(doubles.clone()));
+        assertEquals(stats.hashCode(), MathUtils.summarize(doubles.clone()).hashCode());
+
+        Statistics single = MathUtils.summarize(3.0);
+        assertEquals(3.0, single.min());
+        assertEquals(3.0, single.max());
+        assertEquals(0.0, single.variance());
+        assertThrows(IllegalStateException.class, single::sampleVariance);
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.summarize());
+        assertEquals("Statistics{count=2, min=1.0, max=3.0, sum=4.0, mean=2.0, variance=1.0}", MathUtils.summarize(1, 3).toString());
+    }
+
     // GCD Tests for int
     @Test
     void testGcdIntPositiveNumbers() {
@@ -2,7 +2,21 @@ package com.madimadica.utils;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -250,4 +264,386 @@ class NumberUtilsTest {
         assertEquals(123.45, testVal.get());
     }
 
+
+    /**
+     * Strings around the edges of every integer type in every radix, plus random strings of characters
+     * that are digits in some radixes, signs, spaces and non-ASCII digits.
+     */
+    private static List<String> integerCorpus(int radix) {
+        List<String> corpus = new ArrayList<>(List.of("", "+", "-", "+-1", "-+1", " 1", "1 ", "0", "-0", "+0", "000", "1_000"));
+        long[] edges = {Byte.MIN_VALUE, Byte.MAX_VALUE, Short.MIN_VALUE, Short.MAX_VALUE,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE};
+        for (long edge : edges) {
+            for (long offset = -2; offset <= 2; ++offset) {
+                String str = Long.toString(edge + offset, radix);
+                corpus.add(str);
+                corpus.add(str.toUpperCase());
+                corpus.add(str.startsWith("-") ? "-00" + str.substring(1) : "+00" + str);
+            }
+        }
+        corpus.add(Long.toString(Long.MIN_VALUE, radix) + "0");
+        corpus.add(Long.toUnsignedString(-1, radix));
+        final String alphabet = "0123456789abcdefghijklmnopqrstuvwxyzXYZ+- \u0663\uff11\u00b2";
+        Random random = new Random(radix);
+        for (int i = 0; i < 2000; ++i) {
+            StringBuilder builder = new StringBuilder();
+            int len = random.nextInt(22);
+            for (int j = 0; j < len; ++j) {
+                // Mostly digits of this radix, to get past the first character
+                builder.append(random.nextInt(4) == 0
+                        ? alphabet.charAt(random.nextInt(alphabet.length()))
+                        : Character.forDigit(random.nextInt(radix), radix));
+            }
+            corpus.add(builder.toString());
+        }
+        return corpus;
+    }
+
+    private static <T> Optional<T> jdkParse(Function<String, T> parser, String s) {
+        try {
+            return Optional.of(parser.apply(s));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Test
+    void parseIntegers_matchJdkInEveryRadix() {
+        for (int radix = Character.MIN_RADIX - 1; radix <= Character.MAX_RADIX + 1; ++radix) {
+            final int r = radix;
+            List<String> corpus = integerCorpus(Math.min(Math.max(radix, Character.MIN_RADIX), Character.MAX_RADIX));
+            corpus.add(null);
+            for (String s : corpus) {
+                assertEquals(jdkParse(str -> Byte.parseByte(str, r), s), NumberUtils.parseByte(s, r), s);
+                assertEquals(jdkParse(str -> Short.parseShort(str, r), s), NumberUtils.parseShort(s, r), s);
+                assertEquals(jdkParse(str -> Integer.parseInt(str, r), s), NumberUtils.parseInt(s, r), s);
+                assertEquals(jdkParse(str -> Long.parseLong(str, r), s), NumberUtils.parseLong(s, r), s);
+                if (radix == 10) {
+                    assertEquals(jdkParse(Integer::parseInt, s), NumberUtils.parseInt(s), s);
+                    assertEquals(jdkParse(Long::parseLong, s), NumberUtils.parseLong(s), s);
+                }
+            }
+        }
+    }
+
+    @Test
+    void parseLong_minValueIsNotInvalid() {
+        assertEquals(Optional.of(Long.MIN_VALUE), NumberUtils.parseLong("-9223372036854775808"));
+        assertEquals(Optional.of(Long.MIN_VALUE), NumberUtils.parseLong("-8000000000000000", 16));
+        assertEquals(Optional.empty(), NumberUtils.parseLong("-9223372036854775809"));
+        assertEquals(Optional.of(-3L), NumberUtils.parseLong("-\u0663"));
+    }
+
+    @Test
+    void parsePrimitives_matchOptionals() {
+        for (int radix : new int[] {2, 10, 16, 36}) {
+            List<String> corpus = integerCorpus(radix);
+            corpus.add(null);
+            for (String s : corpus) {
+                Optional<Integer> expectedInt = NumberUtils.parseInt(s, radix);
+                OptionalInt optionalInt = NumberUtils.parseOptionalInt(s, radix);
+                assertEquals(expectedInt.isPresent(), optionalInt.isPresent(), s);
+                expectedInt.ifPresent(value -> assertEquals(value, optionalInt.getAsInt()));
+                assertEquals(expectedInt.orElse(-7), NumberUtils.parseIntOrDefault(s, radix, -7), s);
+
+                Optional<Long> expectedLong = NumberUtils.parseLong(s, radix);
+                OptionalLong optionalLong = NumberUtils.parseOptionalLong(s, radix);
+                assertEquals(expectedLong.isPresent(), optionalLong.isPresent(), s);
+                expectedLong.ifPresent(value -> assertEquals(value, optionalLong.getAsLong()));
+                assertEquals(expectedLong.orElse(-7L), NumberUtils.parseLongOrDefault(s, radix, -7L), s);
+                assertEquals(expectedLong.orElse(Long.MIN_VALUE), NumberUtils.parseLongOrDefault(s, radix, Long.MIN_VALUE), s);
+
+                assertEquals(NumberUtils.parseShort(s, radix).orElse((short) -7), NumberUtils.parseShortOrDefault(s, radix, (short) -7), s);
+                assertEquals(NumberUtils.parseByte(s, radix).orElse((byte) -7), NumberUtils.parseByteOrDefault(s, radix, (byte) -7), s);
+                if (radix == 10) {
+                    assertEquals(optionalInt, NumberUtils.parseOptionalInt(s));
+                    assertEquals(optionalLong, NumberUtils.parseOptionalLong(s));
+                    assertEquals(expectedInt.orElse(-7), NumberUtils.parseIntOrDefault(s, -7));
+                    assertEquals(expectedLong.orElse(-7L), NumberUtils.parseLongOrDefault(s, -7L));
+                    assertEquals(NumberUtils.parseShort(s).orElse((short) -7), NumberUtils.parseShortOrDefault(s, (short) -7));
+                    assertEquals(NumberUtils.parseByte(s).orElse((byte) -7), NumberUtils.parseByteOrDefault(s, (byte) -7));
+                }
+            }
+        }
+    }
+
+    @Test
+    void parseDecimalPrimitives() {
+        assertEquals(OptionalDouble.of(123.45), NumberUtils.parseOptionalDouble("123.45"));
+        assertEquals(OptionalDouble.empty(), NumberUtils.parseOptionalDouble("foo"));
+        assertEquals(OptionalDouble.empty(), NumberUtils.parseOptionalDouble(null));
+        assertEquals(123.45, NumberUtils.parseDoubleOrDefault("123.45", -1));
+        assertEquals(-1, NumberUtils.parseDoubleOrDefault("", -1));
+        assertEquals(123.45f, NumberUtils.parseFloatOrDefault("123.45", -1f));
+        assertEquals(-1f, NumberUtils.parseFloatOrDefault(null, -1f));
+    }
+
+    @Test
+    void parseRanges_matchJdk() {
+        for (int radix : new int[] {2, 10, 16, 36}) {
+            final int r = radix;
+            for (String s : integerCorpus(radix)) {
+                Optional<Integer> expectedInt = jdkParse(str -> Integer.parseInt(str, r), s);
+                Optional<Long> expectedLong = jdkParse(str -> Long.parseLong(str, r), s);
+                final int begin = 2;
+                final int end = begin + s.length();
+                String padded = "1-" + s + "01";
+                for (CharSequence seq : List.of(padded, new StringBuilder(padded), CharBuffer.wrap(padded))) {
+                    assertEquals(expectedInt.map(OptionalInt::of).orElse(OptionalInt.empty()),
+                            NumberUtils.parseOptionalInt(seq, begin, end, radix), s);
+                    assertEquals(expectedInt.orElse(-7), NumberUtils.parseIntOrDefault(seq, begin, end, radix, -7), s);
+                    assertEquals(expectedLong.map(OptionalLong::of).orElse(OptionalLong.empty()),
+                            NumberUtils.parseOptionalLong(seq, begin, end, radix), s);
+                    assertEquals(expectedLong.orElse(-7L), NumberUtils.parseLongOrDefault(seq, begin, end, radix, -7L), s);
+                    if (radix == 10) {
+                        assertEquals(NumberUtils.parseOptionalInt(seq, begin, end, 10), NumberUtils.parseOptionalInt(seq, begin, end));
+                        assertEquals(expectedInt.orElse(-7), NumberUtils.parseIntOrDefault(seq, begin, end, -7));
+                        assertEquals(NumberUtils.parseOptionalLong(seq, begin, end, 10), NumberUtils.parseOptionalLong(seq, begin, end));
+                        assertEquals(expectedLong.orElse(-7L), NumberUtils.parseLongOrDefault(seq, begin, end, -7L));
+                    }
+                }
+
+                // Bytes are ASCII, so they parse the same as their ISO-8859-1 decoding, with other characters as '?'
+                byte[] bytes = padded.getBytes(StandardCharsets.ISO_8859_1);
+                String decoded = new String(bytes, begin, s.length(), StandardCharsets.ISO_8859_1);
+                Optional<Integer> expectedAsciiInt = jdkParse(str -> Integer.parseInt(str, r), decoded);
+                Optional<Long> expectedAsciiLong = jdkParse(str -> Long.parseLong(str, r), decoded);
+                ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+                ByteBuffer sliced = ByteBuffer.wrap(("#" + padded).getBytes(StandardCharsets.ISO_8859_1), 1, bytes.length).slice();
+                assertEquals(expectedAsciiInt.map(OptionalInt::of).orElse(OptionalInt.empty()),
+                        NumberUtils.parseOptionalInt(bytes, begin, end, radix), s);
+                assertEquals(expectedAsciiInt.orElse(-7), NumberUtils.parseIntOrDefault(bytes, begin, end, radix, -7), s);
+                assertEquals(expectedAsciiLong.map(OptionalLong::of).orElse(OptionalLong.empty()),
+                        NumberUtils.parseOptionalLong(bytes, begin, end, radix), s);
+                assertEquals(expectedAsciiLong.orElse(-7L), NumberUtils.parseLongOrDefault(bytes, begin, end, radix, -7L), s);
+                for (ByteBuffer buffer : List.of(direct, sliced, sliced.asReadOnlyBuffer())) {
+                    assertEquals(expectedAsciiInt.map(OptionalInt::of).orElse(OptionalInt.empty()),
+                            NumberUtils.parseOptionalInt(buffer, begin, end, radix), s);
+                    assertEquals(expectedAsciiInt.orElse(-7), NumberUtils.parseIntOrDefault(buffer, begin, end, radix, -7), s);
+                    assertEquals(expectedAsciiLong.map(OptionalLong::of).orElse(OptionalLong.empty()),
+                            NumberUtils.parseOptionalLong(buffer, begin, end, radix), s);
+                    assertEquals(expectedAsciiLong.orElse(-7L), NumberUtils.parseLongOrDefault(buffer, begin, end, radix, -7L), s);
+                }
+                if (radix == 10) {
+                    assertEquals(expectedAsciiInt.orElse(-7), NumberUtils.parseIntOrDefault(bytes, begin, end, -7));
+                    assertEquals(expectedAsciiLong.orElse(-7L), NumberUtils.parseLongOrDefault(direct, begin, end, -7L));
+                    assertEquals(NumberUtils.parseOptionalInt(bytes, begin, end, 10), NumberUtils.parseOptionalInt(direct, begin, end));
+                    assertEquals(NumberUtils.parseOptionalLong(bytes, begin, end, 10), NumberUtils.parseOptionalLong(sliced, begin, end));
+                }
+            }
+        }
+    }
+
+    @Test
+    void parseRanges_checkBounds() {
+        String s = "12345";
+        assertEquals(OptionalInt.of(234), NumberUtils.parseOptionalInt(s, 1, 4));
+        assertEquals(OptionalInt.empty(), NumberUtils.parseOptionalInt(s, 2, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.parseOptionalInt(s, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.parseOptionalInt(s, 3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.parseOptionalLong(new StringBuilder(s), 0, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.parseIntOrDefault(new byte[3], 0, 4, 0));
+
+        ByteBuffer buffer = ByteBuffer.wrap("0123456789".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(3).limit(8);
+        assertEquals(OptionalLong.of(123), NumberUtils.parseOptionalLong(buffer, 1, 4));
+        assertEquals(OptionalLong.of(567), NumberUtils.parseOptionalLong(buffer, 5, 8));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.parseOptionalLong(buffer, 5, 9));
+        assertEquals(3, buffer.position());
+        assertEquals(8, buffer.limit());
+    }
+
+    /**
+     * Shortest and exact representations of random doubles and floats, the exact midpoints between them and
+     * their neighbors, random digits with random exponents, and random strings of the characters of the grammar.
+     */
+    private static List<String> decimalCorpus() {
+        List<String> corpus = new ArrayList<>(List.of("NaN", "-NaN", "+NaN", "NaNf", "nan", "Infinity", "-Infinity",
+                "+Infinity", "infinity", "Infinityd", "1e99999999999999999999", "-1e-99999999999999999999",
+                "0." + "0".repeat(400) + "1e400", "1" + "0".repeat(400) + "e-400", "1" + "0".repeat(30) + "1e-30",
+                "2.2250738585072013e-308", "2.2250738585072011e-308", "4.9e-324", "2.4703282292062327e-324",
+                "2.4703282292062328e-324", "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308",
+                "9007199254740993", "1.00000017881393432617187499", "3.4028235677973366e38", "1.4e-45", "7.006492321624085e-46",
+                "  1.5  ", "\t1\n", " -0 ", "-0.0e10", "0x1p3", "-0x1.8p1d", "0X.8P-1", "0x1", "0x1p", "0x.p1", "0x1.p1f ",
+                "1e5f", "1.5D", "1.f", ".5", "1.", ".", "+.e1", "1e", "1e+", "1e5dd", "1 f", "1_0", "\u0661", "1.2.3", "--1"));
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; ++i) {
+            double d = Double.longBitsToDouble(random.nextLong());
+            float f = Float.intBitsToFloat(random.nextInt());
+            corpus.add(Double.toString(d));
+            corpus.add(Float.toString(f));
+            if (i % 10 == 0 && Double.isFinite(d) && Double.isFinite(Math.nextUp(d))) {
+                corpus.add(new BigDecimal(d).toString());
+                corpus.add(new BigDecimal(d).add(new BigDecimal(Math.nextUp(d))).divide(BigDecimal.valueOf(2)).toString());
+            }
+            if (i % 10 == 0 && Float.isFinite(f) && Float.isFinite(Math.nextUp(f))) {
+                corpus.add(new BigDecimal(f).toString());
+                corpus.add(new BigDecimal(f).add(new BigDecimal(Math.nextUp(f))).divide(BigDecimal.valueOf(2)).toString());
+            }
+            StringBuilder digits = new StringBuilder();
+            int length = 1 + random.nextInt(25);
+            for (int j = 0; j < length; ++j) {
+                digits.append((char) ('0' + random.nextInt(10)));
+            }
+            digits.insert(random.nextInt(digits.length() + 1), '.');
+            corpus.add(digits.append('e').append(random.nextInt(720) - 370).toString());
+        }
+        final String alphabet = "0123456789.eE+-dDfFxXpPaNIny \u0663";
+        for (int i = 0; i < 20000; ++i) {
+            StringBuilder builder = new StringBuilder(random.nextBoolean() ? "" : "0x");
+            int length = random.nextInt(10);
+            for (int j = 0; j < length; ++j) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            corpus.add(builder.toString());
+        }
+        return corpus;
+    }
+
+    @Test
+    void parseDecimals_matchJdkBitForBit() {
+        for (String s : decimalCorpus()) {
+            Optional<Double> expectedDouble = jdkParse(Double::parseDouble, s);
+            Optional<Float> expectedFloat = jdkParse(Float::parseFloat, s);
+            assertEquals(expectedDouble, NumberUtils.parseDouble(s), s);
+            assertEquals(expectedDouble.map(OptionalDouble::of).orElse(OptionalDouble.empty()), NumberUtils.parseOptionalDouble(s), s);
+            assertEquals(expectedDouble.orElse(-7.0), NumberUtils.parseDoubleOrDefault(s, -7.0), s);
+            assertEquals(expectedFloat, NumberUtils.parseFloat(s), s);
+            assertEquals(expectedFloat.orElse(-7f), NumberUtils.parseFloatOrDefault(s, -7f), s);
+        }
+    }
+
+    @Test
+    void parseDecimalRanges_matchJdkBitForBit() {
+        List<String> corpus = decimalCorpus();
+        for (int i = 0; i < corpus.size(); i += 7) {
+            String s = corpus.get(i);
+            final int begin = 1;
+            final int end = begin + s.length();
+            String padded = "9" + s + "9";
+            Optional<Double> expectedDouble = jdkParse(Double::parseDouble, s);
+            Optional<Float> expectedFloat = jdkParse(Float::parseFloat, s);
+            for (CharSequence seq : List.of(padded, new StringBuilder(padded), CharBuffer.wrap(padded))) {
+                assertEquals(expectedDouble.map(OptionalDouble::of).orElse(OptionalDouble.empty()),
+                        NumberUtils.parseOptionalDouble(seq, begin, end), s);
+                assertEquals(expectedDouble.orElse(-7.0), NumberUtils.parseDoubleOrDefault(seq, begin, end, -7.0), s);
+                assertEquals(expectedFloat.orElse(-7f), NumberUtils.parseFloatOrDefault(seq, begin, end, -7f), s);
+            }
+
+            byte[] bytes = padded.getBytes(StandardCharsets.ISO_8859_1);
+            String decoded = new String(bytes, begin, s.length(), StandardCharsets.ISO_8859_1);
+            Optional<Double> expectedLatin1Double = jdkParse(Double::parseDouble, decoded);
+            Optional<Float> expectedLatin1Float = jdkParse(Float::parseFloat, decoded);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+            ByteBuffer sliced = ByteBuffer.wrap(("#" + padded).getBytes(StandardCharsets.ISO_8859_1), 1, bytes.length).slice();
+            assertEquals(expectedLatin1Double.map(OptionalDouble::of).orElse(OptionalDouble.empty()),
+                    NumberUtils.parseOptionalDouble(bytes, begin, end), s);
+            assertEquals(expectedLatin1Double.orElse(-7.0), NumberUtils.parseDoubleOrDefault(bytes, begin, end, -7.0), s);
+            assertEquals(expectedLatin1Float.orElse(-7f), NumberUtils.parseFloatOrDefault(bytes, begin, end, -7f), s);
+            for (ByteBuffer buffer : List.of(direct, sliced, sliced.asReadOnlyBuffer())) {
+                assertEquals(expectedLatin1Double.map(OptionalDouble::of).orElse(OptionalDouble.empty()),
+                        NumberUtils.parseOptionalDouble(buffer, begin, end), s);
+                assertEquals(expectedLatin1Double.orElse(-7.0), NumberUtils.parseDoubleOrDefault(buffer, begin, end, -7.0), s);
+                assertEquals(expectedLatin1Float.orElse(-7f), NumberUtils.parseFloatOrDefault(buffer, begin, end, -7f), s);
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.parseOptionalDouble("1.5", 1, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.parseFloatOrDefault(new byte[2], -1, 1, 0f));
+    }
+
+    /**
+     * Decimal corpus with digits around every chunk boundary, and characters next to the digits
+     * or with a digit in their low byte, which a chunk must not mistake for digits.
+     */
+    private static List<String> columnCorpus() {
+        List<String> corpus = new ArrayList<>(integerCorpus(10));
+        corpus.add(null);
+        final String digits = "1234567890123456789012";
+        final char[] impostors = {'/', ':', '\u0130', '\u0139', '\u0663', '\uff10'};
+        for (int len = 1; len <= digits.length(); ++len) {
+            String str = digits.substring(0, len);
+            corpus.add(str);
+            corpus.add("-" + str);
+            corpus.add("9" + str.substring(1));
+            for (int at = 0; at < len; ++at) {
+                for (char impostor : impostors) {
+                    corpus.add(str.substring(0, at) + impostor + str.substring(at + 1));
+                }
+            }
+        }
+        return corpus;
+    }
+
+    private static void assertColumnParsed(List<String> column, int[] ints, long[] longs, BitSet invalidInts, BitSet invalidLongs) {
+        for (int i = 0; i < column.size(); ++i) {
+            OptionalInt expectedInt = NumberUtils.parseOptionalInt(column.get(i));
+            assertEquals(expectedInt.isEmpty(), invalidInts.get(i), column.get(i));
+            assertEquals(expectedInt.orElse(0), ints[i], column.get(i));
+            OptionalLong expectedLong = NumberUtils.parseOptionalLong(column.get(i));
+            assertEquals(expectedLong.isEmpty(), invalidLongs.get(i), column.get(i));
+            assertEquals(expectedLong.orElse(0), longs[i], column.get(i));
+        }
+    }
+
+    @Test
+    void parseColumns_matchScalar() {
+        List<String> column = columnCorpus();
+        int[] ints = new int[column.size()];
+        long[] longs = new long[column.size()];
+        BitSet invalidInts = new BitSet();
+        BitSet invalidLongs = new BitSet();
+        NumberUtils.parseInts(column, ints, invalidInts);
+        NumberUtils.parseLongs(column, longs, invalidLongs);
+        assertColumnParsed(column, ints, longs, invalidInts, invalidLongs);
+
+        String[] array = column.toArray(new String[0]);
+        NumberUtils.parseInts(array, ints, invalidInts);
+        NumberUtils.parseLongs(array, longs, invalidLongs);
+        assertColumnParsed(column, ints, longs, invalidInts, invalidLongs);
+    }
+
+    @Test
+    void parallelParseColumns_matchScalar() {
+        List<String> corpus = columnCorpus();
+        List<String> column = new ArrayList<>();
+        while (column.size() < 50_000) {
+            column.addAll(corpus);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (List<String> list : List.of(column, new LinkedList<>(column))) {
+                int[] ints = new int[list.size()];
+                long[] longs = new long[list.size()];
+                BitSet invalidInts = new BitSet();
+                BitSet invalidLongs = new BitSet();
+                NumberUtils.parallelParseInts(list, ints, invalidInts, pool);
+                NumberUtils.parallelParseLongs(list, longs, invalidLongs, pool);
+                assertColumnParsed(column, ints, longs, invalidInts, invalidLongs);
+
+                NumberUtils.parallelParseInts(list, ints, invalidInts);
+                NumberUtils.parallelParseLongs(list, longs, invalidLongs);
+                assertColumnParsed(column, ints, longs, invalidInts, invalidLongs);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parseColumns_reuseOutputs() {
+        int[] ints = {7, 7, 7, 7};
+        BitSet invalid = new BitSet();
+        invalid.set(0, 10);
+        NumberUtils.parseInts(List.of("1", "x", "-3"), ints, invalid);
+        assertArrayEquals(new int[]{1, 0, -3, 7}, ints);
+        // Only bits below the column size are reported
+        BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(3, 10);
+        assertEquals(expected, invalid);
+
+        assertThrows(IllegalArgumentException.class, () -> NumberUtils.parseLongs(List.of("1", "2"), new long[1], new BitSet()));
+        assertThrows(NullPointerException.class, () -> NumberUtils.parseLongs(List.of("1"), new long[1], null));
+        assertThrows(NullPointerException.class, () -> NumberUtils.parallelParseInts(List.of("1"), new int[1], new BitSet(), null));
+    }
 }
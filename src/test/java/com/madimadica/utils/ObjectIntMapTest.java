@@ -0,0 +1,78 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectIntMapTest {
+
+    @Test
+    void testOf() {
+        ObjectIntMap<String> map = ObjectIntMap.of("a", 1, "b", 0);
+        assertEquals(2, map.size());
+        assertEquals(1, map.getOrDefault("a", -1));
+        assertEquals(0, map.getOrDefault("b", -1));
+        assertEquals(-1, map.getOrDefault("c", -1));
+        assertEquals(-1, map.getOrDefault(null, -1));
+        assertTrue(map.containsKey("b"));
+        assertFalse(map.containsKey(null));
+        assertFalse(map.isMutable());
+        assertThrows(UnsupportedOperationException.class, () -> map.put("c", 2));
+        assertThrows(UnsupportedOperationException.class, () -> map.addTo("a", 2));
+        assertThrows(IllegalArgumentException.class, () -> ObjectIntMap.of("a", 1, "a", 2));
+        assertThrows(NullPointerException.class, () -> ObjectIntMap.of(null, 1));
+        assertTrue(ObjectIntMap.of().isEmpty());
+    }
+
+    @Test
+    void testOfMutable() {
+        ObjectIntMap<String> map = ObjectIntMap.ofMutable("a", 1);
+        map.put("b", 2);
+        map.put("a", 3);
+        assertEquals(Map.of("a", 3, "b", 2), map.boxed());
+        assertTrue(map.remove("a"));
+        assertFalse(map.remove("a"));
+        assertFalse(map.remove(null));
+        assertThrows(NullPointerException.class, () -> map.put(null, 1));
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testOfTwelveEntries() {
+        Map<String, Integer> expected = new HashMap<>();
+        for (int i = 1; i <= 12; ++i) {
+            expected.put("k" + i, i);
+        }
+        ObjectIntMap<String> map = ObjectIntMap.of("k1", 1, "k2", 2, "k3", 3, "k4", 4, "k5", 5, "k6", 6,
+                "k7", 7, "k8", 8, "k9", 9, "k10", 10, "k11", 11, "k12", 12);
+        assertEquals(expected, map.boxed());
+        assertFalse(map.isMutable());
+        ObjectIntMap<String> mutable = ObjectIntMap.ofMutable("k1", 1, "k2", 2, "k3", 3, "k4", 4, "k5", 5, "k6", 6,
+                "k7", 7, "k8", 8, "k9", 9, "k10", 10, "k11", 11, "k12", 12);
+        assertEquals(expected, mutable.boxed());
+        assertTrue(mutable.isMutable());
+        assertThrows(NullPointerException.class, () -> ObjectIntMap.of("k1", 1, "k2", 2, "k3", 3, "k4", 4, "k5", 5, "k6", 6,
+                "k7", 7, "k8", 8, "k9", 9, "k10", 10, "k11", 11, null, 12));
+    }
+
+    @Test
+    void testAddTo() {
+        ObjectIntMap<String> counts = new ObjectIntMap<>();
+        Map<String, Integer> expected = new HashMap<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 10_000; ++i) {
+            String word = "w" + random.nextInt(300);
+            assertEquals(expected.merge(word, 1, Integer::sum), counts.addTo(word, 1));
+            if (random.nextInt(10) == 0) {
+                assertEquals(expected.remove(word) != null, counts.remove(word));
+            }
+        }
+        assertEquals(expected, counts.boxed());
+        assertEquals(expected.hashCode(), counts.hashCode());
+        assertEquals(new HashSet<>(expected.keySet()), new HashSet<>(counts.keys()));
+        assertEquals(ObjectIntMap.copyOf(expected), counts);
+    }
+}
@@ -0,0 +1,28 @@
+package com.madimadica.utils;
+
+import java.io.*;
+
+/**
+ * Java serialization helpers for tests.
+ */
+final class SerializationTestUtils {
+
+    private SerializationTestUtils() {}
+
+    /**
+     * Serialize and deserialize an object.
+     * @param object object to copy
+     * @return a deserialized copy of the object
+     * @param <T> type of the object
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T roundTrip(T object) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SetViewTest {
+
+    private static void assertMatches(Set<Integer> expected, SetView<Integer> view) {
+        assertEquals(expected, view);
+        assertEquals(view, expected);
+        assertEquals(expected.hashCode(), view.hashCode());
+        assertEquals(expected.size(), view.size());
+        assertEquals(expected.isEmpty(), view.isEmpty());
+        assertEquals(expected.size(), new ArrayList<>(view).size(), "Iteration should not repeat elements");
+        for (int i = -1; i <= 10; ++i) {
+            assertEquals(expected.contains(i), view.contains(i));
+        }
+        assertEquals(expected, view.immutableCopy());
+        assertEquals(expected, view.copyInto(new TreeSet<>()));
+    }
+
+    @Test
+    void testMatchesMaterializedSets() {
+        List<Set<Integer>> inputs = List.of(
+                Set.of(),
+                Set.of(1),
+                Set.of(1, 2, 3),
+                Set.of(3, 4, 5),
+                Set.of(1, 2, 3, 4, 5, 6, 7, 8, 9)
+        );
+        for (Set<Integer> setA : inputs) {
+            for (Set<Integer> setB : inputs) {
+                assertMatches(Sets.union(setA, setB), Sets.unionView(setA, setB));
+                assertMatches(Sets.intersection(setA, setB), Sets.intersectionView(setA, setB));
+                assertMatches(Sets.difference(setA, setB), Sets.differenceView(setA, setB));
+            }
+        }
+    }
+
+    @Test
+    void testUnionIterationOrder() {
+        Set<Integer> setA = Sets.ofOrdered(3, 1, 2);
+        Set<Integer> setB = Sets.ofOrdered(5, 2, 4);
+        assertEquals(List.of(3, 1, 2, 5, 4), new ArrayList<>(Sets.unionView(setA, setB)));
+        assertEquals(List.of(3, 1, 2, 5, 4), new ArrayList<>(Sets.unionView(setA, setB).immutableCopy()));
+    }
+
+    @Test
+    void testLive() {
+        Set<Integer> setA = new HashSet<>(Set.of(1, 2, 3));
+        Set<Integer> setB = new HashSet<>(Set.of(3));
+        SetView<Integer> union = Sets.unionView(setA, setB);
+        SetView<Integer> intersection = Sets.intersectionView(setA, setB);
+        SetView<Integer> difference = Sets.differenceView(setA, setB);
+        Set<Integer> copy = difference.immutableCopy();
+
+        setB.add(1);
+        setB.add(7);
+        assertTrue(union.contains(7));
+        assertEquals(Set.of(1, 3), intersection);
+        assertEquals(Set.of(2), difference);
+        assertEquals(Set.of(1, 2), copy, "Copies should not be affected by changes to the backing sets");
+    }
+
+    @Test
+    void testNullable() {
+        Set<Integer> setA = Sets.ofNullable(1, null);
+        Set<Integer> setB = Sets.ofNullable(2);
+        assertTrue(Sets.unionView(setA, setB).contains(null));
+        assertFalse(Sets.intersectionView(setA, setB).contains(null));
+        assertTrue(Sets.differenceView(setA, setB).contains(null));
+        assertEquals(setA, Sets.differenceView(setA, setB).immutableCopy());
+    }
+
+    @Test
+    void testUnmodifiable() {
+        SetView<Integer> view = Sets.unionView(new HashSet<>(Set.of(1)), new HashSet<>(Set.of(2)));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(1));
+        assertThrows(UnsupportedOperationException.class, () -> view.addAll(List.of(3)));
+        assertThrows(UnsupportedOperationException.class, () -> view.removeAll(List.of(1)));
+        assertThrows(UnsupportedOperationException.class, () -> view.retainAll(List.of(1)));
+        assertThrows(UnsupportedOperationException.class, () -> view.removeIf(e -> true));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            Iterator<Integer> it = view.iterator();
+            it.next();
+            it.remove();
+        });
+        assertThrows(UnsupportedOperationException.class, () -> view.immutableCopy().add(3));
+    }
+
+    @Test
+    void testExhaustedIterator() {
+        Iterator<Integer> it = Sets.intersectionView(Set.of(1), Set.of(2)).iterator();
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+}
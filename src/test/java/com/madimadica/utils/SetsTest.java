@@ -7,6 +7,7 @@ import com.madimadica.utils.internal.model.GitHubRepo;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 
@@ -577,6 +578,19 @@ class SetsTest {
         assertEquals(expected, result, "Union should contain all elements from multiple sets");
     }
 
+    @Test
+    void testIntersection_sortedSetsKeepElementsOfSetA() {
+        // "a" and "A" compare equal, but are not equals
+        TreeSet<String> small = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        small.add("a");
+        TreeSet<String> large = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        large.addAll(List.of("A", "b"));
+
+        assertEquals(Set.of("a"), Sets.intersection(small, large));
+        assertEquals(Set.of("A"), Sets.intersection(large, small));
+        assertEquals(Set.of("A"), Sets.intersection(large, small, large));
+    }
+
     @Test
     void testIntersectionVarargs() {
         Set<Integer> set1 = Set.of(1, 2, 3);
@@ -598,4 +612,125 @@ class SetsTest {
     void testIntersectionEmptyVarargs() {
         Set<Integer> result = Sets.intersection();
         assertEquals(Set.of(), result, "Intersection of no sets should be empty");
-    }}
\ No newline at end of file
+    }
+
+    @Test
+    void testAsymmetricSizes() {
+        Set<Integer> large = new HashSet<>();
+        for (int i = 0; i < 1000; ++i) {
+            large.add(i);
+        }
+        Set<Integer> small = Set.of(5, 500, 5000);
+
+        assertEquals(Set.of(5, 500), Sets.intersection(large, small), "Intersection should not depend on argument order");
+        assertEquals(Set.of(5, 500), Sets.intersection(small, large), "Intersection should not depend on argument order");
+        assertEquals(Set.of(5000), Sets.difference(small, large), "Difference should contain only elements of the smaller set");
+        Set<Integer> difference = Sets.difference(large, small);
+        assertEquals(998, difference.size(), "Difference should remove the common elements");
+        assertFalse(difference.contains(5) || difference.contains(500));
+        difference.add(-1);
+        assertTrue(difference.contains(-1), "Difference should be mutable");
+    }
+
+    @Test
+    void testIntersectionVarargsShortCircuit() {
+        Set<Integer> set1 = Set.of(1, 2, 3, 4, 5);
+        Set<Integer> set2 = Set.of(4, 5, 6);
+        Set<Integer> set3 = Set.of(7);
+        Set<Integer> set4 = Set.of(1, 2, 3, 4, 5, 6, 7);
+
+        assertEquals(Set.of(4, 5), Sets.intersection(set1, set4, set2), "Intersection should not depend on argument order");
+        assertEquals(Set.of(), Sets.intersection(set1, set2, set3, set4), "Intersection of disjoint sets should be empty");
+        assertEquals(Set.of(), Sets.intersection(set1, Set.of(), set4), "Intersection with an empty set should be empty");
+        assertEquals(Set.of(7), Sets.intersection(set3), "Intersection of one set should be a copy");
+    }
+
+    @Test
+    void testSymmetricDifferenceVarargs() {
+        Set<Integer> set1 = Set.of(1, 2, 3);
+        Set<Integer> set2 = Set.of(2, 3, 4);
+        Set<Integer> set3 = Set.of(3, 4, 5);
+
+        assertEquals(Set.of(1, 3, 5), Sets.symmetricDifference(set1, set2, set3), "Symmetric difference should contain elements in an odd number of sets");
+        assertEquals(Set.of(1, 4), Sets.symmetricDifference(new Set[]{set1, set2}), "Symmetric difference of two sets should match the binary version");
+        assertEquals(Set.of(), Sets.symmetricDifference(set1, set1), "Symmetric difference of a set with itself should be empty");
+        assertEquals(set1, Sets.symmetricDifference(set1, set2, set2), "Pairs of the same set should cancel out");
+        assertEquals(Set.of(), Sets.symmetricDifference(), "Symmetric difference of no sets should be empty");
+    }
+
+    @Test
+    void testSymmetricDifferenceNullable() {
+        Set<Integer> set1 = Sets.ofNullable(1, null);
+        Set<Integer> set2 = Sets.ofNullable(2);
+        Set<Integer> expected = Sets.ofNullable(1, 2, null);
+
+        assertEquals(expected, Sets.symmetricDifference(set1, set2));
+        assertEquals(Set.of(1), Sets.symmetricDifference(set1, Sets.ofNullable((Integer) null)));
+        assertEquals(Set.of(2), Sets.symmetricDifference(set1, set2, set1));
+    }
+
+    private static List<Set<Integer>> overlappingSets(int count, int size) {
+        Random random = new Random(count);
+        List<Set<Integer>> sets = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            Set<Integer> set = new HashSet<>();
+            while (set.size() < size) {
+                set.add(random.nextInt(4 * size));
+            }
+            set.add(null);
+            sets.add(set);
+        }
+        return sets;
+    }
+
+    @Test
+    void testParallelUnion() {
+        List<Set<Integer>> sets = overlappingSets(8, 10_000);
+        @SuppressWarnings("unchecked")
+        Set<Integer> expected = Sets.union(sets.toArray(new Set[0]));
+        assertEquals(expected, Sets.parallelUnion(sets));
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Set<Integer> union = Sets.parallelUnion(sets, pool);
+            assertEquals(expected, union);
+            assertEquals(expected.hashCode(), union.hashCode());
+            assertEquals(expected.size(), new ArrayList<>(union).size());
+            assertTrue(union.contains(null));
+            assertFalse(union.contains(-1));
+            assertTrue(union.add(-1));
+            assertFalse(union.add(-1));
+            assertTrue(union.remove(-1));
+            assertTrue(union.remove(null));
+            assertEquals(expected.size() - 1, union.size());
+            union.removeIf(x -> x % 2 == 0);
+            assertTrue(union.stream().allMatch(x -> x % 2 != 0));
+            union.clear();
+            assertTrue(union.isEmpty());
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(Set.of(1, 2, 3), Sets.parallelUnion(List.of(Set.of(1, 2), Set.of(2, 3))));
+        assertEquals(Set.of(), Sets.parallelUnion(List.of()));
+    }
+
+    @Test
+    void testParallelIntersection() {
+        List<Set<Integer>> sets = overlappingSets(4, 20_000);
+        @SuppressWarnings("unchecked")
+        Set<Integer> expected = Sets.intersection(sets.toArray(new Set[0]));
+        assertFalse(expected.isEmpty());
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Set<Integer> intersection = Sets.parallelIntersection(sets, pool);
+            assertEquals(expected, intersection);
+            assertTrue(intersection.contains(null));
+            assertTrue(intersection.add(-1));
+            assertEquals(Set.of(), Sets.parallelIntersection(List.of(sets.get(0), Set.of()), pool));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(Set.of(2), Sets.parallelIntersection(List.of(Set.of(1, 2), Set.of(2, 3))));
+        assertEquals(Set.of(1, 2), Sets.parallelIntersection(List.of(Set.of(1, 2))));
+        assertEquals(Set.of(), Sets.parallelIntersection(List.of()));
+    }
+}
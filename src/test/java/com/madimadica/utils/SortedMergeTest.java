@@ -0,0 +1,169 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedMergeTest {
+
+    private static List<Integer> sortedWithRepeats(Random random, int size, int bound) {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            list.add(random.nextInt(bound));
+        }
+        Collections.sort(list);
+        return list;
+    }
+
+    @Test
+    void testListsMatchTreeSetAlgebra() {
+        Random random = new Random(42);
+        // Covers both the linear merge and galloping in either direction
+        int[][] sizes = {{0, 0}, {0, 5}, {5, 0}, {10, 10}, {3, 200}, {200, 3}, {100, 1600}, {1600, 100}, {1, 1000}};
+        for (int[] size : sizes) {
+            for (int trial = 0; trial < 20; ++trial) {
+                List<Integer> listA = sortedWithRepeats(random, size[0], 300);
+                List<Integer> listB = sortedWithRepeats(random, size[1], 300);
+                Set<Integer> setA = new TreeSet<>(listA);
+                Set<Integer> setB = new TreeSet<>(listB);
+
+                Set<Integer> union = new TreeSet<>(setA);
+                union.addAll(setB);
+                Set<Integer> intersection = new TreeSet<>(setA);
+                intersection.retainAll(setB);
+                Set<Integer> difference = new TreeSet<>(setA);
+                difference.removeAll(setB);
+
+                assertEquals(new ArrayList<>(union), Lists.sortedUnion(listA, listB));
+                assertEquals(new ArrayList<>(intersection), Lists.sortedIntersection(listA, listB));
+                assertEquals(new ArrayList<>(difference), Lists.sortedDifference(listA, listB));
+                assertEquals(new ArrayList<>(difference), Lists.sortedDifference(new LinkedList<>(listA), new LinkedList<>(listB)));
+            }
+        }
+    }
+
+    @Test
+    void testSortedSetsMatchHashSetAlgebra() {
+        Random random = new Random(7);
+        int[][] sizes = {{0, 0}, {0, 5}, {10, 10}, {3, 200}, {200, 3}, {500, 400}};
+        for (int[] size : sizes) {
+            for (int trial = 0; trial < 20; ++trial) {
+                TreeSet<Integer> setA = new TreeSet<>(Comparator.reverseOrder());
+                TreeSet<Integer> setB = new TreeSet<>(Comparator.reverseOrder());
+                setA.addAll(sortedWithRepeats(random, size[0], 1000));
+                setB.addAll(sortedWithRepeats(random, size[1], 1000));
+                Set<Integer> hashA = new HashSet<>(setA);
+                Set<Integer> hashB = new HashSet<>(setB);
+
+                assertSorted(Sets.union(hashA, hashB), Sets.sortedUnion(setA, setB));
+                assertSorted(Sets.intersection(hashA, hashB), Sets.sortedIntersection(setA, setB));
+                assertSorted(Sets.difference(hashA, hashB), Sets.sortedDifference(setA, setB));
+            }
+        }
+    }
+
+    @Test
+    void testInconsistentComparatorIsOnlyMergedOnRequest() {
+        TreeSet<String> x = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        x.add("a");
+        TreeSet<String> y = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        y.addAll(List.of("A", "b"));
+
+        // Equals-based, the same as hash sets of the elements
+        assertEquals(Set.of("a", "A", "b"), Sets.union(x, y));
+        assertEquals(Set.of("A", "b"), Sets.difference(y, x));
+        assertEquals(Set.of(), Sets.difference(x, y));
+
+        // Comparator-based, where "a" and "A" are the same element
+        assertEquals(List.of("a", "b"), new ArrayList<>(Sets.sortedUnion(x, y)));
+        assertEquals(List.of("b"), new ArrayList<>(Sets.sortedDifference(y, x)));
+        assertEquals(List.of("a"), new ArrayList<>(Sets.sortedIntersection(x, y)));
+
+        TreeSet<BigDecimal> p = new TreeSet<>(List.of(new BigDecimal("1.0")));
+        TreeSet<BigDecimal> q = new TreeSet<>(List.of(new BigDecimal("1.00"), new BigDecimal("2")));
+        assertEquals(3, Sets.union(p, q).size());
+        assertEquals(Set.of(new BigDecimal("1.00"), new BigDecimal("2")), Sets.difference(q, p));
+        assertEquals(2, Sets.sortedUnion(p, q).size());
+        assertEquals(Set.of(new BigDecimal("2")), Sets.sortedDifference(q, p));
+    }
+
+    @Test
+    void testSortedResultsKeepElementsOfSetA() {
+        // "a" and "A" compare equal, but are not equals
+        TreeSet<String> small = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        small.add("a");
+        TreeSet<String> balanced = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        balanced.addAll(List.of("A", "b"));
+        TreeSet<String> skewed = new TreeSet<>(balanced);
+        for (int i = 0; i < SortedMerge.GALLOP_RATIO; ++i) {
+            skewed.add("c" + i);
+        }
+
+        for (TreeSet<String> large : List.of(balanced, skewed)) {
+            assertEquals("a", Sets.sortedIntersection(small, large).first());
+            assertEquals("A", Sets.sortedIntersection(large, small).first());
+            assertEquals("a", Sets.sortedUnion(small, large).first());
+            assertEquals("A", Sets.sortedUnion(large, small).first());
+
+            List<String> smallList = new ArrayList<>(small);
+            List<String> largeList = new ArrayList<>(large);
+            assertEquals(List.of("a"), Lists.sortedIntersection(smallList, largeList, String.CASE_INSENSITIVE_ORDER));
+            assertEquals(List.of("A"), Lists.sortedIntersection(largeList, smallList, String.CASE_INSENSITIVE_ORDER));
+            assertEquals("a", Lists.sortedUnion(smallList, largeList, String.CASE_INSENSITIVE_ORDER).get(0));
+            assertEquals("A", Lists.sortedUnion(largeList, smallList, String.CASE_INSENSITIVE_ORDER).get(0));
+        }
+    }
+
+    @Test
+    void testSortedSetsRequireSameComparator() {
+        TreeSet<Integer> natural = new TreeSet<>(List.of(1, 2));
+        TreeSet<Integer> reversed = new TreeSet<>(Comparator.reverseOrder());
+        reversed.addAll(List.of(2, 3));
+        assertThrows(IllegalArgumentException.class, () -> Sets.sortedUnion(natural, reversed));
+        assertThrows(IllegalArgumentException.class, () -> Sets.sortedIntersection(natural, reversed));
+        assertThrows(IllegalArgumentException.class, () -> Sets.sortedDifference(natural, reversed));
+        // A null comparator is the same as natural order
+        TreeSet<Integer> explicit = new TreeSet<>(Comparator.naturalOrder());
+        explicit.add(3);
+        assertEquals(Set.of(1, 2, 3), Sets.sortedUnion(natural, explicit));
+    }
+
+    private static void assertSorted(Set<Integer> expected, Set<Integer> actual) {
+        assertEquals(expected, actual);
+        TreeSet<Integer> tree = assertInstanceOf(TreeSet.class, actual);
+        assertEquals(Comparator.reverseOrder(), tree.comparator());
+        List<Integer> ordered = new ArrayList<>(expected);
+        ordered.sort(Comparator.reverseOrder());
+        assertEquals(ordered, new ArrayList<>(actual));
+        tree.add(-1);
+        assertTrue(tree.contains(-1), "Result should be mutable");
+    }
+
+    @Test
+    void testGallop() {
+        List<Integer> list = List.of(1, 3, 3, 5, 7, 9, 11, 13, 15, 17, 19);
+        for (int key = 0; key <= 20; ++key) {
+            for (int from = 0; from <= list.size(); ++from) {
+                int expected = from;
+                while (expected < list.size() && list.get(expected) < key) {
+                    ++expected;
+                }
+                assertEquals(expected, SortedMerge.gallop(list, from, key, Comparator.naturalOrder()));
+            }
+        }
+    }
+
+    @Test
+    void testMergeableComparators() {
+        assertTrue(SortedMerge.isMergeable(new TreeSet<Integer>(), new TreeSet<>(Comparator.naturalOrder())));
+        assertFalse(SortedMerge.isMergeable(new TreeSet<Integer>(), new TreeSet<>(Comparator.reverseOrder())));
+        assertFalse(SortedMerge.isMergeable(new TreeSet<Integer>(), new HashSet<Integer>()));
+        // Different orders fall back to hashing
+        Set<Integer> union = Sets.union(new TreeSet<>(Set.of(1, 2)), Sets.sortedMutable(Set.of(3), Comparator.reverseOrder()));
+        assertEquals(Set.of(1, 2, 3), union);
+        assertFalse(union instanceof SortedSet);
+    }
+}
@@ -0,0 +1,134 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsAccumulatorTest {
+
+    private static void assertMatchesMathUtils(double[] samples, StatisticsAccumulator acc) {
+        assertEquals(samples.length, acc.count());
+        assertEquals(Double.doubleToRawLongBits(MathUtils.min(samples)), Double.doubleToRawLongBits(acc.min()));
+        assertEquals(Double.doubleToRawLongBits(MathUtils.max(samples)), Double.doubleToRawLongBits(acc.max()));
+        assertEquals(MathUtils.sum(samples), acc.sum());
+        assertEquals(MathUtils.average(samples), acc.mean());
+        double variance = MathUtils.variance(samples);
+        assertEquals(variance, acc.variance(), 1e-9 * Math.max(1, variance));
+        assertEquals(MathUtils.stdDev(samples), acc.stdDev(), 1e-9 * Math.max(1, variance));
+        if (samples.length > 1) {
+            assertEquals(MathUtils.sampleVariance(samples), acc.sampleVariance(), 1e-9 * Math.max(1, variance));
+            assertEquals(MathUtils.sampleStdDev(samples), acc.sampleStdDev(), 1e-9 * Math.max(1, variance));
+        }
+    }
+
+    @Test
+    void testMatchesMathUtils() {
+        Random random = new Random(11);
+        for (int size : new int[] {1, 2, 10, 1000, 50_000}) {
+            double[] samples = new double[size];
+            StatisticsAccumulator acc = new StatisticsAccumulator();
+            for (int i = 0; i < size; ++i) {
+                samples[i] = 1e6 + random.nextGaussian() * 3;
+                acc.accept(samples[i]);
+            }
+            assertMatchesMathUtils(samples, acc);
+        }
+    }
+
+    @Test
+    void testPrimitiveTypes() {
+        StatisticsAccumulator acc = new StatisticsAccumulator();
+        acc.accept(1);
+        acc.accept(2L);
+        acc.accept(3f);
+        acc.accept(4.0);
+        assertEquals(MathUtils.variance(1, 2, 3, 4), acc.variance());
+        assertEquals(MathUtils.average(1, 2, 3, 4), acc.mean());
+        assertEquals(1, acc.min());
+        assertEquals(4, acc.max());
+        assertEquals(10, acc.sum());
+    }
+
+    @Test
+    void testLongSamplesSumInDouble() {
+        StatisticsAccumulator acc = new StatisticsAccumulator();
+        acc.accept(Long.MAX_VALUE);
+        acc.accept(Long.MAX_VALUE);
+        assertEquals(2.0 * Long.MAX_VALUE, acc.sum());
+        assertEquals(-2, MathUtils.sum(Long.MAX_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    void testCombine() {
+        Random random = new Random(12);
+        double[] samples = random.doubles(10_000, -100, 100).toArray();
+        for (int split : new int[] {0, 1, 5000, 9999, 10_000}) {
+            StatisticsAccumulator left = new StatisticsAccumulator();
+            StatisticsAccumulator right = new StatisticsAccumulator();
+            for (int i = 0; i < samples.length; ++i) {
+                (i < split ? left : right).accept(samples[i]);
+            }
+            left.combine(right);
+            assertEquals(samples.length - split, right.count(), "The other accumulator should not change");
+            assertEquals(MathUtils.variance(samples), left.variance(), 1e-9);
+            assertEquals(MathUtils.average(samples), left.mean(), 1e-12);
+            assertEquals(MathUtils.min(samples), left.min());
+            assertEquals(MathUtils.max(samples), left.max());
+        }
+        StatisticsAccumulator parallel = IntStream.range(0, 100_000).parallel()
+                .collect(StatisticsAccumulator::new, StatisticsAccumulator::accept, StatisticsAccumulator::combine);
+        assertEquals(100_000, parallel.count());
+        assertEquals(49_999.5, parallel.mean(), 1e-9);
+        assertEquals(MathUtils.variance(IntStream.range(0, 100_000).toArray()), parallel.variance(), 1e-3);
+    }
+
+    @Test
+    void testNanAndZeros() {
+        StatisticsAccumulator acc = new StatisticsAccumulator();
+        for (double x : new double[] {Double.NaN, 1, -1}) {
+            acc.accept(x);
+        }
+        assertTrue(Double.isNaN(acc.min()));
+        assertTrue(Double.isNaN(acc.variance()));
+        acc = new StatisticsAccumulator();
+        acc.accept(-0.0);
+        acc.accept(0.0);
+        acc.accept(Double.NaN);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(acc.max()));
+    }
+
+    @Test
+    void testEmpty() {
+        StatisticsAccumulator acc = new StatisticsAccumulator();
+        assertEquals(0, acc.count());
+        assertEquals(0, acc.sum());
+        assertThrows(IllegalStateException.class, acc::min);
+        assertThrows(IllegalStateException.class, acc::max);
+        assertThrows(IllegalStateException.class, acc::mean);
+        assertThrows(IllegalStateException.class, acc::variance);
+        assertThrows(IllegalStateException.class, acc::toStatistics);
+        assertEquals("StatisticsAccumulator{count=0}", acc.toString());
+        acc.accept(5);
+        assertThrows(IllegalStateException.class, acc::sampleVariance);
+        acc.combine(new StatisticsAccumulator());
+        assertEquals(1, acc.count());
+        StatisticsAccumulator empty = new StatisticsAccumulator();
+        empty.combine(acc);
+        assertEquals(acc.toStatistics(), empty.toStatistics());
+    }
+
+    @Test
+    void testToStatistics() {
+        StatisticsAccumulator acc = new StatisticsAccumulator();
+        acc.accept(1);
+        acc.accept(3);
+        Statistics stats = acc.toStatistics();
+        acc.accept(100);
+        assertEquals(MathUtils.summarize(1, 3), stats);
+        assertEquals(2, stats.count());
+        assertEquals(3, acc.count());
+    }
+}
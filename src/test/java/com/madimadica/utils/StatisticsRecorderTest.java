@@ -0,0 +1,81 @@
+package com.madimadica.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsRecorderTest {
+
+    @Test
+    void testSingleThreadMatchesAccumulator() {
+        StatisticsRecorder recorder = new StatisticsRecorder();
+        StatisticsAccumulator expected = new StatisticsAccumulator();
+        assertEquals(0, recorder.snapshot().count());
+        for (int i = 0; i < 1000; ++i) {
+            recorder.accept(i * 0.5);
+            expected.accept(i * 0.5);
+        }
+        recorder.accept(7);
+        recorder.accept(8L);
+        expected.accept(7);
+        expected.accept(8L);
+        assertEquals(expected.toStatistics(), recorder.snapshot().toStatistics());
+        assertEquals(1002, recorder.snapshot().count());
+    }
+
+    @Test
+    void testConcurrentWriters() throws InterruptedException {
+        final int threads = 8;
+        final int perThread = 50_000;
+        StatisticsRecorder recorder = new StatisticsRecorder();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; ++t) {
+            final int offset = t * perThread;
+            Thread writer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; ++i) {
+                    recorder.accept(offset + i);
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+        start.countDown();
+        // Snapshots taken while writing must describe the same samples in every statistic
+        for (int i = 0; i < 100; ++i) {
+            StatisticsAccumulator snapshot = recorder.snapshot();
+            if (snapshot.count() > 0) {
+                assertTrue(snapshot.min() >= 0);
+                assertTrue(snapshot.max() < threads * perThread);
+                assertTrue(snapshot.sum() >= snapshot.count() * (snapshot.count() - 1) / 2.0);
+            }
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        final int n = threads * perThread;
+        StatisticsAccumulator snapshot = recorder.snapshot();
+        assertEquals(n, snapshot.count());
+        // The writers have terminated, so their cells are folded together, without losing samples
+        assertEquals(snapshot.toStatistics(), recorder.snapshot().toStatistics());
+        recorder.accept(-1);
+        assertEquals(n + 1, recorder.snapshot().count());
+        assertEquals(-1, recorder.snapshot().min());
+        assertEquals(0, snapshot.min());
+        assertEquals(n - 1, snapshot.max());
+        assertEquals((double) n * (n - 1) / 2, snapshot.sum());
+        assertEquals((n - 1) / 2.0, snapshot.mean());
+        assertEquals(((double) n * n - 1) / 12, snapshot.variance(), 1e-6 * n * n);
+    }
+}
@@ -21,7 +21,6 @@ public class MapsGenerator {
         StringJoiner lines = new StringJoiner("\n");
         lines.add("package com.madimadica.utils;");
         lines.add("");
-        lines.add("import java.util.Collections;");
         lines.add("import java.util.HashMap;");
         lines.add("import java.util.LinkedHashMap;");
         lines.add("import java.util.Map;");
@@ -123,7 +122,7 @@ public class MapsGenerator {
                     "<br>",
                     "The values can be {@code null}, but keys must be non-null."
             );
-            result.add(generate(i, "ofNullable", "HashMap", "Collections.unmodifiableMap(map)", javadoc, true, "An unordered immutable map with the given entries."));
+            result.add(generate(i, "ofNullable", null, null, javadoc, true, "An unordered immutable map with the given entries."));
         }
         return result.toString();
     }
@@ -149,7 +148,7 @@ public class MapsGenerator {
                     "<br>",
                     "Neither the keys nor values may be {@code null}."
             );
-            result.add(generate(i, "ofOrdered", "LinkedHashMap", "Collections.unmodifiableMap(map)", javadoc, false, "An ordered immutable map with the given entries."));
+            result.add(generate(i, "ofOrdered", null, null, javadoc, false, "An ordered immutable map with the given entries."));
         }
         return result.toString();
     }
@@ -162,7 +161,7 @@ public class MapsGenerator {
                     "<br>",
                     "The values can be {@code null}, but keys must be non-null."
             );
-            result.add(generate(i, "ofOrderedNullable", "LinkedHashMap", "Collections.unmodifiableMap(map)", javadoc, true, "An ordered immutable map with the given entries."));
+            result.add(generate(i, "ofOrderedNullable", null, null, javadoc, true, "An ordered immutable map with the given entries."));
         }
         return result.toString();
     }
@@ -236,6 +235,20 @@ public class MapsGenerator {
 
         StringJoiner methodSj = new StringJoiner("\n", javadoc + "\n    @SafeVarargs\n    " + signature + " {\n", "\n    }");
         methodSj.add("        Objects.requireNonNull(entries);");
+        if (!isMutable) {
+            // Immutable maps are compact, see ImmutableArrayMap
+            methodSj.add("        Object[] pairs = new Object[2 * entries.length];");
+            methodSj.add("        for (int i = 0; i < entries.length; ++i) {");
+            methodSj.add("            pairs[2 * i] = Objects.requireNonNull(entries[i].getKey());");
+            if (isNullable) {
+                methodSj.add("            pairs[2 * i + 1] = entries[i].getValue();");
+            } else {
+                methodSj.add("            pairs[2 * i + 1] = Objects.requireNonNull(entries[i].getValue());");
+            }
+            methodSj.add("        }");
+            methodSj.add("        return ImmutableArrayMap.fromPairs(pairs, entries.length, true);");
+            return methodSj.toString();
+        }
         methodSj.add("        Map<K, V> map = new " + implClass + "<>(entries.length);");
         methodSj.add("        List<Map.Entry<? extends K, ? extends V>> entryList = List.of(entries);");
         methodSj.add("        int prevSize = 0;");
@@ -251,14 +264,15 @@ public class MapsGenerator {
         methodSj.add("                throw new IllegalArgumentException(\"Duplicate key: \\\"\" + key + \"\\\" not allowed.\");");
         methodSj.add("            }");
         methodSj.add("        }");
-        if (isMutable) {
-            methodSj.add("        return map;");
-        } else {
-            methodSj.add("        return Collections.unmodifiableMap(map);");
-        }
+        methodSj.add("        return map;");
         return methodSj.toString();
     }
 
+    /**
+     * Generate a fixed arity factory method.
+     * @param mapClass class of the mutable map to create, or {@code null} to create an immutable {@code ImmutableArrayMap}
+     * @param returnValue expression returning the mutable map, unused for immutable maps
+     */
     private static String generate(int entryCount, String methodName, String mapClass, String returnValue, List<String> javadocDesc, boolean allowNullValues, String javadocReturn) {
         StringJoiner javadoc = getJavadocJoiner();
         javadocDesc.forEach(javadoc::add);
@@ -285,6 +299,15 @@ public class MapsGenerator {
         String signature = signatureSj.toString();
         StringJoiner methodSj = new StringJoiner("\n", javadoc + "\n    " + signature + " {\n", "\n    }");
         methodSj.add(assertNonNullArgs(entryCount, allowNullValues));
+        if (mapClass == null) {
+            // Repeated keys replace the earlier value, as if by Map.put
+            StringJoiner pairs = new StringJoiner(", ", "new Object[] {", "}");
+            for (int entryNumber = 1; entryNumber <= entryCount; ++entryNumber) {
+                pairs.add(String.format("k%d, v%<d", entryNumber));
+            }
+            methodSj.add("        return ImmutableArrayMap.fromPairs(" + pairs + ", " + entryCount + ", false);");
+            return methodSj.toString();
+        }
         methodSj.add("        Map<K, V> map = new " + mapClass + "<>(" + entryCount + ");");
         for (int entryNumber = 1; entryNumber <= entryCount; ++entryNumber) {
             methodSj.add(String.format("        map.put(k%d, v%<d);", entryNumber));
@@ -319,11 +342,10 @@ public class MapsGenerator {
                     .append("\n        }");
         }
         method.append("\n        ");
-        String mapConstruct = "new " + mapClass + "<>(mapToCopy)";
         if (mutable) {
-            method.append("return ").append(mapConstruct).append(';');
+            method.append("return new ").append(mapClass).append("<>(mapToCopy);");
         } else {
-            method.append("Map<K, V> map = ").append(mapConstruct).append(';').append("\n        return Collections.unmodifiableMap(map);");
+            method.append("return ImmutableArrayMap.copyOf(mapToCopy);");
         }
         method.append("\n    }\n");
         return method.toString();
@@ -0,0 +1,107 @@
+package com.madimadica.utils.internal.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.StringJoiner;
+
+/**
+ * Generate the fixed arity {@code of} and {@code ofMutable} factories of the primitive maps,
+ * up to the same {@link MapsGenerator#MAX_ENTRIES} as {@code Maps}.
+ * <p>
+ *     The rest of each class is written by hand, so only the factories between the empty immutable map
+ *     and the {@code copyOf} factory are replaced.
+ * </p>
+ */
+public class PrimitiveMapsGenerator {
+
+    private static final String START = "    /**\n     * Creates an empty, immutable map.";
+    private static final String END = "    /**\n     * Creates an immutable copy of the given map";
+
+    public static void main(String[] args) throws IOException {
+        generate("IntObjectMap", "V", "value type", "int", "V", false);
+        generate("LongObjectMap", "V", "value type", "long", "V", false);
+        generate("ObjectIntMap", "K", "key type", "K", "int", true);
+    }
+
+    /**
+     * Replace the factories of one map class.
+     * @param className simple name of the map class
+     * @param typeParameter the type parameter of the map class
+     * @param typeParameterDoc description of the type parameter
+     * @param keyType type of the keys
+     * @param valueType type of the values
+     * @param objectKeys whether the keys are objects, which must be non-null
+     */
+    private static void generate(String className, String typeParameter, String typeParameterDoc, String keyType, String valueType, boolean objectKeys) throws IOException {
+        Path path = Paths.get("./src/main/java/com/madimadica/utils/" + className + ".java");
+        String source = Files.readString(path);
+        int start = source.indexOf(START);
+        int end = source.indexOf(END);
+        if (start < 0 || end < start) {
+            throw new IllegalStateException("Factory methods not found in " + path);
+        }
+
+        StringJoiner methods = new StringJoiner("\n\n", "", "\n\n");
+        for (boolean mutable : new boolean[]{false, true}) {
+            methods.add(empty(className, typeParameter, typeParameterDoc, mutable));
+            for (int i = 1; i <= MapsGenerator.MAX_ENTRIES; ++i) {
+                methods.add(ofEntries(i, className, typeParameter, typeParameterDoc, keyType, valueType, objectKeys, mutable));
+            }
+        }
+        Files.writeString(path, source.substring(0, start) + methods + source.substring(end));
+    }
+
+    private static StringJoiner getJavadocJoiner() {
+        return new StringJoiner("\n     * ", "    /**\n     * ", "\n     */");
+    }
+
+    private static String empty(String className, String typeParameter, String typeParameterDoc, boolean mutable) {
+        String kind = mutable ? "mutable" : "immutable";
+        StringJoiner javadoc = getJavadocJoiner();
+        javadoc.add("Creates an empty, " + kind + " map.");
+        javadoc.add("@return An empty " + kind + " map.");
+        javadoc.add("@param <" + typeParameter + "> " + typeParameterDoc);
+        javadoc.add("@since 1.0");
+        return javadoc + "\n"
+                + "    public static <" + typeParameter + "> " + className + "<" + typeParameter + "> " + methodName(mutable) + "() {\n"
+                + "        return new " + className + "<>(0, " + mutable + ");\n"
+                + "    }";
+    }
+
+    private static String ofEntries(int entryCount, String className, String typeParameter, String typeParameterDoc, String keyType, String valueType, boolean objectKeys, boolean mutable) {
+        StringJoiner javadoc = getJavadocJoiner();
+        javadoc.add("Creates " + (mutable ? "a mutable" : "an immutable") + " map with " + entryCount + " " + (entryCount == 1 ? "entry" : "entries") + ".");
+        for (int i = 1; i <= entryCount; ++i) {
+            javadoc.add("@param k" + i + " key for entry " + i);
+            javadoc.add("@param v" + i + " value for entry " + i);
+        }
+        javadoc.add("@return " + (mutable ? "A mutable" : "An immutable") + " map with the given entries.");
+        javadoc.add("@param <" + typeParameter + "> " + typeParameterDoc);
+        if (objectKeys) {
+            javadoc.add("@throws NullPointerException if any key is {@code null}.");
+        }
+        if (entryCount > 1) {
+            javadoc.add("@throws IllegalArgumentException if there are any duplicate keys");
+        }
+        javadoc.add("@since 1.0");
+
+        String mapType = className + "<" + typeParameter + ">";
+        StringJoiner signature = new StringJoiner(", ", "public static <" + typeParameter + "> " + mapType + " " + methodName(mutable) + "(", ")");
+        for (int i = 1; i <= entryCount; ++i) {
+            signature.add(keyType + " k" + i + ", " + valueType + " v" + i);
+        }
+        StringJoiner method = new StringJoiner("\n", javadoc + "\n    " + signature + " {\n", "\n    }");
+        method.add("        " + mapType + " map = new " + className + "<>(" + entryCount + ", " + mutable + ");");
+        for (int i = 1; i <= entryCount; ++i) {
+            method.add(String.format("        map.putUnique(k%d, v%<d);", i));
+        }
+        method.add("        return map;");
+        return method.toString();
+    }
+
+    private static String methodName(boolean mutable) {
+        return mutable ? "ofMutable" : "of";
+    }
+}